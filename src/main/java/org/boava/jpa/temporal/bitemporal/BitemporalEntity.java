@@ -0,0 +1,32 @@
+package org.boava.jpa.temporal.bitemporal;
+
+/**
+ * A row version of a bitemporally tracked entity, as written by {@link BitemporalWriter}.
+ *
+ * @param <K> the type of the key identifying the tracked entity across its versions
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public interface BitemporalEntity<K> {
+
+    /**
+     * Returns the key shared by all versions of the tracked entity, not the row identifier.
+     *
+     * @return the entity key
+     */
+    K getBitemporalKey();
+
+    /**
+     * Returns the valid and transaction time of this version.
+     *
+     * @return the period
+     */
+    BitemporalPeriod getPeriod();
+
+    /**
+     * Replaces the valid and transaction time of this version.
+     *
+     * @param period the period
+     */
+    void setPeriod(BitemporalPeriod period);
+}
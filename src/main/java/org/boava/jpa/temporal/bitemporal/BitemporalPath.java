@@ -0,0 +1,53 @@
+package org.boava.jpa.temporal.bitemporal;
+
+import java.util.Objects;
+
+import org.boava.jpa.temporal.query.TemporalIntervalPath;
+
+/**
+ * The pair of interval paths addressing the valid and transaction time of a {@link BitemporalPeriod} in a query.
+ *
+ * @param valid the path of the valid-time interval
+ * @param transaction the path of the transaction-time interval
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public record BitemporalPath(TemporalIntervalPath valid, TemporalIntervalPath transaction) {
+
+    /**
+     * Creates a new bitemporal path.
+     *
+     * @param valid the path of the valid-time interval
+     * @param transaction the path of the transaction-time interval
+     * @throws NullPointerException if any path is null
+     */
+    public BitemporalPath {
+        Objects.requireNonNull(valid, "Valid path cannot be null");
+        Objects.requireNonNull(transaction, "Transaction path cannot be null");
+    }
+
+    /**
+     * Creates a JPQL path for an embedded {@link BitemporalPeriod} attribute, e.g. {@code e.period}.
+     *
+     * @param attributePath the path of the embedded attribute
+     * @return the path addressing its {@code valid} and {@code transaction} intervals
+     */
+    public static BitemporalPath attribute(String attributePath) {
+        Objects.requireNonNull(attributePath, "Attribute path cannot be null");
+        return new BitemporalPath(TemporalIntervalPath.attribute(attributePath + ".valid"),
+            TemporalIntervalPath.attribute(attributePath + ".transaction"));
+    }
+
+    /**
+     * Creates a native SQL path for the default column names of {@link BitemporalPeriod}.
+     *
+     * @return the path addressing the {@code valid_*} and {@code transaction_*} columns
+     */
+    public static BitemporalPath defaultColumns() {
+        return new BitemporalPath(
+            TemporalIntervalPath.columns("valid_from_seconds", "valid_from_nanos",
+                "valid_to_seconds", "valid_to_nanos"),
+            TemporalIntervalPath.columns("transaction_from_seconds", "transaction_from_nanos",
+                "transaction_to_seconds", "transaction_to_nanos"));
+    }
+}
@@ -0,0 +1,166 @@
+package org.boava.jpa.temporal.bitemporal;
+
+import static org.boava.jpa.temporal.embeddable.EmbeddableTemporal.MAX_NANOS;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.interval.TemporalInterval;
+
+/**
+ * A JPA embeddable holding the two time axes of a bitemporal row version: the valid time during which the fact
+ * holds in the business domain, and the transaction time during which the database believed it.
+ * <p>
+ * Both axes are half-open {@link TemporalInterval}s mapped to the columns {@code valid_from_*},
+ * {@code valid_to_*}, {@code transaction_from_*} and {@code transaction_to_*}. A version that is still believed
+ * has the {@linkplain #endOfTime() end of time} as its transaction end; it is closed, never updated in place, when
+ * a later write supersedes it. Versions are immutable: {@link #closedAt} returns a new period.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+@Embeddable
+@Access(AccessType.FIELD)
+public class BitemporalPeriod implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Seconds component of the open-ended transaction end, the largest second representable by {@link Instant}.
+     */
+    public static final long END_OF_TIME_SECONDS = Instant.MAX.getEpochSecond();
+
+    /**
+     * Nanoseconds component of the open-ended transaction end.
+     */
+    public static final int END_OF_TIME_NANOS = MAX_NANOS;
+
+    @Embedded
+    @AttributeOverride(name = "start.seconds", column = @Column(name = "valid_from_seconds", nullable = false))
+    @AttributeOverride(name = "start.nanos", column = @Column(name = "valid_from_nanos", nullable = false))
+    @AttributeOverride(name = "end.seconds", column = @Column(name = "valid_to_seconds", nullable = false))
+    @AttributeOverride(name = "end.nanos", column = @Column(name = "valid_to_nanos", nullable = false))
+    private TemporalInterval valid;
+
+    @Embedded
+    @AttributeOverride(name = "start.seconds", column = @Column(name = "transaction_from_seconds", nullable = false))
+    @AttributeOverride(name = "start.nanos", column = @Column(name = "transaction_from_nanos", nullable = false))
+    @AttributeOverride(name = "end.seconds", column = @Column(name = "transaction_to_seconds", nullable = false))
+    @AttributeOverride(name = "end.nanos", column = @Column(name = "transaction_to_nanos", nullable = false))
+    private TemporalInterval transaction;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    protected BitemporalPeriod() {
+    }
+
+    /**
+     * Creates a period from its two axes.
+     *
+     * @param valid the valid-time interval
+     * @param transaction the transaction-time interval
+     * @throws NullPointerException if any interval is null
+     */
+    public BitemporalPeriod(TemporalInterval valid, TemporalInterval transaction) {
+        this.valid = Objects.requireNonNull(valid, "Valid interval cannot be null");
+        this.transaction = Objects.requireNonNull(transaction, "Transaction interval cannot be null");
+    }
+
+    /**
+     * Creates the period of a version recorded at the given time and believed until further notice.
+     *
+     * @param valid the valid-time interval
+     * @param recordedAt the start of the transaction time
+     * @return the open-ended period
+     */
+    public static BitemporalPeriod current(TemporalInterval valid, EmbeddableTemporal recordedAt) {
+        return new BitemporalPeriod(valid, new TemporalInterval(recordedAt, endOfTime()));
+    }
+
+    /**
+     * Returns the sentinel used as transaction end of versions that are still believed.
+     *
+     * @return a new temporal holding the end of time
+     */
+    public static EmbeddableTemporal endOfTime() {
+        return new EmbeddableTemporal(END_OF_TIME_SECONDS, END_OF_TIME_NANOS);
+    }
+
+    /**
+     * Gets the valid-time interval.
+     *
+     * @return the valid time
+     */
+    public TemporalInterval getValid() {
+        return valid;
+    }
+
+    /**
+     * Gets the transaction-time interval.
+     *
+     * @return the transaction time
+     */
+    public TemporalInterval getTransaction() {
+        return transaction;
+    }
+
+    /**
+     * Checks if this version is still believed, i.e. its transaction time is open-ended.
+     *
+     * @return true if the transaction end is the end of time
+     */
+    public boolean isCurrent() {
+        EmbeddableTemporal end = transaction.getEnd();
+        return end.getSeconds() == END_OF_TIME_SECONDS && end.getNanos() == END_OF_TIME_NANOS;
+    }
+
+    /**
+     * Checks if this version describes the given valid time as known at the given transaction time.
+     *
+     * @param validAt the valid time
+     * @param knownAt the transaction time
+     * @return true if both intervals contain their respective instant
+     */
+    public boolean isVisible(EmbeddableTemporal validAt, EmbeddableTemporal knownAt) {
+        return valid.contains(validAt) && transaction.contains(knownAt);
+    }
+
+    /**
+     * Returns a copy of this period whose transaction time ends at the given time.
+     *
+     * @param supersededAt the time the version stops being believed
+     * @return the closed period
+     * @throws IllegalArgumentException if supersededAt is before the transaction start
+     */
+    public BitemporalPeriod closedAt(EmbeddableTemporal supersededAt) {
+        return new BitemporalPeriod(valid, new TemporalInterval(transaction.getStart(), supersededAt));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        BitemporalPeriod that = (BitemporalPeriod) obj;
+        return Objects.equals(valid, that.valid) && Objects.equals(transaction, that.transaction);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(valid) + Objects.hashCode(transaction);
+    }
+
+    @Override
+    public String toString() {
+        return "BitemporalPeriod{valid=%s, transaction=%s}".formatted(valid, transaction);
+    }
+}
@@ -0,0 +1,100 @@
+package org.boava.jpa.temporal.bitemporal;
+
+import static org.boava.jpa.temporal.bitemporal.BitemporalPeriod.END_OF_TIME_NANOS;
+import static org.boava.jpa.temporal.bitemporal.BitemporalPeriod.END_OF_TIME_SECONDS;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.query.TemporalPath;
+import org.boava.jpa.temporal.query.TemporalPredicates;
+
+/**
+ * Builders for bitemporal as-of predicates and the composite index serving them.
+ * <p>
+ * Every predicate constrains the transaction end first: current versions are found by equality with the end of
+ * time sentinel, historical ones by a range on the transaction end. Paired with the index created by
+ * {@link #createIndex}, which leads with the entity key followed by the transaction end and the remaining seconds
+ * columns, an as-of lookup seeks to the key, scans only versions not yet superseded at the requested transaction
+ * time and filters the valid time inside the index. Growing history therefore only costs index entries of the
+ * same key, and for current-state queries not even those.
+ * <p>
+ * Like {@link TemporalPredicates}, the fragments render bounds as numeric literals and take paths verbatim.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public final class BitemporalQueries {
+
+    private BitemporalQueries() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Creates a predicate matching the versions describing {@code validAt} as known at {@code knownAt}.
+     *
+     * @param path the bitemporal path
+     * @param validAt the valid time
+     * @param knownAt the transaction time
+     * @return the predicate
+     */
+    public static String asOf(BitemporalPath path, EmbeddableTemporal validAt, EmbeddableTemporal knownAt) {
+        Objects.requireNonNull(path, "Path cannot be null");
+        return TemporalPredicates.after(path.transaction().end(), knownAt)
+            + " AND " + TemporalPredicates.atOrBefore(path.transaction().start(), knownAt)
+            + " AND " + TemporalPredicates.activeAt(path.valid(), validAt);
+    }
+
+    /**
+     * Creates a predicate matching the currently believed versions describing {@code validAt}.
+     *
+     * @param path the bitemporal path
+     * @param validAt the valid time
+     * @return the predicate
+     */
+    public static String current(BitemporalPath path, EmbeddableTemporal validAt) {
+        return currentVersions(path) + " AND " + TemporalPredicates.activeAt(path.valid(), validAt);
+    }
+
+    /**
+     * Creates a predicate matching all currently believed versions, whatever their valid time.
+     *
+     * @param path the bitemporal path
+     * @return the predicate
+     */
+    public static String currentVersions(BitemporalPath path) {
+        Objects.requireNonNull(path, "Path cannot be null");
+        TemporalPath end = path.transaction().end();
+        return "%s = %d AND %s = %d".formatted(end.seconds(), END_OF_TIME_SECONDS, end.nanos(), END_OF_TIME_NANOS);
+    }
+
+    /**
+     * Creates the DDL of the recommended composite index for as-of queries: the key columns, then the seconds
+     * columns of the transaction end, valid start, valid end and transaction start.
+     *
+     * @param indexName the index name
+     * @param table the table name
+     * @param columns the native column path of the bitemporal period
+     * @param keyColumns the columns identifying the entity whose versions are tracked
+     * @return the {@code CREATE INDEX} statement
+     * @throws IllegalArgumentException if no key column is given
+     */
+    public static String createIndex(String indexName, String table, BitemporalPath columns, String... keyColumns) {
+        Objects.requireNonNull(indexName, "Index name cannot be null");
+        Objects.requireNonNull(table, "Table cannot be null");
+        Objects.requireNonNull(columns, "Columns cannot be null");
+        if (keyColumns.length == 0) {
+            throw new IllegalArgumentException("At least one key column is required");
+        }
+        StringJoiner joiner = new StringJoiner(", ", "CREATE INDEX %s ON %s (".formatted(indexName, table), ")");
+        for (String keyColumn : keyColumns) {
+            joiner.add(keyColumn);
+        }
+        joiner.add(columns.transaction().end().seconds());
+        joiner.add(columns.valid().start().seconds());
+        joiner.add(columns.valid().end().seconds());
+        joiner.add(columns.transaction().start().seconds());
+        return joiner.toString();
+    }
+}
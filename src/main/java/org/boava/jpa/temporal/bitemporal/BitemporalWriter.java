@@ -0,0 +1,159 @@
+package org.boava.jpa.temporal.bitemporal;
+
+import jakarta.persistence.EntityManager;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.interval.TemporalInterval;
+
+/**
+ * Writes new bitemporal versions with close-and-insert semantics, in batches.
+ * <p>
+ * For every new version, the currently believed versions of the same key whose valid time overlaps the new one
+ * are closed by ending their transaction time at the write time. The parts of their valid time not covered by the
+ * new version are re-inserted as new current versions, so the current state stays gap-free. Nothing is ever updated
+ * in place except the transaction end of superseded versions.
+ * <p>
+ * Each batch costs one query loading the current versions of all its keys, followed by a single flush of the
+ * closes and inserts, after which the persistence context is cleared. With {@code hibernate.jdbc.batch_size},
+ * {@code hibernate.order_inserts} and {@code hibernate.order_updates} configured, and an identifier generator other
+ * than {@code IDENTITY}, the flush is sent as JDBC batches instead of row by row. Transactions are left to the
+ * caller.
+ *
+ * @param <K> the type of the entity key
+ * @param <E> the entity type
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class BitemporalWriter<K, E extends BitemporalEntity<K>> {
+
+    private static final String ALIAS = "e";
+
+    private final Class<E> entityType;
+    private final String keyAttribute;
+    private final BitemporalPath path;
+    private final UnaryOperator<E> copier;
+    private final Clock clock;
+
+    /**
+     * Creates a new writer.
+     *
+     * @param entityType the entity type
+     * @param keyAttribute the name of the attribute holding the entity key, as used in JPQL
+     * @param periodAttribute the name of the embedded {@link BitemporalPeriod} attribute
+     * @param copier creates a transient copy of a version, without its identifier, for re-inserted remainders
+     * @param clock the clock supplying the transaction time of each write
+     */
+    public BitemporalWriter(Class<E> entityType, String keyAttribute, String periodAttribute, UnaryOperator<E> copier,
+            Clock clock) {
+        this.entityType = Objects.requireNonNull(entityType, "Entity type cannot be null");
+        this.keyAttribute = Objects.requireNonNull(keyAttribute, "Key attribute cannot be null");
+        Objects.requireNonNull(periodAttribute, "Period attribute cannot be null");
+        this.path = BitemporalPath.attribute(ALIAS + "." + periodAttribute);
+        this.copier = Objects.requireNonNull(copier, "Copier cannot be null");
+        this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+    }
+
+    /**
+     * Writes the given versions at the current transaction time. Each version carries its key, its business data
+     * and, in its period, its valid time; its transaction time is replaced.
+     * <p>
+     * Versions are applied in order, so a later version of the same key supersedes an earlier one of the same call.
+     * A version superseded within the same transaction time is removed rather than closed, since it would never be
+     * visible.
+     *
+     * @param em the entity manager, with an active transaction
+     * @param versions the new versions
+     * @param batchSize the maximum number of versions per flush
+     * @return the number of inserted rows, including re-inserted remainders
+     * @throws IllegalArgumentException if batchSize is not positive
+     */
+    public int write(EntityManager em, List<? extends E> versions, int batchSize) {
+        Objects.requireNonNull(em, "Entity manager cannot be null");
+        Objects.requireNonNull(versions, "Versions cannot be null");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        EmbeddableTemporal now = EmbeddableTemporal.from(clock.instant());
+        int inserted = 0;
+        for (int from = 0; from < versions.size(); from += batchSize) {
+            inserted += writeBatch(em, versions.subList(from, Math.min(from + batchSize, versions.size())), now);
+            em.flush();
+            em.clear();
+        }
+        return inserted;
+    }
+
+    private int writeBatch(EntityManager em, List<? extends E> batch, EmbeddableTemporal now) {
+        Map<K, List<E>> currentByKey = loadCurrent(em, batch);
+        int inserted = 0;
+        for (E version : batch) {
+            TemporalInterval valid = version.getPeriod().getValid();
+            List<E> current = currentByKey.computeIfAbsent(version.getBitemporalKey(), key -> new ArrayList<>());
+            List<E> remainders = new ArrayList<>();
+            for (Iterator<E> it = current.iterator(); it.hasNext(); ) {
+                E existing = it.next();
+                BitemporalPeriod period = existing.getPeriod();
+                TemporalInterval existingValid = period.getValid();
+                if (!existingValid.overlaps(valid)) {
+                    continue;
+                }
+                it.remove();
+                if (period.getTransaction().getStart().equals(now)) {
+                    em.remove(existing);
+                } else {
+                    existing.setPeriod(period.closedAt(now));
+                }
+                if (existingValid.getStart().compareTo(valid.getStart()) < 0) {
+                    remainders.add(remainder(existing, existingValid.getStart(), valid.getStart(), now));
+                }
+                if (valid.getEnd().compareTo(existingValid.getEnd()) < 0) {
+                    remainders.add(remainder(existing, valid.getEnd(), existingValid.getEnd(), now));
+                }
+            }
+            for (E remainder : remainders) {
+                em.persist(remainder);
+            }
+            version.setPeriod(BitemporalPeriod.current(valid, now));
+            em.persist(version);
+            current.addAll(remainders);
+            current.add(version);
+            inserted += remainders.size() + 1;
+        }
+        return inserted;
+    }
+
+    private Map<K, List<E>> loadCurrent(EntityManager em, List<? extends E> batch) {
+        Set<K> keys = new LinkedHashSet<>();
+        for (E version : batch) {
+            keys.add(version.getBitemporalKey());
+        }
+        String entityName = em.getMetamodel().entity(entityType).getName();
+        List<E> current = em.createQuery("SELECT " + ALIAS + " FROM " + entityName + " " + ALIAS
+                + " WHERE " + ALIAS + "." + keyAttribute + " IN :keys AND " + BitemporalQueries.currentVersions(path),
+                entityType)
+            .setParameter("keys", keys)
+            .getResultList();
+        Map<K, List<E>> currentByKey = new HashMap<>();
+        for (E version : current) {
+            currentByKey.computeIfAbsent(version.getBitemporalKey(), key -> new ArrayList<>()).add(version);
+        }
+        return currentByKey;
+    }
+
+    private E remainder(E existing, EmbeddableTemporal start, EmbeddableTemporal end, EmbeddableTemporal now) {
+        E copy = copier.apply(existing);
+        copy.setPeriod(BitemporalPeriod.current(new TemporalInterval(start, end), now));
+        return copy;
+    }
+}
@@ -0,0 +1,252 @@
+package org.boava.jpa.temporal.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * A query result cache keyed by query and fixed-width time bucket.
+ * <p>
+ * A query over a time range is split into aligned buckets of {@code bucketSize}. Buckets that ended before the
+ * clock's current time are closed: their results cannot change unless a write lands in them, so they are cached
+ * until evicted or {@linkplain #invalidate(EmbeddableTemporal) invalidated}. The bucket containing the current
+ * time, and any bucket after it, is open and always recomputed.
+ * <p>
+ * The cache holds at most {@code maximumSize} bucket results and evicts the least recently used one first.
+ * Invalidation is precise: a write only discards the cached results of the bucket it falls into. Loads run
+ * outside the cache's lock; a result loaded while any invalidation happened is returned but not cached, so a
+ * racing write can never leave a stale bucket behind.
+ *
+ * @param <V> the type of a single bucket's query result
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class TemporalBucketCache<V> {
+
+    /**
+     * Computes the result of a query for a single bucket.
+     *
+     * @param <V> the result type
+     */
+    @FunctionalInterface
+    public interface BucketLoader<V> {
+        /**
+         * Loads the query result for the half-open bucket range {@code [start, end)}.
+         *
+         * @param start the inclusive start of the bucket
+         * @param end the exclusive end of the bucket
+         * @return the bucket's result
+         */
+        V load(EmbeddableTemporal start, EmbeddableTemporal end);
+    }
+
+    private record Key(String query, long bucket) {}
+
+    private final long bucketSeconds;
+    private final int maximumSize;
+    private final Clock clock;
+
+    private final LinkedHashMap<Key, V> entries;
+    private final Map<Long, Set<Key>> keysByBucket = new HashMap<>();
+    private long invalidations;
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param bucketSize the bucket width, a positive whole number of seconds
+     * @param maximumSize the maximum number of cached bucket results
+     * @param clock the clock deciding which buckets are closed
+     * @throws IllegalArgumentException if bucketSize is not a positive whole number of seconds or maximumSize is not
+     * positive
+     */
+    public TemporalBucketCache(Duration bucketSize, int maximumSize, Clock clock) {
+        Objects.requireNonNull(bucketSize, "Bucket size cannot be null");
+        this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+        if (bucketSize.getNano() != 0 || bucketSize.getSeconds() <= 0) {
+            throw new IllegalArgumentException("Bucket size must be a positive whole number of seconds: " + bucketSize);
+        }
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        this.bucketSeconds = bucketSize.getSeconds();
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, V> eldest) {
+                if (size() > TemporalBucketCache.this.maximumSize) {
+                    unindex(eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the per-bucket results of a query over {@code [from, to)}, widened to bucket boundaries.
+     *
+     * @param query the query identity, including any non-temporal parameters
+     * @param from the inclusive lower bound
+     * @param to the exclusive upper bound
+     * @param loader computes a bucket's result on a miss or for open buckets
+     * @return the results of every bucket overlapping the range, in ascending bucket order
+     * @throws NullPointerException if any argument is null
+     */
+    public List<V> get(String query, EmbeddableTemporal from, EmbeddableTemporal to, BucketLoader<V> loader) {
+        Objects.requireNonNull(query, "Query cannot be null");
+        Objects.requireNonNull(from, "Lower bound cannot be null");
+        Objects.requireNonNull(to, "Upper bound cannot be null");
+        Objects.requireNonNull(loader, "Loader cannot be null");
+        List<V> results = new ArrayList<>();
+        if (from.compareTo(to) >= 0) {
+            return results;
+        }
+        long now = clock.instant().getEpochSecond();
+        long last = bucketOf(to.getNanos() == 0 ? to.getSeconds() - 1 : to.getSeconds());
+        for (long bucket = bucketOf(from.getSeconds()); bucket <= last; bucket += bucketSeconds) {
+            results.add(load(new Key(query, bucket), bucket + bucketSeconds <= now, loader));
+        }
+        return results;
+    }
+
+    private V load(Key key, boolean closed, BucketLoader<V> loader) {
+        long generation;
+        synchronized (this) {
+            if (closed) {
+                V cached = entries.get(key);
+                if (cached != null) {
+                    hits++;
+                    return cached;
+                }
+            }
+            misses++;
+            generation = invalidations;
+        }
+        V value = loader.load(new EmbeddableTemporal(key.bucket(), 0),
+            new EmbeddableTemporal(key.bucket() + bucketSeconds, 0));
+        if (closed && value != null) {
+            synchronized (this) {
+                if (generation == invalidations) {
+                    entries.put(key, value);
+                    keysByBucket.computeIfAbsent(key.bucket(), b -> new HashSet<>()).add(key);
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Discards the cached results of every query for the bucket a write landed in.
+     *
+     * @param written the timestamp of the written row
+     * @return the number of discarded results
+     */
+    public synchronized int invalidate(EmbeddableTemporal written) {
+        Objects.requireNonNull(written, "Written timestamp cannot be null");
+        invalidations++;
+        Set<Key> keys = keysByBucket.remove(bucketOf(written.getSeconds()));
+        if (keys == null) {
+            return 0;
+        }
+        for (Key key : keys) {
+            entries.remove(key);
+        }
+        return keys.size();
+    }
+
+    /**
+     * Discards the cached result of a single query for the bucket a write landed in.
+     *
+     * @param query the query identity
+     * @param written the timestamp of the written row
+     * @return true if a cached result was discarded
+     */
+    public synchronized boolean invalidate(String query, EmbeddableTemporal written) {
+        Objects.requireNonNull(query, "Query cannot be null");
+        Objects.requireNonNull(written, "Written timestamp cannot be null");
+        invalidations++;
+        Key key = new Key(query, bucketOf(written.getSeconds()));
+        if (entries.remove(key) == null) {
+            return false;
+        }
+        unindex(key);
+        return true;
+    }
+
+    /**
+     * Discards every cached result.
+     */
+    public synchronized void invalidateAll() {
+        invalidations++;
+        entries.clear();
+        keysByBucket.clear();
+    }
+
+    /**
+     * Returns the number of cached bucket results.
+     *
+     * @return the cache size
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of bucket lookups served from the cache.
+     *
+     * @return the hit count
+     */
+    public synchronized long hitCount() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of bucket results computed by the loader, including open buckets.
+     *
+     * @return the miss count
+     */
+    public synchronized long missCount() {
+        return misses;
+    }
+
+    private long bucketOf(long epochSecond) {
+        return Math.floorDiv(epochSecond, bucketSeconds) * bucketSeconds;
+    }
+
+    private void unindex(Key key) {
+        Set<Key> keys = keysByBucket.get(key.bucket());
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                keysByBucket.remove(key.bucket());
+            }
+        }
+    }
+
+    /**
+     * Returns the cached bucket starts of a query, in ascending order. Intended for diagnostics and tests.
+     */
+    synchronized List<Long> cachedBuckets(String query) {
+        List<Long> buckets = new ArrayList<>();
+        for (Key key : entries.keySet()) {
+            if (key.query().equals(query)) {
+                buckets.add(key.bucket());
+            }
+        }
+        buckets.sort(null);
+        return buckets;
+    }
+}
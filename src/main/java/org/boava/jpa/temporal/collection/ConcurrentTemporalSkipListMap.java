@@ -0,0 +1,732 @@
+package org.boava.jpa.temporal.collection;
+
+import static org.boava.jpa.temporal.embeddable.EmbeddableTemporal.MAX_NANOS;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * A concurrent sorted map from temporal values to objects, specialised for {@code (seconds, nanos)} keys.
+ * <p>
+ * This is a lazy skip list: every node carries its key as primitive fields and a spin lock, so an entry costs a
+ * single node plus its array of forward pointers, and key comparisons are two primitive comparisons. Lookups,
+ * {@code floor}/{@code ceiling} searches and range traversals take no locks; writers lock only the nodes
+ * preceding the affected entry, so writers at different positions proceed in parallel. Removing an entry first
+ * marks it logically deleted, which readers treat as absent, and then unlinks it.
+ * <p>
+ * {@link #removeBefore} expires entries from the head: the predecessor of the first entry is the head at every
+ * level, so each expired entry is unlinked without a search, at constant cost. Range views and
+ * iteration are weakly consistent, like those of {@link java.util.concurrent.ConcurrentSkipListMap}. Null values
+ * are not permitted, and raw nanoseconds must be normalized to 0..999,999,999.
+ *
+ * @param <V> the type of the values
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class ConcurrentTemporalSkipListMap<V> {
+
+    /**
+     * A snapshot of a mapping.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @param value the value
+     * @param <V> the type of the value
+     */
+    public record Entry<V>(long seconds, int nanos, V value) {
+
+        /**
+         * Returns the key as a temporal value.
+         *
+         * @return the key
+         */
+        public EmbeddableTemporal key() {
+            return new EmbeddableTemporal(seconds, nanos);
+        }
+    }
+
+    static final int MAX_LEVEL = 32;
+
+    private static final VarHandle NEXT = MethodHandles.arrayElementVarHandle(Node[].class);
+
+    // Per-thread predecessor and successor arrays for put, which never re-enters itself
+    private static final ThreadLocal<Node<?>[][]> SCRATCH =
+        ThreadLocal.withInitial(() -> new Node<?>[][] {new Node<?>[MAX_LEVEL], new Node<?>[MAX_LEVEL]});
+
+    private final Node<V> head = new Node<>(Long.MIN_VALUE, 0, null, MAX_LEVEL);
+    private final LongAdder size = new LongAdder();
+    // Highest level any node has been linked at; searches start here instead of at MAX_LEVEL - 1
+    private final AtomicInteger topLevel = new AtomicInteger();
+
+    /**
+     * Creates an empty map.
+     */
+    public ConcurrentTemporalSkipListMap() {
+        head.fullyLinked = true;
+    }
+
+    /**
+     * Returns the number of mappings. Under concurrent modification this is an estimate.
+     *
+     * @return the size
+     */
+    public int size() {
+        return (int) Math.min(size.sum(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns true if there are no mappings.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return firstLive(next(head, 0)) == null;
+    }
+
+    /**
+     * Returns the value mapped to the key, without locking.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @return the value, or null if absent
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public V get(long seconds, int nanos) {
+        TemporalHashTable.checkNanos(nanos);
+        Node<V> pred = head;
+        for (int level = topLevel.get(); level >= 0; level--) {
+            Node<V> curr = next(pred, level);
+            while (curr != null && curr.before(seconds, nanos)) {
+                pred = curr;
+                curr = next(pred, level);
+            }
+            if (curr != null && curr.is(seconds, nanos)) {
+                return curr.fullyLinked && !curr.marked ? curr.value : null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value mapped to the key, without locking.
+     *
+     * @param key the key
+     * @return the value, or null if absent
+     */
+    public V get(EmbeddableTemporal key) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        return get(key.getSeconds(), key.getNanos());
+    }
+
+    /**
+     * Checks if the key is mapped, without locking.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @return true if present
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public boolean containsKey(long seconds, int nanos) {
+        return get(seconds, nanos) != null;
+    }
+
+    /**
+     * Maps the key to the value.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @param value the value
+     * @return the previous value, or null if absent
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public V put(long seconds, int nanos, V value) {
+        return put(seconds, nanos, value, false);
+    }
+
+    /**
+     * Maps the key to the value.
+     *
+     * @param key the key
+     * @param value the value
+     * @return the previous value, or null if absent
+     */
+    public V put(EmbeddableTemporal key, V value) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        return put(key.getSeconds(), key.getNanos(), value, false);
+    }
+
+    /**
+     * Maps the key to the value unless it is already mapped.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @param value the value
+     * @return the existing value, or null if the value was stored
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public V putIfAbsent(long seconds, int nanos, V value) {
+        return put(seconds, nanos, value, true);
+    }
+
+    /**
+     * Removes the mapping of the key.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @return the removed value, or null if absent
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public V remove(long seconds, int nanos) {
+        TemporalHashTable.checkNanos(nanos);
+        Node<V>[] preds = newNodes(topLevel.get() + 1);
+        Node<V>[] succs = newNodes(preds.length);
+        Node<V> victim = null;
+        try {
+            while (true) {
+                int found = find(seconds, nanos, preds, succs);
+                if (victim == null) {
+                    Node<V> candidate = found == -1 ? null : succs[found];
+                    if (candidate != null && candidate.height() > preds.length) {
+                        // Linked above the level read before searching; search again with all its levels
+                        preds = newNodes(candidate.height());
+                        succs = newNodes(candidate.height());
+                        continue;
+                    }
+                    if (candidate == null || !candidate.fullyLinked || candidate.marked
+                            || candidate.height() - 1 != found) {
+                        return null;
+                    }
+                    candidate.lock();
+                    if (candidate.marked) {
+                        candidate.unlock();
+                        return null;
+                    }
+                    candidate.marked = true;
+                    victim = candidate;
+                }
+                int victimLevel = victim.height() - 1;
+                int highestLocked = -1;
+                try {
+                    boolean valid = true;
+                    Node<V> previous = null;
+                    for (int level = 0; valid && level <= victimLevel; level++) {
+                        Node<V> pred = preds[level];
+                        if (pred != previous) {
+                            pred.lock();
+                            highestLocked = level;
+                            previous = pred;
+                        }
+                        valid = !pred.marked && next(pred, level) == victim;
+                    }
+                    if (!valid) {
+                        continue;
+                    }
+                    for (int level = victimLevel; level >= 0; level--) {
+                        NEXT.setRelease(preds[level].next, level, next(victim, level));
+                    }
+                    size.decrement();
+                    return victim.value;
+                } finally {
+                    unlock(preds, highestLocked);
+                }
+            }
+        } finally {
+            if (victim != null) {
+                victim.unlock();
+            }
+        }
+    }
+
+    /**
+     * Removes the mapping of the key.
+     *
+     * @param key the key
+     * @return the removed value, or null if absent
+     */
+    public V remove(EmbeddableTemporal key) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        return remove(key.getSeconds(), key.getNanos());
+    }
+
+    /**
+     * Removes all mappings with keys strictly before the bound, starting from the head.
+     *
+     * @param seconds the seconds component of the exclusive bound
+     * @param nanos the nanoseconds component of the exclusive bound
+     * @return the number of removed mappings
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public int removeBefore(long seconds, int nanos) {
+        TemporalHashTable.checkNanos(nanos);
+        int removed = 0;
+        while (true) {
+            Node<V> first = next(head, 0);
+            if (first == null || !first.before(seconds, nanos)) {
+                return removed;
+            }
+            if (unlinkFirst(first)) {
+                removed++;
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Removes the given node if it is still the first one. Its predecessor is the head at every level, so no
+     * search is needed.
+     *
+     * @return true if the node was removed, false if it must be looked at again
+     */
+    private boolean unlinkFirst(Node<V> first) {
+        if (!first.fullyLinked || first.marked) {
+            return false;
+        }
+        first.lock();
+        try {
+            if (first.marked) {
+                return false;
+            }
+            head.lock();
+            try {
+                for (int level = 0; level < first.height(); level++) {
+                    if (next(head, level) != first) {
+                        return false;
+                    }
+                }
+                first.marked = true;
+                for (int level = first.height() - 1; level >= 0; level--) {
+                    NEXT.setRelease(head.next, level, next(first, level));
+                }
+                size.decrement();
+                return true;
+            } finally {
+                head.unlock();
+            }
+        } finally {
+            first.unlock();
+        }
+    }
+
+    /**
+     * Removes all mappings with keys strictly before the bound, starting from the head.
+     *
+     * @param bound the exclusive bound
+     * @return the number of removed mappings
+     */
+    public int removeBefore(EmbeddableTemporal bound) {
+        Objects.requireNonNull(bound, "Bound cannot be null");
+        return removeBefore(bound.getSeconds(), bound.getNanos());
+    }
+
+    /**
+     * Returns the mapping with the greatest key less than or equal to the given key, without locking.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @return the mapping, or null if there is none
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public Entry<V> floorEntry(long seconds, int nanos) {
+        TemporalHashTable.checkNanos(nanos);
+        while (true) {
+            Node<V> pred = head;
+            for (int level = topLevel.get(); level >= 0; level--) {
+                Node<V> curr = next(pred, level);
+                while (curr != null && !curr.after(seconds, nanos)) {
+                    pred = curr;
+                    curr = next(pred, level);
+                }
+            }
+            if (pred == head) {
+                return null;
+            }
+            Entry<V> entry = pred.entry();
+            if (entry != null) {
+                return entry;
+            }
+            // The candidate was removed meanwhile; search again
+        }
+    }
+
+    /**
+     * Returns the mapping with the least key greater than or equal to the given key, without locking.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @return the mapping, or null if there is none
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public Entry<V> ceilingEntry(long seconds, int nanos) {
+        TemporalHashTable.checkNanos(nanos);
+        for (Node<V> node = firstLive(ceilingNode(seconds, nanos)); node != null; node = firstLive(next(node, 0))) {
+            Entry<V> entry = node.entry();
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the mapping with the least key.
+     *
+     * @return the mapping, or null if empty
+     */
+    public Entry<V> firstEntry() {
+        return ceilingEntry(Long.MIN_VALUE, 0);
+    }
+
+    /**
+     * Returns the mapping with the greatest key.
+     *
+     * @return the mapping, or null if empty
+     */
+    public Entry<V> lastEntry() {
+        return floorEntry(Long.MAX_VALUE, MAX_NANOS);
+    }
+
+    /**
+     * Returns a view of the mappings with keys in the half-open range {@code [from, to)}.
+     *
+     * @param from the inclusive lower bound
+     * @param to the exclusive upper bound
+     * @return the range view
+     * @throws IllegalArgumentException if from is after to
+     */
+    public Range subMap(EmbeddableTemporal from, EmbeddableTemporal to) {
+        Objects.requireNonNull(from, "Lower bound cannot be null");
+        Objects.requireNonNull(to, "Upper bound cannot be null");
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Lower bound %s is after upper bound %s".formatted(from, to));
+        }
+        return new Range(from.getSeconds(), from.getNanos(), to.getSeconds(), to.getNanos());
+    }
+
+    /**
+     * Passes every mapping, in ascending key order, to the consumer.
+     *
+     * @param consumer receives the mappings
+     */
+    public void forEach(TemporalMap.EntryConsumer<? super V> consumer) {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        for (Node<V> node = firstLive(next(head, 0)); node != null; node = firstLive(next(node, 0))) {
+            V value = node.value;
+            if (value != null) {
+                consumer.accept(node.seconds, node.nanos, value);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentTemporalSkipListMap{size=" + size() + "}";
+    }
+
+    /**
+     * A weakly consistent view of the mappings with keys in a half-open range. The view reads the live map.
+     */
+    public final class Range {
+
+        private final long fromSeconds;
+        private final int fromNanos;
+        private final long toSeconds;
+        private final int toNanos;
+
+        private Range(long fromSeconds, int fromNanos, long toSeconds, int toNanos) {
+            this.fromSeconds = fromSeconds;
+            this.fromNanos = fromNanos;
+            this.toSeconds = toSeconds;
+            this.toNanos = toNanos;
+        }
+
+        /**
+         * Passes every mapping in the range, in ascending key order, to the consumer.
+         *
+         * @param consumer receives the mappings
+         */
+        public void forEach(TemporalMap.EntryConsumer<? super V> consumer) {
+            Objects.requireNonNull(consumer, "Consumer cannot be null");
+            for (Node<V> node = first(); node != null && node.before(toSeconds, toNanos);
+                    node = firstLive(next(node, 0))) {
+                V value = node.value;
+                if (value != null) {
+                    consumer.accept(node.seconds, node.nanos, value);
+                }
+            }
+        }
+
+        /**
+         * Returns a snapshot of the mappings in the range.
+         *
+         * @return the mappings in ascending key order
+         */
+        public List<Entry<V>> entries() {
+            List<Entry<V>> entries = new ArrayList<>();
+            forEach((seconds, nanos, value) -> entries.add(new Entry<>(seconds, nanos, value)));
+            return entries;
+        }
+
+        /**
+         * Counts the mappings in the range by traversing it.
+         *
+         * @return the number of mappings
+         */
+        public int count() {
+            int count = 0;
+            for (Node<V> node = first(); node != null && node.before(toSeconds, toNanos);
+                    node = firstLive(next(node, 0))) {
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * Removes the mappings in the range.
+         *
+         * @return the number of removed mappings
+         */
+        public int clear() {
+            int removed = 0;
+            Node<V> node;
+            while ((node = first()) != null && node.before(toSeconds, toNanos)) {
+                if (remove(node.seconds, node.nanos) != null) {
+                    removed++;
+                }
+            }
+            return removed;
+        }
+
+        private Node<V> first() {
+            return firstLive(ceilingNode(fromSeconds, fromNanos));
+        }
+    }
+
+    private V put(long seconds, int nanos, V value, boolean onlyIfAbsent) {
+        TemporalHashTable.checkNanos(nanos);
+        Objects.requireNonNull(value, "Value cannot be null");
+        int nodeLevel = randomLevel();
+        // Publish the level before searching, so that concurrent searches never start below a linked node
+        int levels = topLevel.get();
+        if (nodeLevel > levels) {
+            levels = topLevel.accumulateAndGet(nodeLevel, Math::max);
+        }
+        Node<V>[][] scratch = scratch();
+        Node<V>[] preds = scratch[0];
+        Node<V>[] succs = scratch[1];
+        try {
+            while (true) {
+                int found = find(seconds, nanos, preds, succs, levels);
+                if (found != -1) {
+                    Node<V> existing = succs[found];
+                    if (existing.marked) {
+                        continue;
+                    }
+                    while (!existing.fullyLinked) {
+                        Thread.onSpinWait();
+                    }
+                    existing.lock();
+                    try {
+                        if (existing.marked) {
+                            continue;
+                        }
+                        V previous = existing.value;
+                        if (!onlyIfAbsent) {
+                            existing.value = value;
+                        }
+                        return previous;
+                    } finally {
+                        existing.unlock();
+                    }
+                }
+                int highestLocked = -1;
+                try {
+                    boolean valid = true;
+                    Node<V> previous = null;
+                    for (int level = 0; valid && level <= nodeLevel; level++) {
+                        Node<V> pred = preds[level];
+                        Node<V> succ = succs[level];
+                        if (pred != previous) {
+                            pred.lock();
+                            highestLocked = level;
+                            previous = pred;
+                        }
+                        valid = !pred.marked && (succ == null || !succ.marked) && next(pred, level) == succ;
+                    }
+                    if (!valid) {
+                        continue;
+                    }
+                    Node<V> node = new Node<>(seconds, nanos, value, nodeLevel + 1);
+                    for (int level = 0; level <= nodeLevel; level++) {
+                        node.next[level] = succs[level];
+                    }
+                    for (int level = 0; level <= nodeLevel; level++) {
+                        NEXT.setRelease(preds[level].next, level, node);
+                    }
+                    node.fullyLinked = true;
+                    size.increment();
+                    return null;
+                } finally {
+                    unlock(preds, highestLocked);
+                }
+            }
+        } finally {
+            // Do not keep nodes reachable from the thread after the call
+            Arrays.fill(preds, 0, levels + 1, null);
+            Arrays.fill(succs, 0, levels + 1, null);
+        }
+    }
+
+    /**
+     * Fills the predecessors and successors of the key at every level.
+     *
+     * @return the highest level at which the key was found, or -1
+     */
+    private int find(long seconds, int nanos, Node<V>[] preds, Node<V>[] succs) {
+        return find(seconds, nanos, preds, succs, preds.length - 1);
+    }
+
+    private int find(long seconds, int nanos, Node<V>[] preds, Node<V>[] succs, int fromLevel) {
+        int found = -1;
+        Node<V> pred = head;
+        for (int level = fromLevel; level >= 0; level--) {
+            Node<V> curr = next(pred, level);
+            while (curr != null && curr.before(seconds, nanos)) {
+                pred = curr;
+                curr = next(pred, level);
+            }
+            if (found == -1 && curr != null && curr.is(seconds, nanos)) {
+                found = level;
+            }
+            preds[level] = pred;
+            succs[level] = curr;
+        }
+        return found;
+    }
+
+    private Node<V> ceilingNode(long seconds, int nanos) {
+        Node<V> pred = head;
+        Node<V> curr = null;
+        for (int level = topLevel.get(); level >= 0; level--) {
+            curr = next(pred, level);
+            while (curr != null && curr.before(seconds, nanos)) {
+                pred = curr;
+                curr = next(pred, level);
+            }
+        }
+        return curr;
+    }
+
+    private Node<V> firstLive(Node<V> node) {
+        while (node != null && (node.marked || !node.fullyLinked)) {
+            node = next(node, 0);
+        }
+        return node;
+    }
+
+    private static void unlock(Node<?>[] preds, int highestLocked) {
+        Node<?> previous = null;
+        for (int level = 0; level <= highestLocked; level++) {
+            if (preds[level] != previous) {
+                preds[level].unlock();
+                previous = preds[level];
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Node<V>[][] scratch() {
+        return (Node<V>[][]) SCRATCH.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Node<V>[] newNodes(int length) {
+        return (Node<V>[]) new Node<?>[length];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Node<V> next(Node<V> node, int level) {
+        return (Node<V>) NEXT.getAcquire(node.next, level);
+    }
+
+    private static int randomLevel() {
+        // Geometric distribution with p = 1/4, capped at MAX_LEVEL - 1
+        long random = ThreadLocalRandom.current().nextLong() | (1L << (2 * (MAX_LEVEL - 1)));
+        return Long.numberOfTrailingZeros(random) >>> 1;
+    }
+
+    static final class Node<V> {
+
+        private static final VarHandle LOCKED;
+
+        static {
+            try {
+                LOCKED = MethodHandles.lookup().findVarHandle(Node.class, "locked", int.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        final long seconds;
+        final int nanos;
+        final Node<V>[] next;
+        volatile V value;
+        volatile boolean marked;
+        volatile boolean fullyLinked;
+        private volatile int locked;
+
+        @SuppressWarnings("unchecked")
+        Node(long seconds, int nanos, V value, int height) {
+            this.seconds = seconds;
+            this.nanos = nanos;
+            this.value = value;
+            this.next = (Node<V>[]) new Node<?>[height];
+        }
+
+        // Critical sections only relink a few pointers, so a spinning lock beats parking and needs no extra object
+        void lock() {
+            int spins = 0;
+            while (!LOCKED.compareAndSet(this, 0, 1)) {
+                if (++spins < 64) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+        }
+
+        void unlock() {
+            LOCKED.setRelease(this, 0);
+        }
+
+        int height() {
+            return next.length;
+        }
+
+        boolean before(long keySeconds, int keyNanos) {
+            return seconds < keySeconds || (seconds == keySeconds && nanos < keyNanos);
+        }
+
+        boolean after(long keySeconds, int keyNanos) {
+            return seconds > keySeconds || (seconds == keySeconds && nanos > keyNanos);
+        }
+
+        boolean is(long keySeconds, int keyNanos) {
+            return seconds == keySeconds && nanos == keyNanos;
+        }
+
+        Entry<V> entry() {
+            V current = value;
+            return marked || !fullyLinked ? null : new Entry<>(seconds, nanos, current);
+        }
+    }
+}
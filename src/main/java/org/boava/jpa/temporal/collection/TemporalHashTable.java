@@ -0,0 +1,194 @@
+package org.boava.jpa.temporal.collection;
+
+import static org.boava.jpa.temporal.embeddable.EmbeddableTemporal.MAX_NANOS;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash table keyed by {@code (seconds, nanos)} pairs stored inline in primitive arrays, the shared
+ * base of {@link TemporalSet}, {@link TemporalMap} and {@link TemporalLongMap}.
+ * <p>
+ * Collisions are resolved by linear probing, which keeps a probe sequence within a few cache lines, and removals
+ * shift the following entries back instead of leaving tombstones. A nanoseconds value of {@code -1}, never a valid
+ * component, marks an empty slot. The table is kept at most half full and hashes keys with the 64-bit finalizer
+ * of MurmurHash3, so sequential timestamps spread evenly over the power-of-two capacity.
+ * <p>
+ * Subclasses keep their values in arrays parallel to the key arrays and move them along with the keys.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+abstract class TemporalHashTable {
+
+    static final int EMPTY = -1;
+
+    private static final int MINIMUM_CAPACITY = 8;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    long[] seconds;
+    int[] nanos;
+    int size;
+    private int mask;
+
+    TemporalHashTable(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative: " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns the number of keys.
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if there are no keys.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all keys, keeping the allocated capacity.
+     */
+    public void clear() {
+        Arrays.fill(nanos, EMPTY);
+        clearValues();
+        size = 0;
+    }
+
+    /**
+     * Allocates value storage for the given capacity, replacing the current one. Also called from the constructor,
+     * so subclasses must not initialize their value fields in declarations.
+     */
+    abstract void allocateValues(int capacity);
+
+    /**
+     * Returns the current value storage, handed back to {@link #copyValue} while rehashing.
+     */
+    abstract Object values();
+
+    abstract void copyValue(Object from, int fromSlot, int toSlot);
+
+    abstract void moveValue(int fromSlot, int toSlot);
+
+    abstract void clearValue(int slot);
+
+    abstract void clearValues();
+
+    /**
+     * Returns the slot holding the key, or {@code -(insertion slot) - 1} if it is absent.
+     */
+    final int find(long keySeconds, int keyNanos) {
+        checkNanos(keyNanos);
+        int slot = hash(keySeconds, keyNanos) & mask;
+        while (true) {
+            int slotNanos = nanos[slot];
+            if (slotNanos == EMPTY) {
+                return -slot - 1;
+            }
+            if (slotNanos == keyNanos && seconds[slot] == keySeconds) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Stores a new key at the insertion slot returned by {@link #find}, growing the table if needed. Callers must
+     * read their value arrays only after this returns, since growing replaces them.
+     *
+     * @return the slot now holding the key
+     */
+    final int insert(int insertionSlot, long keySeconds, int keyNanos) {
+        if ((size + 1) * 2 > nanos.length) {
+            if (nanos.length == MAXIMUM_CAPACITY) {
+                throw new IllegalStateException("Temporal hash table is full: " + size);
+            }
+            rehash(nanos.length * 2);
+            insertionSlot = -find(keySeconds, keyNanos) - 1;
+        }
+        seconds[insertionSlot] = keySeconds;
+        nanos[insertionSlot] = keyNanos;
+        size++;
+        return insertionSlot;
+    }
+
+    /**
+     * Removes the key in the given slot, shifting back entries of the same probe run.
+     */
+    final void removeAt(int slot) {
+        size--;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (nanos[next] != EMPTY) {
+            int ideal = hash(seconds[next], nanos[next]) & mask;
+            if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+                seconds[gap] = seconds[next];
+                nanos[gap] = nanos[next];
+                moveValue(next, gap);
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        nanos[gap] = EMPTY;
+        clearValue(gap);
+    }
+
+    static int hash(long keySeconds, int keyNanos) {
+        long h = keySeconds * 0x9E3779B97F4A7C15L + keyNanos;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    static void checkNanos(int keyNanos) {
+        if (keyNanos < 0 || keyNanos > MAX_NANOS) {
+            throw new IllegalArgumentException("Nanoseconds must be in the range 0..999,999,999: " + keyNanos);
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldSeconds = seconds;
+        int[] oldNanos = nanos;
+        Object oldValues = values();
+        allocate(capacity);
+        for (int i = 0; i < oldNanos.length; i++) {
+            if (oldNanos[i] != EMPTY) {
+                int slot = hash(oldSeconds[i], oldNanos[i]) & mask;
+                while (nanos[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                seconds[slot] = oldSeconds[i];
+                nanos[slot] = oldNanos[i];
+                copyValue(oldValues, i, slot);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        seconds = new long[capacity];
+        nanos = new int[capacity];
+        Arrays.fill(nanos, EMPTY);
+        mask = capacity - 1;
+        allocateValues(capacity);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long required = Math.max(MINIMUM_CAPACITY, (long) expectedSize * 2);
+        if (required > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Expected size too large: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) required - 1) << 1;
+    }
+}
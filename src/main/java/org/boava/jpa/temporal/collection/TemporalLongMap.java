@@ -0,0 +1,229 @@
+package org.boava.jpa.temporal.collection;
+
+import java.util.Objects;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * A map from temporal values to primitive {@code long} values, e.g. row identifiers or counters, with keys and
+ * values stored inline in primitive arrays so that neither mappings nor values are boxed.
+ * <p>
+ * Every operation is available for raw key components, e.g. straight from a {@code ResultSet}, so lookups
+ * allocate nothing. Raw nanoseconds must be normalized to 0..999,999,999. Not thread-safe.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class TemporalLongMap extends TemporalHashTable {
+
+    /**
+     * Receives the mappings of a {@link TemporalLongMap}.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        /**
+         * Accepts a mapping.
+         *
+         * @param seconds the seconds component of the key
+         * @param nanos the nanoseconds component of the key
+         * @param value the value
+         */
+        void accept(long seconds, int nanos, long value);
+    }
+
+    private long[] values;
+
+    /**
+     * Creates an empty map.
+     */
+    public TemporalLongMap() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty map sized to hold the given number of mappings without growing.
+     *
+     * @param expectedSize the expected number of mappings
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public TemporalLongMap(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * Returns the value mapped to the key, or the default value if absent.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @param defaultValue the value returned for absent keys
+     * @return the value
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public long getOrDefault(long seconds, int nanos, long defaultValue) {
+        int slot = find(seconds, nanos);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Returns the value mapped to the key, or the default value if absent.
+     *
+     * @param key the key
+     * @param defaultValue the value returned for absent keys
+     * @return the value
+     */
+    public long getOrDefault(EmbeddableTemporal key, long defaultValue) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        return getOrDefault(key.getSeconds(), key.getNanos(), defaultValue);
+    }
+
+    /**
+     * Checks if the key is mapped.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @return true if present
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public boolean containsKey(long seconds, int nanos) {
+        return find(seconds, nanos) >= 0;
+    }
+
+    /**
+     * Checks if the key is mapped.
+     *
+     * @param key the key
+     * @return true if present
+     */
+    public boolean containsKey(EmbeddableTemporal key) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        return containsKey(key.getSeconds(), key.getNanos());
+    }
+
+    /**
+     * Maps the key to the value.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @param value the value
+     * @return true if the key was not mapped before
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public boolean put(long seconds, int nanos, long value) {
+        int slot = find(seconds, nanos);
+        if (slot >= 0) {
+            values[slot] = value;
+            return false;
+        }
+        int newSlot = insert(-slot - 1, seconds, nanos);
+        values[newSlot] = value;
+        return true;
+    }
+
+    /**
+     * Maps the key to the value.
+     *
+     * @param key the key
+     * @param value the value
+     * @return true if the key was not mapped before
+     */
+    public boolean put(EmbeddableTemporal key, long value) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        return put(key.getSeconds(), key.getNanos(), value);
+    }
+
+    /**
+     * Adds the delta to the value mapped to the key, mapping absent keys to the delta.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @param delta the amount to add
+     * @return the new value
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public long addTo(long seconds, int nanos, long delta) {
+        int slot = find(seconds, nanos);
+        if (slot >= 0) {
+            return values[slot] += delta;
+        }
+        int newSlot = insert(-slot - 1, seconds, nanos);
+        values[newSlot] = delta;
+        return delta;
+    }
+
+    /**
+     * Removes the mapping of the key.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @return true if the key was mapped
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public boolean remove(long seconds, int nanos) {
+        int slot = find(seconds, nanos);
+        if (slot < 0) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    /**
+     * Removes the mapping of the key.
+     *
+     * @param key the key
+     * @return true if the key was mapped
+     */
+    public boolean remove(EmbeddableTemporal key) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        return remove(key.getSeconds(), key.getNanos());
+    }
+
+    /**
+     * Passes every mapping, in no particular order, to the consumer.
+     *
+     * @param consumer receives the mappings
+     */
+    public void forEach(EntryConsumer consumer) {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        for (int i = 0; i < nanos.length; i++) {
+            if (nanos[i] != EMPTY) {
+                consumer.accept(seconds[i], nanos[i], values[i]);
+            }
+        }
+    }
+
+    @Override
+    void allocateValues(int capacity) {
+        values = new long[capacity];
+    }
+
+    @Override
+    Object values() {
+        return values;
+    }
+
+    @Override
+    void copyValue(Object from, int fromSlot, int toSlot) {
+        values[toSlot] = ((long[]) from)[fromSlot];
+    }
+
+    @Override
+    void moveValue(int fromSlot, int toSlot) {
+        values[toSlot] = values[fromSlot];
+    }
+
+    @Override
+    void clearValue(int slot) {
+        values[slot] = 0L;
+    }
+
+    @Override
+    void clearValues() {
+    }
+
+    @Override
+    public String toString() {
+        return "TemporalLongMap{size=" + size + "}";
+    }
+}
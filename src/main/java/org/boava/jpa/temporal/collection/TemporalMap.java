@@ -0,0 +1,253 @@
+package org.boava.jpa.temporal.collection;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * A map from temporal values to objects, with keys stored as primitive {@code (seconds, nanos)} pairs and values
+ * in a parallel array, so a mapping costs no entry or key object.
+ * <p>
+ * Every operation is available for raw key components, e.g. straight from a {@code ResultSet}, so lookups
+ * allocate nothing. Raw nanoseconds must be normalized to 0..999,999,999. Null values are permitted, in which
+ * case {@link #get} cannot distinguish them from absent keys. Not thread-safe.
+ *
+ * @param <V> the type of the values
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class TemporalMap<V> extends TemporalHashTable {
+
+    /**
+     * Receives the mappings of a {@link TemporalMap}.
+     *
+     * @param <V> the type of the values
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        /**
+         * Accepts a mapping.
+         *
+         * @param seconds the seconds component of the key
+         * @param nanos the nanoseconds component of the key
+         * @param value the value
+         */
+        void accept(long seconds, int nanos, V value);
+    }
+
+    private Object[] values;
+
+    /**
+     * Creates an empty map.
+     */
+    public TemporalMap() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty map sized to hold the given number of mappings without growing.
+     *
+     * @param expectedSize the expected number of mappings
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public TemporalMap(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * Returns the value mapped to the key.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @return the value, or null if absent
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public V get(long seconds, int nanos) {
+        return getOrDefault(seconds, nanos, null);
+    }
+
+    /**
+     * Returns the value mapped to the key.
+     *
+     * @param key the key
+     * @return the value, or null if absent
+     */
+    public V get(EmbeddableTemporal key) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        return get(key.getSeconds(), key.getNanos());
+    }
+
+    /**
+     * Returns the value mapped to the key, or the default value if absent.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @param defaultValue the value returned for absent keys
+     * @return the value
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(long seconds, int nanos, V defaultValue) {
+        int slot = find(seconds, nanos);
+        return slot >= 0 ? (V) values[slot] : defaultValue;
+    }
+
+    /**
+     * Checks if the key is mapped.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @return true if present
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public boolean containsKey(long seconds, int nanos) {
+        return find(seconds, nanos) >= 0;
+    }
+
+    /**
+     * Checks if the key is mapped.
+     *
+     * @param key the key
+     * @return true if present
+     */
+    public boolean containsKey(EmbeddableTemporal key) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        return containsKey(key.getSeconds(), key.getNanos());
+    }
+
+    /**
+     * Maps the key to the value.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @param value the value
+     * @return the previous value, or null if absent
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long seconds, int nanos, V value) {
+        int slot = find(seconds, nanos);
+        if (slot >= 0) {
+            V previous = (V) values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        int newSlot = insert(-slot - 1, seconds, nanos);
+        values[newSlot] = value;
+        return null;
+    }
+
+    /**
+     * Maps the key to the value.
+     *
+     * @param key the key
+     * @param value the value
+     * @return the previous value, or null if absent
+     */
+    public V put(EmbeddableTemporal key, V value) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        return put(key.getSeconds(), key.getNanos(), value);
+    }
+
+    /**
+     * Maps the key to the value unless it is already mapped.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @param value the value
+     * @return the existing value, or null if the value was stored
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public V putIfAbsent(long seconds, int nanos, V value) {
+        int slot = find(seconds, nanos);
+        if (slot >= 0) {
+            return (V) values[slot];
+        }
+        int newSlot = insert(-slot - 1, seconds, nanos);
+        values[newSlot] = value;
+        return null;
+    }
+
+    /**
+     * Removes the mapping of the key.
+     *
+     * @param seconds the seconds component of the key
+     * @param nanos the nanoseconds component of the key
+     * @return the removed value, or null if absent
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long seconds, int nanos) {
+        int slot = find(seconds, nanos);
+        if (slot < 0) {
+            return null;
+        }
+        V previous = (V) values[slot];
+        removeAt(slot);
+        return previous;
+    }
+
+    /**
+     * Removes the mapping of the key.
+     *
+     * @param key the key
+     * @return the removed value, or null if absent
+     */
+    public V remove(EmbeddableTemporal key) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        return remove(key.getSeconds(), key.getNanos());
+    }
+
+    /**
+     * Passes every mapping, in no particular order, to the consumer.
+     *
+     * @param consumer receives the mappings
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> consumer) {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        for (int i = 0; i < nanos.length; i++) {
+            if (nanos[i] != EMPTY) {
+                consumer.accept(seconds[i], nanos[i], (V) values[i]);
+            }
+        }
+    }
+
+    @Override
+    void allocateValues(int capacity) {
+        values = new Object[capacity];
+    }
+
+    @Override
+    Object values() {
+        return values;
+    }
+
+    @Override
+    void copyValue(Object from, int fromSlot, int toSlot) {
+        values[toSlot] = ((Object[]) from)[fromSlot];
+    }
+
+    @Override
+    void moveValue(int fromSlot, int toSlot) {
+        values[toSlot] = values[fromSlot];
+    }
+
+    @Override
+    void clearValue(int slot) {
+        values[slot] = null;
+    }
+
+    @Override
+    void clearValues() {
+        Arrays.fill(values, null);
+    }
+
+    @Override
+    public String toString() {
+        return "TemporalMap{size=" + size + "}";
+    }
+}
@@ -0,0 +1,158 @@
+package org.boava.jpa.temporal.collection;
+
+import java.util.Objects;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal.TemporalConsumer;
+
+/**
+ * A set of temporal values stored as primitive {@code (seconds, nanos)} pairs, without an object per element.
+ * <p>
+ * Every operation is available for raw components, e.g. straight from a {@code ResultSet}, so membership tests
+ * allocate nothing. Raw nanoseconds must be normalized to 0..999,999,999. Not thread-safe.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class TemporalSet extends TemporalHashTable {
+
+    /**
+     * Creates an empty set.
+     */
+    public TemporalSet() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty set sized to hold the given number of elements without growing.
+     *
+     * @param expectedSize the expected number of elements
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public TemporalSet(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * Adds an element.
+     *
+     * @param seconds the seconds component
+     * @param nanos the nanoseconds component
+     * @return true if the element was not present
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public boolean add(long seconds, int nanos) {
+        int slot = find(seconds, nanos);
+        if (slot >= 0) {
+            return false;
+        }
+        insert(-slot - 1, seconds, nanos);
+        return true;
+    }
+
+    /**
+     * Adds an element.
+     *
+     * @param temporal the element
+     * @return true if the element was not present
+     */
+    public boolean add(EmbeddableTemporal temporal) {
+        Objects.requireNonNull(temporal, "Temporal cannot be null");
+        return add(temporal.getSeconds(), temporal.getNanos());
+    }
+
+    /**
+     * Checks if an element is present.
+     *
+     * @param seconds the seconds component
+     * @param nanos the nanoseconds component
+     * @return true if present
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public boolean contains(long seconds, int nanos) {
+        return find(seconds, nanos) >= 0;
+    }
+
+    /**
+     * Checks if an element is present.
+     *
+     * @param temporal the element
+     * @return true if present
+     */
+    public boolean contains(EmbeddableTemporal temporal) {
+        Objects.requireNonNull(temporal, "Temporal cannot be null");
+        return contains(temporal.getSeconds(), temporal.getNanos());
+    }
+
+    /**
+     * Removes an element.
+     *
+     * @param seconds the seconds component
+     * @param nanos the nanoseconds component
+     * @return true if the element was present
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public boolean remove(long seconds, int nanos) {
+        int slot = find(seconds, nanos);
+        if (slot < 0) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    /**
+     * Removes an element.
+     *
+     * @param temporal the element
+     * @return true if the element was present
+     */
+    public boolean remove(EmbeddableTemporal temporal) {
+        Objects.requireNonNull(temporal, "Temporal cannot be null");
+        return remove(temporal.getSeconds(), temporal.getNanos());
+    }
+
+    /**
+     * Passes every element, in no particular order, to the consumer.
+     *
+     * @param consumer receives the elements
+     */
+    public void forEach(TemporalConsumer consumer) {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        for (int i = 0; i < nanos.length; i++) {
+            if (nanos[i] != EMPTY) {
+                consumer.accept(seconds[i], nanos[i]);
+            }
+        }
+    }
+
+    @Override
+    void allocateValues(int capacity) {
+    }
+
+    @Override
+    Object values() {
+        return null;
+    }
+
+    @Override
+    void copyValue(Object from, int fromSlot, int toSlot) {
+    }
+
+    @Override
+    void moveValue(int fromSlot, int toSlot) {
+    }
+
+    @Override
+    void clearValue(int slot) {
+    }
+
+    @Override
+    void clearValues() {
+    }
+
+    @Override
+    public String toString() {
+        return "TemporalSet{size=" + size + "}";
+    }
+}
@@ -9,9 +9,15 @@ import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.Objects;
 
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 
+import org.boava.jpa.temporal.instrumentation.ConversionKind;
+import org.boava.jpa.temporal.instrumentation.NormalizationKind;
+import org.boava.jpa.temporal.instrumentation.TemporalInstrumentation;
+
 /**
  * A JPA embeddable type for storing temporal values with nanosecond precision across different databases.
  * <p>
@@ -32,11 +38,23 @@ import jakarta.persistence.Embeddable;
  * </ul>
  * <p>
  * Example usage in an entity:
+ * <pre>{@code
+ * @Embedded
+ * @AttributeOverride(name = "seconds", column = @Column(name = "created_at_seconds"))
+ * @AttributeOverride(name = "nanos", column = @Column(name = "created_at_nanos"))
+ * private EmbeddableTemporal createdAt;
+ * }</pre>
+ * <p>
+ * The persistence provider hydrates the fields directly ({@link AccessType#FIELD}), so loading an entity does not
+ * go through the normalizing setters: values read from the database are trusted to be normalized already, and
+ * validation only runs at the API boundary (constructors, setters and factory methods). Register
+ * {@link TemporalHydrationValidator} as an entity listener to detect corrupt stored values on load.
  * 
  * @author baalintnagy
  * @since 0.9.0
  */
 @Embeddable
+@Access(AccessType.FIELD)
 public class EmbeddableTemporal implements Comparable<EmbeddableTemporal>, Serializable {
 
     private static final long serialVersionUID = 1L;
@@ -56,7 +74,10 @@ public class EmbeddableTemporal implements Comparable<EmbeddableTemporal>, Seria
      */
     public static final int SECONDS_PER_DAY = 86_400;
 
+    @Column(name = "seconds", nullable = false)
     private long seconds;
+
+    @Column(name = "nanos", nullable = false)
     private int nanos;
 
     /**
@@ -83,7 +104,6 @@ public class EmbeddableTemporal implements Comparable<EmbeddableTemporal>, Seria
      * 
      * @return the seconds component
      */
-    @Column(name = "seconds", nullable = false)
     public long getSeconds() {
         return seconds;
     }
@@ -102,9 +122,8 @@ public class EmbeddableTemporal implements Comparable<EmbeddableTemporal>, Seria
     /**
      * Gets the nanoseconds component of this temporal value.
      * 
-     * @return the nanoseconds component (always 0..999,999,999)
+     * @return the nanoseconds component (0..999,999,999 unless loaded from a corrupt row)
      */
-    @Column(name = "nanos", nullable = false)
     public int getNanos() {
         return nanos;
     }
@@ -137,6 +156,20 @@ public class EmbeddableTemporal implements Comparable<EmbeddableTemporal>, Seria
         T convert(long seconds, int nanos);
     }
 
+    /**
+     * Functional interface for consuming seconds and nanoseconds pairs without allocating temporal objects.
+     */
+    @FunctionalInterface
+    public interface TemporalConsumer {
+        /**
+         * Consumes a seconds and nanoseconds pair.
+         * 
+         * @param seconds the seconds component
+         * @param nanos the nanoseconds component
+         */
+        void accept(long seconds, int nanos);
+    }
+
     /**
      * Converts this temporal value to any temporal type using the provided converter.
      * 
@@ -155,7 +188,7 @@ public class EmbeddableTemporal implements Comparable<EmbeddableTemporal>, Seria
      * the range 0..999,999,999 and seconds is adjusted accordingly.
      */
     protected void normalize() {
-        if (nanos >= 0 && nanos < NANOS_PER_SECOND) {
+        if (isNormalized()) {
             return;
         }
         
@@ -164,6 +197,9 @@ public class EmbeddableTemporal implements Comparable<EmbeddableTemporal>, Seria
             long carry = nanos / NANOS_PER_SECOND;
             this.seconds += carry;
             this.nanos = nanos % NANOS_PER_SECOND;
+            if (TemporalInstrumentation.ENABLED) {
+                TemporalInstrumentation.normalization(NormalizationKind.CARRY, carry);
+            }
         } else {
             // Negative nanoseconds: borrow from seconds
             // Handle negative nanos properly
@@ -171,9 +207,42 @@ public class EmbeddableTemporal implements Comparable<EmbeddableTemporal>, Seria
             long carry = (absNanos + MAX_NANOS) / NANOS_PER_SECOND; // ceiling division
             this.seconds -= carry;
             this.nanos += carry * NANOS_PER_SECOND;
+            if (TemporalInstrumentation.ENABLED) {
+                TemporalInstrumentation.normalization(NormalizationKind.BORROW, carry);
+            }
         }
     }
 
+    /**
+     * Returns true if the nanoseconds component is within 0..999,999,999.
+     * <p>
+     * Values created through the public API are always normalized; a value hydrated from a corrupt database row
+     * may not be.
+     * 
+     * @return true if this value is normalized
+     */
+    public boolean isNormalized() {
+        return nanos >= 0 && nanos < NANOS_PER_SECOND;
+    }
+
+    /**
+     * Creates a value from stored components without normalizing them, exactly as field-access hydration does.
+     * <p>
+     * Intended for persistence integrations that build values from columns or cache entries themselves, so that
+     * corrupt rows stay detectable by {@link TemporalHydrationValidator}. Application code should use the
+     * normalizing constructor.
+     *
+     * @param seconds the stored seconds component
+     * @param nanos the stored nanoseconds component
+     * @return the value, possibly not normalized
+     */
+    public static EmbeddableTemporal hydrate(long seconds, int nanos) {
+        EmbeddableTemporal temporal = new EmbeddableTemporal();
+        temporal.seconds = seconds;
+        temporal.nanos = nanos;
+        return temporal;
+    }
+
     @Override
     public int compareTo(EmbeddableTemporal other) {
         int secondsComparison = Long.compare(this.seconds, other.seconds);
@@ -190,7 +259,8 @@ public class EmbeddableTemporal implements Comparable<EmbeddableTemporal>, Seria
 
     @Override
     public int hashCode() {
-        return Objects.hash(seconds, nanos);
+        // Same value as Objects.hash(seconds, nanos), without boxing both fields into a varargs array
+        return 31 * (31 + Long.hashCode(seconds)) + nanos;
     }
 
     @Override
@@ -209,6 +279,9 @@ public class EmbeddableTemporal implements Comparable<EmbeddableTemporal>, Seria
      */
     public static EmbeddableTemporal from(Instant instant) {
         Objects.requireNonNull(instant, "Instant cannot be null");
+        if (TemporalInstrumentation.ENABLED) {
+            TemporalInstrumentation.conversion(ConversionKind.FROM_INSTANT);
+        }
         return new EmbeddableTemporal(instant.getEpochSecond(), instant.getNano());
     }
 
@@ -221,6 +294,9 @@ public class EmbeddableTemporal implements Comparable<EmbeddableTemporal>, Seria
      */
     public static EmbeddableTemporal from(Duration duration) {
         Objects.requireNonNull(duration, "Duration cannot be null");
+        if (TemporalInstrumentation.ENABLED) {
+            TemporalInstrumentation.conversion(ConversionKind.FROM_DURATION);
+        }
         return new EmbeddableTemporal(duration.getSeconds(), duration.getNano());
     }
 
@@ -232,6 +308,9 @@ public class EmbeddableTemporal implements Comparable<EmbeddableTemporal>, Seria
      * @return the Instant representation
      */
     public Instant toInstant() {
+        if (TemporalInstrumentation.ENABLED) {
+            TemporalInstrumentation.conversion(ConversionKind.TO_INSTANT);
+        }
         return Instant.ofEpochSecond(seconds, nanos);
     }
 
@@ -241,6 +320,9 @@ public class EmbeddableTemporal implements Comparable<EmbeddableTemporal>, Seria
      * @return the Duration representation
      */
     public Duration toDuration() {
+        if (TemporalInstrumentation.ENABLED) {
+            TemporalInstrumentation.conversion(ConversionKind.TO_DURATION);
+        }
         return Duration.ofSeconds(seconds, nanos);
     }
 
@@ -250,6 +332,9 @@ public class EmbeddableTemporal implements Comparable<EmbeddableTemporal>, Seria
      * @return the LocalDateTime representation
      */
     public LocalDateTime toLocalDateTime() {
+        if (TemporalInstrumentation.ENABLED) {
+            TemporalInstrumentation.conversion(ConversionKind.TO_LOCAL_DATE_TIME);
+        }
         return LocalDateTime.ofEpochSecond(seconds, nanos, java.time.ZoneOffset.UTC);
     }
 
@@ -259,7 +344,10 @@ public class EmbeddableTemporal implements Comparable<EmbeddableTemporal>, Seria
      * @return the ZonedDateTime representation
      */
     public ZonedDateTime toZonedDateTime() {
-        return ZonedDateTime.ofInstant(toInstant(), java.time.ZoneOffset.UTC);
+        if (TemporalInstrumentation.ENABLED) {
+            TemporalInstrumentation.conversion(ConversionKind.TO_ZONED_DATE_TIME);
+        }
+        return ZonedDateTime.ofInstant(Instant.ofEpochSecond(seconds, nanos), java.time.ZoneOffset.UTC);
     }
 
     /**
@@ -268,7 +356,10 @@ public class EmbeddableTemporal implements Comparable<EmbeddableTemporal>, Seria
      * @return the OffsetDateTime representation
      */
     public OffsetDateTime toOffsetDateTime() {
-        return OffsetDateTime.ofInstant(toInstant(), java.time.ZoneOffset.UTC);
+        if (TemporalInstrumentation.ENABLED) {
+            TemporalInstrumentation.conversion(ConversionKind.TO_OFFSET_DATE_TIME);
+        }
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(seconds, nanos), java.time.ZoneOffset.UTC);
     }
 
     /**
@@ -277,6 +368,9 @@ public class EmbeddableTemporal implements Comparable<EmbeddableTemporal>, Seria
      * @return the LocalTime representation
      */
     public LocalTime toLocalTime() {
+        if (TemporalInstrumentation.ENABLED) {
+            TemporalInstrumentation.conversion(ConversionKind.TO_LOCAL_TIME);
+        }
         long secondsInDay = ((seconds % SECONDS_PER_DAY) + SECONDS_PER_DAY) % SECONDS_PER_DAY; // normalize to 0-86,399
         long totalNanos = secondsInDay * NANOS_PER_SECOND + nanos;
         return LocalTime.ofNanoOfDay(totalNanos);
@@ -0,0 +1,115 @@
+package org.boava.jpa.temporal.embeddable;
+
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * A temporal value with microsecond precision, stored as a single {@code BIGINT} column of microseconds since the
+ * epoch, covering ±292 thousand years.
+ * <p>
+ * Override the column name as with {@link EmbeddableTemporal}, e.g.
+ * {@code @AttributeOverride(name = "epochMicros", column = @Column(name = "created_epoch_micros"))}.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+@Embeddable
+@Access(AccessType.FIELD)
+public class EpochMicrosTemporal extends EpochTemporal {
+
+    private static final long serialVersionUID = 1L;
+
+    @Column(name = "epoch_micros", nullable = false)
+    private long epochMicros;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public EpochMicrosTemporal() {
+    }
+
+    /**
+     * Constructs a value from microseconds since the epoch.
+     *
+     * @param epochMicros the number of microseconds since the epoch
+     */
+    public EpochMicrosTemporal(long epochMicros) {
+        this.epochMicros = epochMicros;
+    }
+
+    /**
+     * Creates a value from an {@link Instant}, rejecting instants finer than microseconds.
+     *
+     * @param instant the instant to convert
+     * @return the value
+     * @throws NullPointerException if instant is null
+     * @throws IllegalArgumentException if the instant is not a whole number of microseconds or is out of range
+     */
+    public static EpochMicrosTemporal from(Instant instant) {
+        return from(instant, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Creates a value from an {@link Instant}, rounding a finer fraction.
+     *
+     * @param instant the instant to convert
+     * @param rounding how to round a finer fraction, {@link RoundingMode#UNNECESSARY} to reject it
+     * @return the value
+     * @throws NullPointerException if instant or rounding is null
+     * @throws IllegalArgumentException if rounding is required but not allowed, or the instant is out of range
+     */
+    public static EpochMicrosTemporal from(Instant instant, RoundingMode rounding) {
+        return new EpochMicrosTemporal(TemporalPrecision.MICROS.toUnits(instant, rounding));
+    }
+
+    /**
+     * Creates a value from a {@link Duration}, rounding a finer fraction.
+     *
+     * @param duration the duration to convert
+     * @param rounding how to round a finer fraction, {@link RoundingMode#UNNECESSARY} to reject it
+     * @return the value
+     * @throws NullPointerException if duration or rounding is null
+     * @throws IllegalArgumentException if rounding is required but not allowed, or the duration is out of range
+     */
+    public static EpochMicrosTemporal from(Duration duration, RoundingMode rounding) {
+        return new EpochMicrosTemporal(TemporalPrecision.MICROS.toUnits(duration, rounding));
+    }
+
+    /**
+     * Creates a value from an {@link EmbeddableTemporal}, rounding a finer fraction.
+     *
+     * @param value the value to convert
+     * @param rounding how to round a finer fraction, {@link RoundingMode#UNNECESSARY} to reject it
+     * @return the value
+     * @throws NullPointerException if value or rounding is null
+     * @throws IllegalArgumentException if rounding is required but not allowed, or the value is out of range
+     */
+    public static EpochMicrosTemporal from(EmbeddableTemporal value, RoundingMode rounding) {
+        return new EpochMicrosTemporal(TemporalPrecision.MICROS.toUnits(value, rounding));
+    }
+
+    @Override
+    public TemporalPrecision getPrecision() {
+        return TemporalPrecision.MICROS;
+    }
+
+    @Override
+    public long getUnits() {
+        return epochMicros;
+    }
+
+    /**
+     * Returns the stored value.
+     *
+     * @return the number of microseconds since the epoch
+     */
+    public long getEpochMicros() {
+        return epochMicros;
+    }
+}
@@ -0,0 +1,115 @@
+package org.boava.jpa.temporal.embeddable;
+
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * A temporal value with millisecond precision, stored as a single {@code BIGINT} column of milliseconds since the
+ * epoch, covering ±292 million years.
+ * <p>
+ * Override the column name as with {@link EmbeddableTemporal}, e.g.
+ * {@code @AttributeOverride(name = "epochMillis", column = @Column(name = "created_epoch_millis"))}.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+@Embeddable
+@Access(AccessType.FIELD)
+public class EpochMillisTemporal extends EpochTemporal {
+
+    private static final long serialVersionUID = 1L;
+
+    @Column(name = "epoch_millis", nullable = false)
+    private long epochMillis;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public EpochMillisTemporal() {
+    }
+
+    /**
+     * Constructs a value from milliseconds since the epoch.
+     *
+     * @param epochMillis the number of milliseconds since the epoch
+     */
+    public EpochMillisTemporal(long epochMillis) {
+        this.epochMillis = epochMillis;
+    }
+
+    /**
+     * Creates a value from an {@link Instant}, rejecting instants finer than milliseconds.
+     *
+     * @param instant the instant to convert
+     * @return the value
+     * @throws NullPointerException if instant is null
+     * @throws IllegalArgumentException if the instant is not a whole number of milliseconds or is out of range
+     */
+    public static EpochMillisTemporal from(Instant instant) {
+        return from(instant, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Creates a value from an {@link Instant}, rounding a finer fraction.
+     *
+     * @param instant the instant to convert
+     * @param rounding how to round a finer fraction, {@link RoundingMode#UNNECESSARY} to reject it
+     * @return the value
+     * @throws NullPointerException if instant or rounding is null
+     * @throws IllegalArgumentException if rounding is required but not allowed, or the instant is out of range
+     */
+    public static EpochMillisTemporal from(Instant instant, RoundingMode rounding) {
+        return new EpochMillisTemporal(TemporalPrecision.MILLIS.toUnits(instant, rounding));
+    }
+
+    /**
+     * Creates a value from a {@link Duration}, rounding a finer fraction.
+     *
+     * @param duration the duration to convert
+     * @param rounding how to round a finer fraction, {@link RoundingMode#UNNECESSARY} to reject it
+     * @return the value
+     * @throws NullPointerException if duration or rounding is null
+     * @throws IllegalArgumentException if rounding is required but not allowed, or the duration is out of range
+     */
+    public static EpochMillisTemporal from(Duration duration, RoundingMode rounding) {
+        return new EpochMillisTemporal(TemporalPrecision.MILLIS.toUnits(duration, rounding));
+    }
+
+    /**
+     * Creates a value from an {@link EmbeddableTemporal}, rounding a finer fraction.
+     *
+     * @param value the value to convert
+     * @param rounding how to round a finer fraction, {@link RoundingMode#UNNECESSARY} to reject it
+     * @return the value
+     * @throws NullPointerException if value or rounding is null
+     * @throws IllegalArgumentException if rounding is required but not allowed, or the value is out of range
+     */
+    public static EpochMillisTemporal from(EmbeddableTemporal value, RoundingMode rounding) {
+        return new EpochMillisTemporal(TemporalPrecision.MILLIS.toUnits(value, rounding));
+    }
+
+    @Override
+    public TemporalPrecision getPrecision() {
+        return TemporalPrecision.MILLIS;
+    }
+
+    @Override
+    public long getUnits() {
+        return epochMillis;
+    }
+
+    /**
+     * Returns the stored value.
+     *
+     * @return the number of milliseconds since the epoch
+     */
+    public long getEpochMillis() {
+        return epochMillis;
+    }
+}
@@ -0,0 +1,115 @@
+package org.boava.jpa.temporal.embeddable;
+
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * A temporal value with second precision, stored as a single {@code BIGINT} column of seconds since the
+ * epoch, covering more than the range of {@link Instant}.
+ * <p>
+ * Override the column name as with {@link EmbeddableTemporal}, e.g.
+ * {@code @AttributeOverride(name = "epochSeconds", column = @Column(name = "created_epoch_seconds"))}.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+@Embeddable
+@Access(AccessType.FIELD)
+public class EpochSecondsTemporal extends EpochTemporal {
+
+    private static final long serialVersionUID = 1L;
+
+    @Column(name = "epoch_seconds", nullable = false)
+    private long epochSeconds;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public EpochSecondsTemporal() {
+    }
+
+    /**
+     * Constructs a value from seconds since the epoch.
+     *
+     * @param epochSeconds the number of seconds since the epoch
+     */
+    public EpochSecondsTemporal(long epochSeconds) {
+        this.epochSeconds = epochSeconds;
+    }
+
+    /**
+     * Creates a value from an {@link Instant}, rejecting instants finer than seconds.
+     *
+     * @param instant the instant to convert
+     * @return the value
+     * @throws NullPointerException if instant is null
+     * @throws IllegalArgumentException if the instant is not a whole number of seconds or is out of range
+     */
+    public static EpochSecondsTemporal from(Instant instant) {
+        return from(instant, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Creates a value from an {@link Instant}, rounding a finer fraction.
+     *
+     * @param instant the instant to convert
+     * @param rounding how to round a finer fraction, {@link RoundingMode#UNNECESSARY} to reject it
+     * @return the value
+     * @throws NullPointerException if instant or rounding is null
+     * @throws IllegalArgumentException if rounding is required but not allowed, or the instant is out of range
+     */
+    public static EpochSecondsTemporal from(Instant instant, RoundingMode rounding) {
+        return new EpochSecondsTemporal(TemporalPrecision.SECONDS.toUnits(instant, rounding));
+    }
+
+    /**
+     * Creates a value from a {@link Duration}, rounding a finer fraction.
+     *
+     * @param duration the duration to convert
+     * @param rounding how to round a finer fraction, {@link RoundingMode#UNNECESSARY} to reject it
+     * @return the value
+     * @throws NullPointerException if duration or rounding is null
+     * @throws IllegalArgumentException if rounding is required but not allowed, or the duration is out of range
+     */
+    public static EpochSecondsTemporal from(Duration duration, RoundingMode rounding) {
+        return new EpochSecondsTemporal(TemporalPrecision.SECONDS.toUnits(duration, rounding));
+    }
+
+    /**
+     * Creates a value from an {@link EmbeddableTemporal}, rounding a finer fraction.
+     *
+     * @param value the value to convert
+     * @param rounding how to round a finer fraction, {@link RoundingMode#UNNECESSARY} to reject it
+     * @return the value
+     * @throws NullPointerException if value or rounding is null
+     * @throws IllegalArgumentException if rounding is required but not allowed, or the value is out of range
+     */
+    public static EpochSecondsTemporal from(EmbeddableTemporal value, RoundingMode rounding) {
+        return new EpochSecondsTemporal(TemporalPrecision.SECONDS.toUnits(value, rounding));
+    }
+
+    @Override
+    public TemporalPrecision getPrecision() {
+        return TemporalPrecision.SECONDS;
+    }
+
+    @Override
+    public long getUnits() {
+        return epochSeconds;
+    }
+
+    /**
+     * Returns the stored value.
+     *
+     * @return the number of seconds since the epoch
+     */
+    public long getEpochSeconds() {
+        return epochSeconds;
+    }
+}
@@ -0,0 +1,117 @@
+package org.boava.jpa.temporal.embeddable;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Base class of the embeddables storing a temporal value in a single {@code BIGINT} column, as a count of
+ * {@link TemporalPrecision} units since the epoch.
+ * <p>
+ * Compared to {@link EmbeddableTemporal}, which stores seconds and nanoseconds in two columns, the single column
+ * makes rows and indexes narrower and lets range predicates compare one value. The conversion API is the same, so
+ * switching a hot table to a coarser precision does not change the code reading it. Values are rounded or rejected
+ * when they are created, according to the {@link java.math.RoundingMode} passed to the factory methods; the
+ * factory methods without one reject values finer than the precision.
+ * <p>
+ * Values of different precisions compare by the instant they represent.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public abstract class EpochTemporal implements Comparable<EpochTemporal>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a value.
+     */
+    protected EpochTemporal() {
+    }
+
+    /**
+     * Returns the precision of the stored units.
+     *
+     * @return the precision
+     */
+    public abstract TemporalPrecision getPrecision();
+
+    /**
+     * Returns the stored value.
+     *
+     * @return the number of precision units since the epoch
+     */
+    public abstract long getUnits();
+
+    /**
+     * Gets the seconds component of this temporal value.
+     *
+     * @return the seconds component
+     */
+    public long getSeconds() {
+        return getPrecision().secondsOf(getUnits());
+    }
+
+    /**
+     * Gets the nanoseconds component of this temporal value.
+     *
+     * @return the nanoseconds component, in the range 0..999,999,999
+     */
+    public int getNanos() {
+        return getPrecision().nanosOf(getUnits());
+    }
+
+    /**
+     * Converts this value to an {@link Instant}.
+     *
+     * @return the Instant representation
+     * @throws java.time.DateTimeException if the value exceeds the range of Instant
+     */
+    public Instant toInstant() {
+        return Instant.ofEpochSecond(getSeconds(), getNanos());
+    }
+
+    /**
+     * Converts this value to a {@link Duration}.
+     *
+     * @return the Duration representation
+     */
+    public Duration toDuration() {
+        return Duration.ofSeconds(getSeconds(), getNanos());
+    }
+
+    /**
+     * Converts this value to the nanosecond precision seconds and nanoseconds representation.
+     *
+     * @return the EmbeddableTemporal representation
+     */
+    public EmbeddableTemporal toEmbeddableTemporal() {
+        return new EmbeddableTemporal(getSeconds(), getNanos());
+    }
+
+    @Override
+    public int compareTo(EpochTemporal other) {
+        if (getPrecision() == other.getPrecision()) {
+            return Long.compare(getUnits(), other.getUnits());
+        }
+        int bySeconds = Long.compare(getSeconds(), other.getSeconds());
+        return bySeconds != 0 ? bySeconds : Integer.compare(getNanos(), other.getNanos());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        return getUnits() == ((EpochTemporal) obj).getUnits();
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(getUnits());
+    }
+
+    @Override
+    public String toString() {
+        return "%s{units=%d}".formatted(getClass().getSimpleName(), getUnits());
+    }
+}
@@ -0,0 +1,104 @@
+package org.boava.jpa.temporal.embeddable;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.PostLoad;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entity listener implementing the strict hydration mode: it verifies after every load that the
+ * {@link EmbeddableTemporal} values of the entity hold normalized values.
+ * <p>
+ * {@code EmbeddableTemporal} is hydrated straight into its fields and trusts the stored values. Entities whose
+ * tables may contain rows written by other applications can opt into validation with
+ * {@code @EntityListeners(TemporalHydrationValidator.class)}, or for a whole persistence unit by declaring it as
+ * a default entity listener in {@code orm.xml}.
+ * <p>
+ * Besides fields declared as {@code EmbeddableTemporal}, the validator descends into {@code @Embeddable} fields,
+ * such as {@code TemporalInterval} or {@code BitemporalPeriod}, and into the elements, keys and values of
+ * {@code @ElementCollection} fields. Element collections that are still lazy when the entity is loaded are
+ * skipped, since validating them would load them. The fields to visit are resolved once per class and cached.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class TemporalHydrationValidator {
+
+    private static final ClassValue<Field[]> TEMPORAL_FIELDS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class;
+                    current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && mayHoldTemporal(field)) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields.toArray(new Field[0]);
+        }
+    };
+
+    /**
+     * Validates the temporal values of a freshly loaded entity.
+     *
+     * @param entity the loaded entity
+     * @throws IllegalStateException if a temporal value holds an out-of-range nanoseconds component
+     */
+    @PostLoad
+    public void validate(Object entity) {
+        validateFields(entity, entity.getClass().getSimpleName());
+    }
+
+    private static boolean mayHoldTemporal(Field field) {
+        return field.getType() == EmbeddableTemporal.class || field.getType().isAnnotationPresent(Embeddable.class)
+            || field.isAnnotationPresent(ElementCollection.class);
+    }
+
+    private static void validateFields(Object owner, String path) {
+        for (Field field : TEMPORAL_FIELDS.get(owner.getClass())) {
+            Object value;
+            try {
+                value = field.get(owner);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot read " + field, e);
+            }
+            String fieldPath = path + "." + field.getName();
+            if (value instanceof Collection<?> elements) {
+                if (Persistence.getPersistenceUtil().isLoaded(elements)) {
+                    for (Object element : elements) {
+                        validateValue(element, fieldPath + "[]");
+                    }
+                }
+            } else if (value instanceof Map<?, ?> entries) {
+                if (Persistence.getPersistenceUtil().isLoaded(entries)) {
+                    for (Map.Entry<?, ?> entry : entries.entrySet()) {
+                        validateValue(entry.getKey(), fieldPath + "{key}");
+                        validateValue(entry.getValue(), fieldPath + "[]");
+                    }
+                }
+            } else {
+                validateValue(value, fieldPath);
+            }
+        }
+    }
+
+    private static void validateValue(Object value, String path) {
+        if (value instanceof EmbeddableTemporal temporal) {
+            if (!temporal.isNormalized()) {
+                throw new IllegalStateException("Corrupt stored temporal value in %s: %s".formatted(path, temporal));
+            }
+        } else if (value != null && value.getClass().isAnnotationPresent(Embeddable.class)) {
+            validateFields(value, path);
+        }
+    }
+}
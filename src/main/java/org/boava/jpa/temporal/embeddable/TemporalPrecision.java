@@ -0,0 +1,207 @@
+package org.boava.jpa.temporal.embeddable;
+
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * The precision a temporal value is stored with, from whole seconds down to nanoseconds.
+ * <p>
+ * Values are stored as a count of precision units since the epoch in a single {@code BIGINT}, which covers about
+ * ±292 billion years at second, ±292 million years at millisecond and ±292 thousand years at microsecond precision.
+ * Nanosecond precision does not fit one {@code BIGINT} for useful ranges and is stored as seconds and nanoseconds
+ * by {@link EmbeddableTemporal}. Converting a value with a finer fraction than the precision uses a
+ * {@link RoundingMode}; {@link RoundingMode#UNNECESSARY} rejects such values instead.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public enum TemporalPrecision {
+
+    /** Whole seconds, see {@link EpochSecondsTemporal}. */
+    SECONDS(1_000_000_000),
+
+    /** Milliseconds, see {@link EpochMillisTemporal}. */
+    MILLIS(1_000_000),
+
+    /** Microseconds, see {@link EpochMicrosTemporal}. */
+    MICROS(1_000),
+
+    /** Nanoseconds, see {@link EmbeddableTemporal}. */
+    NANOS(1);
+
+    private final int nanosPerUnit;
+    private final int unitsPerSecond;
+
+    TemporalPrecision(int nanosPerUnit) {
+        this.nanosPerUnit = nanosPerUnit;
+        this.unitsPerSecond = EmbeddableTemporal.NANOS_PER_SECOND / nanosPerUnit;
+    }
+
+    /**
+     * Returns the length of one unit.
+     *
+     * @return the number of nanoseconds per unit
+     */
+    public int getNanosPerUnit() {
+        return nanosPerUnit;
+    }
+
+    /**
+     * Returns the number of units in one second.
+     *
+     * @return the units per second
+     */
+    public int getUnitsPerSecond() {
+        return unitsPerSecond;
+    }
+
+    /**
+     * Returns true if the given nanoseconds of second can be represented without rounding.
+     *
+     * @param nanos the nanoseconds component, in the range 0..999,999,999
+     * @return true if nanos is a multiple of the unit
+     */
+    public boolean isExact(int nanos) {
+        return nanos % nanosPerUnit == 0;
+    }
+
+    /**
+     * Converts an instant to units since the epoch.
+     *
+     * @param instant the instant
+     * @param rounding how to round a finer fraction, {@link RoundingMode#UNNECESSARY} to reject it
+     * @return the number of units since the epoch
+     * @throws IllegalArgumentException if rounding is required but not allowed, or the result overflows
+     */
+    public long toUnits(Instant instant, RoundingMode rounding) {
+        Objects.requireNonNull(instant, "Instant cannot be null");
+        return toUnits(instant.getEpochSecond(), instant.getNano(), rounding);
+    }
+
+    /**
+     * Converts a duration to units.
+     *
+     * @param duration the duration
+     * @param rounding how to round a finer fraction, {@link RoundingMode#UNNECESSARY} to reject it
+     * @return the number of units
+     * @throws IllegalArgumentException if rounding is required but not allowed, or the result overflows
+     */
+    public long toUnits(Duration duration, RoundingMode rounding) {
+        Objects.requireNonNull(duration, "Duration cannot be null");
+        return toUnits(duration.getSeconds(), duration.getNano(), rounding);
+    }
+
+    /**
+     * Converts a temporal value to units.
+     *
+     * @param value the value
+     * @param rounding how to round a finer fraction, {@link RoundingMode#UNNECESSARY} to reject it
+     * @return the number of units
+     * @throws IllegalArgumentException if rounding is required but not allowed, or the result overflows
+     */
+    public long toUnits(EmbeddableTemporal value, RoundingMode rounding) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        return toUnits(value.getSeconds(), value.getNanos(), rounding);
+    }
+
+    /**
+     * Converts a seconds and nanoseconds pair to units.
+     *
+     * @param seconds the seconds component
+     * @param nanos the nanoseconds component, in the range 0..999,999,999
+     * @param rounding how to round a finer fraction, {@link RoundingMode#UNNECESSARY} to reject it
+     * @return the number of units
+     * @throws IllegalArgumentException if nanos is out of range, rounding is required but not allowed, or the
+     *         result overflows
+     */
+    public long toUnits(long seconds, int nanos, RoundingMode rounding) {
+        Objects.requireNonNull(rounding, "Rounding mode cannot be null");
+        if (nanos < 0 || nanos > EmbeddableTemporal.MAX_NANOS) {
+            throw new IllegalArgumentException("Nanos must be within 0..999,999,999: " + nanos);
+        }
+        int remainder = nanos % nanosPerUnit;
+        long floor;
+        try {
+            floor = Math.addExact(Math.multiplyExact(seconds, (long) unitsPerSecond), nanos / nanosPerUnit);
+            if (remainder != 0 && roundsUp(floor, remainder, rounding)) {
+                floor = Math.incrementExact(floor);
+            }
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(
+                "Value of " + seconds + "s " + nanos + "ns is out of range for " + this + " precision", e);
+        }
+        return floor;
+    }
+
+    /**
+     * Returns the seconds component of a unit count.
+     *
+     * @param units the number of units
+     * @return the seconds, rounded towards negative infinity
+     */
+    public long secondsOf(long units) {
+        return Math.floorDiv(units, unitsPerSecond);
+    }
+
+    /**
+     * Returns the nanoseconds component of a unit count.
+     *
+     * @param units the number of units
+     * @return the nanoseconds of second, in the range 0..999,999,999
+     */
+    public int nanosOf(long units) {
+        return Math.floorMod(units, unitsPerSecond) * nanosPerUnit;
+    }
+
+    /**
+     * Rounds a temporal value to this precision, keeping the seconds and nanoseconds representation.
+     *
+     * @param value the value to round
+     * @param rounding how to round a finer fraction, {@link RoundingMode#UNNECESSARY} to reject it
+     * @return the rounded value, which is {@code value} itself if it is already exact
+     * @throws IllegalArgumentException if rounding is required but not allowed, or the value is out of range
+     */
+    public EmbeddableTemporal round(EmbeddableTemporal value, RoundingMode rounding) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        if (isExact(value.getNanos())) {
+            return value;
+        }
+        long units = toUnits(value, rounding);
+        return new EmbeddableTemporal(secondsOf(units), nanosOf(units));
+    }
+
+    /**
+     * Decides whether a value between {@code floor} and {@code floor + 1} units rounds up. The value is negative
+     * exactly when {@code floor} is, since the remainder is positive.
+     */
+    private boolean roundsUp(long floor, int remainder, RoundingMode rounding) {
+        boolean negative = floor < 0;
+        switch (rounding) {
+            case FLOOR:
+                return false;
+            case CEILING:
+                return true;
+            case DOWN:
+                return negative;
+            case UP:
+                return !negative;
+            case HALF_UP:
+            case HALF_DOWN:
+            case HALF_EVEN:
+                int twice = remainder * 2;
+                if (twice != nanosPerUnit) {
+                    return twice > nanosPerUnit;
+                }
+                if (rounding == RoundingMode.HALF_EVEN) {
+                    return (floor & 1) != 0;
+                }
+                return (rounding == RoundingMode.HALF_UP) != negative;
+            case UNNECESSARY:
+            default:
+                throw new IllegalArgumentException(
+                    "Value with " + remainder + "ns below " + this + " precision requires rounding");
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.boava.jpa.temporal.epochnanos;
+
+import java.util.Objects;
+
+/**
+ * DDL generation for a stored, database-computed epoch-nanoseconds column next to the seconds and nanoseconds
+ * columns of a temporal attribute.
+ * <p>
+ * The column holds {@code seconds * 1,000,000,000 + nanos}, so a single-column index orders and joins on it, which
+ * the two-column representation cannot offer to merge joins or index-ordered scans. The database keeps it up to
+ * date; map it as a read-only attribute, e.g. with {@code @Column(insertable = false, updatable = false)}.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public enum EpochNanosDialect {
+
+    /**
+     * H2 2.x generated column.
+     */
+    H2 {
+        @Override
+        public String addColumn(String table, String column, String secondsColumn, String nanosColumn,
+                EpochNanosType type) {
+            check(table, column, type);
+            return "ALTER TABLE %s ADD COLUMN %s %s GENERATED ALWAYS AS (%s)".formatted(table, column,
+                sqlType(type, "NUMERIC"), expression(secondsColumn, nanosColumn, type, "NUMERIC"));
+        }
+    },
+
+    /**
+     * PostgreSQL 12+ stored generated column.
+     */
+    POSTGRESQL {
+        @Override
+        public String addColumn(String table, String column, String secondsColumn, String nanosColumn,
+                EpochNanosType type) {
+            check(table, column, type);
+            return "ALTER TABLE %s ADD COLUMN %s %s GENERATED ALWAYS AS (%s) STORED".formatted(table, column,
+                sqlType(type, "NUMERIC"), expression(secondsColumn, nanosColumn, type, "NUMERIC"));
+        }
+    },
+
+    /**
+     * MySQL 5.7+ and MariaDB stored generated column.
+     */
+    MYSQL {
+        @Override
+        public String addColumn(String table, String column, String secondsColumn, String nanosColumn,
+                EpochNanosType type) {
+            check(table, column, type);
+            return "ALTER TABLE %s ADD COLUMN %s %s GENERATED ALWAYS AS (%s) STORED".formatted(table, column,
+                sqlType(type, "DECIMAL"), expression(secondsColumn, nanosColumn, type, "DECIMAL"));
+        }
+    },
+
+    /**
+     * Oracle virtual column. Oracle computes it on read, but indexes on it are stored like on any other column.
+     * {@code NUMBER} arithmetic is exact, so no cast is needed for either type.
+     */
+    ORACLE {
+        @Override
+        public String addColumn(String table, String column, String secondsColumn, String nanosColumn,
+                EpochNanosType type) {
+            check(table, column, type);
+            return "ALTER TABLE %s ADD (%s NUMBER(%d) GENERATED ALWAYS AS (%s) VIRTUAL)".formatted(table, column,
+                type == EpochNanosType.BIGINT ? 19 : EpochNanosType.DECIMAL_PRECISION,
+                expression(secondsColumn, nanosColumn, EpochNanosType.BIGINT, null));
+        }
+    },
+
+    /**
+     * SQL Server persisted computed column. Its type is inferred from the expression, so the decimal variant
+     * casts the result back to {@code DECIMAL(29, 0)}.
+     */
+    SQLSERVER {
+        @Override
+        public String addColumn(String table, String column, String secondsColumn, String nanosColumn,
+                EpochNanosType type) {
+            check(table, column, type);
+            String expression = expression(secondsColumn, nanosColumn, type, "DECIMAL");
+            if (type == EpochNanosType.DECIMAL) {
+                expression = "CAST(%s AS %s)".formatted(expression, sqlType(type, "DECIMAL"));
+            }
+            return "ALTER TABLE %s ADD %s AS (%s) PERSISTED".formatted(table, column, expression);
+        }
+    };
+
+    /**
+     * Creates the statement adding the generated column to an existing table.
+     *
+     * @param table the table
+     * @param column the name of the generated column
+     * @param secondsColumn the seconds column of the temporal attribute
+     * @param nanosColumn the nanoseconds column of the temporal attribute
+     * @param type the SQL type of the generated column
+     * @return the DDL statement
+     */
+    public abstract String addColumn(String table, String column, String secondsColumn, String nanosColumn,
+            EpochNanosType type);
+
+    /**
+     * Creates the statement indexing the generated column, optionally followed by further columns such as a
+     * unique key for keyset pagination.
+     *
+     * @param index the name of the index
+     * @param table the table
+     * @param column the generated column
+     * @param additionalColumns further indexed columns
+     * @return the DDL statement
+     */
+    public String createIndex(String index, String table, String column, String... additionalColumns) {
+        Objects.requireNonNull(index, "Index cannot be null");
+        Objects.requireNonNull(table, "Table cannot be null");
+        Objects.requireNonNull(column, "Column cannot be null");
+        StringBuilder columns = new StringBuilder(column);
+        for (String additional : additionalColumns) {
+            columns.append(", ").append(Objects.requireNonNull(additional, "Column cannot be null"));
+        }
+        return "CREATE INDEX %s ON %s (%s)".formatted(index, table, columns);
+    }
+
+    private static void check(String table, String column, EpochNanosType type) {
+        Objects.requireNonNull(table, "Table cannot be null");
+        Objects.requireNonNull(column, "Column cannot be null");
+        Objects.requireNonNull(type, "Type cannot be null");
+    }
+
+    private static String sqlType(EpochNanosType type, String decimalName) {
+        return type == EpochNanosType.BIGINT ? "BIGINT"
+            : "%s(%d, 0)".formatted(decimalName, EpochNanosType.DECIMAL_PRECISION);
+    }
+
+    /**
+     * Returns the generating expression; the decimal variant widens the seconds first so the product cannot
+     * overflow a 64-bit integer.
+     */
+    private static String expression(String secondsColumn, String nanosColumn, EpochNanosType type,
+            String decimalName) {
+        Objects.requireNonNull(secondsColumn, "Seconds column cannot be null");
+        Objects.requireNonNull(nanosColumn, "Nanos column cannot be null");
+        String seconds = type == EpochNanosType.BIGINT ? secondsColumn
+            : "CAST(%s AS %s)".formatted(secondsColumn, sqlType(type, decimalName));
+        return "%s * 1000000000 + %s".formatted(seconds, nanosColumn);
+    }
+}
@@ -0,0 +1,53 @@
+package org.boava.jpa.temporal.epochnanos;
+
+import java.util.Objects;
+
+/**
+ * The expression addressing a generated epoch-nanoseconds column in a query, together with its type.
+ * <p>
+ * For JPQL the expression is the path of the read-only attribute mapping the column, e.g.
+ * {@code e.timestampEpochNanos}; for SQL it is the column name.
+ *
+ * @param expression the expression addressing the column
+ * @param type the SQL type of the column
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public record EpochNanosPath(String expression, EpochNanosType type) {
+
+    /**
+     * Creates a new path, rejecting a blank expression.
+     *
+     * @param expression the expression addressing the column
+     * @param type the SQL type of the column
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if the expression is blank
+     */
+    public EpochNanosPath {
+        Objects.requireNonNull(expression, "Expression cannot be null");
+        Objects.requireNonNull(type, "Type cannot be null");
+        if (expression.isBlank()) {
+            throw new IllegalArgumentException("Epoch nanos expression cannot be blank");
+        }
+    }
+
+    /**
+     * Creates a path to a {@link EpochNanosType#BIGINT} column.
+     *
+     * @param expression the expression addressing the column
+     * @return the path
+     */
+    public static EpochNanosPath bigint(String expression) {
+        return new EpochNanosPath(expression, EpochNanosType.BIGINT);
+    }
+
+    /**
+     * Creates a path to a {@link EpochNanosType#DECIMAL} column.
+     *
+     * @param expression the expression addressing the column
+     * @return the path
+     */
+    public static EpochNanosPath decimal(String expression) {
+        return new EpochNanosPath(expression, EpochNanosType.DECIMAL);
+    }
+}
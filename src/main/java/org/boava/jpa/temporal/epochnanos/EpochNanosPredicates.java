@@ -0,0 +1,143 @@
+package org.boava.jpa.temporal.epochnanos;
+
+import java.util.Objects;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.interval.TemporalInterval;
+
+/**
+ * Builders for predicates, orderings and join conditions over a generated epoch-nanoseconds column.
+ * <p>
+ * Unlike the two-column predicates of {@link org.boava.jpa.temporal.query.TemporalPredicates}, every condition here
+ * is a plain comparison of one column, so it maps to a single index range, an index-ordered scan or a merge join.
+ * Bounds are rendered as numeric literals; only the paths are taken verbatim and must not come from untrusted
+ * input.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public final class EpochNanosPredicates {
+
+    private EpochNanosPredicates() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Creates a predicate matching values at or after the given bound.
+     *
+     * @param path the epoch nanos path
+     * @param bound the inclusive lower bound
+     * @return the predicate
+     * @throws IllegalArgumentException if the bound is outside the range of the column type
+     */
+    public static String atOrAfter(EpochNanosPath path, EmbeddableTemporal bound) {
+        return compare(path, ">=", bound);
+    }
+
+    /**
+     * Creates a predicate matching values strictly after the given bound.
+     *
+     * @param path the epoch nanos path
+     * @param bound the exclusive lower bound
+     * @return the predicate
+     * @throws IllegalArgumentException if the bound is outside the range of the column type
+     */
+    public static String after(EpochNanosPath path, EmbeddableTemporal bound) {
+        return compare(path, ">", bound);
+    }
+
+    /**
+     * Creates a predicate matching values strictly before the given bound.
+     *
+     * @param path the epoch nanos path
+     * @param bound the exclusive upper bound
+     * @return the predicate
+     * @throws IllegalArgumentException if the bound is outside the range of the column type
+     */
+    public static String before(EpochNanosPath path, EmbeddableTemporal bound) {
+        return compare(path, "<", bound);
+    }
+
+    /**
+     * Creates a predicate matching values at or before the given bound.
+     *
+     * @param path the epoch nanos path
+     * @param bound the inclusive upper bound
+     * @return the predicate
+     * @throws IllegalArgumentException if the bound is outside the range of the column type
+     */
+    public static String atOrBefore(EpochNanosPath path, EmbeddableTemporal bound) {
+        return compare(path, "<=", bound);
+    }
+
+    /**
+     * Creates a predicate matching the half-open range of the interval.
+     *
+     * @param path the epoch nanos path
+     * @param interval the range
+     * @return the predicate
+     * @throws IllegalArgumentException if a bound is outside the range of the column type
+     */
+    public static String range(EpochNanosPath path, TemporalInterval interval) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+        return atOrAfter(path, interval.getStart()) + " AND " + before(path, interval.getEnd());
+    }
+
+    /**
+     * Creates an equi-join condition between two epoch nanos columns, e.g. to align events of two tables.
+     *
+     * @param left the epoch nanos path of one side
+     * @param right the epoch nanos path of the other side
+     * @return the join condition
+     */
+    public static String equal(EpochNanosPath left, EpochNanosPath right) {
+        Objects.requireNonNull(left, "Left path cannot be null");
+        Objects.requireNonNull(right, "Right path cannot be null");
+        return left.expression() + " = " + right.expression();
+    }
+
+    /**
+     * Creates a range join condition matching values within the half-open interval {@code [start, end)} of the
+     * other side, e.g. to assign events to the sessions containing them.
+     *
+     * @param value the epoch nanos path of the point side
+     * @param start the epoch nanos path of the interval start
+     * @param end the epoch nanos path of the interval end
+     * @return the join condition
+     */
+    public static String within(EpochNanosPath value, EpochNanosPath start, EpochNanosPath end) {
+        Objects.requireNonNull(value, "Value path cannot be null");
+        Objects.requireNonNull(start, "Start path cannot be null");
+        Objects.requireNonNull(end, "End path cannot be null");
+        return value.expression() + " >= " + start.expression() + " AND " + value.expression() + " < "
+            + end.expression();
+    }
+
+    /**
+     * Creates an ascending {@code ORDER BY} item for the path.
+     *
+     * @param path the epoch nanos path
+     * @return the order by item, without the {@code ORDER BY} keyword
+     */
+    public static String ascending(EpochNanosPath path) {
+        Objects.requireNonNull(path, "Path cannot be null");
+        return path.expression() + " ASC";
+    }
+
+    /**
+     * Creates a descending {@code ORDER BY} item for the path.
+     *
+     * @param path the epoch nanos path
+     * @return the order by item, without the {@code ORDER BY} keyword
+     */
+    public static String descending(EpochNanosPath path) {
+        Objects.requireNonNull(path, "Path cannot be null");
+        return path.expression() + " DESC";
+    }
+
+    private static String compare(EpochNanosPath path, String operator, EmbeddableTemporal bound) {
+        Objects.requireNonNull(path, "Path cannot be null");
+        Objects.requireNonNull(bound, "Bound cannot be null");
+        return path.expression() + " " + operator + " " + path.type().toLiteral(bound);
+    }
+}
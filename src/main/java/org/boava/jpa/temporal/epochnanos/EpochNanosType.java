@@ -0,0 +1,110 @@
+package org.boava.jpa.temporal.epochnanos;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.Objects;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * The SQL type of a generated epoch-nanoseconds column, {@code seconds * 1,000,000,000 + nanos}.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public enum EpochNanosType {
+
+    /**
+     * A signed 64-bit integer. Compact and fast to compare, but only covers 1677-09-21T00:12:43.145224192Z to
+     * 2262-04-11T23:47:16.854775807Z; the database rejects rows outside this range.
+     */
+    BIGINT,
+
+    /**
+     * An exact {@code DECIMAL(29, 0)}, covering every value of {@link EmbeddableTemporal} at the cost of a wider
+     * index key.
+     */
+    DECIMAL;
+
+    /**
+     * The precision of the {@link #DECIMAL} type.
+     */
+    public static final int DECIMAL_PRECISION = 29;
+
+    private static final BigInteger NANOS_PER_SECOND = BigInteger.valueOf(EmbeddableTemporal.NANOS_PER_SECOND);
+    private static final BigInteger MIN_BIGINT = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger MAX_BIGINT = BigInteger.valueOf(Long.MAX_VALUE);
+
+    /**
+     * Converts a temporal value to the value stored in a column of this type, e.g. to bind it as a parameter.
+     *
+     * @param value the temporal value
+     * @return a {@code Long} for {@link #BIGINT}, a {@code BigDecimal} for {@link #DECIMAL}
+     * @throws IllegalArgumentException if the value is outside the range of this type
+     */
+    public Number toEpochNanos(EmbeddableTemporal value) {
+        BigInteger nanos = exact(value);
+        if (this == DECIMAL) {
+            return new BigDecimal(nanos);
+        }
+        if (nanos.compareTo(MIN_BIGINT) < 0 || nanos.compareTo(MAX_BIGINT) > 0) {
+            throw new IllegalArgumentException("%s is outside the BIGINT epoch nanosecond range"
+                .formatted(Instant.ofEpochSecond(value.getSeconds(), value.getNanos())));
+        }
+        return nanos.longValue();
+    }
+
+    /**
+     * Renders a temporal value as a numeric SQL literal of this type.
+     *
+     * @param value the temporal value
+     * @return the literal
+     * @throws IllegalArgumentException if the value is outside the range of this type
+     */
+    public String toLiteral(EmbeddableTemporal value) {
+        return this == DECIMAL ? exact(value).toString() : toEpochNanos(value).toString();
+    }
+
+    /**
+     * Converts a value read from an epoch-nanoseconds column back to a temporal value.
+     *
+     * @param epochNanos the column value, an integral {@code Number} such as {@code Long} or {@code BigDecimal}
+     * @return the temporal value, or null if epochNanos is null
+     * @throws IllegalArgumentException if epochNanos has a fraction or exceeds the range of EmbeddableTemporal
+     */
+    public static EmbeddableTemporal toTemporal(Number epochNanos) {
+        if (epochNanos == null) {
+            return null;
+        }
+        if (epochNanos instanceof Long || epochNanos instanceof Integer) {
+            long value = epochNanos.longValue();
+            return new EmbeddableTemporal(Math.floorDiv(value, EmbeddableTemporal.NANOS_PER_SECOND),
+                Math.floorMod(value, EmbeddableTemporal.NANOS_PER_SECOND));
+        }
+        BigInteger value;
+        try {
+            value = epochNanos instanceof BigInteger integer ? integer
+                : new BigDecimal(epochNanos.toString()).toBigIntegerExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Epoch nanoseconds must be integral: " + epochNanos, e);
+        }
+        BigInteger[] split = value.divideAndRemainder(NANOS_PER_SECOND);
+        BigInteger seconds = split[0];
+        int nanos = split[1].intValue();
+        if (nanos < 0) {
+            seconds = seconds.subtract(BigInteger.ONE);
+            nanos += EmbeddableTemporal.NANOS_PER_SECOND;
+        }
+        if (seconds.bitLength() > 63) {
+            throw new IllegalArgumentException("Epoch nanoseconds out of range: " + epochNanos);
+        }
+        return new EmbeddableTemporal(seconds.longValue(), nanos);
+    }
+
+    private static BigInteger exact(EmbeddableTemporal value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        return BigInteger.valueOf(value.getSeconds()).multiply(NANOS_PER_SECOND)
+            .add(BigInteger.valueOf(value.getNanos()));
+    }
+}
@@ -0,0 +1,22 @@
+package org.boava.jpa.temporal.export;
+
+/**
+ * The file formats written by {@link TemporalExporter}.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public enum ExportFormat {
+
+    /**
+     * One JSON object per line, keyed by column name. Integral columns and epoch-nanosecond timestamps are written
+     * as numbers, other values as strings; SQL {@code NULL} as {@code null}.
+     */
+    NDJSON,
+
+    /**
+     * RFC 4180 comma-separated values with a header line. Fields containing commas, quotes or line breaks are
+     * quoted; SQL {@code NULL} is an empty field.
+     */
+    CSV
+}
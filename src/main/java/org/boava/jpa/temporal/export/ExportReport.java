@@ -0,0 +1,36 @@
+package org.boava.jpa.temporal.export;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The outcome of one {@link TemporalExporter} run.
+ *
+ * @param rows the number of rows written
+ * @param bytes the number of bytes written, including the CSV header
+ * @param partitions the number of range partitions exported
+ * @param elapsed the wall-clock time of the run
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public record ExportReport(long rows, long bytes, int partitions, Duration elapsed) {
+
+    /**
+     * Creates a new report.
+     *
+     * @throws NullPointerException if elapsed is null
+     */
+    public ExportReport {
+        Objects.requireNonNull(elapsed, "Elapsed time cannot be null");
+    }
+
+    /**
+     * Returns the export throughput.
+     *
+     * @return the rows written per second, or 0 if no time elapsed
+     */
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0.0 : rows * 1e9 / nanos;
+    }
+}
@@ -0,0 +1,171 @@
+package org.boava.jpa.temporal.export;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.ingest.IsoInstantCodec;
+
+/**
+ * Encodes export values into a byte buffer and flushes it to a channel whenever it runs out of room.
+ * <p>
+ * Numbers and timestamps are written digit by digit and strings are encoded to UTF-8 char by char, so nothing
+ * is allocated per value. I/O errors are rethrown unchecked, since the writer is driven from JDBC callbacks.
+ */
+final class ExportWriter {
+
+    /** Seconds whose epoch nanoseconds are guaranteed to fit a long. */
+    private static final long MAX_EXACT_SECONDS = Long.MAX_VALUE / EmbeddableTemporal.NANOS_PER_SECOND - 1;
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final byte[] digits = new byte[20];
+    private long bytes;
+
+    ExportWriter(WritableByteChannel channel, ByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer = buffer;
+        buffer.clear();
+    }
+
+    long bytes() {
+        return bytes + buffer.position();
+    }
+
+    void put(byte value) {
+        ensure(1);
+        buffer.put(value);
+    }
+
+    void put(byte[] value) {
+        int offset = 0;
+        while (offset < value.length) {
+            ensure(1);
+            int length = Math.min(buffer.remaining(), value.length - offset);
+            buffer.put(value, offset, length);
+            offset += length;
+        }
+    }
+
+    void putLong(long value) {
+        ensure(digits.length);
+        if (value == Long.MIN_VALUE) {
+            put(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        int index = digits.length;
+        do {
+            digits[--index] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        buffer.put(digits, index, digits.length - index);
+    }
+
+    void putTimestamp(long seconds, int nanos, TimestampFormat format) {
+        if (format == TimestampFormat.ISO_8601) {
+            ensure(IsoInstantCodec.MAX_FORMATTED_LENGTH);
+            IsoInstantCodec.format(seconds, nanos, buffer);
+        } else if (Math.abs(seconds) <= MAX_EXACT_SECONDS) {
+            putLong(seconds * EmbeddableTemporal.NANOS_PER_SECOND + nanos);
+        } else {
+            put(BigInteger.valueOf(seconds).multiply(BigInteger.valueOf(EmbeddableTemporal.NANOS_PER_SECOND))
+                .add(BigInteger.valueOf(nanos)).toString().getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    /**
+     * Writes a JSON string literal, including the quotes.
+     */
+    void putJsonString(CharSequence value) {
+        put((byte) '"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                ensure(2);
+                buffer.put((byte) '\\').put((byte) c);
+            } else if (c < 0x20) {
+                ensure(6);
+                buffer.put((byte) '\\').put((byte) 'u').put((byte) '0').put((byte) '0')
+                    .put(HEX[c >> 4]).put(HEX[c & 0xF]);
+            } else {
+                i = putUtf8(value, i);
+            }
+        }
+        put((byte) '"');
+    }
+
+    /**
+     * Writes a CSV field, quoted only if it contains a comma, quote or line break.
+     */
+    void putCsvField(CharSequence value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (quote) {
+            put((byte) '"');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                put((byte) '"');
+            }
+            i = putUtf8(value, i);
+        }
+        if (quote) {
+            put((byte) '"');
+        }
+    }
+
+    /**
+     * Encodes the char at {@code index}, or the surrogate pair starting there, and returns the index of its last
+     * char. Unpaired surrogates are written as {@code ?}.
+     */
+    private int putUtf8(CharSequence value, int index) {
+        ensure(4);
+        char c = value.charAt(index);
+        if (c < 0x80) {
+            buffer.put((byte) c);
+        } else if (c < 0x800) {
+            buffer.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+        } else if (Character.isHighSurrogate(c) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, value.charAt(++index));
+            buffer.put((byte) (0xF0 | codePoint >> 18)).put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                .put((byte) (0x80 | codePoint >> 6 & 0x3F)).put((byte) (0x80 | codePoint & 0x3F));
+        } else if (Character.isSurrogate(c)) {
+            buffer.put((byte) '?');
+        } else {
+            buffer.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+        }
+        return index;
+    }
+
+    void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                bytes += channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+
+    private void ensure(int length) {
+        if (buffer.remaining() < length) {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,583 @@
+package org.boava.jpa.temporal.export;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.interval.TemporalInterval;
+import org.boava.jpa.temporal.query.TemporalPath;
+import org.boava.jpa.temporal.query.TemporalPredicates;
+import org.hibernate.Session;
+
+/**
+ * Streams the result of a native query into an NDJSON or CSV file, formatting {@code (seconds, nanos)} column pairs
+ * as ISO-8601 text or epoch nanoseconds.
+ * <p>
+ * Rows are read from a forward-only, read-only JDBC result set with a large fetch size inside a transaction, so
+ * drivers that only stream within one (e.g. PostgreSQL) do not buffer the whole result. Each row is encoded
+ * straight into a pooled direct byte buffer, which is written to the target channel whenever it fills up; integral
+ * columns and timestamps are read and formatted without creating objects.
+ * <p>
+ * The output columns are declared in the order the query returns them: {@link Builder#column(String)} consumes one
+ * result column and {@link Builder#temporalColumn(String)} two, the seconds followed by the nanoseconds. The query
+ * may contain a {@value #PARTITION_PLACEHOLDER} placeholder in its where clause. When the export is split into
+ * range partitions, each partition runs the query with the placeholder replaced by a
+ * {@link TemporalPredicates#range range predicate} on its own connection and writes to a temporary file; the files
+ * are then appended to the target in partition order. Without partitions the placeholder matches every row.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class TemporalExporter {
+
+    /**
+     * The placeholder replaced by the partition predicate.
+     */
+    public static final String PARTITION_PLACEHOLDER = "{partition}";
+
+    private static final String ALL_ROWS = "1 = 1";
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final String selectSql;
+    private final List<String> names;
+    private final boolean[] temporal;
+    private final ExportFormat format;
+    private final TimestampFormat timestampFormat;
+    private final int fetchSize;
+    private final int bufferSize;
+    private final boolean header;
+    private final TemporalPath partitionPath;
+    private final TemporalInterval partitionRange;
+    private final int partitions;
+    private final Executor executor;
+    private final byte[][] prefixes;
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+    private TemporalExporter(Builder builder) {
+        this.entityManagerFactory = builder.entityManagerFactory;
+        this.selectSql = builder.selectSql;
+        this.names = List.copyOf(builder.names);
+        this.temporal = new boolean[names.size()];
+        for (int i = 0; i < temporal.length; i++) {
+            temporal[i] = builder.temporal.get(i);
+        }
+        this.format = builder.format;
+        this.timestampFormat = builder.timestampFormat;
+        this.fetchSize = builder.fetchSize;
+        this.bufferSize = builder.bufferSize;
+        this.header = builder.header;
+        this.partitionPath = builder.partitionPath;
+        this.partitionRange = builder.partitionRange;
+        this.partitions = builder.partitions;
+        this.executor = builder.executor;
+        this.prefixes = new byte[names.size()][];
+        for (int i = 0; i < prefixes.length; i++) {
+            int column = i;
+            prefixes[i] = format == ExportFormat.NDJSON
+                ? encode(writer -> {
+                    writer.put((byte) (column == 0 ? '{' : ','));
+                    writer.putJsonString(names.get(column));
+                    writer.put((byte) ':');
+                })
+                : column == 0 ? new byte[0] : new byte[] {','};
+        }
+    }
+
+    /**
+     * Creates a builder.
+     *
+     * @param entityManagerFactory the factory of the persistence unit to read from
+     * @param selectSql the native query, optionally containing {@value #PARTITION_PLACEHOLDER} in its where clause
+     * @return the builder
+     * @throws NullPointerException if any argument is null
+     */
+    public static Builder builder(EntityManagerFactory entityManagerFactory, String selectSql) {
+        return new Builder(entityManagerFactory, selectSql);
+    }
+
+    /**
+     * Exports into a file, replacing it if it exists.
+     *
+     * @param file the file to write
+     * @return the report of the run
+     * @throws IOException if the file or a temporary partition file cannot be written
+     * @throws RuntimeException the first failure of the query
+     */
+    public ExportReport export(Path file) throws IOException {
+        Objects.requireNonNull(file, "File cannot be null");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            return export(channel);
+        }
+    }
+
+    /**
+     * Exports into a stream, leaving it open.
+     *
+     * @param out the stream to write
+     * @return the report of the run
+     * @throws IOException if the stream or a temporary partition file cannot be written
+     * @throws RuntimeException the first failure of the query
+     */
+    public ExportReport export(OutputStream out) throws IOException {
+        Objects.requireNonNull(out, "Output stream cannot be null");
+        ExportReport report = export(Channels.newChannel(out));
+        out.flush();
+        return report;
+    }
+
+    /**
+     * Exports into a channel, leaving it open.
+     *
+     * @param channel the channel to write
+     * @return the report of the run
+     * @throws IOException if the channel or a temporary partition file cannot be written
+     * @throws RuntimeException the first failure of the query
+     */
+    public ExportReport export(WritableByteChannel channel) throws IOException {
+        Objects.requireNonNull(channel, "Channel cannot be null");
+        long begin = System.nanoTime();
+        long bytes = 0;
+        if (header && format == ExportFormat.CSV) {
+            bytes += writeFully(channel, ByteBuffer.wrap(encode(this::writeHeader)));
+        }
+        List<String> predicates = predicates();
+        long[] totals;
+        try {
+            totals = predicates.size() == 1 ? run(predicates.get(0), channel) : runPartitioned(predicates, channel);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return new ExportReport(totals[0], bytes + totals[1], partitions,
+            Duration.ofNanos(System.nanoTime() - begin));
+    }
+
+    /**
+     * Returns the predicate of each partition, splitting the range into parts of equal length.
+     */
+    private List<String> predicates() {
+        if (partitionPath == null) {
+            return List.of(ALL_ROWS);
+        }
+        EmbeddableTemporal start = partitionRange.getStart();
+        Duration step = partitionRange.toDuration().dividedBy(partitions);
+        List<String> predicates = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            EmbeddableTemporal from = boundary(start, step, i);
+            EmbeddableTemporal to = i == partitions - 1 ? partitionRange.getEnd() : boundary(start, step, i + 1);
+            predicates.add(TemporalPredicates.range(partitionPath, from, to));
+        }
+        return predicates;
+    }
+
+    /**
+     * Exports every partition into its own temporary file in parallel, then appends them to the channel in order.
+     */
+    private long[] runPartitioned(List<String> predicates, WritableByteChannel channel) throws IOException {
+        int partitions = predicates.size();
+        List<Path> files = new ArrayList<>();
+        try {
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[partitions];
+            long[][] results = new long[partitions][];
+            for (int i = 0; i < partitions; i++) {
+                String predicate = predicates.get(i);
+                Path file = Files.createTempFile("temporal-export-", ".part");
+                files.add(file);
+                int partition = i;
+                futures[i] = CompletableFuture.runAsync(() -> {
+                    try (FileChannel part = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                        results[partition] = run(predicate, part);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, executor);
+            }
+            join(futures);
+            long[] totals = new long[2];
+            for (int i = 0; i < partitions; i++) {
+                try (FileChannel part = FileChannel.open(files.get(i), StandardOpenOption.READ)) {
+                    long size = part.size();
+                    for (long position = 0; position < size; ) {
+                        position += part.transferTo(position, size - position, channel);
+                    }
+                }
+                totals[0] += results[i][0];
+                totals[1] += results[i][1];
+            }
+            return totals;
+        } finally {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static EmbeddableTemporal boundary(EmbeddableTemporal start, Duration step, int index) {
+        return EmbeddableTemporal.from(start.toDuration().plus(step.multipliedBy(index)));
+    }
+
+    private static void join(CompletableFuture<?>[] futures) throws IOException {
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Streams the rows matching the predicate into the channel and returns the row and byte counts.
+     */
+    private long[] run(String predicate, WritableByteChannel channel) {
+        String sql = selectSql.replace(PARTITION_PLACEHOLDER, predicate);
+        long[] totals = new long[2];
+        ByteBuffer buffer = acquire();
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            EntityTransaction transaction = em.getTransaction();
+            try {
+                transaction.begin();
+                em.unwrap(Session.class).doWork(connection -> {
+                    try (Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY)) {
+                        statement.setFetchSize(fetchSize);
+                        try (ResultSet resultSet = statement.executeQuery(sql)) {
+                            boolean[] integral = integralColumns(resultSet.getMetaData());
+                            ExportWriter writer = new ExportWriter(channel, buffer);
+                            while (resultSet.next()) {
+                                writeRow(writer, resultSet, integral);
+                                totals[0]++;
+                            }
+                            writer.flush();
+                            totals[1] = writer.bytes();
+                        }
+                    }
+                });
+                transaction.commit();
+            } finally {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+            }
+        } finally {
+            em.close();
+            buffers.offer(buffer);
+        }
+        return totals;
+    }
+
+    /**
+     * Returns which result columns are integral, checking that the query returns the declared columns.
+     */
+    private boolean[] integralColumns(ResultSetMetaData metaData) throws SQLException {
+        int expected = 0;
+        for (boolean pair : temporal) {
+            expected += pair ? 2 : 1;
+        }
+        int count = metaData.getColumnCount();
+        if (count != expected) {
+            throw new IllegalStateException(
+                "Query returns %d columns but the export declares %d".formatted(count, expected));
+        }
+        boolean[] integral = new boolean[count + 1];
+        for (int i = 1; i <= count; i++) {
+            switch (metaData.getColumnType(i)) {
+                case Types.BIGINT, Types.INTEGER, Types.SMALLINT, Types.TINYINT -> integral[i] = true;
+                default -> integral[i] = false;
+            }
+        }
+        return integral;
+    }
+
+    private void writeRow(ExportWriter writer, ResultSet resultSet, boolean[] integral)
+            throws SQLException {
+        boolean json = format == ExportFormat.NDJSON;
+        int index = 1;
+        for (int column = 0; column < temporal.length; column++) {
+            writer.put(prefixes[column]);
+            if (temporal[column]) {
+                long seconds = resultSet.getLong(index);
+                boolean missing = resultSet.wasNull();
+                int nanos = resultSet.getInt(index + 1);
+                index += 2;
+                if (missing || resultSet.wasNull()) {
+                    writeNull(writer, json);
+                } else if (json && timestampFormat == TimestampFormat.ISO_8601) {
+                    writer.put((byte) '"');
+                    writer.putTimestamp(seconds, nanos, timestampFormat);
+                    writer.put((byte) '"');
+                } else {
+                    writer.putTimestamp(seconds, nanos, timestampFormat);
+                }
+            } else if (integral[index]) {
+                long value = resultSet.getLong(index++);
+                if (resultSet.wasNull()) {
+                    writeNull(writer, json);
+                } else {
+                    writer.putLong(value);
+                }
+            } else {
+                String value = resultSet.getString(index++);
+                if (value == null) {
+                    writeNull(writer, json);
+                } else if (json) {
+                    writer.putJsonString(value);
+                } else {
+                    writer.putCsvField(value);
+                }
+            }
+        }
+        if (json) {
+            writer.put((byte) '}');
+        }
+        writer.put((byte) '\n');
+    }
+
+    private static void writeNull(ExportWriter writer, boolean json) {
+        if (json) {
+            writer.put(NULL);
+        }
+    }
+
+    private void writeHeader(ExportWriter writer) {
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0) {
+                writer.put((byte) ',');
+            }
+            writer.putCsvField(names.get(i));
+        }
+        writer.put((byte) '\n');
+    }
+
+    private ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Encodes a fixed piece of output, such as a header or a JSON key, once.
+     */
+    private static byte[] encode(Consumer<ExportWriter> content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportWriter writer = new ExportWriter(Channels.newChannel(out), ByteBuffer.allocate(Builder.MIN_BUFFER_SIZE));
+        content.accept(writer);
+        writer.flush();
+        return out.toByteArray();
+    }
+
+    private static long writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer);
+        }
+        return written;
+    }
+
+    /**
+     * Builder for {@link TemporalExporter}.
+     */
+    public static final class Builder {
+
+        static final int MIN_BUFFER_SIZE = 4_096;
+
+        private final EntityManagerFactory entityManagerFactory;
+        private final String selectSql;
+        private final List<String> names = new ArrayList<>();
+        private final List<Boolean> temporal = new ArrayList<>();
+        private ExportFormat format = ExportFormat.NDJSON;
+        private TimestampFormat timestampFormat = TimestampFormat.ISO_8601;
+        private int fetchSize = 10_000;
+        private int bufferSize = 1 << 20;
+        private boolean header = true;
+        private TemporalPath partitionPath;
+        private TemporalInterval partitionRange;
+        private int partitions = 1;
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private Builder(EntityManagerFactory entityManagerFactory, String selectSql) {
+            this.entityManagerFactory = Objects.requireNonNull(entityManagerFactory,
+                "EntityManagerFactory cannot be null");
+            this.selectSql = Objects.requireNonNull(selectSql, "Select statement cannot be null");
+        }
+
+        /**
+         * Declares the next output column, read from one result column.
+         *
+         * @param name the JSON key or CSV header of the column
+         * @return this builder
+         */
+        public Builder column(String name) {
+            names.add(Objects.requireNonNull(name, "Column name cannot be null"));
+            temporal.add(false);
+            return this;
+        }
+
+        /**
+         * Declares the next output column as a timestamp, read from two result columns: the seconds followed by the
+         * nanoseconds.
+         *
+         * @param name the JSON key or CSV header of the column
+         * @return this builder
+         */
+        public Builder temporalColumn(String name) {
+            names.add(Objects.requireNonNull(name, "Column name cannot be null"));
+            temporal.add(true);
+            return this;
+        }
+
+        /**
+         * Sets the file format, {@link ExportFormat#NDJSON} by default.
+         *
+         * @param format the file format
+         * @return this builder
+         */
+        public Builder format(ExportFormat format) {
+            this.format = Objects.requireNonNull(format, "Format cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the representation of temporal columns, {@link TimestampFormat#ISO_8601} by default.
+         *
+         * @param timestampFormat the timestamp format
+         * @return this builder
+         */
+        public Builder timestampFormat(TimestampFormat timestampFormat) {
+            this.timestampFormat = Objects.requireNonNull(timestampFormat, "Timestamp format cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the JDBC fetch size hint, 10,000 by default.
+         *
+         * @param fetchSize the number of rows fetched per round trip
+         * @return this builder
+         * @throws IllegalArgumentException if fetchSize is not positive
+         */
+        public Builder fetchSize(int fetchSize) {
+            if (fetchSize <= 0) {
+                throw new IllegalArgumentException("Fetch size must be positive: " + fetchSize);
+            }
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        /**
+         * Sets the size of the output buffer of each partition, 1 MiB by default.
+         *
+         * @param bufferSize the buffer size in bytes
+         * @return this builder
+         * @throws IllegalArgumentException if bufferSize is below 4 KiB
+         */
+        public Builder bufferSize(int bufferSize) {
+            if (bufferSize < MIN_BUFFER_SIZE) {
+                throw new IllegalArgumentException("Buffer size must be at least 4 KiB: " + bufferSize);
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Sets whether a CSV export starts with a header line of the column names, true by default. Ignored for
+         * NDJSON.
+         *
+         * @param header true to write the header
+         * @return this builder
+         */
+        public Builder header(boolean header) {
+            this.header = header;
+            return this;
+        }
+
+        /**
+         * Splits the export into range partitions of equal length that are queried in parallel. The query must
+         * contain the {@value TemporalExporter#PARTITION_PLACEHOLDER} placeholder, and rows outside the range are
+         * not exported.
+         *
+         * @param path the temporal columns to partition by, e.g. {@code TemporalPath.columns("ts_s", "ts_n")}
+         * @param range the half-open range to export
+         * @param partitions the number of partitions
+         * @return this builder
+         * @throws IllegalArgumentException if partitions is not positive
+         */
+        public Builder partitions(TemporalPath path, TemporalInterval range, int partitions) {
+            Objects.requireNonNull(path, "Partition path cannot be null");
+            Objects.requireNonNull(range, "Partition range cannot be null");
+            if (partitions <= 0) {
+                throw new IllegalArgumentException("Partitions must be positive: " + partitions);
+            }
+            this.partitionPath = path;
+            this.partitionRange = range;
+            this.partitions = partitions;
+            return this;
+        }
+
+        /**
+         * Sets the executor running the partitions, the common fork-join pool by default. Since the partitions
+         * block on the database, a dedicated pool is preferable.
+         *
+         * @param executor the executor
+         * @return this builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+            return this;
+        }
+
+        /**
+         * Creates the exporter.
+         *
+         * @return the exporter
+         * @throws IllegalStateException if no column is declared, or partitions are set but the query has no
+         *             {@value TemporalExporter#PARTITION_PLACEHOLDER} placeholder
+         */
+        public TemporalExporter build() {
+            if (names.isEmpty()) {
+                throw new IllegalStateException("At least one column must be declared");
+            }
+            if (partitionPath != null && !selectSql.contains(PARTITION_PLACEHOLDER)) {
+                throw new IllegalStateException("Partitioned query must contain " + PARTITION_PLACEHOLDER);
+            }
+            return new TemporalExporter(this);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.boava.jpa.temporal.export;
+
+/**
+ * The text representations of temporal columns written by {@link TemporalExporter}.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public enum TimestampFormat {
+
+    /**
+     * ISO-8601 UTC text as written by {@code Instant.toString()}, e.g. {@code 2024-03-15T10:30:45.123Z}.
+     */
+    ISO_8601,
+
+    /**
+     * The signed number of nanoseconds since the epoch, e.g. {@code 1710498645123000000}.
+     */
+    EPOCH_NANOS
+}
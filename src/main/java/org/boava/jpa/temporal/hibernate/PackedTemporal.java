@@ -0,0 +1,16 @@
+package org.boava.jpa.temporal.hibernate;
+
+import java.io.Serializable;
+
+/**
+ * The second-level cache form of an {@code EmbeddableTemporal}: a single object holding both components as
+ * primitives, instead of the {@code Object[]} of a boxed {@code Integer} and {@code Long} Hibernate stores for a
+ * plain embeddable.
+ *
+ * @param seconds the seconds component
+ * @param nanos the nanoseconds component
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public record PackedTemporal(long seconds, int nanos) implements Serializable {
+}
@@ -0,0 +1,115 @@
+package org.boava.jpa.temporal.hibernate;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.spi.ValueAccess;
+import org.hibernate.usertype.CompositeUserType;
+
+/**
+ * Hibernate {@link CompositeUserType} mapping {@link EmbeddableTemporal} to the usual {@code seconds} and
+ * {@code nanos} columns while storing it in the second-level cache as a single {@link PackedTemporal}.
+ * <p>
+ * Hibernate disassembles a plain embeddable into an {@code Object[]} of boxed components for every cache entry.
+ * With this type each temporal attribute is cached as one object with primitive fields, in both structured and
+ * unstructured cache entries, and reassembled without boxing. Apply it per attribute with
+ * {@code @CompositeType(TemporalCompositeUserType.class)}, or to every {@code EmbeddableTemporal} attribute with
+ * {@code @CompositeTypeRegistration(embeddableClass = EmbeddableTemporal.class,
+ * userType = TemporalCompositeUserType.class)}. Column names are overridden as usual with
+ * {@code @AttributeOverride(name = "seconds" | "nanos", ...)}.
+ * <p>
+ * Like field access, the type hydrates stored values without normalizing them, so a corrupt row stays detectable
+ * by {@link org.boava.jpa.temporal.embeddable.TemporalHydrationValidator} and is not silently rewritten by dirty
+ * checking. Both columns null map to a null attribute; only one of them null is reported as corrupt.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class TemporalCompositeUserType implements CompositeUserType<EmbeddableTemporal> {
+
+    // Hibernate orders the properties of the mapping class alphabetically
+    private static final int NANOS = 0;
+    private static final int SECONDS = 1;
+
+    /**
+     * The mapping of the two components, as seen by Hibernate.
+     */
+    public static class Mapping {
+        long seconds;
+        int nanos;
+    }
+
+    @Override
+    public Object getPropertyValue(EmbeddableTemporal component, int property) {
+        return switch (property) {
+            case NANOS -> component.getNanos();
+            case SECONDS -> component.getSeconds();
+            default -> throw new IllegalArgumentException("Unknown property index: " + property);
+        };
+    }
+
+    @Override
+    public EmbeddableTemporal instantiate(ValueAccess values, SessionFactoryImplementor sessionFactory) {
+        Long seconds = values.getValue(SECONDS, Long.class);
+        Integer nanos = values.getValue(NANOS, Integer.class);
+        if (seconds == null && nanos == null) {
+            return null;
+        }
+        if (seconds == null || nanos == null) {
+            throw new IllegalStateException("Corrupt stored temporal value: seconds %s, nanos %s"
+                .formatted(seconds, nanos));
+        }
+        return EmbeddableTemporal.hydrate(seconds, nanos);
+    }
+
+    @Override
+    public Class<?> embeddable() {
+        return Mapping.class;
+    }
+
+    @Override
+    public Class<EmbeddableTemporal> returnedClass() {
+        return EmbeddableTemporal.class;
+    }
+
+    @Override
+    public boolean equals(EmbeddableTemporal x, EmbeddableTemporal y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(EmbeddableTemporal x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public EmbeddableTemporal deepCopy(EmbeddableTemporal value) {
+        return value == null ? null : EmbeddableTemporal.hydrate(value.getSeconds(), value.getNanos());
+    }
+
+    @Override
+    public boolean isMutable() {
+        return true;
+    }
+
+    @Override
+    public Serializable disassemble(EmbeddableTemporal value) {
+        return value == null ? null : new PackedTemporal(value.getSeconds(), value.getNanos());
+    }
+
+    @Override
+    public EmbeddableTemporal assemble(Serializable cached, Object owner) {
+        if (cached == null) {
+            return null;
+        }
+        PackedTemporal packed = (PackedTemporal) cached;
+        return EmbeddableTemporal.hydrate(packed.seconds(), packed.nanos());
+    }
+
+    @Override
+    public EmbeddableTemporal replace(EmbeddableTemporal detached, EmbeddableTemporal managed, Object owner) {
+        return deepCopy(detached);
+    }
+}
@@ -0,0 +1,50 @@
+package org.boava.jpa.temporal.ingest;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The outcome of one {@link TemporalIngester} run.
+ *
+ * @param bytes the size of the ingested file
+ * @param lines the number of non-empty lines read, including the header if one was skipped
+ * @param rows the number of rows inserted
+ * @param parseErrors the number of lines skipped because their timestamp could not be parsed
+ * @param elapsed the wall-clock time of the run
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public record IngestReport(long bytes, long lines, long rows, long parseErrors, Duration elapsed) {
+
+    /**
+     * Creates a new report.
+     *
+     * @throws NullPointerException if elapsed is null
+     */
+    public IngestReport {
+        Objects.requireNonNull(elapsed, "Elapsed time cannot be null");
+    }
+
+    /**
+     * Returns the insert throughput.
+     *
+     * @return the rows inserted per second, or 0 if no time elapsed
+     */
+    public double rowsPerSecond() {
+        return perSecond(rows);
+    }
+
+    /**
+     * Returns the read throughput.
+     *
+     * @return the bytes ingested per second, or 0 if no time elapsed
+     */
+    public double bytesPerSecond() {
+        return perSecond(bytes);
+    }
+
+    private double perSecond(long count) {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0.0 : count * 1e9 / nanos;
+    }
+}
@@ -0,0 +1,231 @@
+package org.boava.jpa.temporal.ingest;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Objects;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal.TemporalConsumer;
+
+/**
+ * Parses and formats ISO-8601 instants straight between ASCII bytes and seconds and nanoseconds, without creating
+ * strings or {@code java.time} objects.
+ * <p>
+ * The accepted format is {@code yyyy-MM-ddTHH:mm:ss[.f]Z} with one to nine fraction digits, where the {@code Z}
+ * may also be an offset {@code ±HH:mm}; {@code T} and {@code Z} are case-insensitive. This is the format written
+ * by {@code Instant.toString()} for years 0 to 9999. Leap seconds, week dates and years beyond four digits are
+ * rejected. Formatting produces exactly the text of {@code Instant.toString()}.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public final class IsoInstantCodec {
+
+    /**
+     * The maximum number of bytes {@link #format} writes, reached by {@code Instant.MAX}.
+     */
+    public static final int MAX_FORMATTED_LENGTH = 37;
+
+    private static final long MIN_FAST_SECONDS = -62_167_219_200L; // 0000-01-01T00:00:00Z
+    private static final long MAX_FAST_SECONDS = 253_402_300_799L; // 9999-12-31T23:59:59Z
+
+    private static final int[] POWERS_OF_TEN = {
+        1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000
+    };
+
+    private IsoInstantCodec() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Parses the instant occupying exactly the bytes {@code from} (inclusive) to {@code to} (exclusive) of the
+     * buffer. The buffer's position and limit are not used or changed.
+     *
+     * @param buffer the buffer holding the text
+     * @param from the index of the first byte
+     * @param to the index after the last byte
+     * @param consumer receives the seconds and nanoseconds if the text is valid
+     * @return true if the text was a valid instant and was passed to the consumer
+     * @throws NullPointerException if buffer or consumer is null
+     */
+    public static boolean parse(ByteBuffer buffer, int from, int to, TemporalConsumer consumer) {
+        Objects.requireNonNull(buffer, "Buffer cannot be null");
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        if (to - from < 20 || from < 0 || to > buffer.limit()) {
+            return false;
+        }
+        int year = digits(buffer, from, 4);
+        int month = digits(buffer, from + 5, 2);
+        int day = digits(buffer, from + 8, 2);
+        int hour = digits(buffer, from + 11, 2);
+        int minute = digits(buffer, from + 14, 2);
+        int second = digits(buffer, from + 17, 2);
+        if ((year | month | day | hour | minute | second) < 0
+                || buffer.get(from + 4) != '-' || buffer.get(from + 7) != '-'
+                || (buffer.get(from + 10) | 0x20) != 't'
+                || buffer.get(from + 13) != ':' || buffer.get(from + 16) != ':'
+                || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59) {
+            return false;
+        }
+        int position = from + 19;
+        int nanos = 0;
+        if (buffer.get(position) == '.') {
+            int start = ++position;
+            while (position < to && position - start < 10 && isDigit(buffer.get(position))) {
+                nanos = nanos * 10 + (buffer.get(position) - '0');
+                position++;
+            }
+            int count = position - start;
+            if (count == 0 || count > 9) {
+                return false;
+            }
+            nanos *= POWERS_OF_TEN[9 - count];
+        }
+        if (position >= to) {
+            return false;
+        }
+        int offsetSeconds = 0;
+        byte zone = buffer.get(position);
+        if ((zone | 0x20) == 'z') {
+            position++;
+        } else if (zone == '+' || zone == '-') {
+            if (to - position != 6 || buffer.get(position + 3) != ':') {
+                return false;
+            }
+            int offsetHours = digits(buffer, position + 1, 2);
+            int offsetMinutes = digits(buffer, position + 4, 2);
+            if (offsetHours < 0 || offsetMinutes < 0 || offsetHours > 18 || offsetMinutes > 59
+                    || offsetHours * 60 + offsetMinutes > 18 * 60) {
+                return false;
+            }
+            offsetSeconds = (offsetHours * 3_600 + offsetMinutes * 60) * (zone == '-' ? -1 : 1);
+            position += 6;
+        } else {
+            return false;
+        }
+        if (position != to) {
+            return false;
+        }
+        long seconds = epochDay(year, month, day) * EmbeddableTemporal.SECONDS_PER_DAY
+            + hour * 3_600L + minute * 60L + second - offsetSeconds;
+        consumer.accept(seconds, nanos);
+        return true;
+    }
+
+    /**
+     * Formats an instant as ISO-8601 text at the buffer's position, advancing it. The text is the same as
+     * {@code Instant.ofEpochSecond(seconds, nanos).toString()}; years 0 to 9999 are formatted without allocating.
+     *
+     * @param seconds the seconds since the epoch
+     * @param nanos the nanoseconds of second, in the range 0..999,999,999
+     * @param target the buffer to write to, with at least {@link #MAX_FORMATTED_LENGTH} bytes remaining
+     * @return the number of bytes written
+     * @throws IllegalArgumentException if nanos is out of range
+     * @throws java.time.DateTimeException if the value exceeds the range of Instant
+     * @throws BufferOverflowException if the buffer has fewer than {@link #MAX_FORMATTED_LENGTH} bytes remaining
+     */
+    public static int format(long seconds, int nanos, ByteBuffer target) {
+        Objects.requireNonNull(target, "Target cannot be null");
+        if (target.remaining() < MAX_FORMATTED_LENGTH) {
+            throw new BufferOverflowException();
+        }
+        if (nanos < 0 || nanos > EmbeddableTemporal.MAX_NANOS) {
+            throw new IllegalArgumentException("Nanos must be within 0..999,999,999: " + nanos);
+        }
+        if (seconds < MIN_FAST_SECONDS || seconds > MAX_FAST_SECONDS) {
+            byte[] text = Instant.ofEpochSecond(seconds, nanos).toString().getBytes(StandardCharsets.US_ASCII);
+            target.put(text);
+            return text.length;
+        }
+        int start = target.position();
+        long epochDay = Math.floorDiv(seconds, EmbeddableTemporal.SECONDS_PER_DAY);
+        int secondOfDay = Math.floorMod(seconds, EmbeddableTemporal.SECONDS_PER_DAY);
+        // Inverse of epochDay: shift to an era starting on March 1st of year 0
+        long shifted = epochDay + 719_468;
+        long era = Math.floorDiv(shifted, 146_097);
+        long dayOfEra = shifted - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+        putDigits(target, year, 4);
+        target.put((byte) '-');
+        putDigits(target, month, 2);
+        target.put((byte) '-');
+        putDigits(target, day, 2);
+        target.put((byte) 'T');
+        putDigits(target, secondOfDay / 3_600, 2);
+        target.put((byte) ':');
+        putDigits(target, secondOfDay / 60 % 60, 2);
+        target.put((byte) ':');
+        putDigits(target, secondOfDay % 60, 2);
+        if (nanos != 0) {
+            target.put((byte) '.');
+            if (nanos % 1_000_000 == 0) {
+                putDigits(target, nanos / 1_000_000, 3);
+            } else if (nanos % 1_000 == 0) {
+                putDigits(target, nanos / 1_000, 6);
+            } else {
+                putDigits(target, nanos, 9);
+            }
+        }
+        target.put((byte) 'Z');
+        return target.position() - start;
+    }
+
+    /**
+     * Writes a non-negative value as exactly {@code count} decimal digits, zero-padded.
+     */
+    private static void putDigits(ByteBuffer target, int value, int count) {
+        int position = target.position();
+        for (int i = count - 1; i >= 0; i--) {
+            target.put(position + i, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+        target.position(position + count);
+    }
+
+    /**
+     * Returns the value of {@code count} decimal digits, or -1 if any of them is not a digit.
+     */
+    private static int digits(ByteBuffer buffer, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            byte b = buffer.get(i);
+            if (!isDigit(b)) {
+                return -1;
+            }
+            value = value * 10 + (b - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        if (month == 2) {
+            return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+        }
+        return (month == 4 || month == 6 || month == 9 || month == 11) ? 30 : 31;
+    }
+
+    /**
+     * Returns the days since 1970-01-01 of a proleptic Gregorian date, using the era-based civil calendar
+     * algorithm that needs no tables or loops.
+     */
+    static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+}
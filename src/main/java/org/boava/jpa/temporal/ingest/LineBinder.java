@@ -0,0 +1,55 @@
+package org.boava.jpa.temporal.ingest;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Binds the part of a line that follows the timestamp to the parameters of the insert statement that follow the
+ * seconds and nanoseconds.
+ * <p>
+ * The line is passed as a range of the memory-mapped file, so a binder decides what to decode; a binder that
+ * only needs a few fields can parse them from the bytes directly.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+@FunctionalInterface
+public interface LineBinder {
+
+    /**
+     * Binds the payload of one line.
+     *
+     * @param statement the insert statement
+     * @param firstIndex the index of the first payload parameter
+     * @param buffer the buffer holding the line; its position and limit must not be relied on or changed
+     * @param from the index of the first byte after the timestamp delimiter
+     * @param to the index after the last byte of the line, excluding the line terminator
+     * @throws SQLException if a parameter cannot be bound
+     */
+    void bind(PreparedStatement statement, int firstIndex, ByteBuffer buffer, int from, int to) throws SQLException;
+
+    /**
+     * Returns a binder for statements with no parameters besides the timestamp.
+     *
+     * @return a binder binding nothing
+     */
+    static LineBinder none() {
+        return (statement, firstIndex, buffer, from, to) -> { };
+    }
+
+    /**
+     * Returns a binder binding the rest of the line, decoded as UTF-8, to one parameter. This allocates a string
+     * per line.
+     *
+     * @return a binder binding the rest of the line as text
+     */
+    static LineBinder text() {
+        return (statement, firstIndex, buffer, from, to) -> {
+            byte[] bytes = new byte[to - from];
+            buffer.get(from, bytes);
+            statement.setString(firstIndex, new String(bytes, StandardCharsets.UTF_8));
+        };
+    }
+}
@@ -0,0 +1,423 @@
+package org.boava.jpa.temporal.ingest;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal.TemporalConsumer;
+import org.hibernate.Session;
+
+/**
+ * Bulk-loads text files whose lines start with an ISO-8601 timestamp, e.g. logs or CSV exports, into a table.
+ * <p>
+ * The file is split into chunks ending on line boundaries, and the chunks are memory-mapped and processed in
+ * parallel. Each worker scans its chunk byte by byte, parses the timestamp with {@link IsoInstantCodec} into the
+ * first two parameters of the insert statement, lets the {@link LineBinder} bind the rest of the line and sends
+ * the rows as JDBC batches, one transaction per batch. No string is created per line unless the binder creates
+ * one. Lines whose timestamp cannot be parsed are skipped and counted; empty lines are ignored. Lines end with
+ * {@code \n} or {@code \r\n}.
+ * <p>
+ * A failing batch stops the run and is rethrown by {@link #ingest(Path)}; batches committed before the failure
+ * remain in the table.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class TemporalIngester {
+
+    private static final System.Logger LOGGER = System.getLogger(TemporalIngester.class.getName());
+    private static final int PROBE_SIZE = 8_192;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final String insertSql;
+    private final LineBinder binder;
+    private final byte delimiter;
+    private final int chunkSize;
+    private final int batchSize;
+    private final int parallelism;
+    private final Executor executor;
+    private final boolean header;
+
+    private TemporalIngester(Builder builder) {
+        this.entityManagerFactory = builder.entityManagerFactory;
+        this.insertSql = builder.insertSql;
+        this.binder = builder.binder;
+        this.delimiter = builder.delimiter;
+        this.chunkSize = builder.chunkSize;
+        this.batchSize = builder.batchSize;
+        this.parallelism = builder.parallelism;
+        this.executor = builder.executor;
+        this.header = builder.header;
+    }
+
+    /**
+     * Creates a builder.
+     *
+     * @param entityManagerFactory the factory of the persistence unit to write to
+     * @param insertSql the native insert statement, with the seconds and nanoseconds as its first two parameters
+     * @param binder binds the rest of each line, starting at parameter index 3
+     * @return the builder
+     * @throws NullPointerException if any argument is null
+     */
+    public static Builder builder(EntityManagerFactory entityManagerFactory, String insertSql, LineBinder binder) {
+        return new Builder(entityManagerFactory, insertSql, binder);
+    }
+
+    /**
+     * Ingests a file and blocks until every chunk has been written.
+     *
+     * @param file the file to ingest
+     * @return the report of the run
+     * @throws IOException if the file cannot be read
+     * @throws RuntimeException the first failure of the insert statement or the binder
+     */
+    public IngestReport ingest(Path file) throws IOException {
+        Objects.requireNonNull(file, "File cannot be null");
+        long begin = System.nanoTime();
+        LongAdder lines = new LongAdder();
+        LongAdder rows = new LongAdder();
+        LongAdder errors = new LongAdder();
+        long size;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            size = channel.size();
+            long[] boundaries = boundaries(channel, size);
+            int chunks = boundaries.length - 1;
+            AtomicInteger next = new AtomicInteger();
+            AtomicBoolean failed = new AtomicBoolean();
+            int workers = Math.min(parallelism, chunks);
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[workers];
+            for (int i = 0; i < workers; i++) {
+                futures[i] = CompletableFuture.runAsync(() -> {
+                    try {
+                        work(channel, boundaries, next, failed, lines, rows, errors);
+                    } catch (RuntimeException | Error e) {
+                        failed.set(true);
+                        throw e;
+                    }
+                }, executor);
+            }
+            try {
+                CompletableFuture.allOf(futures).join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof UncheckedIOException io) {
+                    throw io.getCause();
+                }
+                if (cause instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+        return new IngestReport(size, lines.sum(), rows.sum(), errors.sum(),
+            Duration.ofNanos(System.nanoTime() - begin));
+    }
+
+    /**
+     * Returns the chunk boundaries: roughly {@code chunkSize} apart, each at the start of a line, beginning with 0
+     * and ending with the file size.
+     */
+    private long[] boundaries(FileChannel channel, long size) throws IOException {
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(PROBE_SIZE);
+        long boundary = 0;
+        while (size - boundary > chunkSize) {
+            boundary = lineStart(channel, boundary + chunkSize, size, probe);
+            if (boundary >= size) {
+                break;
+            }
+            boundaries.add(boundary);
+        }
+        boundaries.add(size);
+        long[] result = new long[boundaries.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = boundaries.get(i);
+            if (i > 0 && result[i] - result[i - 1] > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Line at byte " + result[i - 1] + " is too long to map");
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the start of the first line beginning at or after {@code position}, or the file size if there is
+     * none.
+     */
+    private static long lineStart(FileChannel channel, long position, long size, ByteBuffer probe)
+            throws IOException {
+        // A line starts at position exactly if the byte before it ends the previous one
+        long offset = position - 1;
+        while (offset < size) {
+            probe.clear();
+            int read = channel.read(probe, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    private void work(FileChannel channel, long[] boundaries, AtomicInteger next, AtomicBoolean failed,
+            LongAdder lines, LongAdder rows, LongAdder errors) {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            Chunk chunk = new Chunk();
+            for (int index = next.getAndIncrement(); index < boundaries.length - 1 && !failed.get();
+                    index = next.getAndIncrement()) {
+                long start = boundaries[index];
+                try {
+                    chunk.buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, boundaries[index + 1] - start);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                chunk.offset = start;
+                chunk.position = 0;
+                if (index == 0 && header) {
+                    chunk.position = lineEnd(chunk.buffer, 0) + 1;
+                    lines.increment();
+                }
+                while (chunk.position < chunk.buffer.limit() && !failed.get()) {
+                    chunk.lines = 0;
+                    chunk.rows = 0;
+                    chunk.errors = 0;
+                    writeBatch(em, chunk);
+                    lines.add(chunk.lines);
+                    rows.add(chunk.rows);
+                    errors.add(chunk.errors);
+                }
+            }
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Inserts the next batch of rows of the chunk in one transaction, advancing its position.
+     */
+    private void writeBatch(EntityManager em, Chunk chunk) {
+        EntityTransaction transaction = em.getTransaction();
+        try {
+            transaction.begin();
+            em.unwrap(Session.class).doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(insertSql)) {
+                    MappedByteBuffer buffer = chunk.buffer;
+                    int limit = buffer.limit();
+                    while (chunk.position < limit && chunk.rows < batchSize) {
+                        int from = chunk.position;
+                        int end = lineEnd(buffer, from);
+                        chunk.position = end + 1;
+                        int to = end > from && buffer.get(end - 1) == '\r' ? end - 1 : end;
+                        if (to == from) {
+                            continue;
+                        }
+                        chunk.lines++;
+                        int split = from;
+                        while (split < to && buffer.get(split) != delimiter) {
+                            split++;
+                        }
+                        if (!IsoInstantCodec.parse(buffer, from, split, chunk)) {
+                            chunk.errors++;
+                            if (LOGGER.isLoggable(System.Logger.Level.DEBUG)) {
+                                LOGGER.log(System.Logger.Level.DEBUG,
+                                    "Skipping line with unparseable timestamp at byte " + (chunk.offset + from));
+                            }
+                            continue;
+                        }
+                        statement.setLong(1, chunk.seconds);
+                        statement.setInt(2, chunk.nanos);
+                        binder.bind(statement, 3, buffer, Math.min(split + 1, to), to);
+                        statement.addBatch();
+                        chunk.rows++;
+                    }
+                    if (chunk.rows > 0) {
+                        statement.executeBatch();
+                    }
+                }
+            });
+            transaction.commit();
+        } finally {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the line terminator ending the line at {@code from}, or the limit for the last line.
+     */
+    private static int lineEnd(ByteBuffer buffer, int from) {
+        int limit = buffer.limit();
+        int index = from;
+        while (index < limit && buffer.get(index) != '\n') {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * The mapped chunk a worker is processing, and the per-batch counters and parse target it reuses.
+     */
+    private static final class Chunk implements TemporalConsumer {
+        MappedByteBuffer buffer;
+        long offset;
+        int position;
+        long lines;
+        int rows;
+        long errors;
+        long seconds;
+        int nanos;
+
+        @Override
+        public void accept(long seconds, int nanos) {
+            this.seconds = seconds;
+            this.nanos = nanos;
+        }
+    }
+
+    /**
+     * Builder for {@link TemporalIngester}.
+     */
+    public static final class Builder {
+
+        private final EntityManagerFactory entityManagerFactory;
+        private final String insertSql;
+        private final LineBinder binder;
+        private byte delimiter = ',';
+        private int chunkSize = 64 << 20;
+        private int batchSize = 1_000;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private Executor executor = ForkJoinPool.commonPool();
+        private boolean header;
+
+        private Builder(EntityManagerFactory entityManagerFactory, String insertSql, LineBinder binder) {
+            this.entityManagerFactory = Objects.requireNonNull(entityManagerFactory,
+                "EntityManagerFactory cannot be null");
+            this.insertSql = Objects.requireNonNull(insertSql, "Insert statement cannot be null");
+            this.binder = Objects.requireNonNull(binder, "Binder cannot be null");
+        }
+
+        /**
+         * Sets the byte ending the timestamp field, {@code ','} by default. Use {@code ' '} for logs or
+         * {@code '\t'} for TSV files.
+         *
+         * @param delimiter the ASCII delimiter
+         * @return this builder
+         * @throws IllegalArgumentException if delimiter is not an ASCII character or is a line terminator
+         */
+        public Builder delimiter(char delimiter) {
+            if (delimiter > 0x7F || delimiter == '\n' || delimiter == '\r') {
+                throw new IllegalArgumentException("Delimiter must be an ASCII character other than a line break");
+            }
+            this.delimiter = (byte) delimiter;
+            return this;
+        }
+
+        /**
+         * Sets the approximate size of the chunks processed in parallel, 64 MiB by default.
+         *
+         * @param chunkSize the chunk size in bytes
+         * @return this builder
+         * @throws IllegalArgumentException if chunkSize is not within 1..2^30
+         */
+        public Builder chunkSize(int chunkSize) {
+            if (chunkSize <= 0 || chunkSize > 1 << 30) {
+                throw new IllegalArgumentException("Chunk size must be within 1..2^30: " + chunkSize);
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of rows per JDBC batch and transaction, 1,000 by default.
+         *
+         * @param batchSize the batch size
+         * @return this builder
+         * @throws IllegalArgumentException if batchSize is not positive
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of chunks processed at once, each with its own connection, the number of
+         * available processors by default.
+         *
+         * @param parallelism the number of workers
+         * @return this builder
+         * @throws IllegalArgumentException if parallelism is not positive
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the executor running the workers, the common fork-join pool by default. Since the workers block
+         * on the database, a dedicated pool with at least {@code parallelism} threads is preferable.
+         *
+         * @param executor the executor
+         * @return this builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets whether the first line of the file is a header to skip, false by default.
+         *
+         * @param header true to skip the first line
+         * @return this builder
+         */
+        public Builder header(boolean header) {
+            this.header = header;
+            return this;
+        }
+
+        /**
+         * Creates the ingester.
+         *
+         * @return the ingester
+         */
+        public TemporalIngester build() {
+            return new TemporalIngester(this);
+        }
+    }
+}
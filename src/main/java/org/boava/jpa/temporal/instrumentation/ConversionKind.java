@@ -0,0 +1,34 @@
+package org.boava.jpa.temporal.instrumentation;
+
+/**
+ * The conversions between {@code EmbeddableTemporal} and {@code java.time} types reported by the instrumentation.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public enum ConversionKind {
+
+    /** {@code EmbeddableTemporal.from(Instant)}. */
+    FROM_INSTANT,
+
+    /** {@code EmbeddableTemporal.from(Duration)}. */
+    FROM_DURATION,
+
+    /** {@code EmbeddableTemporal.toInstant()}. */
+    TO_INSTANT,
+
+    /** {@code EmbeddableTemporal.toDuration()}. */
+    TO_DURATION,
+
+    /** {@code EmbeddableTemporal.toLocalDateTime()}. */
+    TO_LOCAL_DATE_TIME,
+
+    /** {@code EmbeddableTemporal.toZonedDateTime()}. */
+    TO_ZONED_DATE_TIME,
+
+    /** {@code EmbeddableTemporal.toOffsetDateTime()}. */
+    TO_OFFSET_DATE_TIME,
+
+    /** {@code EmbeddableTemporal.toLocalTime()}. */
+    TO_LOCAL_TIME
+}
@@ -0,0 +1,17 @@
+package org.boava.jpa.temporal.instrumentation;
+
+/**
+ * The slow branches of {@code EmbeddableTemporal} normalization. Either one means a value arrived with its
+ * nanoseconds outside 0..999,999,999, which usually points at a bug or bad data upstream.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public enum NormalizationKind {
+
+    /** Nanoseconds of a second or more were carried into the seconds. */
+    CARRY,
+
+    /** Negative nanoseconds borrowed from the seconds. */
+    BORROW
+}
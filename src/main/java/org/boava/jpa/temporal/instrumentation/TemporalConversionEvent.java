@@ -0,0 +1,37 @@
+package org.boava.jpa.temporal.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted for every instrumented conversion, with a stack trace so the cost can be attributed
+ * to call sites. Conversions are frequent, so the event is disabled by default and must be enabled in the recording
+ * settings, e.g. {@code recording.enable(TemporalConversionEvent.NAME)}.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+@Name(TemporalConversionEvent.NAME)
+@Label("Temporal Conversion")
+@Category({"Boava", "JPA Temporal"})
+@Description("Conversion between EmbeddableTemporal and a java.time type")
+@Enabled(false)
+@StackTrace(true)
+public final class TemporalConversionEvent extends Event {
+
+    /**
+     * The event name used in recording settings.
+     */
+    public static final String NAME = "org.boava.jpa.temporal.Conversion";
+
+    @Label("Conversion")
+    String conversion;
+
+    TemporalConversionEvent() {
+    }
+}
@@ -0,0 +1,100 @@
+package org.boava.jpa.temporal.instrumentation;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link TemporalMetricsSink} keeping striped counters per conversion and normalization kind, and a power-of-two
+ * histogram of the seconds carried or borrowed by normalization.
+ * <p>
+ * Register it in {@code META-INF/services/org.boava.jpa.temporal.instrumentation.TemporalMetricsSink} and read it
+ * back with {@code TemporalInstrumentation.sink(TemporalCounters.class)}, e.g. to export the values to a metrics
+ * registry.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class TemporalCounters implements TemporalMetricsSink {
+
+    private static final int BUCKETS = Long.SIZE;
+
+    private final LongAdder[] conversions = adders(ConversionKind.values().length);
+    private final LongAdder[] normalizations = adders(NormalizationKind.values().length);
+    private final LongAdder[] carried = adders(BUCKETS);
+
+    private static LongAdder[] adders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    @Override
+    public void conversion(ConversionKind kind) {
+        conversions[kind.ordinal()].increment();
+    }
+
+    @Override
+    public void normalization(NormalizationKind kind, long carriedSeconds) {
+        normalizations[kind.ordinal()].increment();
+        carried[bucketOf(carriedSeconds)].increment();
+    }
+
+    /**
+     * Returns the number of conversions of the given kind.
+     *
+     * @param kind the conversion
+     * @return the count
+     * @throws NullPointerException if kind is null
+     */
+    public long getConversions(ConversionKind kind) {
+        Objects.requireNonNull(kind, "Conversion kind cannot be null");
+        return conversions[kind.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of normalizations that took the given branch.
+     *
+     * @param kind the normalization branch
+     * @return the count
+     * @throws NullPointerException if kind is null
+     */
+    public long getNormalizations(NormalizationKind kind) {
+        Objects.requireNonNull(kind, "Normalization kind cannot be null");
+        return normalizations[kind.ordinal()].sum();
+    }
+
+    /**
+     * Returns the histogram of carried or borrowed seconds. Bucket {@code i} counts the normalizations that moved
+     * between {@code 2^i} and {@code 2^(i+1) - 1} seconds.
+     *
+     * @return a snapshot of the 64 bucket counts
+     */
+    public long[] getCarriedSecondsHistogram() {
+        long[] histogram = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram[i] = carried[i].sum();
+        }
+        return histogram;
+    }
+
+    /**
+     * Resets every counter and the histogram.
+     */
+    public void reset() {
+        for (LongAdder adder : conversions) {
+            adder.reset();
+        }
+        for (LongAdder adder : normalizations) {
+            adder.reset();
+        }
+        for (LongAdder adder : carried) {
+            adder.reset();
+        }
+    }
+
+    static int bucketOf(long carriedSeconds) {
+        return carriedSeconds <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(carriedSeconds);
+    }
+}
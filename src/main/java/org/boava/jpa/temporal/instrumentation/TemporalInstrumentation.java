@@ -0,0 +1,110 @@
+package org.boava.jpa.temporal.instrumentation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * Opt-in instrumentation of the {@code EmbeddableTemporal} conversion and normalization paths.
+ * <p>
+ * Instrumentation is enabled by starting the JVM with {@code -Dorg.boava.jpa.temporal.instrumentation=true}. The
+ * flag is read once into a {@code static final} field, so when it is off the JIT compiler removes the
+ * instrumentation branches entirely. When it is on, every conversion and every carrying or borrowing normalization
+ * <ul>
+ *   <li>emits a {@link TemporalConversionEvent} or {@link TemporalNormalizationEvent} to JDK Flight Recorder, with a
+ *   stack trace, if a recording has the event enabled, and</li>
+ *   <li>is reported to the {@link TemporalMetricsSink} implementations found by {@link ServiceLoader} when this
+ *   class is initialized.</li>
+ * </ul>
+ * The reporting methods are public only so the other packages of this library can call them.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public final class TemporalInstrumentation {
+
+    /**
+     * The system property enabling instrumentation.
+     */
+    public static final String PROPERTY = "org.boava.jpa.temporal.instrumentation";
+
+    /**
+     * True if instrumentation was enabled when this class was initialized.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+    private static final TemporalMetricsSink[] SINKS = ENABLED ? load() : new TemporalMetricsSink[0];
+
+    private TemporalInstrumentation() {
+    }
+
+    private static TemporalMetricsSink[] load() {
+        List<TemporalMetricsSink> sinks = new ArrayList<>();
+        ServiceLoader.load(TemporalMetricsSink.class, TemporalInstrumentation.class.getClassLoader())
+            .forEach(sinks::add);
+        return sinks.toArray(new TemporalMetricsSink[0]);
+    }
+
+    /**
+     * Returns the metrics sinks discovered at initialization.
+     *
+     * @return an unmodifiable list of sinks, empty if instrumentation is disabled
+     */
+    public static List<TemporalMetricsSink> getSinks() {
+        return List.of(SINKS);
+    }
+
+    /**
+     * Returns the discovered metrics sink of the given type.
+     *
+     * @param <T> the sink type
+     * @param type the sink class
+     * @return the first discovered sink of that type, or empty if there is none
+     * @throws NullPointerException if type is null
+     */
+    public static <T extends TemporalMetricsSink> Optional<T> sink(Class<T> type) {
+        Objects.requireNonNull(type, "Sink type cannot be null");
+        for (TemporalMetricsSink sink : SINKS) {
+            if (type.isInstance(sink)) {
+                return Optional.of(type.cast(sink));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reports a conversion. Callers guard the call with {@link #ENABLED}.
+     *
+     * @param kind the conversion
+     */
+    public static void conversion(ConversionKind kind) {
+        TemporalConversionEvent event = new TemporalConversionEvent();
+        if (event.shouldCommit()) {
+            event.conversion = kind.name();
+            event.commit();
+        }
+        for (TemporalMetricsSink sink : SINKS) {
+            sink.conversion(kind);
+        }
+    }
+
+    /**
+     * Reports a carrying or borrowing normalization. Callers guard the call with {@link #ENABLED}.
+     *
+     * @param kind the normalization branch
+     * @param carriedSeconds the absolute number of seconds moved between the components
+     */
+    public static void normalization(NormalizationKind kind, long carriedSeconds) {
+        TemporalNormalizationEvent event = new TemporalNormalizationEvent();
+        if (event.shouldCommit()) {
+            event.branch = kind.name();
+            event.carriedSeconds = carriedSeconds;
+            event.commit();
+        }
+        for (TemporalMetricsSink sink : SINKS) {
+            sink.normalization(kind, carriedSeconds);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.boava.jpa.temporal.instrumentation;
+
+/**
+ * Receives instrumentation callbacks from the temporal hot paths.
+ * <p>
+ * Implementations are discovered with {@link java.util.ServiceLoader} when instrumentation is enabled, see
+ * {@link TemporalInstrumentation}. Callbacks run inline on the converting thread, so implementations must be
+ * thread-safe and cheap, e.g. striped counters; {@link TemporalCounters} is a ready-made one.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public interface TemporalMetricsSink {
+
+    /**
+     * Called for every instrumented conversion.
+     *
+     * @param kind the conversion
+     */
+    void conversion(ConversionKind kind);
+
+    /**
+     * Called whenever normalization has to carry or borrow.
+     *
+     * @param kind the normalization branch
+     * @param carriedSeconds the absolute number of seconds moved between the components, at least one
+     */
+    void normalization(NormalizationKind kind, long carriedSeconds);
+}
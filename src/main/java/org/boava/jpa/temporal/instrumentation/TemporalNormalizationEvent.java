@@ -0,0 +1,39 @@
+package org.boava.jpa.temporal.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event emitted whenever normalization has to carry or borrow, with a stack trace pointing at the
+ * code that produced the out-of-range nanoseconds. Enabled by default, since it should be rare.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+@Name(TemporalNormalizationEvent.NAME)
+@Label("Temporal Normalization")
+@Category({"Boava", "JPA Temporal"})
+@Description("EmbeddableTemporal normalization carried or borrowed seconds")
+@StackTrace(true)
+public final class TemporalNormalizationEvent extends Event {
+
+    /**
+     * The event name used in recording settings.
+     */
+    public static final String NAME = "org.boava.jpa.temporal.Normalization";
+
+    @Label("Branch")
+    String branch;
+
+    @Label("Carried Seconds")
+    @Timespan(Timespan.SECONDS)
+    long carriedSeconds;
+
+    TemporalNormalizationEvent() {
+    }
+}
@@ -0,0 +1,181 @@
+package org.boava.jpa.temporal.interval;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * A JPA embeddable for the half-open interval {@code [start, end)} between two temporal values, mapped to the four
+ * columns {@code start_seconds}, {@code start_nanos}, {@code end_seconds} and {@code end_nanos}.
+ * <p>
+ * An interval contains its start but not its end, so adjacent validity periods such as {@code [a, b)} and
+ * {@code [b, c)} neither overlap nor leave a gap. An interval whose start equals its end is empty and contains no
+ * value. Sargable query predicates for mapped intervals are built by
+ * {@link org.boava.jpa.temporal.query.TemporalPredicates}, and {@link TemporalIntervalTree} answers the same
+ * questions over cached intervals in memory.
+ * <p>
+ * Example usage in an entity:
+ * <pre>{@code
+ * @Embedded
+ * @AttributeOverride(name = "start.seconds", column = @Column(name = "valid_from_seconds"))
+ * @AttributeOverride(name = "start.nanos", column = @Column(name = "valid_from_nanos"))
+ * @AttributeOverride(name = "end.seconds", column = @Column(name = "valid_to_seconds"))
+ * @AttributeOverride(name = "end.nanos", column = @Column(name = "valid_to_nanos"))
+ * private TemporalInterval validity;
+ * }</pre>
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+@Embeddable
+@Access(AccessType.FIELD)
+public class TemporalInterval implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Embedded
+    @AttributeOverride(name = "seconds", column = @Column(name = "start_seconds", nullable = false))
+    @AttributeOverride(name = "nanos", column = @Column(name = "start_nanos", nullable = false))
+    private EmbeddableTemporal start;
+
+    @Embedded
+    @AttributeOverride(name = "seconds", column = @Column(name = "end_seconds", nullable = false))
+    @AttributeOverride(name = "nanos", column = @Column(name = "end_nanos", nullable = false))
+    private EmbeddableTemporal end;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    protected TemporalInterval() {
+    }
+
+    /**
+     * Creates the interval {@code [start, end)}.
+     *
+     * @param start the inclusive start
+     * @param end the exclusive end
+     * @throws NullPointerException if any bound is null
+     * @throws IllegalArgumentException if start is after end
+     */
+    public TemporalInterval(EmbeddableTemporal start, EmbeddableTemporal end) {
+        Objects.requireNonNull(start, "Start cannot be null");
+        Objects.requireNonNull(end, "End cannot be null");
+        if (start.compareTo(end) > 0) {
+            throw new IllegalArgumentException("Interval start %s is after end %s".formatted(start, end));
+        }
+        this.start = new EmbeddableTemporal(start.getSeconds(), start.getNanos());
+        this.end = new EmbeddableTemporal(end.getSeconds(), end.getNanos());
+    }
+
+    /**
+     * Creates the interval {@code [start, end)} from two instants.
+     *
+     * @param start the inclusive start
+     * @param end the exclusive end
+     * @return the interval
+     * @throws NullPointerException if any bound is null
+     * @throws IllegalArgumentException if start is after end
+     */
+    public static TemporalInterval of(Instant start, Instant end) {
+        Objects.requireNonNull(start, "Start cannot be null");
+        Objects.requireNonNull(end, "End cannot be null");
+        return new TemporalInterval(EmbeddableTemporal.from(start), EmbeddableTemporal.from(end));
+    }
+
+    /**
+     * Gets the inclusive start of this interval.
+     *
+     * @return the start
+     */
+    public EmbeddableTemporal getStart() {
+        return start;
+    }
+
+    /**
+     * Gets the exclusive end of this interval.
+     *
+     * @return the end
+     */
+    public EmbeddableTemporal getEnd() {
+        return end;
+    }
+
+    /**
+     * Checks if this interval is empty, i.e. its start equals its end.
+     *
+     * @return true if the interval contains no value
+     */
+    public boolean isEmpty() {
+        return start.equals(end);
+    }
+
+    /**
+     * Checks if the given value lies within this interval.
+     *
+     * @param value the value to check
+     * @return true if {@code start <= value < end}
+     */
+    public boolean contains(EmbeddableTemporal value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        return start.compareTo(value) <= 0 && value.compareTo(end) < 0;
+    }
+
+    /**
+     * Checks if the given interval lies entirely within this interval.
+     *
+     * @param other the interval to check
+     * @return true if {@code start <= other.start} and {@code other.end <= end}
+     */
+    public boolean contains(TemporalInterval other) {
+        Objects.requireNonNull(other, "Interval cannot be null");
+        return start.compareTo(other.start) <= 0 && other.end.compareTo(end) <= 0;
+    }
+
+    /**
+     * Checks if this interval overlaps the given one, i.e. each of them starts before the other one ends.
+     *
+     * @param other the interval to check
+     * @return true if the intervals overlap
+     */
+    public boolean overlaps(TemporalInterval other) {
+        Objects.requireNonNull(other, "Interval cannot be null");
+        return start.compareTo(other.end) < 0 && other.start.compareTo(end) < 0;
+    }
+
+    /**
+     * Returns the length of this interval.
+     *
+     * @return the duration between start and end
+     */
+    public Duration toDuration() {
+        return Duration.ofSeconds(end.getSeconds() - start.getSeconds(), end.getNanos() - start.getNanos());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TemporalInterval that = (TemporalInterval) obj;
+        return Objects.equals(start, that.start) && Objects.equals(end, that.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(start) + Objects.hashCode(end);
+    }
+
+    @Override
+    public String toString() {
+        return "TemporalInterval{[%s, %s)}".formatted(start, end);
+    }
+}
@@ -0,0 +1,294 @@
+package org.boava.jpa.temporal.interval;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * An immutable in-memory index answering stabbing and overlap queries over half-open temporal intervals.
+ * <p>
+ * The tree is an augmented binary search tree laid out implicitly over arrays sorted by interval start: the node
+ * of a range of array slots is its middle slot, and every node records the largest end in its subtree. All keys
+ * are kept in primitive {@code long} and {@code int} arrays, so a query touches no temporal objects and follows
+ * no pointers. Subtrees that end too early or start too late are pruned, so a query visits O(log n) nodes plus
+ * the paths to the k reported intervals.
+ * <p>
+ * Typical usage is indexing a cached set of validity periods:
+ * <pre>{@code
+ * TemporalIntervalTree.Builder<Price> builder = TemporalIntervalTree.builder();
+ * prices.forEach(p -> builder.add(p.getValidity(), p));
+ * TemporalIntervalTree<Price> index = builder.build();
+ * List<Price> active = index.stab(now);
+ * }</pre>
+ *
+ * @param <V> the type of the values associated with the intervals
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public final class TemporalIntervalTree<V> {
+
+    /**
+     * Receives the intervals matched by a query.
+     *
+     * @param <V> the type of the values
+     */
+    @FunctionalInterface
+    public interface IntervalVisitor<V> {
+
+        /**
+         * Visits a matching interval.
+         *
+         * @param startSeconds the seconds component of the interval start
+         * @param startNanos the nanoseconds component of the interval start
+         * @param endSeconds the seconds component of the interval end
+         * @param endNanos the nanoseconds component of the interval end
+         * @param value the value associated with the interval
+         */
+        void visit(long startSeconds, int startNanos, long endSeconds, int endNanos, V value);
+    }
+
+    private final long[] startSeconds;
+    private final int[] startNanos;
+    private final long[] endSeconds;
+    private final int[] endNanos;
+    private final long[] maxEndSeconds;
+    private final int[] maxEndNanos;
+    private final Object[] values;
+
+    private TemporalIntervalTree(long[] startSeconds, int[] startNanos, long[] endSeconds, int[] endNanos,
+            Object[] values) {
+        this.startSeconds = startSeconds;
+        this.startNanos = startNanos;
+        this.endSeconds = endSeconds;
+        this.endNanos = endNanos;
+        this.values = values;
+        this.maxEndSeconds = new long[values.length];
+        this.maxEndNanos = new int[values.length];
+        augment(0, values.length);
+    }
+
+    /**
+     * Creates a builder for a new tree.
+     *
+     * @param <V> the type of the values
+     * @return a new builder
+     */
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the number of indexed intervals.
+     *
+     * @return the tree size
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the values of all intervals containing the given value.
+     *
+     * @param value the stabbing point
+     * @return the values of the matching intervals, in order of interval start
+     */
+    public List<V> stab(EmbeddableTemporal value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        List<V> result = new ArrayList<>();
+        stab(value.getSeconds(), value.getNanos(), (ss, sn, es, en, v) -> result.add(v));
+        return result;
+    }
+
+    /**
+     * Visits all intervals containing the given value, in order of interval start.
+     *
+     * @param seconds the seconds component of the stabbing point
+     * @param nanos the nanoseconds component of the stabbing point
+     * @param visitor receives the matching intervals
+     */
+    public void stab(long seconds, int nanos, IntervalVisitor<? super V> visitor) {
+        Objects.requireNonNull(visitor, "Visitor cannot be null");
+        if (nanos == EmbeddableTemporal.MAX_NANOS && seconds == Long.MAX_VALUE) {
+            return;
+        }
+        // start <= point < end is start < point + 1ns, which keeps a single comparison shape for both queries
+        long exclusiveSeconds = nanos == EmbeddableTemporal.MAX_NANOS ? seconds + 1 : seconds;
+        int exclusiveNanos = nanos == EmbeddableTemporal.MAX_NANOS ? 0 : nanos + 1;
+        overlapping(0, values.length, seconds, nanos, exclusiveSeconds, exclusiveNanos, visitor);
+    }
+
+    /**
+     * Returns the values of all intervals overlapping the given interval.
+     *
+     * @param interval the query interval
+     * @return the values of the matching intervals, in order of interval start
+     */
+    public List<V> overlapping(TemporalInterval interval) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+        List<V> result = new ArrayList<>();
+        overlapping(interval, (ss, sn, es, en, v) -> result.add(v));
+        return result;
+    }
+
+    /**
+     * Visits all intervals overlapping the given interval, in order of interval start.
+     *
+     * @param interval the query interval
+     * @param visitor receives the matching intervals
+     */
+    public void overlapping(TemporalInterval interval, IntervalVisitor<? super V> visitor) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+        Objects.requireNonNull(visitor, "Visitor cannot be null");
+        EmbeddableTemporal from = interval.getStart();
+        EmbeddableTemporal to = interval.getEnd();
+        overlapping(0, values.length, from.getSeconds(), from.getNanos(), to.getSeconds(), to.getNanos(), visitor);
+    }
+
+    // Reports nodes with start < to and end > from
+    @SuppressWarnings("unchecked")
+    private void overlapping(int low, int high, long fromSeconds, int fromNanos, long toSeconds, int toNanos,
+            IntervalVisitor<? super V> visitor) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(maxEndSeconds[mid], maxEndNanos[mid], fromSeconds, fromNanos) <= 0) {
+                return;
+            }
+            overlapping(low, mid, fromSeconds, fromNanos, toSeconds, toNanos, visitor);
+            if (compare(startSeconds[mid], startNanos[mid], toSeconds, toNanos) >= 0) {
+                return;
+            }
+            if (compare(endSeconds[mid], endNanos[mid], fromSeconds, fromNanos) > 0) {
+                visitor.visit(startSeconds[mid], startNanos[mid], endSeconds[mid], endNanos[mid], (V) values[mid]);
+            }
+            low = mid + 1;
+        }
+    }
+
+    private void augment(int low, int high) {
+        if (low >= high) {
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        augment(low, mid);
+        augment(mid + 1, high);
+        maxEndSeconds[mid] = endSeconds[mid];
+        maxEndNanos[mid] = endNanos[mid];
+        if (low < mid) {
+            raiseMaxEnd(mid, (low + mid) >>> 1);
+        }
+        if (mid + 1 < high) {
+            raiseMaxEnd(mid, (mid + 1 + high) >>> 1);
+        }
+    }
+
+    private void raiseMaxEnd(int node, int child) {
+        if (compare(maxEndSeconds[child], maxEndNanos[child], maxEndSeconds[node], maxEndNanos[node]) > 0) {
+            maxEndSeconds[node] = maxEndSeconds[child];
+            maxEndNanos[node] = maxEndNanos[child];
+        }
+    }
+
+    private static int compare(long seconds1, int nanos1, long seconds2, int nanos2) {
+        int result = Long.compare(seconds1, seconds2);
+        return result != 0 ? result : Integer.compare(nanos1, nanos2);
+    }
+
+    /**
+     * Collects intervals for a new {@link TemporalIntervalTree}.
+     *
+     * @param <V> the type of the values
+     */
+    public static final class Builder<V> {
+
+        private long[] startSeconds = new long[16];
+        private int[] startNanos = new int[16];
+        private long[] endSeconds = new long[16];
+        private int[] endNanos = new int[16];
+        private Object[] values = new Object[16];
+        private int size;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds an interval with its associated value.
+         *
+         * @param interval the interval
+         * @param value the value, may be null
+         * @return this builder
+         */
+        public Builder<V> add(TemporalInterval interval, V value) {
+            Objects.requireNonNull(interval, "Interval cannot be null");
+            EmbeddableTemporal start = interval.getStart();
+            EmbeddableTemporal end = interval.getEnd();
+            return add(start.getSeconds(), start.getNanos(), end.getSeconds(), end.getNanos(), value);
+        }
+
+        /**
+         * Adds the interval {@code [start, end)} given by its components with its associated value.
+         *
+         * @param startSeconds the seconds component of the start
+         * @param startNanos the nanoseconds component of the start, in the range 0..999,999,999
+         * @param endSeconds the seconds component of the end
+         * @param endNanos the nanoseconds component of the end, in the range 0..999,999,999
+         * @param value the value, may be null
+         * @return this builder
+         * @throws IllegalArgumentException if a nanoseconds component is out of range or start is after end
+         */
+        public Builder<V> add(long startSeconds, int startNanos, long endSeconds, int endNanos, V value) {
+            if (startNanos < 0 || startNanos > EmbeddableTemporal.MAX_NANOS
+                    || endNanos < 0 || endNanos > EmbeddableTemporal.MAX_NANOS) {
+                throw new IllegalArgumentException("Nanoseconds out of range: " + startNanos + ", " + endNanos);
+            }
+            if (compare(startSeconds, startNanos, endSeconds, endNanos) > 0) {
+                throw new IllegalArgumentException("Interval start is after end: [%ds %dns, %ds %dns)"
+                    .formatted(startSeconds, startNanos, endSeconds, endNanos));
+            }
+            if (size == values.length) {
+                int capacity = size * 2;
+                this.startSeconds = Arrays.copyOf(this.startSeconds, capacity);
+                this.startNanos = Arrays.copyOf(this.startNanos, capacity);
+                this.endSeconds = Arrays.copyOf(this.endSeconds, capacity);
+                this.endNanos = Arrays.copyOf(this.endNanos, capacity);
+                this.values = Arrays.copyOf(this.values, capacity);
+            }
+            this.startSeconds[size] = startSeconds;
+            this.startNanos[size] = startNanos;
+            this.endSeconds[size] = endSeconds;
+            this.endNanos[size] = endNanos;
+            this.values[size] = value;
+            size++;
+            return this;
+        }
+
+        /**
+         * Builds the tree. The builder may be reused afterwards.
+         *
+         * @return the immutable tree
+         */
+        public TemporalIntervalTree<V> build() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> compare(startSeconds[a], startNanos[a], startSeconds[b], startNanos[b]));
+            long[] ss = new long[size];
+            int[] sn = new int[size];
+            long[] es = new long[size];
+            int[] en = new int[size];
+            Object[] vs = new Object[size];
+            for (int i = 0; i < size; i++) {
+                int source = order[i];
+                ss[i] = startSeconds[source];
+                sn[i] = startNanos[source];
+                es[i] = endSeconds[source];
+                en[i] = endNanos[source];
+                vs[i] = values[source];
+            }
+            return new TemporalIntervalTree<>(ss, sn, es, en, vs);
+        }
+    }
+}
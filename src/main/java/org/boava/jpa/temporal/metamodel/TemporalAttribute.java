@@ -0,0 +1,53 @@
+package org.boava.jpa.temporal.metamodel;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.query.TemporalPath;
+
+/**
+ * Describes an embedded {@link EmbeddableTemporal} attribute of an entity: its name, used to build JPQL paths,
+ * and an accessor reading its value without reflection.
+ *
+ * @param <E> the entity type
+ * @param entityType the entity class
+ * @param name the attribute name, e.g. {@code timestamp}
+ * @param accessor reads the attribute value from an entity
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public record TemporalAttribute<E>(Class<E> entityType, String name, Function<E, EmbeddableTemporal> accessor) {
+
+    /**
+     * Creates a new attribute descriptor.
+     *
+     * @throws NullPointerException if any argument is null
+     */
+    public TemporalAttribute {
+        Objects.requireNonNull(entityType, "Entity type cannot be null");
+        Objects.requireNonNull(name, "Attribute name cannot be null");
+        Objects.requireNonNull(accessor, "Accessor cannot be null");
+    }
+
+    /**
+     * Returns the JPQL path of this attribute relative to an entity alias.
+     *
+     * @param alias the entity alias, e.g. {@code e}
+     * @return the path addressing {@code alias.name.seconds} and {@code alias.name.nanos}
+     */
+    public TemporalPath path(String alias) {
+        Objects.requireNonNull(alias, "Alias cannot be null");
+        return TemporalPath.attribute(alias + "." + name);
+    }
+
+    /**
+     * Reads the attribute value from an entity.
+     *
+     * @param entity the entity
+     * @return the temporal value, possibly null
+     */
+    public EmbeddableTemporal get(E entity) {
+        return accessor.apply(entity);
+    }
+}
@@ -0,0 +1,137 @@
+package org.boava.jpa.temporal.partition;
+
+import java.util.Objects;
+
+/**
+ * DDL generation for range partitions on the seconds column of a temporal attribute.
+ * <p>
+ * Every partition is bounded by whole epoch seconds, so the generated DDL only ever references the seconds
+ * column. The parent table is expected to be created with the clause returned by {@link #partitionBy(String)}.
+ * <p>
+ * H2 has no declarative partitioning; use the predicates of {@link TemporalPartition} and
+ * {@link org.boava.jpa.temporal.query.TemporalPredicates} there, they are valid on every database.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public enum PartitionDialect {
+
+    /**
+     * PostgreSQL 11+ declarative partitioning. Each partition is a table named {@code <table>_<partition>}.
+     */
+    POSTGRESQL {
+        @Override
+        public String createPartition(String table, TemporalPartition partition) {
+            return "CREATE TABLE %s PARTITION OF %s FOR VALUES FROM (%d) TO (%d)"
+                .formatted(partitionTable(table, partition), table, partition.startSeconds(),
+                    partition.endSeconds());
+        }
+
+        @Override
+        public String attachPartition(String table, String sourceTable, TemporalPartition partition) {
+            return "ALTER TABLE %s ATTACH PARTITION %s FOR VALUES FROM (%d) TO (%d)"
+                .formatted(table, sourceTable, partition.startSeconds(), partition.endSeconds());
+        }
+
+        @Override
+        public String dropPartition(String table, TemporalPartition partition) {
+            return "DROP TABLE %s".formatted(partitionTable(table, partition));
+        }
+    },
+
+    /**
+     * MySQL and MariaDB range partitioning. Partitions must be created in ascending order and attaching
+     * exchanges the contents of an empty, already created partition with a staging table.
+     */
+    MYSQL {
+        @Override
+        public String createPartition(String table, TemporalPartition partition) {
+            return "ALTER TABLE %s ADD PARTITION (PARTITION %s VALUES LESS THAN (%d))"
+                .formatted(table, partition.name(), partition.endSeconds());
+        }
+
+        @Override
+        public String attachPartition(String table, String sourceTable, TemporalPartition partition) {
+            return "ALTER TABLE %s EXCHANGE PARTITION %s WITH TABLE %s"
+                .formatted(table, partition.name(), sourceTable);
+        }
+
+        @Override
+        public String dropPartition(String table, TemporalPartition partition) {
+            return "ALTER TABLE %s DROP PARTITION %s".formatted(table, partition.name());
+        }
+    },
+
+    /**
+     * Oracle range partitioning. Partitions must be created in ascending order and attaching exchanges the
+     * contents of an empty, already created partition with a staging table.
+     */
+    ORACLE {
+        @Override
+        public String createPartition(String table, TemporalPartition partition) {
+            return "ALTER TABLE %s ADD PARTITION %s VALUES LESS THAN (%d)"
+                .formatted(table, partition.name(), partition.endSeconds());
+        }
+
+        @Override
+        public String attachPartition(String table, String sourceTable, TemporalPartition partition) {
+            return "ALTER TABLE %s EXCHANGE PARTITION %s WITH TABLE %s"
+                .formatted(table, partition.name(), sourceTable);
+        }
+
+        @Override
+        public String dropPartition(String table, TemporalPartition partition) {
+            return "ALTER TABLE %s DROP PARTITION %s".formatted(table, partition.name());
+        }
+    };
+
+    /**
+     * Returns the clause to append to the parent table's {@code CREATE TABLE} statement.
+     *
+     * @param secondsColumn the seconds column of the partitioning temporal attribute
+     * @return the partitioning clause
+     */
+    public String partitionBy(String secondsColumn) {
+        Objects.requireNonNull(secondsColumn, "Seconds column cannot be null");
+        return "PARTITION BY RANGE (%s)".formatted(secondsColumn);
+    }
+
+    /**
+     * Creates the statement adding a new, empty partition to the table.
+     *
+     * @param table the partitioned table
+     * @param partition the partition to create
+     * @return the DDL statement
+     */
+    public abstract String createPartition(String table, TemporalPartition partition);
+
+    /**
+     * Creates the statement turning a pre-loaded staging table into the given partition.
+     *
+     * @param table the partitioned table
+     * @param sourceTable the staging table holding the partition's rows
+     * @param partition the partition to attach
+     * @return the DDL statement
+     */
+    public abstract String attachPartition(String table, String sourceTable, TemporalPartition partition);
+
+    /**
+     * Creates the statement dropping a partition together with its rows.
+     *
+     * @param table the partitioned table
+     * @param partition the partition to drop
+     * @return the DDL statement
+     */
+    public abstract String dropPartition(String table, TemporalPartition partition);
+
+    /**
+     * Returns the name of the table backing a partition on databases that model partitions as tables.
+     *
+     * @param table the partitioned table
+     * @param partition the partition
+     * @return the partition table name, {@code <table>_<partition>}
+     */
+    public static String partitionTable(String table, TemporalPartition partition) {
+        return table + "_" + partition.name();
+    }
+}
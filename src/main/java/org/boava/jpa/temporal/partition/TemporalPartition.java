@@ -0,0 +1,87 @@
+package org.boava.jpa.temporal.partition;
+
+import static org.boava.jpa.temporal.embeddable.EmbeddableTemporal.SECONDS_PER_DAY;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * A single range partition covering the epoch seconds {@code [startSeconds, endSeconds)}.
+ * <p>
+ * Instances are obtained from a {@link TemporalPartitionStrategy}.
+ *
+ * @param strategy the strategy that produced this partition
+ * @param name the partition name, e.g. {@code p20240115}
+ * @param startSeconds the inclusive lower bound in epoch seconds
+ * @param endSeconds the exclusive upper bound in epoch seconds
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public record TemporalPartition(TemporalPartitionStrategy strategy, String name, long startSeconds, long endSeconds) {
+
+    /**
+     * Creates a new partition, validating its bounds.
+     *
+     * @throws NullPointerException if strategy or name is null
+     * @throws IllegalArgumentException if the range is empty
+     */
+    public TemporalPartition {
+        Objects.requireNonNull(strategy, "Strategy cannot be null");
+        Objects.requireNonNull(name, "Name cannot be null");
+        if (startSeconds >= endSeconds) {
+            throw new IllegalArgumentException("Empty partition range [%d, %d)".formatted(startSeconds, endSeconds));
+        }
+    }
+
+    /**
+     * Returns the first instant belonging to this partition.
+     *
+     * @return the inclusive lower bound
+     */
+    public EmbeddableTemporal start() {
+        return new EmbeddableTemporal(startSeconds, 0);
+    }
+
+    /**
+     * Returns the first instant after this partition.
+     *
+     * @return the exclusive upper bound
+     */
+    public EmbeddableTemporal end() {
+        return new EmbeddableTemporal(endSeconds, 0);
+    }
+
+    /**
+     * Returns true if the temporal value falls into this partition.
+     *
+     * @param temporal the temporal value
+     * @return true if the value's seconds lie within the partition bounds
+     */
+    public boolean contains(EmbeddableTemporal temporal) {
+        Objects.requireNonNull(temporal, "Temporal cannot be null");
+        return temporal.getSeconds() >= startSeconds && temporal.getSeconds() < endSeconds;
+    }
+
+    /**
+     * Returns the partition directly following this one.
+     *
+     * @return the next partition
+     */
+    public TemporalPartition next() {
+        return strategy.partitionStartingAt(LocalDate.ofEpochDay(endSeconds / SECONDS_PER_DAY));
+    }
+
+    /**
+     * Creates a partition pruning predicate on the seconds column, e.g.
+     * {@code timestamp_seconds >= 1705276800 AND timestamp_seconds < 1705363200}.
+     *
+     * @param secondsColumn the partitioning column or JPQL path
+     * @return the predicate selecting exactly this partition
+     */
+    public String predicate(String secondsColumn) {
+        Objects.requireNonNull(secondsColumn, "Seconds column cannot be null");
+        return "%1$s >= %2$d AND %1$s < %3$d".formatted(secondsColumn, startSeconds, endSeconds);
+    }
+}
@@ -0,0 +1,154 @@
+package org.boava.jpa.temporal.partition;
+
+import static org.boava.jpa.temporal.embeddable.EmbeddableTemporal.SECONDS_PER_DAY;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * Range partitioning schemes over the {@code seconds} column of an {@link EmbeddableTemporal} attribute.
+ * <p>
+ * Partition boundaries are whole epoch seconds at UTC midnight, so a partition is always selected by the seconds
+ * component alone and the nanoseconds column never takes part in partition pruning. Weekly partitions follow
+ * ISO-8601 and start on Monday.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public enum TemporalPartitionStrategy {
+
+    /**
+     * One partition per UTC calendar day, named {@code pYYYYMMDD}.
+     */
+    DAILY(DateTimeFormatter.BASIC_ISO_DATE) {
+        @Override
+        LocalDate startOf(LocalDate date) {
+            return date;
+        }
+
+        @Override
+        LocalDate next(LocalDate start) {
+            return start.plusDays(1);
+        }
+    },
+
+    /**
+     * One partition per ISO week starting on Monday, named after the Monday as {@code pYYYYMMDD}.
+     */
+    WEEKLY(DateTimeFormatter.BASIC_ISO_DATE) {
+        @Override
+        LocalDate startOf(LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        LocalDate next(LocalDate start) {
+            return start.plusWeeks(1);
+        }
+    },
+
+    /**
+     * One partition per UTC calendar month, named {@code pYYYYMM}.
+     */
+    MONTHLY(DateTimeFormatter.ofPattern("uuuuMM")) {
+        @Override
+        LocalDate startOf(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+
+        @Override
+        LocalDate next(LocalDate start) {
+            return start.plusMonths(1);
+        }
+    };
+
+    private final DateTimeFormatter nameFormat;
+
+    TemporalPartitionStrategy(DateTimeFormatter nameFormat) {
+        this.nameFormat = nameFormat;
+    }
+
+    /**
+     * Returns the first day of the partition containing the given day.
+     */
+    abstract LocalDate startOf(LocalDate date);
+
+    /**
+     * Returns the first day of the partition following the one starting at {@code start}.
+     */
+    abstract LocalDate next(LocalDate start);
+
+    /**
+     * Maps a temporal value to the partition containing it.
+     *
+     * @param temporal the temporal value
+     * @return the partition containing the value
+     * @throws NullPointerException if temporal is null
+     */
+    public TemporalPartition partitionOf(EmbeddableTemporal temporal) {
+        Objects.requireNonNull(temporal, "Temporal cannot be null");
+        return partitionOf(temporal.getSeconds());
+    }
+
+    /**
+     * Maps an epoch second to the partition containing it.
+     *
+     * @param epochSecond the epoch second
+     * @return the partition containing the second
+     */
+    public TemporalPartition partitionOf(long epochSecond) {
+        LocalDate start = startOf(LocalDate.ofEpochDay(Math.floorDiv(epochSecond, SECONDS_PER_DAY)));
+        return partitionStartingAt(start);
+    }
+
+    /**
+     * Lists the partitions overlapping the half-open range {@code [from, to)} in ascending order.
+     *
+     * @param from the inclusive lower bound
+     * @param to the exclusive upper bound
+     * @return the overlapping partitions, empty if the range is empty
+     * @throws NullPointerException if any bound is null
+     */
+    public List<TemporalPartition> partitionsBetween(EmbeddableTemporal from, EmbeddableTemporal to) {
+        Objects.requireNonNull(from, "Lower bound cannot be null");
+        Objects.requireNonNull(to, "Upper bound cannot be null");
+        List<TemporalPartition> partitions = new ArrayList<>();
+        if (from.compareTo(to) >= 0) {
+            return partitions;
+        }
+        TemporalPartition partition = partitionOf(from);
+        while (partition.startSeconds() < to.getSeconds()
+                || (partition.startSeconds() == to.getSeconds() && to.getNanos() > 0)) {
+            partitions.add(partition);
+            partition = partition.next();
+        }
+        return partitions;
+    }
+
+    /**
+     * Lists the partitions that lie entirely before the retention cutoff, starting at the partition of the
+     * oldest retained value. These are the partitions a retention job may drop without touching live data.
+     *
+     * @param oldest the oldest value still stored
+     * @param cutoff the first value that must be retained
+     * @return the expired partitions in ascending order
+     * @throws NullPointerException if any bound is null
+     */
+    public List<TemporalPartition> expiredPartitions(EmbeddableTemporal oldest, EmbeddableTemporal cutoff) {
+        Objects.requireNonNull(cutoff, "Cutoff cannot be null");
+        return partitionsBetween(oldest, partitionOf(cutoff).start());
+    }
+
+    TemporalPartition partitionStartingAt(LocalDate start) {
+        long startSeconds = start.toEpochDay() * SECONDS_PER_DAY;
+        long endSeconds = next(start).toEpochDay() * SECONDS_PER_DAY;
+        return new TemporalPartition(this, "p" + nameFormat.format(start), startSeconds, endSeconds);
+    }
+}
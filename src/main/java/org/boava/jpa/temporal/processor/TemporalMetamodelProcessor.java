@@ -0,0 +1,528 @@
+package org.boava.jpa.temporal.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates a temporal metamodel class for every JPA entity with embedded {@code EmbeddableTemporal} attributes, so
+ * attribute names, column names and accessors are resolved at build time instead of by reflection at startup.
+ * <p>
+ * For an entity {@code Event} the processor writes {@code Event_Temporal} into the same package, holding per
+ * temporal attribute
+ * <ul>
+ *   <li>the attribute name and the seconds and nanoseconds column names, honouring {@code @AttributeOverride} on
+ *   the field or, for attributes of a mapped superclass, on the entity class,</li>
+ *   <li>a {@code TemporalAttribute} reading the value through its getter or field, without reflection, if either
+ *   is accessible from the entity's package,</li>
+ *   <li>a {@code TemporalPath} for native SQL and a JPQL path factory, and</li>
+ *   <li>typed range and keyset pagination query helpers built on {@code TemporalPredicates}; the keyset helper is
+ *   generated when the entity has a single {@code @Id} field.</li>
+ * </ul>
+ * Column names are the mapped names, before any Hibernate physical naming strategy is applied. Only field access
+ * is supported: the processor reads the mapping annotations from fields.
+ * <p>
+ * The processor also writes GraalVM native-image reachability metadata registering the processed entities, and the
+ * persistent superclasses declaring their temporal attributes, for reflection, to
+ * {@code META-INF/native-image/<dir>/reflect-config.json} in the class output. The directory defaults to
+ * {@code temporal-metamodel} and is set with {@code -Atemporal.nativeImage.dir=<group>/<artifact>};
+ * {@code -Atemporal.nativeImage.dir=none} disables the file.
+ * <p>
+ * The processor is registered as a service and runs whenever this library is on the compiler's annotation
+ * processor path. It does not claim {@code @Entity}, so other JPA processors still see it.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+@SupportedAnnotationTypes(TemporalMetamodelProcessor.ENTITY)
+@SupportedOptions(TemporalMetamodelProcessor.NATIVE_IMAGE_DIR_OPTION)
+public class TemporalMetamodelProcessor extends AbstractProcessor {
+
+    /**
+     * The processor option naming the native-image metadata directory.
+     */
+    public static final String NATIVE_IMAGE_DIR_OPTION = "temporal.nativeImage.dir";
+
+    /**
+     * The suffix of generated class names.
+     */
+    public static final String SUFFIX = "_Temporal";
+
+    static final String ENTITY = "jakarta.persistence.Entity";
+
+    private static final String MAPPED_SUPERCLASS = "jakarta.persistence.MappedSuperclass";
+    private static final String TRANSIENT = "jakarta.persistence.Transient";
+    private static final String ID = "jakarta.persistence.Id";
+    private static final String ATTRIBUTE_OVERRIDE = "jakarta.persistence.AttributeOverride";
+    private static final String ATTRIBUTE_OVERRIDES = "jakarta.persistence.AttributeOverrides";
+    private static final String TEMPORAL = "org.boava.jpa.temporal.embeddable.EmbeddableTemporal";
+    private static final String DEFAULT_NATIVE_IMAGE_DIR = "temporal-metamodel";
+
+    /**
+     * A temporal attribute of an entity.
+     *
+     * @param name the attribute name
+     * @param secondsColumn the seconds column name
+     * @param nanosColumn the nanoseconds column name
+     * @param accessor a Java expression of type {@code Function<E, EmbeddableTemporal>}, or null if inaccessible
+     */
+    private record Attribute(String name, String secondsColumn, String nanosColumn, String accessor) {
+    }
+
+    /**
+     * The single {@code @Id} field of an entity.
+     *
+     * @param name the attribute name
+     * @param type the boxed type name
+     */
+    private record Key(String name, String type) {
+    }
+
+    private final Set<String> processed = new LinkedHashSet<>();
+    private final Set<String> reflected = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        TypeElement entityAnnotation = processingEnv.getElementUtils().getTypeElement(ENTITY);
+        if (entityAnnotation != null) {
+            for (TypeElement entity : ElementFilter.typesIn(round.getElementsAnnotatedWith(entityAnnotation))) {
+                String name = processingEnv.getElementUtils().getBinaryName(entity).toString();
+                if (entity.getKind() == ElementKind.CLASS && processed.add(name)) {
+                    if (generate(entity)) {
+                        reflect(entity);
+                    } else {
+                        processed.remove(name);
+                    }
+                }
+            }
+        }
+        if (round.processingOver() && !reflected.isEmpty()) {
+            writeReachabilityMetadata();
+        }
+        return false;
+    }
+
+    private boolean generate(TypeElement entity) {
+        List<Attribute> attributes = attributes(entity);
+        if (attributes.isEmpty()) {
+            return false;
+        }
+        String packageName = processingEnv.getElementUtils().getPackageOf(entity).getQualifiedName().toString();
+        String typeName = nestedName(entity, ".");
+        String className = nestedName(entity, "_") + SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try {
+            FileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, entity);
+            try (Writer writer = file.openWriter()) {
+                writer.write(render(entity, packageName, typeName, className, attributes, key(entity)));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Cannot write temporal metamodel " + qualifiedName + ": " + e.getMessage(), entity);
+            return false;
+        }
+        return true;
+    }
+
+    private List<Attribute> attributes(TypeElement entity) {
+        TypeElement temporal = processingEnv.getElementUtils().getTypeElement(TEMPORAL);
+        if (temporal == null) {
+            return List.of();
+        }
+        Map<String, String> classOverrides = overrides(entity);
+        List<Attribute> attributes = new ArrayList<>();
+        for (TypeElement type = entity; type != null; type = persistentSuperclass(type)) {
+            List<Attribute> declared = new ArrayList<>();
+            for (VariableElement field : temporalFields(type, temporal)) {
+                String name = field.getSimpleName().toString();
+                Map<String, String> overrides = overrides(field);
+                String seconds = overrides.getOrDefault("seconds", classOverrides.getOrDefault(name + ".seconds",
+                    "seconds"));
+                String nanos = overrides.getOrDefault("nanos", classOverrides.getOrDefault(name + ".nanos",
+                    "nanos"));
+                declared.add(new Attribute(name, seconds, nanos, accessor(entity, field)));
+            }
+            // Superclass attributes first, in declaration order
+            attributes.addAll(0, declared);
+        }
+        return attributes;
+    }
+
+    private List<VariableElement> temporalFields(TypeElement type, TypeElement temporal) {
+        List<VariableElement> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (isPersistent(field) && processingEnv.getTypeUtils().isSameType(field.asType(), temporal.asType())) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Registers the entity and every persistent superclass declaring temporal attributes for reflection, since the
+     * provider reads the inherited fields through the class that declares them.
+     */
+    private void reflect(TypeElement entity) {
+        TypeElement temporal = processingEnv.getElementUtils().getTypeElement(TEMPORAL);
+        reflected.add(processingEnv.getElementUtils().getBinaryName(entity).toString());
+        for (TypeElement type = persistentSuperclass(entity); type != null; type = persistentSuperclass(type)) {
+            if (!temporalFields(type, temporal).isEmpty()) {
+                reflected.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+            }
+        }
+    }
+
+    private Key key(TypeElement entity) {
+        Key key = null;
+        for (TypeElement type = entity; type != null; type = persistentSuperclass(type)) {
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (hasAnnotation(field, ID)) {
+                    if (key != null) {
+                        return null;
+                    }
+                    TypeMirror idType = field.asType();
+                    String typeName = idType.getKind().isPrimitive()
+                        ? processingEnv.getTypeUtils().boxedClass((PrimitiveType) idType)
+                            .getQualifiedName().toString()
+                        : processingEnv.getTypeUtils().erasure(idType).toString();
+                    if (typeName.startsWith("java.lang.") && typeName.indexOf('.', 10) < 0) {
+                        typeName = typeName.substring(10);
+                    }
+                    key = new Key(field.getSimpleName().toString(), typeName);
+                }
+            }
+        }
+        return key;
+    }
+
+    private TypeElement persistentSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return hasAnnotation(element, MAPPED_SUPERCLASS) || hasAnnotation(element, ENTITY) ? element : null;
+    }
+
+    private boolean isPersistent(VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        return !modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.TRANSIENT)
+            && !hasAnnotation(field, TRANSIENT);
+    }
+
+    /**
+     * Returns an accessor expression using the getter, or the field itself, if it is accessible from the generated
+     * class in the entity's package.
+     */
+    private String accessor(TypeElement entity, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        String getter = "get" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (ExecutableElement method : ElementFilter.methodsIn(
+                processingEnv.getElementUtils().getAllMembers(entity))) {
+            if (method.getSimpleName().contentEquals(getter) && method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())
+                    && isAccessible(entity, method)) {
+                return nestedName(entity, ".") + "::" + getter;
+            }
+        }
+        if (isAccessible(entity, field)) {
+            return "entity -> entity." + name;
+        }
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+            "No accessible getter or field for temporal attribute " + name + ", skipping its accessor", field);
+        return null;
+    }
+
+    private boolean isAccessible(TypeElement entity, Element member) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        PackageElement memberPackage = processingEnv.getElementUtils().getPackageOf(member);
+        return memberPackage.equals(processingEnv.getElementUtils().getPackageOf(entity));
+    }
+
+    /**
+     * Collects {@code @AttributeOverride} names and column names declared on an element, directly or in
+     * {@code @AttributeOverrides}.
+     */
+    private Map<String, String> overrides(Element element) {
+        Map<String, String> overrides = new LinkedHashMap<>();
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            String type = annotationType(annotation);
+            if (type.equals(ATTRIBUTE_OVERRIDE)) {
+                addOverride(overrides, annotation);
+            } else if (type.equals(ATTRIBUTE_OVERRIDES)) {
+                Object value = value(annotation, "value");
+                if (value instanceof List<?> list) {
+                    for (Object item : list) {
+                        addOverride(overrides, (AnnotationMirror) ((AnnotationValue) item).getValue());
+                    }
+                }
+            }
+        }
+        return overrides;
+    }
+
+    private void addOverride(Map<String, String> overrides, AnnotationMirror override) {
+        Object name = value(override, "name");
+        Object column = value(override, "column");
+        if (name instanceof String attribute && column instanceof AnnotationMirror mirror
+                && value(mirror, "name") instanceof String columnName && !columnName.isEmpty()) {
+            overrides.put(attribute, columnName);
+        }
+    }
+
+    private static Object value(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasAnnotation(Element element, String type) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (annotationType(annotation).equals(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String annotationType(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private String entityName(TypeElement entity) {
+        for (AnnotationMirror annotation : entity.getAnnotationMirrors()) {
+            if (annotationType(annotation).equals(ENTITY) && value(annotation, "name") instanceof String name
+                    && !name.isEmpty()) {
+                return name;
+            }
+        }
+        return entity.getSimpleName().toString();
+    }
+
+    private static String nestedName(TypeElement type, String separator) {
+        String name = type.getSimpleName().toString();
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing instanceof TypeElement outer) {
+            name = outer.getSimpleName() + separator + name;
+            enclosing = outer.getEnclosingElement();
+        }
+        return name;
+    }
+
+    private static boolean isPublic(TypeElement type) {
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String render(TypeElement entity, String packageName, String typeName, String className,
+            List<Attribute> attributes, Key key) {
+        boolean accessors = attributes.stream().anyMatch(attribute -> attribute.accessor() != null);
+        StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("import jakarta.persistence.EntityManager;\n");
+        out.append("import jakarta.persistence.TypedQuery;\n\n");
+        out.append("import javax.annotation.processing.Generated;\n\n");
+        out.append("import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;\n");
+        if (accessors) {
+            out.append("import org.boava.jpa.temporal.metamodel.TemporalAttribute;\n");
+        }
+        out.append("import org.boava.jpa.temporal.query.TemporalPath;\n");
+        out.append("import org.boava.jpa.temporal.query.TemporalPredicates;\n\n");
+        out.append("/**\n * Temporal metamodel of {@link ").append(typeName).append("}.\n */\n");
+        out.append("@Generated(\"").append(TemporalMetamodelProcessor.class.getName()).append("\")\n");
+        out.append(isPublic(entity) ? "public " : "").append("final class ").append(className).append(" {\n\n");
+        out.append("    /**\n     * The JPQL entity name.\n     */\n");
+        out.append("    public static final String ENTITY_NAME = ").append(literal(entityName(entity))).append(";\n");
+
+        for (Attribute attribute : attributes) {
+            String name = attribute.name();
+            String constant = constantName(name);
+            out.append("\n    /**\n     * The name of the {@code ").append(name).append("} attribute.\n     */\n");
+            out.append("    public static final String ").append(constant).append(" = ").append(literal(name))
+                .append(";\n\n");
+            out.append("    /**\n     * The seconds column of the {@code ").append(name)
+                .append("} attribute.\n     */\n");
+            out.append("    public static final String ").append(constant).append("_SECONDS_COLUMN = ")
+                .append(literal(attribute.secondsColumn())).append(";\n\n");
+            out.append("    /**\n     * The nanoseconds column of the {@code ").append(name)
+                .append("} attribute.\n     */\n");
+            out.append("    public static final String ").append(constant).append("_NANOS_COLUMN = ")
+                .append(literal(attribute.nanosColumn())).append(";\n\n");
+            out.append("    /**\n     * The columns of the {@code ").append(name)
+                .append("} attribute, for native SQL.\n     */\n");
+            out.append("    public static final TemporalPath ").append(constant).append("_COLUMNS =\n")
+                .append("        TemporalPath.columns(").append(constant).append("_SECONDS_COLUMN, ")
+                .append(constant).append("_NANOS_COLUMN);\n");
+            if (attribute.accessor() != null) {
+                out.append("\n    /**\n     * The {@code ").append(name)
+                    .append("} attribute, read without reflection.\n     */\n");
+                out.append("    public static final TemporalAttribute<").append(typeName).append("> ").append(name)
+                    .append(" =\n        new TemporalAttribute<>(").append(typeName).append(".class, ")
+                    .append(constant).append(", ").append(attribute.accessor()).append(");\n");
+            }
+        }
+
+        out.append("\n    private ").append(className).append("() {\n    }\n");
+
+        for (Attribute attribute : attributes) {
+            String name = attribute.name();
+            String constant = constantName(name);
+            out.append("\n    /**\n     * Returns the JPQL path of the {@code ").append(name)
+                .append("} attribute.\n     *\n     * @param alias the entity alias\n")
+                .append("     * @return the path\n     */\n");
+            out.append("    public static TemporalPath ").append(name).append("Path(String alias) {\n")
+                .append("        return TemporalPath.attribute(alias + \".\" + ").append(constant).append(");\n")
+                .append("    }\n");
+
+            out.append("\n    /**\n     * Selects the entities whose {@code ").append(name)
+                .append("} lies in {@code [from, to)}, in ascending order.\n     *\n")
+                .append("     * @param entityManager the entity manager\n")
+                .append("     * @param from the inclusive lower bound\n")
+                .append("     * @param to the exclusive upper bound\n")
+                .append("     * @return the query\n     */\n");
+            out.append("    public static TypedQuery<").append(typeName).append("> ").append(name)
+                .append("Between(EntityManager entityManager,\n            EmbeddableTemporal from, ")
+                .append("EmbeddableTemporal to) {\n");
+            out.append("        TemporalPath path = ").append(name).append("Path(\"e\");\n");
+            out.append("        return entityManager.createQuery(\"SELECT e FROM \" + ENTITY_NAME + \" e WHERE \"\n")
+                .append("            + TemporalPredicates.range(path, from, to) + \" ORDER BY \" ")
+                .append("+ TemporalPredicates.ascending(path),\n            ")
+                .append(typeName).append(".class);\n    }\n");
+
+            if (key != null) {
+                String keyPath = "e." + key.name();
+                out.append("\n    /**\n     * Selects the next page of entities in {@code (").append(name)
+                    .append(", ").append(key.name()).append(")} order, after the last\n")
+                    .append("     * entity of the previous page.\n     *\n")
+                    .append("     * @param entityManager the entity manager\n")
+                    .append("     * @param lastValue the {@code ").append(name)
+                    .append("} of the last entity of the previous page, or null for the first page\n")
+                    .append("     * @param lastKey the {@code ").append(key.name())
+                    .append("} of the last entity of the previous page\n")
+                    .append("     * @param limit the page size\n")
+                    .append("     * @return the query\n     */\n");
+                out.append("    public static TypedQuery<").append(typeName).append("> ").append(name)
+                    .append("After(EntityManager entityManager,\n            EmbeddableTemporal lastValue, ")
+                    .append(key.type()).append(" lastKey, int limit) {\n");
+                out.append("        TemporalPath path = ").append(name).append("Path(\"e\");\n");
+                out.append("        String where = lastValue == null ? \"\"\n")
+                    .append("            : \" WHERE \" + TemporalPredicates.afterKey(path, lastValue, ")
+                    .append(literal(keyPath)).append(", \"lastKey\");\n");
+                out.append("        TypedQuery<").append(typeName)
+                    .append("> query = entityManager.createQuery(\"SELECT e FROM \" + ENTITY_NAME + \" e\" ")
+                    .append("+ where\n            + \" ORDER BY \" + TemporalPredicates.ascending(path) + ")
+                    .append(literal(", " + keyPath + " ASC")).append(", ").append(typeName)
+                    .append(".class);\n");
+                out.append("        if (lastValue != null) {\n")
+                    .append("            query.setParameter(\"lastKey\", lastKey);\n        }\n");
+                out.append("        return query.setMaxResults(limit);\n    }\n");
+            }
+        }
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private void writeReachabilityMetadata() {
+        String directory = processingEnv.getOptions().getOrDefault(NATIVE_IMAGE_DIR_OPTION,
+            DEFAULT_NATIVE_IMAGE_DIR);
+        if (directory.equals("none")) {
+            return;
+        }
+        StringBuilder json = new StringBuilder("[\n");
+        int index = 0;
+        for (String type : reflected) {
+            json.append("  {\n")
+                .append("    \"name\": ").append(literal(type)).append(",\n")
+                .append("    \"allDeclaredConstructors\": true,\n")
+                .append("    \"allDeclaredFields\": true,\n")
+                .append("    \"allDeclaredMethods\": true\n")
+                .append(++index < reflected.size() ? "  },\n" : "  }\n");
+        }
+        json.append("]\n");
+        String path = "META-INF/native-image/" + directory + "/reflect-config.json";
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", path);
+            try (Writer writer = file.openWriter()) {
+                writer.write(json.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Cannot write native-image metadata " + path + ": " + e.getMessage());
+        }
+    }
+
+    static String constantName(String attribute) {
+        StringBuilder constant = new StringBuilder();
+        for (int i = 0; i < attribute.length(); i++) {
+            char c = attribute.charAt(i);
+            if (Character.isUpperCase(c) && i > 0 && !Character.isUpperCase(attribute.charAt(i - 1))) {
+                constant.append('_');
+            }
+            constant.append(Character.toUpperCase(c));
+        }
+        return constant.toString().toUpperCase(Locale.ROOT);
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                literal.append('\\');
+            }
+            literal.append(c);
+        }
+        return literal.append('"').toString();
+    }
+}
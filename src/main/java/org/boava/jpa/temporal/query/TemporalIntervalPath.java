@@ -0,0 +1,53 @@
+package org.boava.jpa.temporal.query;
+
+import java.util.Objects;
+
+/**
+ * The pair of temporal paths addressing the start and end of an interval in a query.
+ *
+ * @param start the path of the inclusive interval start
+ * @param end the path of the exclusive interval end
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public record TemporalIntervalPath(TemporalPath start, TemporalPath end) {
+
+    /**
+     * Creates a new interval path.
+     *
+     * @param start the path of the inclusive interval start
+     * @param end the path of the exclusive interval end
+     * @throws NullPointerException if any path is null
+     */
+    public TemporalIntervalPath {
+        Objects.requireNonNull(start, "Start path cannot be null");
+        Objects.requireNonNull(end, "End path cannot be null");
+    }
+
+    /**
+     * Creates a JPQL path for an embedded {@code TemporalInterval} attribute, e.g. {@code e.validity}.
+     *
+     * @param attributePath the path of the embedded attribute
+     * @return the path addressing its {@code start} and {@code end} components
+     */
+    public static TemporalIntervalPath attribute(String attributePath) {
+        Objects.requireNonNull(attributePath, "Attribute path cannot be null");
+        return new TemporalIntervalPath(
+            TemporalPath.attribute(attributePath + ".start"), TemporalPath.attribute(attributePath + ".end"));
+    }
+
+    /**
+     * Creates a native SQL path from the four column names of an interval.
+     *
+     * @param startSecondsColumn the start seconds column, e.g. {@code start_seconds}
+     * @param startNanosColumn the start nanoseconds column, e.g. {@code start_nanos}
+     * @param endSecondsColumn the end seconds column, e.g. {@code end_seconds}
+     * @param endNanosColumn the end nanoseconds column, e.g. {@code end_nanos}
+     * @return the path addressing all four columns
+     */
+    public static TemporalIntervalPath columns(String startSecondsColumn, String startNanosColumn,
+            String endSecondsColumn, String endNanosColumn) {
+        return new TemporalIntervalPath(TemporalPath.columns(startSecondsColumn, startNanosColumn),
+            TemporalPath.columns(endSecondsColumn, endNanosColumn));
+    }
+}
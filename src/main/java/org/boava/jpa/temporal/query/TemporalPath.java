@@ -0,0 +1,55 @@
+package org.boava.jpa.temporal.query;
+
+import java.util.Objects;
+
+/**
+ * The pair of expressions addressing the seconds and nanoseconds components of a temporal value in a query.
+ * <p>
+ * The same predicate helpers serve JPQL and native SQL: for JPQL the paths are attribute paths such as
+ * {@code e.timestamp.seconds}, for SQL they are column names such as {@code timestamp_seconds}.
+ *
+ * @param seconds the expression addressing the seconds component
+ * @param nanos the expression addressing the nanoseconds component
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public record TemporalPath(String seconds, String nanos) {
+
+    /**
+     * Creates a new path, rejecting blank expressions.
+     *
+     * @param seconds the expression addressing the seconds component
+     * @param nanos the expression addressing the nanoseconds component
+     * @throws NullPointerException if any expression is null
+     * @throws IllegalArgumentException if any expression is blank
+     */
+    public TemporalPath {
+        Objects.requireNonNull(seconds, "Seconds path cannot be null");
+        Objects.requireNonNull(nanos, "Nanos path cannot be null");
+        if (seconds.isBlank() || nanos.isBlank()) {
+            throw new IllegalArgumentException("Temporal paths cannot be blank");
+        }
+    }
+
+    /**
+     * Creates a JPQL path for an embedded {@code EmbeddableTemporal} attribute, e.g. {@code e.timestamp}.
+     *
+     * @param attributePath the path of the embedded attribute
+     * @return the path addressing its {@code seconds} and {@code nanos} components
+     */
+    public static TemporalPath attribute(String attributePath) {
+        Objects.requireNonNull(attributePath, "Attribute path cannot be null");
+        return new TemporalPath(attributePath + ".seconds", attributePath + ".nanos");
+    }
+
+    /**
+     * Creates a native SQL path from the two column names of a temporal value.
+     *
+     * @param secondsColumn the seconds column, e.g. {@code timestamp_seconds}
+     * @param nanosColumn the nanoseconds column, e.g. {@code timestamp_nanos}
+     * @return the path addressing both columns
+     */
+    public static TemporalPath columns(String secondsColumn, String nanosColumn) {
+        return new TemporalPath(secondsColumn, nanosColumn);
+    }
+}
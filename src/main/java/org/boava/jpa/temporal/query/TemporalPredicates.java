@@ -0,0 +1,254 @@
+package org.boava.jpa.temporal.query;
+
+import static org.boava.jpa.temporal.embeddable.EmbeddableTemporal.MAX_NANOS;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.interval.TemporalInterval;
+
+/**
+ * Builders for sargable comparison predicates over the two-column temporal representation.
+ * <p>
+ * A comparison of {@code (seconds, nanos)} pairs is usually written as
+ * {@code s > :s OR (s = :s AND n > :n)}, which most optimizers cannot turn into an index range or a partition
+ * pruning condition. The predicates produced here always start with a plain range condition on the seconds
+ * expression and only refine the boundary second with the nanoseconds expression, e.g.
+ * {@code (s >= 100 AND (s > 100 OR n >= 5))}. When the boundary falls on a whole second the nanoseconds
+ * refinement is omitted altogether.
+ * <p>
+ * Bounds are rendered as numeric literals, so the fragments can be concatenated into JPQL or SQL without
+ * parameter binding. Only the paths are taken verbatim and must not come from untrusted input.
+ * <p>
+ * Interval predicates over a {@link TemporalIntervalPath} follow half-open semantics and combine one predicate on
+ * the start with one on the end, so an index on the start columns and one on the end columns can both be used.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public final class TemporalPredicates {
+
+    private TemporalPredicates() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Creates a predicate matching values at or after the given bound.
+     *
+     * @param path the temporal path
+     * @param bound the inclusive lower bound
+     * @return the predicate
+     */
+    public static String atOrAfter(TemporalPath path, EmbeddableTemporal bound) {
+        check(path, bound);
+        if (bound.getNanos() == 0) {
+            return "%s >= %d".formatted(path.seconds(), bound.getSeconds());
+        }
+        return "(%1$s >= %2$d AND (%1$s > %2$d OR %3$s >= %4$d))"
+            .formatted(path.seconds(), bound.getSeconds(), path.nanos(), bound.getNanos());
+    }
+
+    /**
+     * Creates a predicate matching values strictly after the given bound.
+     *
+     * @param path the temporal path
+     * @param bound the exclusive lower bound
+     * @return the predicate
+     */
+    public static String after(TemporalPath path, EmbeddableTemporal bound) {
+        check(path, bound);
+        if (bound.getNanos() == MAX_NANOS) {
+            return "%s > %d".formatted(path.seconds(), bound.getSeconds());
+        }
+        return "(%1$s >= %2$d AND (%1$s > %2$d OR %3$s > %4$d))"
+            .formatted(path.seconds(), bound.getSeconds(), path.nanos(), bound.getNanos());
+    }
+
+    /**
+     * Creates a predicate matching values strictly before the given bound.
+     *
+     * @param path the temporal path
+     * @param bound the exclusive upper bound
+     * @return the predicate
+     */
+    public static String before(TemporalPath path, EmbeddableTemporal bound) {
+        check(path, bound);
+        if (bound.getNanos() == 0) {
+            return "%s < %d".formatted(path.seconds(), bound.getSeconds());
+        }
+        return "(%1$s <= %2$d AND (%1$s < %2$d OR %3$s < %4$d))"
+            .formatted(path.seconds(), bound.getSeconds(), path.nanos(), bound.getNanos());
+    }
+
+    /**
+     * Creates a predicate matching values at or before the given bound.
+     *
+     * @param path the temporal path
+     * @param bound the inclusive upper bound
+     * @return the predicate
+     */
+    public static String atOrBefore(TemporalPath path, EmbeddableTemporal bound) {
+        check(path, bound);
+        if (bound.getNanos() == MAX_NANOS) {
+            return "%s <= %d".formatted(path.seconds(), bound.getSeconds());
+        }
+        return "(%1$s <= %2$d AND (%1$s < %2$d OR %3$s <= %4$d))"
+            .formatted(path.seconds(), bound.getSeconds(), path.nanos(), bound.getNanos());
+    }
+
+    /**
+     * Creates a keyset pagination predicate matching rows after the given {@code (value, key)} position, for queries
+     * ordered by the temporal path and then by a unique key. The seconds range comes first, so the predicate can
+     * seek an index on {@code (seconds, nanos, key)}.
+     *
+     * @param path the temporal path
+     * @param bound the temporal value of the last row of the previous page
+     * @param keyPath the expression addressing the unique key, e.g. {@code e.id}
+     * @param keyParameter the name of the parameter the caller binds the last key to, without the colon
+     * @return the predicate
+     */
+    public static String afterKey(TemporalPath path, EmbeddableTemporal bound, String keyPath, String keyParameter) {
+        check(path, bound);
+        Objects.requireNonNull(keyPath, "Key path cannot be null");
+        Objects.requireNonNull(keyParameter, "Key parameter cannot be null");
+        return "(%1$s >= %2$d AND (%1$s > %2$d OR %3$s > %4$d OR (%3$s = %4$d AND %5$s > :%6$s)))"
+            .formatted(path.seconds(), bound.getSeconds(), path.nanos(), bound.getNanos(), keyPath, keyParameter);
+    }
+
+    /**
+     * Creates a keyset pagination predicate like {@link #afterKey(TemporalPath, EmbeddableTemporal, String, String)}
+     * for a numeric key, rendering the last key as a literal so no parameter needs to be bound.
+     *
+     * @param path the temporal path
+     * @param bound the temporal value of the last row of the previous page
+     * @param keyPath the expression addressing the unique key, e.g. {@code e.id}
+     * @param lastKey the key of the last row of the previous page
+     * @return the predicate
+     */
+    public static String afterKey(TemporalPath path, EmbeddableTemporal bound, String keyPath, long lastKey) {
+        check(path, bound);
+        Objects.requireNonNull(keyPath, "Key path cannot be null");
+        return "(%1$s >= %2$d AND (%1$s > %2$d OR %3$s > %4$d OR (%3$s = %4$d AND %5$s > %6$d)))"
+            .formatted(path.seconds(), bound.getSeconds(), path.nanos(), bound.getNanos(), keyPath, lastKey);
+    }
+
+    /**
+     * Creates a predicate matching the half-open range {@code [from, to)}.
+     *
+     * @param path the temporal path
+     * @param from the inclusive lower bound
+     * @param to the exclusive upper bound
+     * @return the predicate
+     * @throws IllegalArgumentException if {@code from} is after {@code to}
+     */
+    public static String range(TemporalPath path, EmbeddableTemporal from, EmbeddableTemporal to) {
+        check(path, from);
+        Objects.requireNonNull(to, "Upper bound cannot be null");
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Lower bound %s is after upper bound %s".formatted(from, to));
+        }
+        return atOrAfter(path, from) + " AND " + before(path, to);
+    }
+
+    /**
+     * Creates a predicate matching intervals that contain the given value, i.e. {@code start <= value < end}.
+     *
+     * @param path the interval path
+     * @param value the value
+     * @return the predicate
+     */
+    public static String activeAt(TemporalIntervalPath path, EmbeddableTemporal value) {
+        Objects.requireNonNull(path, "Path cannot be null");
+        return atOrBefore(path.start(), value) + " AND " + after(path.end(), value);
+    }
+
+    /**
+     * Creates a predicate matching intervals that overlap the given one, i.e. {@code start < to AND end > from}.
+     *
+     * @param path the interval path
+     * @param interval the interval to overlap
+     * @return the predicate
+     */
+    public static String overlapping(TemporalIntervalPath path, TemporalInterval interval) {
+        Objects.requireNonNull(path, "Path cannot be null");
+        Objects.requireNonNull(interval, "Interval cannot be null");
+        return before(path.start(), interval.getEnd()) + " AND " + after(path.end(), interval.getStart());
+    }
+
+    /**
+     * Creates a predicate matching intervals that overlap the given one, for tables whose intervals are known to be
+     * at most {@code maxLength} long. The extra, logically redundant lower bound on the start turns the predicate
+     * into a closed range scan of the start index instead of an open-ended one.
+     *
+     * @param path the interval path
+     * @param interval the interval to overlap
+     * @param maxLength the maximum length of the stored intervals
+     * @return the predicate
+     * @throws IllegalArgumentException if maxLength is negative
+     */
+    public static String overlapping(TemporalIntervalPath path, TemporalInterval interval, Duration maxLength) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+        Objects.requireNonNull(maxLength, "Maximum length cannot be null");
+        if (maxLength.isNegative()) {
+            throw new IllegalArgumentException("Maximum length cannot be negative: " + maxLength);
+        }
+        EmbeddableTemporal from = interval.getStart();
+        EmbeddableTemporal earliestStart = new EmbeddableTemporal(
+            Math.subtractExact(from.getSeconds(), maxLength.getSeconds()), from.getNanos() - maxLength.getNano());
+        return after(path.start(), earliestStart) + " AND " + overlapping(path, interval);
+    }
+
+    /**
+     * Creates a predicate matching intervals that cover the given one, i.e. {@code start <= from AND end >= to}.
+     *
+     * @param path the interval path
+     * @param interval the interval to cover
+     * @return the predicate
+     */
+    public static String covering(TemporalIntervalPath path, TemporalInterval interval) {
+        Objects.requireNonNull(path, "Path cannot be null");
+        Objects.requireNonNull(interval, "Interval cannot be null");
+        return atOrBefore(path.start(), interval.getStart()) + " AND " + atOrAfter(path.end(), interval.getEnd());
+    }
+
+    /**
+     * Creates a predicate matching intervals lying within the given one, i.e. {@code start >= from AND end <= to}.
+     *
+     * @param path the interval path
+     * @param interval the enclosing interval
+     * @return the predicate
+     */
+    public static String within(TemporalIntervalPath path, TemporalInterval interval) {
+        Objects.requireNonNull(path, "Path cannot be null");
+        Objects.requireNonNull(interval, "Interval cannot be null");
+        return atOrAfter(path.start(), interval.getStart()) + " AND " + atOrBefore(path.end(), interval.getEnd());
+    }
+
+    /**
+     * Creates an ascending {@code ORDER BY} item list for the path, seconds first.
+     *
+     * @param path the temporal path
+     * @return the order by items, without the {@code ORDER BY} keyword
+     */
+    public static String ascending(TemporalPath path) {
+        Objects.requireNonNull(path, "Path cannot be null");
+        return path.seconds() + " ASC, " + path.nanos() + " ASC";
+    }
+
+    /**
+     * Creates a descending {@code ORDER BY} item list for the path, seconds first.
+     *
+     * @param path the temporal path
+     * @return the order by items, without the {@code ORDER BY} keyword
+     */
+    public static String descending(TemporalPath path) {
+        Objects.requireNonNull(path, "Path cannot be null");
+        return path.seconds() + " DESC, " + path.nanos() + " DESC";
+    }
+
+    private static void check(TemporalPath path, EmbeddableTemporal bound) {
+        Objects.requireNonNull(path, "Path cannot be null");
+        Objects.requireNonNull(bound, "Bound cannot be null");
+    }
+}
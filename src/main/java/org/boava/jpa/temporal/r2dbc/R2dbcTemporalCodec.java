@@ -0,0 +1,104 @@
+package org.boava.jpa.temporal.r2dbc;
+
+import java.util.Objects;
+
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Statement;
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * Reads and binds the two-column {@code (seconds, nanos)} representation with R2DBC, the non-blocking counterpart
+ * of mapping {@link EmbeddableTemporal} as a JPA embeddable.
+ * <p>
+ * The seconds column is read and bound as {@code Long} and the nanoseconds column as {@code Integer}, matching the
+ * {@code BIGINT} and {@code INTEGER} columns of the JPA mapping. A {@code NULL} seconds column reads as a null
+ * value. Values read are checked like in strict hydration mode, since rows may have been written by other
+ * applications.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public final class R2dbcTemporalCodec {
+
+    private R2dbcTemporalCodec() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Reads a temporal value from two named columns.
+     *
+     * @param row the row or out parameters to read from
+     * @param secondsColumn the name of the seconds column
+     * @param nanosColumn the name of the nanoseconds column
+     * @return the value, or null if the seconds column is null
+     * @throws IllegalStateException if the stored nanoseconds are missing or out of range
+     */
+    public static EmbeddableTemporal read(Readable row, String secondsColumn, String nanosColumn) {
+        Objects.requireNonNull(row, "Row cannot be null");
+        Objects.requireNonNull(secondsColumn, "Seconds column cannot be null");
+        Objects.requireNonNull(nanosColumn, "Nanos column cannot be null");
+        return toTemporal(row.get(secondsColumn, Long.class), row.get(nanosColumn, Integer.class), secondsColumn);
+    }
+
+    /**
+     * Reads a temporal value from two adjacent columns, the seconds at the given index followed by the nanoseconds.
+     *
+     * @param row the row or out parameters to read from
+     * @param secondsIndex the zero-based index of the seconds column
+     * @return the value, or null if the seconds column is null
+     * @throws IllegalStateException if the stored nanoseconds are missing or out of range
+     */
+    public static EmbeddableTemporal read(Readable row, int secondsIndex) {
+        Objects.requireNonNull(row, "Row cannot be null");
+        return toTemporal(row.get(secondsIndex, Long.class), row.get(secondsIndex + 1, Integer.class),
+            "column " + secondsIndex);
+    }
+
+    /**
+     * Binds a temporal value to two named parameters, or nulls if the value is null.
+     *
+     * @param statement the statement
+     * @param secondsName the name of the seconds parameter
+     * @param nanosName the name of the nanoseconds parameter
+     * @param value the value, may be null
+     * @return the statement
+     */
+    public static Statement bind(Statement statement, String secondsName, String nanosName,
+            EmbeddableTemporal value) {
+        Objects.requireNonNull(statement, "Statement cannot be null");
+        Objects.requireNonNull(secondsName, "Seconds parameter cannot be null");
+        Objects.requireNonNull(nanosName, "Nanos parameter cannot be null");
+        if (value == null) {
+            return statement.bindNull(secondsName, Long.class).bindNull(nanosName, Integer.class);
+        }
+        return statement.bind(secondsName, value.getSeconds()).bind(nanosName, value.getNanos());
+    }
+
+    /**
+     * Binds a temporal value to two adjacent parameters, the seconds at the given index followed by the
+     * nanoseconds, or nulls if the value is null.
+     *
+     * @param statement the statement
+     * @param secondsIndex the zero-based index of the seconds parameter
+     * @param value the value, may be null
+     * @return the statement
+     */
+    public static Statement bind(Statement statement, int secondsIndex, EmbeddableTemporal value) {
+        Objects.requireNonNull(statement, "Statement cannot be null");
+        if (value == null) {
+            return statement.bindNull(secondsIndex, Long.class).bindNull(secondsIndex + 1, Integer.class);
+        }
+        return statement.bind(secondsIndex, value.getSeconds()).bind(secondsIndex + 1, value.getNanos());
+    }
+
+    private static EmbeddableTemporal toTemporal(Long seconds, Integer nanos, String column) {
+        if (seconds == null) {
+            return null;
+        }
+        if (nanos == null || nanos < 0 || nanos > EmbeddableTemporal.MAX_NANOS) {
+            throw new IllegalStateException("Corrupt stored temporal value in %s: (%d, %s)"
+                .formatted(column, seconds, nanos));
+        }
+        return new EmbeddableTemporal(seconds, nanos);
+    }
+}
@@ -0,0 +1,246 @@
+package org.boava.jpa.temporal.r2dbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Row;
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.query.TemporalPath;
+import org.boava.jpa.temporal.query.TemporalPredicates;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive range and keyset queries over a table with a two-column temporal attribute.
+ * <p>
+ * {@link #range} and {@link #after} page through the table in {@code (seconds, nanos, key)} order with keyset
+ * predicates from {@link TemporalPredicates}, one query and one connection per page. A page is only fetched once
+ * the subscriber has requested the rows of the previous one, so at most about one page is buffered ahead of a
+ * slow subscriber and no connection is held while it processes rows. Each page is limited with the standard
+ * {@code FETCH FIRST n ROWS ONLY} clause, which H2, PostgreSQL, Oracle and DB2 support.
+ * <p>
+ * {@link #stream} instead runs a single query on one connection and relies on the driver's backpressure, which
+ * avoids re-seeking the index per page but keeps the connection for the whole subscription.
+ * <p>
+ * The temporal path and the key must name plain columns returned by the select list, since they are read from the
+ * rows by name. Bounds are rendered as numeric literals, so no bind markers are needed.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class R2dbcTemporalQueries {
+
+    private final ConnectionFactory connectionFactory;
+    private final String table;
+    private final TemporalPath path;
+    private final String keyColumn;
+    private final String selectList;
+    private final int pageSize;
+
+    private R2dbcTemporalQueries(Builder builder) {
+        this.connectionFactory = builder.connectionFactory;
+        this.table = builder.table;
+        this.path = builder.path;
+        this.keyColumn = builder.keyColumn;
+        this.selectList = builder.selectList;
+        this.pageSize = builder.pageSize;
+    }
+
+    /**
+     * Creates a builder.
+     *
+     * @param connectionFactory the connection factory, typically a pool
+     * @param table the table to query
+     * @param path the seconds and nanoseconds columns, e.g. {@code TemporalPath.columns("ts_s", "ts_n")}
+     * @return the builder
+     * @throws NullPointerException if any argument is null
+     */
+    public static Builder builder(ConnectionFactory connectionFactory, String table, TemporalPath path) {
+        return new Builder(connectionFactory, table, path);
+    }
+
+    /**
+     * Streams the rows within the half-open range {@code [from, to)} in temporal order, page by page.
+     *
+     * @param from the inclusive lower bound
+     * @param to the exclusive upper bound
+     * @param mapper maps each row
+     * @param <T> the mapped type
+     * @return the rows
+     * @throws IllegalArgumentException if {@code from} is after {@code to}
+     */
+    public <T> Flux<T> range(EmbeddableTemporal from, EmbeddableTemporal to, TemporalRowMapper<T> mapper) {
+        Objects.requireNonNull(mapper, "Mapper cannot be null");
+        String upper = TemporalPredicates.before(path, to);
+        return pages(TemporalPredicates.range(path, from, to), upper, mapper);
+    }
+
+    /**
+     * Streams the rows after the given {@code (value, key)} position in temporal order, page by page, e.g. to
+     * resume a previous stream.
+     *
+     * @param value the temporal value of the last row already processed
+     * @param key the key of the last row already processed
+     * @param mapper maps each row
+     * @param <T> the mapped type
+     * @return the rows
+     */
+    public <T> Flux<T> after(EmbeddableTemporal value, long key, TemporalRowMapper<T> mapper) {
+        Objects.requireNonNull(mapper, "Mapper cannot be null");
+        return pages(TemporalPredicates.afterKey(path, value, keyColumn, key), null, mapper);
+    }
+
+    /**
+     * Streams the rows within the half-open range {@code [from, to)} in temporal order with a single query, using
+     * the page size as fetch size.
+     *
+     * @param from the inclusive lower bound
+     * @param to the exclusive upper bound
+     * @param mapper maps each row
+     * @param <T> the mapped type
+     * @return the rows
+     * @throws IllegalArgumentException if {@code from} is after {@code to}
+     */
+    public <T> Flux<T> stream(EmbeddableTemporal from, EmbeddableTemporal to, TemporalRowMapper<T> mapper) {
+        Objects.requireNonNull(mapper, "Mapper cannot be null");
+        String sql = "SELECT %s FROM %s WHERE %s ORDER BY %s, %s".formatted(selectList, table,
+            TemporalPredicates.range(path, from, to), TemporalPredicates.ascending(path), keyColumn);
+        return Flux.usingWhen(connectionFactory.create(),
+            connection -> Flux.from(connection.createStatement(sql).fetchSize(pageSize).execute())
+                .concatMap(result -> result.map((row, metadata) -> mapper.map(row, timestamp(row)))),
+            Connection::close);
+    }
+
+    /**
+     * Expands the first page into the following ones, each seeking past the last row of its predecessor.
+     */
+    private <T> Flux<T> pages(String first, String upper, TemporalRowMapper<T> mapper) {
+        return page(first, mapper)
+            .expand(page -> {
+                if (page.rows().size() < pageSize) {
+                    return Mono.empty();
+                }
+                String next = TemporalPredicates.afterKey(path, page.lastValue(), keyColumn, page.lastKey());
+                return page(upper == null ? next : next + " AND " + upper, mapper);
+            })
+            .concatMapIterable(Page::rows, 1);
+    }
+
+    private <T> Mono<Page<T>> page(String predicate, TemporalRowMapper<T> mapper) {
+        String sql = "SELECT %s FROM %s WHERE %s ORDER BY %s, %s FETCH FIRST %d ROWS ONLY".formatted(selectList,
+            table, predicate, TemporalPredicates.ascending(path), keyColumn, pageSize);
+        return Mono.usingWhen(connectionFactory.create(),
+            connection -> Flux.from(connection.createStatement(sql).fetchSize(pageSize).execute())
+                .concatMap(result -> result.map((row, metadata) -> {
+                    EmbeddableTemporal timestamp = timestamp(row);
+                    return new Keyed<>(mapper.map(row, timestamp), timestamp, row.get(keyColumn, Long.class));
+                }))
+                .collect(() -> new Page<T>(new ArrayList<>(pageSize)), Page::add),
+            Connection::close);
+    }
+
+    private EmbeddableTemporal timestamp(Row row) {
+        return R2dbcTemporalCodec.read(row, path.seconds(), path.nanos());
+    }
+
+    private record Keyed<T>(T value, EmbeddableTemporal timestamp, Long key) {}
+
+    /**
+     * The mapped rows of one page and the keyset position of its last row.
+     */
+    private static final class Page<T> {
+        private final List<T> rows;
+        private EmbeddableTemporal lastValue;
+        private long lastKey;
+
+        Page(List<T> rows) {
+            this.rows = rows;
+        }
+
+        void add(Keyed<T> row) {
+            rows.add(row.value());
+            lastValue = row.timestamp();
+            lastKey = Objects.requireNonNull(row.key(), "Key cannot be null");
+        }
+
+        List<T> rows() {
+            return rows;
+        }
+
+        EmbeddableTemporal lastValue() {
+            return lastValue;
+        }
+
+        long lastKey() {
+            return lastKey;
+        }
+    }
+
+    /**
+     * Builder for {@link R2dbcTemporalQueries}.
+     */
+    public static final class Builder {
+
+        private final ConnectionFactory connectionFactory;
+        private final String table;
+        private final TemporalPath path;
+        private String keyColumn = "id";
+        private String selectList = "*";
+        private int pageSize = 1_000;
+
+        private Builder(ConnectionFactory connectionFactory, String table, TemporalPath path) {
+            this.connectionFactory = Objects.requireNonNull(connectionFactory, "Connection factory cannot be null");
+            this.table = Objects.requireNonNull(table, "Table cannot be null");
+            this.path = Objects.requireNonNull(path, "Path cannot be null");
+        }
+
+        /**
+         * Sets the unique numeric key column breaking ties between equal timestamps, {@code id} by default.
+         *
+         * @param keyColumn the key column
+         * @return this builder
+         */
+        public Builder keyColumn(String keyColumn) {
+            this.keyColumn = Objects.requireNonNull(keyColumn, "Key column cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the select list, {@code *} by default. It must include the temporal and key columns.
+         *
+         * @param selectList the comma-separated columns to select
+         * @return this builder
+         */
+        public Builder selectList(String selectList) {
+            this.selectList = Objects.requireNonNull(selectList, "Select list cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the number of rows per page and the fetch size, 1,000 by default.
+         *
+         * @param pageSize the page size
+         * @return this builder
+         * @throws IllegalArgumentException if pageSize is not positive
+         */
+        public Builder pageSize(int pageSize) {
+            if (pageSize <= 0) {
+                throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Creates the queries.
+         *
+         * @return the queries
+         */
+        public R2dbcTemporalQueries build() {
+            return new R2dbcTemporalQueries(this);
+        }
+    }
+}
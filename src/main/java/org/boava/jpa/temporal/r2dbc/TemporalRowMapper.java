@@ -0,0 +1,24 @@
+package org.boava.jpa.temporal.r2dbc;
+
+import io.r2dbc.spi.Row;
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * Maps a row streamed by {@link R2dbcTemporalQueries}, receiving the already decoded temporal value.
+ *
+ * @param <T> the mapped type
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+@FunctionalInterface
+public interface TemporalRowMapper<T> {
+
+    /**
+     * Maps one row. The row is only valid during the call.
+     *
+     * @param row the row
+     * @param timestamp the temporal value of the row
+     * @return the mapped value, not null
+     */
+    T map(Row row, EmbeddableTemporal timestamp);
+}
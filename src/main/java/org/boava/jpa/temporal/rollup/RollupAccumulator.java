@@ -0,0 +1,226 @@
+package org.boava.jpa.temporal.rollup;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * The mergeable aggregate of one bucket: the row count, and the sum, minimum, maximum and optional log2 histogram
+ * of the measure durations, all kept as exact {@code (seconds, nanos)} pairs.
+ * <p>
+ * The histogram is stored sparsely as one index byte and one big-endian count per non-empty bucket, so a bucket
+ * with a narrow duration spread takes a few dozen bytes.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+final class RollupAccumulator {
+
+    /**
+     * The number of log2 histogram buckets.
+     */
+    static final int HISTOGRAM_BUCKETS = 64;
+
+    /**
+     * The largest encoded histogram, in bytes.
+     */
+    static final int MAX_HISTOGRAM_BYTES = HISTOGRAM_BUCKETS * (1 + Long.BYTES);
+
+    /**
+     * The summary columns after the bucket column, in binding order.
+     */
+    static final String COLUMNS = "row_count, sum_seconds, sum_nanos, min_seconds, min_nanos, max_seconds, max_nanos";
+
+    private static final long MAX_EXACT_SECONDS = Long.MAX_VALUE / EmbeddableTemporal.NANOS_PER_SECOND - 1;
+
+    private final long[] histogram;
+    private long count;
+    private boolean measured;
+    private long sumSeconds;
+    private int sumNanos;
+    private long minSeconds;
+    private int minNanos;
+    private long maxSeconds;
+    private int maxNanos;
+
+    RollupAccumulator(boolean histogram) {
+        this.histogram = histogram ? new long[HISTOGRAM_BUCKETS] : null;
+    }
+
+    /**
+     * Counts a row without a measure value.
+     */
+    void addRow() {
+        count++;
+    }
+
+    /**
+     * Counts a row with the given normalized measure duration.
+     */
+    void add(long seconds, int nanos) {
+        count++;
+        if (histogram != null) {
+            histogram[bucketOf(seconds, nanos)]++;
+        }
+        accumulate(seconds, nanos, seconds, nanos, seconds, nanos);
+    }
+
+    /**
+     * Adds the rows of another bucket to this one.
+     */
+    void merge(RollupAccumulator other) {
+        count += other.count;
+        if (histogram != null && other.histogram != null) {
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                histogram[i] += other.histogram[i];
+            }
+        }
+        if (other.measured) {
+            accumulate(other.sumSeconds, other.sumNanos, other.minSeconds, other.minNanos, other.maxSeconds,
+                other.maxNanos);
+        }
+    }
+
+    private void accumulate(long seconds, int nanos, long lowSeconds, int lowNanos, long highSeconds,
+            int highNanos) {
+        if (!measured) {
+            measured = true;
+            sumSeconds = seconds;
+            sumNanos = nanos;
+            minSeconds = lowSeconds;
+            minNanos = lowNanos;
+            maxSeconds = highSeconds;
+            maxNanos = highNanos;
+            return;
+        }
+        int totalNanos = sumNanos + nanos;
+        sumSeconds = Math.addExact(Math.addExact(sumSeconds, seconds),
+            totalNanos >= EmbeddableTemporal.NANOS_PER_SECOND ? 1 : 0);
+        sumNanos = totalNanos >= EmbeddableTemporal.NANOS_PER_SECOND
+            ? totalNanos - EmbeddableTemporal.NANOS_PER_SECOND : totalNanos;
+        if (compare(lowSeconds, lowNanos, minSeconds, minNanos) < 0) {
+            minSeconds = lowSeconds;
+            minNanos = lowNanos;
+        }
+        if (compare(highSeconds, highNanos, maxSeconds, maxNanos) > 0) {
+            maxSeconds = highSeconds;
+            maxNanos = highNanos;
+        }
+    }
+
+    long count() {
+        return count;
+    }
+
+    /**
+     * Reads the summary columns of the current row of a summary table.
+     */
+    static RollupAccumulator read(ResultSet resultSet, boolean histogram) throws SQLException {
+        RollupAccumulator accumulator = new RollupAccumulator(histogram);
+        accumulator.count = resultSet.getLong("row_count");
+        long seconds = resultSet.getLong("sum_seconds");
+        if (!resultSet.wasNull()) {
+            accumulator.measured = true;
+            accumulator.sumSeconds = seconds;
+            accumulator.sumNanos = resultSet.getInt("sum_nanos");
+            accumulator.minSeconds = resultSet.getLong("min_seconds");
+            accumulator.minNanos = resultSet.getInt("min_nanos");
+            accumulator.maxSeconds = resultSet.getLong("max_seconds");
+            accumulator.maxNanos = resultSet.getInt("max_nanos");
+        }
+        if (histogram) {
+            decode(resultSet.getBytes("histogram"), accumulator.histogram);
+        }
+        return accumulator;
+    }
+
+    /**
+     * Binds the summary columns in {@link #COLUMNS} order, followed by the histogram if kept.
+     *
+     * @return the next parameter index
+     */
+    int bind(PreparedStatement statement, int index) throws SQLException {
+        statement.setLong(index++, count);
+        if (measured) {
+            statement.setLong(index++, sumSeconds);
+            statement.setInt(index++, sumNanos);
+            statement.setLong(index++, minSeconds);
+            statement.setInt(index++, minNanos);
+            statement.setLong(index++, maxSeconds);
+            statement.setInt(index++, maxNanos);
+        } else {
+            for (int i = 0; i < 3; i++) {
+                statement.setNull(index++, Types.BIGINT);
+                statement.setNull(index++, Types.INTEGER);
+            }
+        }
+        if (histogram != null) {
+            statement.setBytes(index++, encode(histogram));
+        }
+        return index;
+    }
+
+    RollupSummary toSummary(long rowsRead) {
+        return new RollupSummary(count,
+            measured ? new EmbeddableTemporal(sumSeconds, sumNanos) : null,
+            measured ? new EmbeddableTemporal(minSeconds, minNanos) : null,
+            measured ? new EmbeddableTemporal(maxSeconds, maxNanos) : null,
+            histogram == null ? null : histogram.clone(), rowsRead);
+    }
+
+    /**
+     * Returns the log2 histogram bucket of a normalized duration, saturating at the last bucket.
+     */
+    static int bucketOf(long seconds, int nanos) {
+        if (seconds < 0) {
+            return 0;
+        }
+        if (seconds > MAX_EXACT_SECONDS) {
+            return HISTOGRAM_BUCKETS - 1;
+        }
+        long totalNanos = seconds * EmbeddableTemporal.NANOS_PER_SECOND + nanos;
+        return totalNanos <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(totalNanos);
+    }
+
+    static byte[] encode(long[] histogram) {
+        int buckets = 0;
+        for (long bucketCount : histogram) {
+            if (bucketCount != 0) {
+                buckets++;
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(buckets * (1 + Long.BYTES));
+        for (int i = 0; i < histogram.length; i++) {
+            if (histogram[i] != 0) {
+                buffer.put((byte) i).putLong(histogram[i]);
+            }
+        }
+        return buffer.array();
+    }
+
+    static void decode(byte[] encoded, long[] histogram) {
+        if (encoded == null) {
+            return;
+        }
+        if (encoded.length % (1 + Long.BYTES) != 0) {
+            throw new IllegalStateException("Corrupt rollup histogram of " + encoded.length + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(encoded);
+        while (buffer.hasRemaining()) {
+            int index = buffer.get();
+            if (index < 0 || index >= HISTOGRAM_BUCKETS) {
+                throw new IllegalStateException("Corrupt rollup histogram bucket " + index);
+            }
+            histogram[index] += buffer.getLong();
+        }
+    }
+
+    private static int compare(long seconds, int nanos, long otherSeconds, int otherNanos) {
+        int result = Long.compare(seconds, otherSeconds);
+        return result != 0 ? result : Integer.compare(nanos, otherNanos);
+    }
+}
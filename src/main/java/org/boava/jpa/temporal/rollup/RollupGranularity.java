@@ -0,0 +1,77 @@
+package org.boava.jpa.temporal.rollup;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * The fixed-width UTC buckets maintained by {@link TemporalRollup}, each kept in its own summary table.
+ * <p>
+ * Buckets are aligned to the epoch, so every bucket of a coarser granularity is exactly covered by the buckets of
+ * the finer ones, and is identified by its first epoch second.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public enum RollupGranularity {
+
+    /**
+     * One bucket per UTC minute.
+     */
+    MINUTE(60),
+
+    /**
+     * One bucket per UTC hour.
+     */
+    HOUR(3_600),
+
+    /**
+     * One bucket per UTC day.
+     */
+    DAY(86_400);
+
+    private final long seconds;
+
+    RollupGranularity(long seconds) {
+        this.seconds = seconds;
+    }
+
+    /**
+     * Returns the width of a bucket.
+     *
+     * @return the bucket width in seconds
+     */
+    public long getSeconds() {
+        return seconds;
+    }
+
+    /**
+     * Returns the start of the bucket containing the given epoch second.
+     *
+     * @param epochSecond the epoch second
+     * @return the first epoch second of its bucket
+     */
+    public long bucketOf(long epochSecond) {
+        return Math.floorDiv(epochSecond, seconds) * seconds;
+    }
+
+    /**
+     * Returns whether the given epoch second starts a bucket.
+     *
+     * @param epochSecond the epoch second
+     * @return true if it is aligned to this granularity
+     */
+    public boolean isAligned(long epochSecond) {
+        return Math.floorMod(epochSecond, seconds) == 0;
+    }
+
+    /**
+     * Returns the name of the summary table of this granularity.
+     *
+     * @param prefix the table prefix
+     * @return {@code <prefix>_minute}, {@code <prefix>_hour} or {@code <prefix>_day}
+     */
+    public String tableName(String prefix) {
+        Objects.requireNonNull(prefix, "Prefix cannot be null");
+        return prefix + "_" + name().toLowerCase(Locale.ROOT);
+    }
+}
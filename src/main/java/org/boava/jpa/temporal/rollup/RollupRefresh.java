@@ -0,0 +1,33 @@
+package org.boava.jpa.temporal.rollup;
+
+import java.util.Objects;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * The outcome of one {@link TemporalRollup#refresh()} run.
+ *
+ * @param rows the number of new rows rolled up past the previous high-water mark
+ * @param lateRows the number of rows found behind the high-water mark that arrived since the previous run
+ * @param recomputedMinutes the number of minute buckets recomputed because of late rows
+ * @param highWaterMark the timestamp of the newest rolled-up row, or null if the source is still empty
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public record RollupRefresh(long rows, long lateRows, int recomputedMinutes, EmbeddableTemporal highWaterMark) {
+
+    /**
+     * Returns whether the run changed any summary table.
+     *
+     * @return true if new or late rows were rolled up
+     */
+    public boolean changed() {
+        return rows > 0 || lateRows > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "RollupRefresh{rows=%d, lateRows=%d, recomputedMinutes=%d, highWaterMark=%s}"
+            .formatted(rows, lateRows, recomputedMinutes, Objects.toString(highWaterMark));
+    }
+}
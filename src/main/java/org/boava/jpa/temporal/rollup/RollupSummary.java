@@ -0,0 +1,94 @@
+package org.boava.jpa.temporal.rollup;
+
+import java.util.Arrays;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * The aggregate of the source rows within a range, as returned by {@link TemporalRollup#summarize}.
+ * <p>
+ * The measure statistics are null when the rollup has no measure or no row in the range has a measure value.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public final class RollupSummary {
+
+    private final long count;
+    private final EmbeddableTemporal sum;
+    private final EmbeddableTemporal min;
+    private final EmbeddableTemporal max;
+    private final long[] histogram;
+    private final long rowsRead;
+
+    RollupSummary(long count, EmbeddableTemporal sum, EmbeddableTemporal min, EmbeddableTemporal max,
+            long[] histogram, long rowsRead) {
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        this.histogram = histogram;
+        this.rowsRead = rowsRead;
+    }
+
+    /**
+     * Returns the number of source rows in the range.
+     *
+     * @return the row count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of the measure durations.
+     *
+     * @return the sum, or null if there is no measure value
+     */
+    public EmbeddableTemporal getSum() {
+        return sum;
+    }
+
+    /**
+     * Returns the smallest measure duration.
+     *
+     * @return the minimum, or null if there is no measure value
+     */
+    public EmbeddableTemporal getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the largest measure duration.
+     *
+     * @return the maximum, or null if there is no measure value
+     */
+    public EmbeddableTemporal getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the log2 histogram of the measure durations: bucket {@code i} counts durations of
+     * {@code [2^i, 2^(i+1))} nanoseconds, bucket 0 also those of at most one nanosecond.
+     *
+     * @return a copy of the 64 bucket counts, or null if the rollup keeps no histogram
+     */
+    public long[] getHistogram() {
+        return histogram == null ? null : histogram.clone();
+    }
+
+    /**
+     * Returns the number of rows read to compute this summary, summary rows and raw rows together.
+     *
+     * @return the rows read
+     */
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    @Override
+    public String toString() {
+        return "RollupSummary{count=%d, sum=%s, min=%s, max=%s, histogram=%s, rowsRead=%d}"
+            .formatted(count, sum, min, max, Arrays.toString(histogram), rowsRead);
+    }
+}
@@ -0,0 +1,651 @@
+package org.boava.jpa.temporal.rollup;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.LongFunction;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.interval.TemporalInterval;
+import org.boava.jpa.temporal.query.TemporalPath;
+import org.boava.jpa.temporal.query.TemporalPredicates;
+import org.hibernate.Session;
+import org.hibernate.jdbc.ReturningWork;
+
+/**
+ * Incrementally maintained per-minute, per-hour and per-day summary tables over a table of timestamped rows.
+ * <p>
+ * Each summary table holds one row per non-empty UTC bucket with the row count and, if a measure is configured,
+ * the exact sum, minimum and maximum of a two-column duration, plus an optional log2 histogram of it. A state table
+ * records the high-water mark, i.e. the {@code (seconds, nanos, key)} position of the newest rolled-up row.
+ * {@link #refresh()} pages through the rows after the high-water mark in that order with keyset predicates from
+ * {@link TemporalPredicates}, aggregates each page in memory and merges it into the three tables in one
+ * transaction together with the new high-water mark, so a failed refresh resumes where it stopped.
+ * <p>
+ * Rows arriving with a timestamp at or before the high-water mark are detected through the key: the state also
+ * records the largest key seen, and the key must increase with insertion order, as identity columns and sequences
+ * do. The minutes holding such late rows are recomputed from the source, and their hours and days from the minutes.
+ * Until the next refresh, late rows are missing from {@link #summarize} results.
+ * <p>
+ * {@link #summarize} answers a range from the coarsest buckets that fit into it and reads raw rows only for the
+ * partial minutes at its edges and for the tail after the high-water mark, so its cost depends on the length of
+ * the range in days rather than on the number of rows in it.
+ * <p>
+ * The source should be indexed on {@code (seconds, nanos, key)}. Refreshes must not run concurrently with each
+ * other, e.g. they should be driven by a single scheduled task.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class TemporalRollup {
+
+    private static final RollupGranularity[] LEVELS = RollupGranularity.values();
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final String sourceTable;
+    private final TemporalPath timestamp;
+    private final TemporalPath measure;
+    private final String keyColumn;
+    private final String tablePrefix;
+    private final String histogramType;
+    private final int batchSize;
+
+    private TemporalRollup(Builder builder) {
+        this.entityManagerFactory = builder.entityManagerFactory;
+        this.sourceTable = builder.sourceTable;
+        this.timestamp = builder.timestamp;
+        this.measure = builder.measure;
+        this.keyColumn = builder.keyColumn;
+        this.tablePrefix = builder.tablePrefix != null ? builder.tablePrefix : builder.sourceTable + "_rollup";
+        this.histogramType = builder.histogramType;
+        this.batchSize = builder.batchSize;
+    }
+
+    /**
+     * Creates a builder.
+     *
+     * @param entityManagerFactory the entity manager factory providing the connections
+     * @param sourceTable the table holding the raw rows
+     * @param timestamp the seconds and nanoseconds columns of the row timestamp
+     * @return the builder
+     * @throws NullPointerException if any argument is null
+     */
+    public static Builder builder(EntityManagerFactory entityManagerFactory, String sourceTable,
+            TemporalPath timestamp) {
+        return new Builder(entityManagerFactory, sourceTable, timestamp);
+    }
+
+    /**
+     * Returns the DDL creating the summary tables and the state table.
+     *
+     * @return one {@code CREATE TABLE} statement per table
+     */
+    public List<String> createTableStatements() {
+        List<String> statements = new ArrayList<>();
+        String histogram = histogramType != null ? ", histogram " + histogramType : "";
+        for (RollupGranularity level : LEVELS) {
+            statements.add(("CREATE TABLE %s (bucket_seconds BIGINT NOT NULL PRIMARY KEY, row_count BIGINT NOT NULL, "
+                + "sum_seconds BIGINT, sum_nanos INTEGER, min_seconds BIGINT, min_nanos INTEGER, "
+                + "max_seconds BIGINT, max_nanos INTEGER%s)").formatted(level.tableName(tablePrefix), histogram));
+        }
+        statements.add(("CREATE TABLE %s (id INTEGER NOT NULL PRIMARY KEY, hwm_seconds BIGINT NOT NULL, "
+            + "hwm_nanos INTEGER NOT NULL, hwm_key BIGINT NOT NULL, max_key BIGINT NOT NULL)").formatted(stateTable()));
+        return statements;
+    }
+
+    /**
+     * Brings the summary tables up to date: recomputes the buckets of rows that arrived behind the high-water mark
+     * since the previous refresh, then rolls up the rows after it, one transaction per batch.
+     *
+     * @return what was rolled up
+     */
+    public RollupRefresh refresh() {
+        long[] late = new long[2];
+        Long scanKey = inTransaction(connection -> {
+            Long maxKey = maxSourceKey(connection);
+            State state = readState(connection);
+            if (maxKey != null && state != null) {
+                recomputeLate(connection, state, maxKey, late);
+                writeState(connection, state, new State(state.seconds(), state.nanos(), state.key(), maxKey));
+            }
+            return maxKey;
+        });
+        long rows = 0;
+        if (scanKey != null) {
+            long pageRows;
+            do {
+                pageRows = inTransaction(connection -> rollUpPage(connection, scanKey));
+                rows += pageRows;
+            } while (pageRows == batchSize);
+        }
+        State state = inTransaction(this::readState);
+        return new RollupRefresh(rows, late[0], (int) late[1], state == null ? null : state.position());
+    }
+
+    /**
+     * Recomputes from the source every bucket overlapping the interval, e.g. after rows behind the high-water mark
+     * were updated or deleted.
+     *
+     * @param interval the interval to recompute
+     */
+    public void recompute(TemporalInterval interval) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+        inTransaction(connection -> {
+            State state = readState(connection);
+            if (state != null) {
+                long from = RollupGranularity.MINUTE.bucketOf(interval.getStart().getSeconds());
+                long to = ceilMinute(interval.getEnd());
+                rebuild(connection, state, List.of(new long[] {from, Math.max(from + 60, to)}));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Aggregates the source rows within the half-open interval, reading whole days, hours and minutes from the
+     * summary tables and raw rows only for the partial minutes at both ends and after the high-water mark.
+     *
+     * @param interval the interval to summarize
+     * @return the summary
+     */
+    public RollupSummary summarize(TemporalInterval interval) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+        EmbeddableTemporal from = interval.getStart();
+        EmbeddableTemporal to = interval.getEnd();
+        return inTransaction(connection -> {
+            State state = readState(connection);
+            RollupAccumulator total = new RollupAccumulator(histogramType != null);
+            long rowsRead = 0;
+            long alignedFrom = ceilMinute(from);
+            long alignedTo = RollupGranularity.MINUTE.bucketOf(to.getSeconds());
+            String raw;
+            if (state == null || alignedFrom >= alignedTo) {
+                raw = TemporalPredicates.range(timestamp, from, to);
+            } else {
+                for (Run run : decompose(alignedFrom, alignedTo)) {
+                    rowsRead += readBuckets(connection, run.level(), run.from(), run.to(), total);
+                }
+                EmbeddableTemporal head = new EmbeddableTemporal(alignedFrom, 0);
+                EmbeddableTemporal tail = new EmbeddableTemporal(alignedTo, 0);
+                raw = "(%s) OR (%s) OR (%s AND %s)".formatted(TemporalPredicates.range(timestamp, from, head),
+                    TemporalPredicates.range(timestamp, tail, to), TemporalPredicates.range(timestamp, head, tail),
+                    TemporalPredicates.afterKey(timestamp, state.position(), keyColumn, state.key()));
+            }
+            rowsRead += aggregate(connection, raw, second -> total);
+            return total.toSummary(rowsRead);
+        });
+    }
+
+    /**
+     * Splits the minute-aligned range {@code [from, to)} into runs of the coarsest buckets that fit.
+     */
+    static List<Run> decompose(long from, long to) {
+        List<Run> runs = new ArrayList<>();
+        long position = from;
+        while (position < to) {
+            RollupGranularity level = RollupGranularity.MINUTE;
+            for (int i = LEVELS.length - 1; i > 0; i--) {
+                if (LEVELS[i].isAligned(position) && to - position >= LEVELS[i].getSeconds()) {
+                    level = LEVELS[i];
+                    break;
+                }
+            }
+            long next = position + level.getSeconds();
+            Run last = runs.isEmpty() ? null : runs.get(runs.size() - 1);
+            if (last != null && last.level() == level && last.to() == position) {
+                runs.set(runs.size() - 1, new Run(level, last.from(), next));
+            } else {
+                runs.add(new Run(level, position, next));
+            }
+            position = next;
+        }
+        return runs;
+    }
+
+    /**
+     * Rolls up the next batch of rows after the high-water mark with keys up to the one seen when the refresh
+     * started; newer rows are left to the next refresh, which treats them as late if the mark passed them.
+     */
+    private long rollUpPage(Connection connection, long scanKey) throws SQLException {
+        State state = readState(connection);
+        String predicate = state == null ? timestamp.seconds() + " IS NOT NULL"
+            : TemporalPredicates.afterKey(timestamp, state.position(), keyColumn, state.key());
+        String sql = "SELECT %s, %s, %s%s FROM %s WHERE %s AND %s <= %d ORDER BY %s, %s".formatted(keyColumn,
+            timestamp.seconds(), timestamp.nanos(), measureColumns(), sourceTable, predicate, keyColumn, scanKey,
+            TemporalPredicates.ascending(timestamp), keyColumn);
+        Map<Long, RollupAccumulator> minutes = new TreeMap<>();
+        long rows = 0;
+        long lastSeconds = 0;
+        int lastNanos = 0;
+        long lastKey = 0;
+        try (Statement statement = connection.createStatement()) {
+            statement.setMaxRows(batchSize);
+            statement.setFetchSize(batchSize);
+            try (ResultSet resultSet = statement.executeQuery(sql)) {
+                while (resultSet.next()) {
+                    lastKey = resultSet.getLong(1);
+                    lastSeconds = resultSet.getLong(2);
+                    lastNanos = resultSet.getInt(3);
+                    addMeasure(resultSet, 4, bucket(minutes, RollupGranularity.MINUTE.bucketOf(lastSeconds)));
+                    rows++;
+                }
+            }
+        }
+        if (rows > 0) {
+            // Coarsen before merging, which adds the stored rows to the accumulators
+            List<Map<Long, RollupAccumulator>> levels = new ArrayList<>(List.of(minutes));
+            for (int i = 1; i < LEVELS.length; i++) {
+                levels.add(coarsen(levels.get(i - 1), LEVELS[i]));
+            }
+            for (int i = 0; i < LEVELS.length; i++) {
+                merge(connection, LEVELS[i], levels.get(i));
+            }
+            writeState(connection, state, new State(lastSeconds, lastNanos, lastKey, scanKey));
+        }
+        return rows;
+    }
+
+    /**
+     * Recomputes the minutes holding rows that arrived since the previous refresh at or before the high-water mark.
+     */
+    private void recomputeLate(Connection connection, State state, long scanKey, long[] late) throws SQLException {
+        String sql = "SELECT %s FROM %s WHERE %s > %d AND %s <= %d AND NOT %s".formatted(timestamp.seconds(),
+            sourceTable, keyColumn, state.maxKey(), keyColumn, scanKey,
+            TemporalPredicates.afterKey(timestamp, state.position(), keyColumn, state.key()));
+        TreeSet<Long> minutes = new TreeSet<>();
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                minutes.add(RollupGranularity.MINUTE.bucketOf(resultSet.getLong(1)));
+                late[0]++;
+            }
+        }
+        if (!minutes.isEmpty()) {
+            List<long[]> runs = new ArrayList<>();
+            for (long minute : minutes) {
+                addRun(runs, minute, minute + RollupGranularity.MINUTE.getSeconds());
+            }
+            rebuild(connection, state, runs);
+            late[1] = minutes.size();
+        }
+    }
+
+    /**
+     * Replaces the minutes of the given runs with aggregates of the source rows up to the high-water mark, then
+     * the enclosing hours and days with aggregates of the next finer level.
+     */
+    private void rebuild(Connection connection, State state, List<long[]> minuteRuns) throws SQLException {
+        String rolledUp = "NOT " + TemporalPredicates.afterKey(timestamp, state.position(), keyColumn, state.key());
+        for (long[] run : minuteRuns) {
+            Map<Long, RollupAccumulator> minutes = new TreeMap<>();
+            String predicate = TemporalPredicates.range(timestamp, new EmbeddableTemporal(run[0], 0),
+                new EmbeddableTemporal(run[1], 0)) + " AND " + rolledUp;
+            aggregate(connection, predicate, second -> bucket(minutes, RollupGranularity.MINUTE.bucketOf(second)));
+            replace(connection, RollupGranularity.MINUTE, run[0], run[1], minutes);
+        }
+        List<long[]> runs = minuteRuns;
+        for (int i = 1; i < LEVELS.length; i++) {
+            RollupGranularity level = LEVELS[i];
+            List<long[]> widened = new ArrayList<>();
+            for (long[] run : runs) {
+                addRun(widened, level.bucketOf(run[0]), level.bucketOf(run[1] - 1) + level.getSeconds());
+            }
+            for (long[] run : widened) {
+                Map<Long, RollupAccumulator> buckets = new TreeMap<>();
+                String sql = "SELECT * FROM %s WHERE bucket_seconds >= ? AND bucket_seconds < ?"
+                    .formatted(LEVELS[i - 1].tableName(tablePrefix));
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    statement.setLong(1, run[0]);
+                    statement.setLong(2, run[1]);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            bucket(buckets, level.bucketOf(resultSet.getLong("bucket_seconds")))
+                                .merge(RollupAccumulator.read(resultSet, histogramType != null));
+                        }
+                    }
+                }
+                replace(connection, level, run[0], run[1], buckets);
+            }
+            runs = widened;
+        }
+    }
+
+    /**
+     * Adds the rows of the given buckets to the stored ones, updating existing rows and inserting new ones.
+     */
+    private void merge(Connection connection, RollupGranularity level, Map<Long, RollupAccumulator> buckets)
+            throws SQLException {
+        String table = level.tableName(tablePrefix);
+        TreeMap<Long, RollupAccumulator> sorted = new TreeMap<>(buckets);
+        List<Long> existing = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT * FROM " + table + " WHERE bucket_seconds >= ? AND bucket_seconds <= ?")) {
+            statement.setLong(1, sorted.firstKey());
+            statement.setLong(2, sorted.lastKey());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    RollupAccumulator accumulator = sorted.get(resultSet.getLong("bucket_seconds"));
+                    if (accumulator != null) {
+                        accumulator.merge(RollupAccumulator.read(resultSet, histogramType != null));
+                        existing.add(resultSet.getLong("bucket_seconds"));
+                    }
+                }
+            }
+        }
+        String assignments = (RollupAccumulator.COLUMNS + histogramColumn()).replace(",", " = ?,") + " = ?";
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE " + table + " SET " + assignments + " WHERE bucket_seconds = ?")) {
+            for (Long bucket : existing) {
+                int index = sorted.remove(bucket).bind(update, 1);
+                update.setLong(index, bucket);
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+        insert(connection, table, sorted);
+    }
+
+    /**
+     * Replaces the stored buckets within {@code [from, to)} with the given ones.
+     */
+    private void replace(Connection connection, RollupGranularity level, long from, long to,
+            Map<Long, RollupAccumulator> buckets) throws SQLException {
+        String table = level.tableName(tablePrefix);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "DELETE FROM " + table + " WHERE bucket_seconds >= ? AND bucket_seconds < ?")) {
+            statement.setLong(1, from);
+            statement.setLong(2, to);
+            statement.executeUpdate();
+        }
+        insert(connection, table, buckets);
+    }
+
+    private void insert(Connection connection, String table, Map<Long, RollupAccumulator> buckets)
+            throws SQLException {
+        if (buckets.isEmpty()) {
+            return;
+        }
+        String columns = RollupAccumulator.COLUMNS + histogramColumn();
+        String markers = "?" + ", ?".repeat(columns.split(",").length);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO %s (bucket_seconds, %s) VALUES (%s)".formatted(table, columns, markers))) {
+            for (Map.Entry<Long, RollupAccumulator> entry : buckets.entrySet()) {
+                statement.setLong(1, entry.getKey());
+                entry.getValue().bind(statement, 2);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private long readBuckets(Connection connection, RollupGranularity level, long from, long to,
+            RollupAccumulator total) throws SQLException {
+        long rows = 0;
+        String sql = "SELECT * FROM %s WHERE bucket_seconds >= ? AND bucket_seconds < ?"
+            .formatted(level.tableName(tablePrefix));
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, from);
+            statement.setLong(2, to);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    total.merge(RollupAccumulator.read(resultSet, histogramType != null));
+                    rows++;
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Adds the source rows matching the predicate to the accumulators chosen by their epoch second.
+     *
+     * @return the number of rows read
+     */
+    private long aggregate(Connection connection, String predicate, LongFunction<RollupAccumulator> target)
+            throws SQLException {
+        String sql = "SELECT %s%s FROM %s WHERE %s".formatted(timestamp.seconds(), measureColumns(), sourceTable,
+            predicate);
+        long rows = 0;
+        try (Statement statement = connection.createStatement()) {
+            statement.setFetchSize(batchSize);
+            try (ResultSet resultSet = statement.executeQuery(sql)) {
+                while (resultSet.next()) {
+                    addMeasure(resultSet, 2, target.apply(resultSet.getLong(1)));
+                    rows++;
+                }
+            }
+        }
+        return rows;
+    }
+
+    private void addMeasure(ResultSet resultSet, int index, RollupAccumulator accumulator) throws SQLException {
+        if (measure == null) {
+            accumulator.addRow();
+            return;
+        }
+        long seconds = resultSet.getLong(index);
+        if (resultSet.wasNull()) {
+            accumulator.addRow();
+        } else {
+            accumulator.add(seconds, resultSet.getInt(index + 1));
+        }
+    }
+
+    private Map<Long, RollupAccumulator> coarsen(Map<Long, RollupAccumulator> buckets, RollupGranularity level) {
+        Map<Long, RollupAccumulator> coarser = new TreeMap<>();
+        for (Map.Entry<Long, RollupAccumulator> entry : buckets.entrySet()) {
+            bucket(coarser, level.bucketOf(entry.getKey())).merge(entry.getValue());
+        }
+        return coarser;
+    }
+
+    private RollupAccumulator bucket(Map<Long, RollupAccumulator> buckets, long start) {
+        return buckets.computeIfAbsent(start, key -> new RollupAccumulator(histogramType != null));
+    }
+
+    private Long maxSourceKey(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(
+                    "SELECT MAX(%s) FROM %s".formatted(keyColumn, sourceTable))) {
+            resultSet.next();
+            long key = resultSet.getLong(1);
+            return resultSet.wasNull() ? null : key;
+        }
+    }
+
+    private State readState(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(
+                    "SELECT hwm_seconds, hwm_nanos, hwm_key, max_key FROM " + stateTable() + " WHERE id = 1")) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            return new State(resultSet.getLong(1), resultSet.getInt(2), resultSet.getLong(3), resultSet.getLong(4));
+        }
+    }
+
+    private void writeState(Connection connection, State previous, State state) throws SQLException {
+        String sql = previous != null
+            ? "UPDATE " + stateTable() + " SET hwm_seconds = ?, hwm_nanos = ?, hwm_key = ?, max_key = ? WHERE id = 1"
+            : "INSERT INTO " + stateTable() + " (hwm_seconds, hwm_nanos, hwm_key, max_key, id) VALUES (?, ?, ?, ?, 1)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, state.seconds());
+            statement.setInt(2, state.nanos());
+            statement.setLong(3, state.key());
+            statement.setLong(4, state.maxKey());
+            statement.executeUpdate();
+        }
+    }
+
+    private <T> T inTransaction(ReturningWork<T> work) {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            EntityTransaction transaction = em.getTransaction();
+            try {
+                transaction.begin();
+                T result = em.unwrap(Session.class).doReturningWork(work);
+                transaction.commit();
+                return result;
+            } finally {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+            }
+        } finally {
+            em.close();
+        }
+    }
+
+    private String measureColumns() {
+        return measure == null ? "" : ", " + measure.seconds() + ", " + measure.nanos();
+    }
+
+    private String histogramColumn() {
+        return histogramType == null ? "" : ", histogram";
+    }
+
+    private String stateTable() {
+        return tablePrefix + "_state";
+    }
+
+    private static long ceilMinute(EmbeddableTemporal value) {
+        long minute = RollupGranularity.MINUTE.bucketOf(value.getSeconds());
+        return minute == value.getSeconds() && value.getNanos() == 0
+            ? minute : minute + RollupGranularity.MINUTE.getSeconds();
+    }
+
+    /**
+     * Appends {@code [from, to)} to the sorted runs, extending the last run if they touch.
+     */
+    private static void addRun(List<long[]> runs, long from, long to) {
+        long[] last = runs.isEmpty() ? null : runs.get(runs.size() - 1);
+        if (last != null && from <= last[1]) {
+            last[1] = Math.max(last[1], to);
+        } else {
+            runs.add(new long[] {from, to});
+        }
+    }
+
+    /**
+     * A run of consecutive buckets of one granularity covering {@code [from, to)}.
+     */
+    record Run(RollupGranularity level, long from, long to) {}
+
+    /**
+     * The high-water mark and the largest key seen by the refreshes.
+     */
+    private record State(long seconds, int nanos, long key, long maxKey) {
+        EmbeddableTemporal position() {
+            return new EmbeddableTemporal(seconds, nanos);
+        }
+    }
+
+    /**
+     * Builder for {@link TemporalRollup}.
+     */
+    public static final class Builder {
+
+        private final EntityManagerFactory entityManagerFactory;
+        private final String sourceTable;
+        private final TemporalPath timestamp;
+        private TemporalPath measure;
+        private String keyColumn = "id";
+        private String tablePrefix;
+        private String histogramType;
+        private int batchSize = 10_000;
+
+        private Builder(EntityManagerFactory entityManagerFactory, String sourceTable, TemporalPath timestamp) {
+            this.entityManagerFactory = Objects.requireNonNull(entityManagerFactory,
+                "Entity manager factory cannot be null");
+            this.sourceTable = Objects.requireNonNull(sourceTable, "Source table cannot be null");
+            this.timestamp = Objects.requireNonNull(timestamp, "Timestamp path cannot be null");
+        }
+
+        /**
+         * Sets the seconds and nanoseconds columns of the duration to sum, minimize and maximize, none by default.
+         *
+         * @param measure the duration columns
+         * @return this builder
+         */
+        public Builder measure(TemporalPath measure) {
+            this.measure = Objects.requireNonNull(measure, "Measure path cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the unique numeric key column, {@code id} by default. It breaks ties between equal timestamps and
+         * must increase with insertion order for late rows to be detected.
+         *
+         * @param keyColumn the key column
+         * @return this builder
+         */
+        public Builder keyColumn(String keyColumn) {
+            this.keyColumn = Objects.requireNonNull(keyColumn, "Key column cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the prefix of the summary and state table names, the source table name followed by {@code _rollup}
+         * by default.
+         *
+         * @param tablePrefix the table prefix
+         * @return this builder
+         */
+        public Builder tablePrefix(String tablePrefix) {
+            this.tablePrefix = Objects.requireNonNull(tablePrefix, "Table prefix cannot be null");
+            return this;
+        }
+
+        /**
+         * Keeps a log2 histogram of the measure durations in a binary column of the given type, e.g.
+         * {@code VARBINARY(576)} or {@code BYTEA}, none by default. The encoded histogram takes at most
+         * {@value RollupAccumulator#MAX_HISTOGRAM_BYTES} bytes.
+         *
+         * @param sqlType the column type
+         * @return this builder
+         */
+        public Builder histogram(String sqlType) {
+            this.histogramType = Objects.requireNonNull(sqlType, "Histogram type cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the number of rows rolled up per transaction, 10,000 by default.
+         *
+         * @param batchSize the batch size
+         * @return this builder
+         * @throws IllegalArgumentException if batchSize is not positive
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Creates the rollup.
+         *
+         * @return the rollup
+         * @throws IllegalStateException if a histogram is requested without a measure
+         */
+        public TemporalRollup build() {
+            if (histogramType != null && measure == null) {
+                throw new IllegalStateException("A histogram requires a measure");
+            }
+            return new TemporalRollup(this);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package org.boava.jpa.temporal.schedule;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * A hierarchical timing wheel holding values until their due time.
+ * <p>
+ * Time is divided into ticks of a configurable width, down to a single nanosecond, counted from the wheel's
+ * origin. The wheel has eleven levels of 64 slots: level {@code L} slot {@code i} holds the values whose tick
+ * shares every bit above level {@code L} with the current tick and has {@code i} as its level-{@code L} digit.
+ * Adding a value is a constant-time push onto one slot. When the current tick enters a higher-level slot, its
+ * values cascade down to the lower levels, so each value moves at most once per level. A bitmap of occupied
+ * slots per level lets {@link #advance} jump straight to the next occupied slot instead of stepping through
+ * empty ticks.
+ * <p>
+ * Due times keep their full precision: a value whose tick has been reached but whose exact due time lies later
+ * in the same tick stays in the wheel until it is due. Values due before the origin or before the current time
+ * are delivered on the next advance. Values sharing a tick are delivered in no particular order. Values due so far
+ * after the origin that their distance does not fit in a long of nanoseconds, about 292 years, all share the last
+ * representable tick and are treated as never due by {@link #nanosUntilNext}.
+ * <p>
+ * This class is not thread-safe; it is meant to be owned by a single polling thread.
+ *
+ * @param <T> the type of the scheduled values
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+
+    private static final class Node<T> {
+        final long seconds;
+        final int nanos;
+        final long tick;
+        final T value;
+        Node<T> next;
+
+        Node(long seconds, int nanos, long tick, T value) {
+            this.seconds = seconds;
+            this.nanos = nanos;
+            this.tick = tick;
+            this.value = value;
+        }
+    }
+
+    private final long originSeconds;
+    private final int originNanos;
+    private final long tickNanos;
+    private final long lastTick;
+
+    private final Node<T>[] slots;
+    private final long[] occupied = new long[LEVELS];
+    private long currentTick;
+    private int nextLevel;
+    private int size;
+    private int beyondRange;
+
+    /**
+     * Creates an empty wheel.
+     *
+     * @param origin the time of tick zero, usually the current time
+     * @param tick the width of a tick, at least one nanosecond
+     * @throws NullPointerException if origin or tick is null
+     * @throws IllegalArgumentException if tick is shorter than one nanosecond or does not fit in a long of nanoseconds
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(EmbeddableTemporal origin, Duration tick) {
+        Objects.requireNonNull(origin, "Origin cannot be null");
+        Objects.requireNonNull(tick, "Tick cannot be null");
+        if (tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("Tick must be positive: " + tick);
+        }
+        try {
+            this.tickNanos = tick.toNanos();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Tick is too long: " + tick, e);
+        }
+        this.originSeconds = origin.getSeconds();
+        this.originNanos = origin.getNanos();
+        this.lastTick = Long.MAX_VALUE / tickNanos;
+        this.slots = (Node<T>[]) new Node<?>[LEVELS * SLOTS];
+    }
+
+    /**
+     * Returns the number of values in the wheel.
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the wheel holds no values.
+     *
+     * @return true if the wheel is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds a value due at the given time.
+     *
+     * @param due the due time
+     * @param value the value
+     * @throws NullPointerException if due is null
+     */
+    public void add(EmbeddableTemporal due, T value) {
+        Objects.requireNonNull(due, "Due time cannot be null");
+        add(due.getSeconds(), due.getNanos(), value);
+    }
+
+    /**
+     * Adds a value due at the given time.
+     *
+     * @param seconds the seconds of the due time
+     * @param nanos the nanoseconds of the due time, 0..999,999,999
+     * @param value the value
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public void add(long seconds, int nanos, T value) {
+        if (nanos < 0 || nanos > EmbeddableTemporal.MAX_NANOS) {
+            throw new IllegalArgumentException("Nanos must be within 0..999,999,999: " + nanos);
+        }
+        long tick = tickOf(seconds, nanos);
+        insert(new Node<>(seconds, nanos, tick, value));
+        size++;
+        if (tick == lastTick) {
+            beyondRange++;
+        }
+    }
+
+    /**
+     * Moves the wheel forward to the given time and delivers every value due at or before it, in tick order.
+     * <p>
+     * If the consumer throws, the value being delivered is lost and the remaining due values stay in the wheel
+     * for the next advance.
+     *
+     * @param seconds the seconds of the current time
+     * @param nanos the nanoseconds of the current time, 0..999,999,999
+     * @param consumer receives the due values
+     * @return the number of delivered values
+     * @throws NullPointerException if consumer is null
+     */
+    public int advance(long seconds, int nanos, Consumer<? super T> consumer) {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        long nowTick = tickOf(seconds, nanos);
+        int delivered = 0;
+        while (true) {
+            long next = nextTick();
+            if (next > nowTick) {
+                currentTick = Math.max(currentTick, nowTick);
+                return delivered;
+            }
+            currentTick = next;
+            int level = nextLevel;
+            int index = level * SLOTS + (int) ((next >>> (level * SLOT_BITS)) & SLOT_MASK);
+            Node<T> node = slots[index];
+            slots[index] = null;
+            occupied[level] &= ~(1L << (index & SLOT_MASK));
+            if (level > 0) {
+                while (node != null) {
+                    Node<T> following = node.next;
+                    insert(node);
+                    node = following;
+                }
+                continue;
+            }
+            boolean pending = false;
+            try {
+                while (node != null) {
+                    Node<T> candidate = node;
+                    node = candidate.next;
+                    if (isDue(candidate, seconds, nanos)) {
+                        size--;
+                        if (candidate.tick == lastTick) {
+                            beyondRange--;
+                        }
+                        delivered++;
+                        consumer.accept(candidate.value);
+                    } else {
+                        insert(candidate);
+                        pending = true;
+                    }
+                }
+            } finally {
+                while (node != null) {
+                    Node<T> following = node.next;
+                    insert(node);
+                    node = following;
+                }
+            }
+            if (pending) {
+                // Only values due later within the current tick are left, everything else lies in later ticks
+                return delivered;
+            }
+        }
+    }
+
+    /**
+     * Returns a lower bound of the time until the next value may become due.
+     * <p>
+     * The bound is the start of the next occupied slot. For a value on a higher level this is the start of its
+     * coarse slot; advancing to that time cascades it down, after which the bound tightens. A poller sleeping for
+     * this long therefore never oversleeps a due value and wakes at most once per level before it.
+     *
+     * @param seconds the seconds of the current time
+     * @param nanos the nanoseconds of the current time, 0..999,999,999
+     * @return the nanoseconds until the next occupied slot, 0 if a value may already be due, or
+     * {@link Long#MAX_VALUE} if the wheel is empty or only holds values due beyond the representable range
+     */
+    public long nanosUntilNext(long seconds, int nanos) {
+        if (size == beyondRange) {
+            return Long.MAX_VALUE;
+        }
+        long next = nextTick();
+        long now = nanosSinceOrigin(seconds, nanos);
+        if (next > (Long.MAX_VALUE - 1) / tickNanos) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0L, next * tickNanos - now);
+    }
+
+    /**
+     * Removes every value from the wheel regardless of its due time.
+     *
+     * @param consumer receives the removed values
+     * @return the number of removed values
+     * @throws NullPointerException if consumer is null
+     */
+    public int drain(Consumer<? super T> consumer) {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        int drained = 0;
+        for (int index = 0; index < slots.length; index++) {
+            Node<T> node = slots[index];
+            slots[index] = null;
+            for (; node != null; node = node.next) {
+                drained++;
+                size--;
+                consumer.accept(node.value);
+            }
+        }
+        Arrays.fill(occupied, 0L);
+        beyondRange = 0;
+        return drained;
+    }
+
+    private static boolean isDue(Node<?> node, long seconds, int nanos) {
+        return node.seconds != seconds ? node.seconds < seconds : node.nanos <= nanos;
+    }
+
+    private void insert(Node<T> node) {
+        long tick = node.tick;
+        int level;
+        int slot;
+        if (tick <= currentTick) {
+            level = 0;
+            slot = (int) (currentTick & SLOT_MASK);
+        } else {
+            level = (63 - Long.numberOfLeadingZeros(tick ^ currentTick)) / SLOT_BITS;
+            slot = (int) ((tick >>> (level * SLOT_BITS)) & SLOT_MASK);
+        }
+        int index = level * SLOTS + slot;
+        node.next = slots[index];
+        slots[index] = node;
+        occupied[level] |= 1L << slot;
+    }
+
+    /**
+     * Returns the first tick of the earliest occupied slot and stores its level in {@link #nextLevel}.
+     * Level-0 slots precede every occupied higher-level slot, and so on upwards, so the first level with an
+     * occupied slot at or after the current position holds the answer.
+     */
+    private long nextTick() {
+        long candidates = occupied[0] & (-1L << (currentTick & SLOT_MASK));
+        if (candidates != 0) {
+            nextLevel = 0;
+            return (currentTick & ~(long) SLOT_MASK) | Long.numberOfTrailingZeros(candidates);
+        }
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = level * SLOT_BITS;
+            int digit = (int) ((currentTick >>> shift) & SLOT_MASK);
+            candidates = digit == SLOT_MASK ? 0L : occupied[level] & (-1L << (digit + 1));
+            if (candidates != 0) {
+                nextLevel = level;
+                int parentShift = shift + SLOT_BITS;
+                long prefix = parentShift >= Long.SIZE ? 0L : (currentTick >>> parentShift) << parentShift;
+                return prefix | ((long) Long.numberOfTrailingZeros(candidates) << shift);
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private long tickOf(long seconds, int nanos) {
+        return nanosSinceOrigin(seconds, nanos) / tickNanos;
+    }
+
+    /**
+     * Returns the nanoseconds elapsed since the origin, clamped to 0..Long.MAX_VALUE.
+     */
+    private long nanosSinceOrigin(long seconds, int nanos) {
+        if (seconds < originSeconds) {
+            return 0L;
+        }
+        // The subtraction overflows to a negative value for due times far in the future
+        long deltaSeconds = seconds - originSeconds;
+        if (deltaSeconds < 0 || deltaSeconds >= Long.MAX_VALUE / EmbeddableTemporal.NANOS_PER_SECOND) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0L, deltaSeconds * EmbeddableTemporal.NANOS_PER_SECOND + (nanos - originNanos));
+    }
+}
@@ -0,0 +1,19 @@
+package org.boava.jpa.temporal.schedule;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * A persisted job with a due time, as dispatched by {@link TemporalDueQueue}.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public interface ScheduledEntity {
+
+    /**
+     * Returns the time at which the job becomes due.
+     *
+     * @return the due time
+     */
+    EmbeddableTemporal getDue();
+}
@@ -0,0 +1,569 @@
+package org.boava.jpa.temporal.schedule;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.EntityType;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.query.TemporalPath;
+import org.boava.jpa.temporal.query.TemporalPredicates;
+
+/**
+ * Dispatches persisted jobs when their due time arrives, without polling the database for every tick.
+ * <p>
+ * A single poller thread periodically claims the unclaimed jobs due within the lookahead window, in due order,
+ * by writing the queue's owner name into the owner column. The claim query takes row locks with
+ * {@code SKIP LOCKED} on databases that support it, so several queues sharing a table never wait for each other and
+ * never claim the same job. Claimed jobs are held in a {@link HierarchicalTimingWheel} and handed to the executor
+ * the moment they become due, independently of the claim interval.
+ * <p>
+ * A job whose handler returns normally is deleted; a job whose handler throws is released for a later claim.
+ * Completions are applied in batches by the poller, one transaction per batch. When the queue is closed, the jobs
+ * still held in the wheel are released. A queue started with the same owner name as a crashed predecessor first
+ * releases all jobs still claimed under that name, so they are claimed again in due order. Jobs claimed under a
+ * generated owner name have no such successor and stay claimed forever if the process crashes, so production
+ * queues should set a stable {@linkplain Builder#owner(String) owner name}.
+ * <p>
+ * Jobs inserted with a due time inside the current lookahead window are picked up by the next claim, so their
+ * dispatch may be delayed by up to the poll interval.
+ *
+ * @param <E> the entity type
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class TemporalDueQueue<E extends ScheduledEntity> implements AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(TemporalDueQueue.class.getName());
+    private static final String ALIAS = "e";
+    private static final String LOCK_TIMEOUT_HINT = "jakarta.persistence.lock.timeout";
+    /** Lock timeout Hibernate renders as {@code SKIP LOCKED} where the dialect supports it. */
+    private static final int SKIP_LOCKED_TIMEOUT = -2;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final Class<E> entityType;
+    private final Consumer<? super E> handler;
+    private final String owner;
+    private final Executor executor;
+    private final Clock clock;
+    private final Duration lookahead;
+    private final Duration pollInterval;
+    private final Duration tick;
+    private final int batchSize;
+    private final int capacity;
+    private final boolean skipLocked;
+
+    private final TemporalPath dueAttribute;
+    private final String dueOrder;
+    private final String claimQuery;
+    private final String releaseOwnedQuery;
+    private final String markQuery;
+    private final String deleteQuery;
+    private final String releaseQuery;
+
+    private final Object completionLock = new Object();
+    private List<Object> completed = new ArrayList<>();
+    private List<Object> failed = new ArrayList<>();
+    private boolean stopped;
+
+    private volatile boolean running;
+    private Thread poller;
+    private HierarchicalTimingWheel<E> wheel;
+
+    private TemporalDueQueue(Builder<E> builder) {
+        this.entityManagerFactory = builder.entityManagerFactory;
+        this.entityType = builder.entityType;
+        this.handler = builder.handler;
+        this.owner = builder.owner != null ? builder.owner : "due-queue-" + UUID.randomUUID();
+        this.executor = builder.executor;
+        this.clock = builder.clock;
+        this.lookahead = builder.lookahead;
+        this.pollInterval = builder.pollInterval;
+        this.tick = builder.tick;
+        this.batchSize = builder.batchSize;
+        this.capacity = builder.capacity;
+        this.skipLocked = builder.skipLocked;
+
+        EntityType<E> entity = entityManagerFactory.getMetamodel().entity(entityType);
+        String target = " " + entity.getName() + " " + ALIAS;
+        String id = ALIAS + "." + entity.getId(entity.getIdType().getJavaType()).getName();
+        String ownerPath = ALIAS + "." + builder.ownerAttribute;
+        TemporalPath due = TemporalPath.attribute(ALIAS + "." + builder.dueAttribute);
+        String order = " ORDER BY " + TemporalPredicates.ascending(due);
+        this.claimQuery = "SELECT " + ALIAS + " FROM" + target + " WHERE " + ownerPath + " IS NULL AND ";
+        this.releaseOwnedQuery = "UPDATE" + target + " SET " + ownerPath + " = NULL WHERE " + ownerPath + " = :owner";
+        this.markQuery = "UPDATE" + target + " SET " + ownerPath + " = :owner WHERE " + id + " IN :ids";
+        this.deleteQuery = "DELETE FROM" + target + " WHERE " + id + " IN :ids AND " + ownerPath + " = :owner";
+        this.releaseQuery = "UPDATE" + target + " SET " + ownerPath + " = NULL WHERE " + id + " IN :ids AND "
+            + ownerPath + " = :owner";
+        this.dueOrder = order;
+        this.dueAttribute = due;
+    }
+
+    /**
+     * Creates a builder for a queue dispatching jobs of the given entity type.
+     *
+     * @param <E> the entity type
+     * @param entityManagerFactory the factory of the persistence unit holding the jobs
+     * @param entityType the entity type
+     * @param handler runs a due job; returning normally completes and deletes it, throwing releases it
+     * @return a new builder
+     * @throws NullPointerException if any argument is null
+     */
+    public static <E extends ScheduledEntity> Builder<E> builder(EntityManagerFactory entityManagerFactory,
+            Class<E> entityType, Consumer<? super E> handler) {
+        return new Builder<>(entityManagerFactory, entityType, handler);
+    }
+
+    /**
+     * Returns the name written into the owner column of the jobs claimed by this queue.
+     *
+     * @return the owner name
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Releases the jobs left claimed under this owner name by a previous incarnation, then starts the poller thread.
+     *
+     * @throws IllegalStateException if the queue has already been started
+     */
+    public synchronized void start() {
+        if (poller != null) {
+            throw new IllegalStateException("Queue has already been started: " + owner);
+        }
+        releaseOwned();
+        wheel = new HierarchicalTimingWheel<>(EmbeddableTemporal.from(clock.instant()), tick);
+        running = true;
+        poller = new Thread(this::poll, "temporal-due-queue-" + owner);
+        poller.setDaemon(true);
+        poller.start();
+    }
+
+    /**
+     * Stops the poller, releases the claimed jobs that have not been dispatched yet and applies the pending
+     * completions. Jobs already handed to the executor complete normally; their completions are then applied one
+     * transaction each.
+     */
+    @Override
+    public synchronized void close() {
+        if (poller == null || !running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(poller);
+        boolean interrupted = false;
+        while (poller.isAlive()) {
+            try {
+                poller.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void poll() {
+        Instant nextClaim = Instant.MIN;
+        try {
+            while (running) {
+                try {
+                    applyCompletions();
+                    Instant now = clock.instant();
+                    if (!now.isBefore(nextClaim)) {
+                        int limit = Math.min(batchSize, capacity - wheel.size());
+                        int claimed = limit > 0 ? claim(now, limit) : 0;
+                        nextClaim = claimed == batchSize ? now : now.plus(pollInterval);
+                        now = clock.instant();
+                    }
+                    wheel.advance(now.getEpochSecond(), now.getNano(), this::dispatch);
+                    long sleep = Math.min(wheel.nanosUntilNext(now.getEpochSecond(), now.getNano()),
+                        Duration.between(now, nextClaim).toNanos());
+                    if (sleep > 0) {
+                        LockSupport.parkNanos(this, sleep);
+                    }
+                } catch (RuntimeException e) {
+                    LOGGER.log(System.Logger.Level.WARNING, "Due queue " + owner + " failed, retrying", e);
+                    LockSupport.parkNanos(this, pollInterval.toNanos());
+                }
+            }
+        } finally {
+            shutdown();
+        }
+    }
+
+    private int claim(Instant now, int limit) {
+        EmbeddableTemporal horizon = EmbeddableTemporal.from(now.plus(lookahead));
+        String where = TemporalPredicates.atOrBefore(dueAttribute, horizon);
+        EntityManager em = entityManagerFactory.createEntityManager();
+        EntityTransaction transaction = em.getTransaction();
+        try {
+            transaction.begin();
+            TypedQuery<E> query = em.createQuery(claimQuery + where + dueOrder, entityType)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(limit);
+            if (skipLocked) {
+                query.setHint(LOCK_TIMEOUT_HINT, SKIP_LOCKED_TIMEOUT);
+            }
+            List<E> jobs = query.getResultList();
+            if (!jobs.isEmpty()) {
+                List<Object> ids = new ArrayList<>(jobs.size());
+                for (E job : jobs) {
+                    ids.add(identifier(job));
+                }
+                em.createQuery(markQuery)
+                    .setParameter("owner", owner)
+                    .setParameter("ids", ids)
+                    .executeUpdate();
+            }
+            transaction.commit();
+            for (E job : jobs) {
+                wheel.add(job.getDue(), job);
+            }
+            return jobs.size();
+        } finally {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            em.close();
+        }
+    }
+
+    /**
+     * Releases every job claimed under this owner name, whether or not it is due within the lookahead window.
+     */
+    private void releaseOwned() {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        EntityTransaction transaction = em.getTransaction();
+        try {
+            transaction.begin();
+            int released = em.createQuery(releaseOwnedQuery)
+                .setParameter("owner", owner)
+                .executeUpdate();
+            transaction.commit();
+            if (released > 0) {
+                LOGGER.log(System.Logger.Level.INFO, "Due queue " + owner + " released " + released
+                    + " jobs left claimed by its previous incarnation");
+            }
+        } finally {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            em.close();
+        }
+    }
+
+    private void dispatch(E job) {
+        Object id = identifier(job);
+        try {
+            executor.execute(() -> {
+                boolean succeeded = false;
+                try {
+                    handler.accept(job);
+                    succeeded = true;
+                } catch (RuntimeException e) {
+                    LOGGER.log(System.Logger.Level.WARNING, "Scheduled job " + id + " failed, releasing it", e);
+                } finally {
+                    complete(id, succeeded);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Scheduled job " + id + " was rejected, releasing it", e);
+            complete(id, false);
+        }
+    }
+
+    private void complete(Object id, boolean succeeded) {
+        synchronized (completionLock) {
+            if (!stopped) {
+                boolean wake = completed.isEmpty() && failed.isEmpty();
+                (succeeded ? completed : failed).add(id);
+                if (wake) {
+                    LockSupport.unpark(poller);
+                }
+                return;
+            }
+        }
+        apply(succeeded ? List.of(id) : List.of(), succeeded ? List.of() : List.of(id));
+    }
+
+    private void applyCompletions() {
+        List<Object> done;
+        List<Object> released;
+        synchronized (completionLock) {
+            if (completed.isEmpty() && failed.isEmpty()) {
+                return;
+            }
+            done = completed;
+            released = failed;
+            completed = new ArrayList<>();
+            failed = new ArrayList<>();
+        }
+        try {
+            apply(done, released);
+        } catch (RuntimeException e) {
+            synchronized (completionLock) {
+                completed.addAll(done);
+                failed.addAll(released);
+            }
+            throw e;
+        }
+    }
+
+    private void apply(List<Object> done, List<Object> released) {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        EntityTransaction transaction = em.getTransaction();
+        try {
+            transaction.begin();
+            if (!done.isEmpty()) {
+                em.createQuery(deleteQuery)
+                    .setParameter("ids", done)
+                    .setParameter("owner", owner)
+                    .executeUpdate();
+            }
+            if (!released.isEmpty()) {
+                em.createQuery(releaseQuery)
+                    .setParameter("ids", released)
+                    .setParameter("owner", owner)
+                    .executeUpdate();
+            }
+            transaction.commit();
+        } finally {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            em.close();
+        }
+    }
+
+    private void shutdown() {
+        List<Object> undispatched = new ArrayList<>(wheel.size());
+        wheel.drain(job -> undispatched.add(identifier(job)));
+        List<Object> done;
+        List<Object> released;
+        synchronized (completionLock) {
+            stopped = true;
+            done = completed;
+            released = failed;
+        }
+        released.addAll(undispatched);
+        if (!done.isEmpty() || !released.isEmpty()) {
+            try {
+                apply(done, released);
+            } catch (RuntimeException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "Due queue " + owner + " could not release its jobs", e);
+            }
+        }
+    }
+
+    private Object identifier(E job) {
+        return entityManagerFactory.getPersistenceUnitUtil().getIdentifier(job);
+    }
+
+    /**
+     * Builder of {@link TemporalDueQueue} instances.
+     *
+     * @param <E> the entity type
+     */
+    public static final class Builder<E extends ScheduledEntity> {
+
+        private final EntityManagerFactory entityManagerFactory;
+        private final Class<E> entityType;
+        private final Consumer<? super E> handler;
+        private String dueAttribute = "due";
+        private String ownerAttribute = "owner";
+        private String owner;
+        private Executor executor = ForkJoinPool.commonPool();
+        private Clock clock = Clock.systemUTC();
+        private Duration lookahead = Duration.ofSeconds(30);
+        private Duration pollInterval = Duration.ofSeconds(1);
+        private Duration tick = Duration.ofMillis(1);
+        private int batchSize = 100;
+        private int capacity = 10_000;
+        private boolean skipLocked = true;
+
+        private Builder(EntityManagerFactory entityManagerFactory, Class<E> entityType, Consumer<? super E> handler) {
+            this.entityManagerFactory = Objects.requireNonNull(entityManagerFactory,
+                "EntityManagerFactory cannot be null");
+            this.entityType = Objects.requireNonNull(entityType, "Entity type cannot be null");
+            this.handler = Objects.requireNonNull(handler, "Handler cannot be null");
+        }
+
+        /**
+         * Sets the name of the embedded {@link EmbeddableTemporal} due time attribute, {@code due} by default.
+         *
+         * @param dueAttribute the attribute name, as used in JPQL
+         * @return this builder
+         */
+        public Builder<E> dueAttribute(String dueAttribute) {
+            this.dueAttribute = Objects.requireNonNull(dueAttribute, "Due attribute cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the name of the nullable string attribute recording the claiming queue, {@code owner} by default.
+         *
+         * @param ownerAttribute the attribute name, as used in JPQL
+         * @return this builder
+         */
+        public Builder<E> ownerAttribute(String ownerAttribute) {
+            this.ownerAttribute = Objects.requireNonNull(ownerAttribute, "Owner attribute cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the owner name of the queue. A stable name lets a restarted queue release the jobs claimed by its
+         * crashed predecessor; by default a random name is generated, whose claims are lost if the process crashes.
+         *
+         * @param owner the owner name
+         * @return this builder
+         */
+        public Builder<E> owner(String owner) {
+            this.owner = Objects.requireNonNull(owner, "Owner cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the executor running the handler, the common fork-join pool by default. Blocking handlers are best
+         * run on a dedicated pool, or on a virtual-thread-per-task executor where the runtime provides one.
+         *
+         * @param executor the executor
+         * @return this builder
+         */
+        public Builder<E> executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the clock deciding when jobs are due, the system UTC clock by default.
+         *
+         * @param clock the clock
+         * @return this builder
+         */
+        public Builder<E> clock(Clock clock) {
+            this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets how far ahead of the current time jobs are claimed, 30 seconds by default.
+         *
+         * @param lookahead the lookahead window, zero or positive
+         * @return this builder
+         * @throws IllegalArgumentException if lookahead is negative
+         */
+        public Builder<E> lookahead(Duration lookahead) {
+            Objects.requireNonNull(lookahead, "Lookahead cannot be null");
+            if (lookahead.isNegative()) {
+                throw new IllegalArgumentException("Lookahead cannot be negative: " + lookahead);
+            }
+            this.lookahead = lookahead;
+            return this;
+        }
+
+        /**
+         * Sets the interval between claims, one second by default.
+         *
+         * @param pollInterval the poll interval
+         * @return this builder
+         * @throws IllegalArgumentException if pollInterval is not positive
+         */
+        public Builder<E> pollInterval(Duration pollInterval) {
+            Objects.requireNonNull(pollInterval, "Poll interval cannot be null");
+            if (pollInterval.isNegative() || pollInterval.isZero()) {
+                throw new IllegalArgumentException("Poll interval must be positive: " + pollInterval);
+            }
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        /**
+         * Sets the tick width of the timing wheel, one millisecond by default. Jobs never fire early; a narrower
+         * tick only lets the poller wake up closer to the exact due time.
+         *
+         * @param tick the tick width
+         * @return this builder
+         * @throws IllegalArgumentException if tick is not positive
+         */
+        public Builder<E> tick(Duration tick) {
+            Objects.requireNonNull(tick, "Tick cannot be null");
+            if (tick.isNegative() || tick.isZero()) {
+                throw new IllegalArgumentException("Tick must be positive: " + tick);
+            }
+            this.tick = tick;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of jobs claimed per query, 100 by default. A full batch triggers the next claim
+         * immediately.
+         *
+         * @param batchSize the batch size
+         * @return this builder
+         * @throws IllegalArgumentException if batchSize is not positive
+         */
+        public Builder<E> batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of claimed jobs held in memory, 10,000 by default.
+         *
+         * @param capacity the capacity
+         * @return this builder
+         * @throws IllegalArgumentException if capacity is not positive
+         */
+        public Builder<E> capacity(int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+            }
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Sets whether the claim query skips rows locked by other queues, true by default. The hint is ignored by
+         * dialects without {@code SKIP LOCKED} support, where concurrent claims wait for each other instead.
+         *
+         * @param skipLocked true to skip locked rows
+         * @return this builder
+         */
+        public Builder<E> skipLocked(boolean skipLocked) {
+            this.skipLocked = skipLocked;
+            return this;
+        }
+
+        /**
+         * Creates the queue. The queue does nothing until {@linkplain TemporalDueQueue#start() started}.
+         *
+         * @return the queue
+         * @throws IllegalArgumentException if the entity type is not managed by the factory
+         */
+        public TemporalDueQueue<E> build() {
+            return new TemporalDueQueue<>(this);
+        }
+    }
+}
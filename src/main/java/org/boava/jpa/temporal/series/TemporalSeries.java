@@ -0,0 +1,468 @@
+package org.boava.jpa.temporal.series;
+
+import static org.boava.jpa.temporal.embeddable.EmbeddableTemporal.NANOS_PER_SECOND;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Transient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal.TemporalConsumer;
+
+/**
+ * A JPA embeddable holding a whole series of seconds/nanoseconds timestamps in a single {@code @Lob} column.
+ * <p>
+ * The series is encoded Gorilla-style: each timestamp is stored as the delta-of-delta of its nanosecond distance
+ * to the previous one, as a zigzag varint. A regularly sampled series therefore costs about one byte per sample.
+ * Every {@value #CHECKPOINT_INTERVAL}th sample is a checkpoint holding its full value and delta, which makes
+ * random access decode at most {@value #CHECKPOINT_INTERVAL} samples. The checkpoint index itself is not
+ * persisted; it is rebuilt in a single pass the first time it is needed after loading.
+ * <p>
+ * Samples are appended in place: the encoding grows into spare capacity and the persisted column value is only
+ * copied out when the persistence provider reads it. Consecutive samples may be up to about 292 years apart and
+ * need not be ascending.
+ * <p>
+ * Example usage in an entity:
+ * <pre>{@code
+ * @Embedded
+ * @AttributeOverride(name = "encoded", column = @Column(name = "sample_times"))
+ * private TemporalSeries sampleTimes = new TemporalSeries();
+ * }</pre>
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+@Embeddable
+@Access(AccessType.PROPERTY)
+public class TemporalSeries implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Number of samples between two checkpoints.
+     */
+    public static final int CHECKPOINT_INTERVAL = 64;
+
+    static final byte FORMAT_VERSION = 1;
+
+    // Largest encoding of a single sample: a checkpoint of two zigzag longs and one varint int
+    private static final int MAX_SAMPLE_BYTES = 10 + 5 + 10;
+
+    private byte[] buffer = {FORMAT_VERSION};
+    private int length = 1;
+
+    // The trimmed copy handed to the persistence provider, dropped on append
+    private transient byte[] encoded;
+
+    // State derived from the encoding; checkpoints == null means it must be rebuilt by scan()
+    private transient int[] checkpoints = new int[0];
+    private transient int size;
+    private transient long lastSeconds;
+    private transient int lastNanos;
+    private transient long lastDelta;
+
+    /**
+     * Creates an empty series.
+     */
+    public TemporalSeries() {
+    }
+
+    /**
+     * Returns the encoded series as stored in the database.
+     *
+     * @return the encoding; callers must not modify the returned array
+     */
+    @Lob
+    @Column(name = "series")
+    public byte[] getEncoded() {
+        if (encoded == null) {
+            encoded = Arrays.copyOf(buffer, length);
+        }
+        return encoded;
+    }
+
+    /**
+     * Replaces the series with an encoding read from the database.
+     *
+     * @param encoded the encoding, or null for an empty series
+     * @throws IllegalArgumentException if the encoding has an unknown format version
+     */
+    public void setEncoded(byte[] encoded) {
+        if (encoded == null || encoded.length == 0) {
+            this.buffer = new byte[] {FORMAT_VERSION};
+            this.length = 1;
+            this.encoded = null;
+            this.checkpoints = new int[0];
+            this.size = 0;
+            return;
+        }
+        if (encoded[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unknown temporal series format version: " + encoded[0]);
+        }
+        this.buffer = encoded;
+        this.length = encoded.length;
+        this.encoded = encoded;
+        this.checkpoints = null;
+    }
+
+    /**
+     * Appends a sample to the end of the series. The nanoseconds are normalized like in {@link EmbeddableTemporal}.
+     *
+     * @param seconds the seconds component
+     * @param nanos the nanoseconds component
+     * @throws IllegalArgumentException if the sample is more than about 292 years away from the previous one
+     */
+    public void append(long seconds, int nanos) {
+        long s = Math.addExact(seconds, Math.floorDiv(nanos, NANOS_PER_SECOND));
+        int n = Math.floorMod(nanos, NANOS_PER_SECOND);
+        ensureScanned();
+        long delta = size == 0 ? 0L : delta(lastSeconds, lastNanos, s, n);
+        if (buffer.length - length < MAX_SAMPLE_BYTES) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + MAX_SAMPLE_BYTES));
+        }
+        if (size % CHECKPOINT_INTERVAL == 0) {
+            addCheckpoint(length);
+            writeZigZag(s);
+            writeVarint(n);
+            writeZigZag(delta);
+        } else {
+            long deltaOfDelta;
+            try {
+                deltaOfDelta = Math.subtractExact(delta, lastDelta);
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Sample spacing changes too abruptly: " + s + "s " + n + "ns", e);
+            }
+            writeZigZag(deltaOfDelta);
+        }
+        lastSeconds = s;
+        lastNanos = n;
+        lastDelta = delta;
+        size++;
+        encoded = null;
+    }
+
+    /**
+     * Appends a sample to the end of the series.
+     *
+     * @param temporal the sample
+     * @throws NullPointerException if temporal is null
+     */
+    public void append(EmbeddableTemporal temporal) {
+        Objects.requireNonNull(temporal, "Temporal cannot be null");
+        append(temporal.getSeconds(), temporal.getNanos());
+    }
+
+    /**
+     * Returns the number of samples.
+     *
+     * @return the series size
+     */
+    public int size() {
+        ensureScanned();
+        return size;
+    }
+
+    /**
+     * Returns true if the series holds no samples.
+     *
+     * @return true if empty
+     */
+    @Transient
+    public boolean isEmpty() {
+        return length == 1;
+    }
+
+    /**
+     * Returns the number of bytes of the encoded series.
+     *
+     * @return the encoded length
+     */
+    public int encodedLength() {
+        return length;
+    }
+
+    /**
+     * Returns the sample at the given index, decoding from the nearest preceding checkpoint.
+     *
+     * @param index the sample index
+     * @return the sample
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public EmbeddableTemporal get(int index) {
+        Cursor cursor = seek(index);
+        return new EmbeddableTemporal(cursor.seconds(), cursor.nanos());
+    }
+
+    /**
+     * Passes the sample at the given index to the consumer without allocating a temporal object.
+     *
+     * @param index the sample index
+     * @param consumer receives the sample
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void get(int index, TemporalConsumer consumer) {
+        Cursor cursor = seek(index);
+        consumer.accept(cursor.seconds(), cursor.nanos());
+    }
+
+    /**
+     * Streams every sample, in order, to the consumer.
+     *
+     * @param consumer receives the samples
+     */
+    public void forEach(TemporalConsumer consumer) {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        Cursor cursor = cursor();
+        while (cursor.next()) {
+            consumer.accept(cursor.seconds(), cursor.nanos());
+        }
+    }
+
+    /**
+     * Returns a cursor decoding the series from the start.
+     *
+     * @return a new cursor
+     */
+    public Cursor cursor() {
+        return new Cursor(buffer, 1, length, 0, null);
+    }
+
+    /**
+     * Streams every sample of an encoded series, read directly from a stream such as a JDBC {@code Blob}, to the
+     * consumer without materializing the encoding.
+     *
+     * @param in the encoded series
+     * @param consumer receives the samples
+     * @return the number of decoded samples
+     * @throws IOException if reading fails
+     * @throws IllegalArgumentException if the encoding has an unknown format version
+     */
+    public static int decode(InputStream in, TemporalConsumer consumer) throws IOException {
+        Objects.requireNonNull(in, "Input stream cannot be null");
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        int version = in.read();
+        if (version == -1) {
+            return 0;
+        }
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unknown temporal series format version: " + version);
+        }
+        Cursor cursor = new Cursor(null, 0, 0, 0, in);
+        try {
+            while (cursor.next()) {
+                consumer.accept(cursor.seconds(), cursor.nanos());
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return cursor.index() + 1;
+    }
+
+    private Cursor seek(int index) {
+        ensureScanned();
+        Objects.checkIndex(index, size);
+        int checkpoint = index / CHECKPOINT_INTERVAL;
+        Cursor cursor = new Cursor(buffer, checkpoints[checkpoint], length, checkpoint * CHECKPOINT_INTERVAL, null);
+        for (int i = index % CHECKPOINT_INTERVAL; i >= 0; i--) {
+            cursor.next();
+        }
+        return cursor;
+    }
+
+    private void ensureScanned() {
+        if (checkpoints != null) {
+            return;
+        }
+        checkpoints = new int[Math.max(4, length / CHECKPOINT_INTERVAL)];
+        int count = 0;
+        Cursor cursor = cursor();
+        while (true) {
+            int position = cursor.position;
+            if (!cursor.next()) {
+                break;
+            }
+            if (cursor.index() % CHECKPOINT_INTERVAL == 0) {
+                if (count == checkpoints.length) {
+                    checkpoints = Arrays.copyOf(checkpoints, count * 2);
+                }
+                checkpoints[count++] = position;
+            }
+        }
+        size = cursor.index() + 1;
+        lastSeconds = cursor.seconds();
+        lastNanos = cursor.nanos();
+        lastDelta = cursor.delta;
+    }
+
+    private void addCheckpoint(int position) {
+        int index = size / CHECKPOINT_INTERVAL;
+        if (index == checkpoints.length) {
+            checkpoints = Arrays.copyOf(checkpoints, Math.max(4, index * 2));
+        }
+        checkpoints[index] = position;
+    }
+
+    private static long delta(long fromSeconds, int fromNanos, long toSeconds, int toNanos) {
+        try {
+            return Math.addExact(Math.multiplyExact(Math.subtractExact(toSeconds, fromSeconds), NANOS_PER_SECOND),
+                toNanos - fromNanos);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(
+                "Samples %ds apart exceed the supported spacing".formatted(toSeconds - fromSeconds), e);
+        }
+    }
+
+    private void writeZigZag(long value) {
+        writeVarint((value << 1) ^ (value >> 63));
+    }
+
+    private void writeVarint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[length++] = (byte) value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TemporalSeries that = (TemporalSeries) obj;
+        return Arrays.equals(buffer, 0, length, that.buffer, 0, that.length);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "TemporalSeries{size=%d, bytes=%d}".formatted(size(), length);
+    }
+
+    /**
+     * A forward-only decoder over an encoded series. After {@link #next()} returns true the current sample is
+     * available from {@link #seconds()} and {@link #nanos()}.
+     */
+    public static final class Cursor {
+
+        private final byte[] bytes;
+        private final int end;
+        private final InputStream in;
+        private int position;
+        private int index;
+        private long seconds;
+        private int nanos;
+        private long delta;
+
+        Cursor(byte[] bytes, int position, int end, int firstIndex, InputStream in) {
+            this.bytes = bytes;
+            this.position = position;
+            this.end = end;
+            this.index = firstIndex - 1;
+            this.in = in;
+        }
+
+        /**
+         * Advances to the next sample.
+         *
+         * @return true if a sample was decoded, false at the end of the series
+         */
+        public boolean next() {
+            int first = readByte();
+            if (first == -1) {
+                return false;
+            }
+            index++;
+            if (index % CHECKPOINT_INTERVAL == 0) {
+                seconds = zigZag(readVarint(first));
+                nanos = (int) readVarint(readByte());
+                delta = zigZag(readVarint(readByte()));
+            } else {
+                delta += zigZag(readVarint(first));
+                seconds += Math.floorDiv(delta, NANOS_PER_SECOND);
+                nanos += Math.floorMod(delta, NANOS_PER_SECOND);
+                if (nanos >= NANOS_PER_SECOND) {
+                    nanos -= NANOS_PER_SECOND;
+                    seconds++;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the seconds component of the current sample.
+         *
+         * @return the seconds component
+         */
+        public long seconds() {
+            return seconds;
+        }
+
+        /**
+         * Returns the nanoseconds component of the current sample.
+         *
+         * @return the nanoseconds component
+         */
+        public int nanos() {
+            return nanos;
+        }
+
+        /**
+         * Returns the index of the current sample, or -1 before the first call to {@link #next()}.
+         *
+         * @return the current index
+         */
+        public int index() {
+            return index;
+        }
+
+        private int readByte() {
+            if (in == null) {
+                return position < end ? bytes[position++] & 0xFF : -1;
+            }
+            try {
+                return in.read();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private long readVarint(int first) {
+            long value = 0;
+            int shift = 0;
+            int b = first;
+            while (true) {
+                if (b == -1 || shift > 63) {
+                    throw new IllegalStateException("Truncated temporal series at sample " + index);
+                }
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+                shift += 7;
+                b = readByte();
+            }
+        }
+
+        private static long zigZag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package org.boava.jpa.temporal.stream;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * Restores {@code (seconds, nanos)} order on a stream of slightly out-of-order events.
+ * <p>
+ * Events are held in a binary min-heap over primitive arrays until the watermark passes them. The watermark trails
+ * the newest timestamp seen by the allowed lateness and can also be moved forward explicitly, e.g. from processing
+ * time when the stream goes idle. Every event at or before the watermark is emitted, so the output is sorted;
+ * events with equal timestamps keep their arrival order.
+ * <p>
+ * An event older than the watermark arrives too late to be emitted in order. It is passed to the late handler
+ * instead and counted. Memory is bounded by the capacity: when the buffer is full, the oldest event is emitted
+ * early and the watermark is raised to it, which keeps the output sorted at the cost of turning later stragglers
+ * into late events.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <E> the event type
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class TemporalReorderBuffer<E> {
+
+    /**
+     * Receives emitted or late events.
+     *
+     * @param <E> the event type
+     */
+    @FunctionalInterface
+    public interface EventConsumer<E> {
+        /**
+         * Consumes one event.
+         *
+         * @param seconds the seconds component of the timestamp
+         * @param nanos the nanoseconds component of the timestamp
+         * @param event the event
+         */
+        void accept(long seconds, int nanos, E event);
+    }
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final long latenessSeconds;
+    private final int latenessNanos;
+    private final int capacity;
+    private final EventConsumer<? super E> output;
+    private final EventConsumer<? super E> lateHandler;
+
+    private long[] seconds;
+    private int[] nanos;
+    private long[] arrivals;
+    private Object[] events;
+    private int size;
+    private long arrival;
+
+    private boolean started;
+    private long maxSeconds;
+    private int maxNanos;
+    private long watermarkSeconds = Long.MIN_VALUE;
+    private int watermarkNanos;
+    private long lateCount;
+
+    /**
+     * Creates a buffer dropping late events.
+     *
+     * @param allowedLateness how far behind the newest timestamp an event may arrive and still be emitted in order
+     * @param capacity the maximum number of buffered events
+     * @param output receives the events in timestamp order
+     * @throws IllegalArgumentException if allowedLateness is negative or capacity is not positive
+     */
+    public TemporalReorderBuffer(Duration allowedLateness, int capacity, EventConsumer<? super E> output) {
+        this(allowedLateness, capacity, output, (seconds, nanos, event) -> { });
+    }
+
+    /**
+     * Creates a buffer.
+     *
+     * @param allowedLateness how far behind the newest timestamp an event may arrive and still be emitted in order
+     * @param capacity the maximum number of buffered events
+     * @param output receives the events in timestamp order
+     * @param lateHandler receives the events that arrived after the watermark passed them
+     * @throws IllegalArgumentException if allowedLateness is negative or capacity is not positive
+     */
+    public TemporalReorderBuffer(Duration allowedLateness, int capacity, EventConsumer<? super E> output,
+            EventConsumer<? super E> lateHandler) {
+        Objects.requireNonNull(allowedLateness, "Allowed lateness cannot be null");
+        this.output = Objects.requireNonNull(output, "Output cannot be null");
+        this.lateHandler = Objects.requireNonNull(lateHandler, "Late handler cannot be null");
+        if (allowedLateness.isNegative()) {
+            throw new IllegalArgumentException("Allowed lateness cannot be negative: " + allowedLateness);
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.latenessSeconds = allowedLateness.getSeconds();
+        this.latenessNanos = allowedLateness.getNano();
+        this.capacity = capacity;
+        int initial = Math.min(capacity, INITIAL_CAPACITY);
+        this.seconds = new long[initial];
+        this.nanos = new int[initial];
+        this.arrivals = new long[initial];
+        this.events = new Object[initial];
+    }
+
+    /**
+     * Returns the number of buffered events.
+     *
+     * @return the number of events waiting for the watermark
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of events that arrived after the watermark had passed them.
+     *
+     * @return the late event count
+     */
+    public long getLateCount() {
+        return lateCount;
+    }
+
+    /**
+     * Returns the current watermark: every event at or before it has been emitted.
+     *
+     * @return the watermark, or null before the first event or explicit advance
+     */
+    public EmbeddableTemporal getWatermark() {
+        return watermarkSeconds == Long.MIN_VALUE ? null : new EmbeddableTemporal(watermarkSeconds, watermarkNanos);
+    }
+
+    /**
+     * Accepts an event and emits every event the advanced watermark has passed.
+     *
+     * @param timestamp the event timestamp
+     * @param event the event, may be null
+     * @return true if the event was buffered or emitted in order, false if it was late
+     * @throws NullPointerException if timestamp is null
+     */
+    public boolean accept(EmbeddableTemporal timestamp, E event) {
+        Objects.requireNonNull(timestamp, "Timestamp cannot be null");
+        return accept(timestamp.getSeconds(), timestamp.getNanos(), event);
+    }
+
+    /**
+     * Accepts an event and emits every event the advanced watermark has passed.
+     *
+     * @param eventSeconds the seconds component of the event timestamp
+     * @param eventNanos the nanoseconds component of the event timestamp, in the range 0..999,999,999
+     * @param event the event, may be null
+     * @return true if the event was buffered or emitted in order, false if it was late
+     * @throws IllegalArgumentException if eventNanos is out of range
+     */
+    public boolean accept(long eventSeconds, int eventNanos, E event) {
+        if (eventNanos < 0 || eventNanos > EmbeddableTemporal.MAX_NANOS) {
+            throw new IllegalArgumentException("Nanos must be within 0..999,999,999: " + eventNanos);
+        }
+        if (isLate(eventSeconds, eventNanos)) {
+            return late(eventSeconds, eventNanos, event);
+        }
+        if (size == capacity) {
+            // Make room by emitting the oldest event early; the watermark follows so the output stays sorted
+            raiseWatermark(seconds[0], nanos[0]);
+            emitUpToWatermark();
+            if (isLate(eventSeconds, eventNanos)) {
+                return late(eventSeconds, eventNanos, event);
+            }
+        }
+        push(eventSeconds, eventNanos, event);
+        if (!started || compare(eventSeconds, eventNanos, maxSeconds, maxNanos) > 0) {
+            started = true;
+            maxSeconds = eventSeconds;
+            maxNanos = eventNanos;
+            long candidateSeconds = eventSeconds - latenessSeconds;
+            int candidateNanos = eventNanos - latenessNanos;
+            if (candidateNanos < 0) {
+                candidateNanos += EmbeddableTemporal.NANOS_PER_SECOND;
+                candidateSeconds--;
+            }
+            if (candidateSeconds > eventSeconds) {
+                // Underflow near Long.MIN_VALUE: nothing can be emitted yet
+                return true;
+            }
+            raiseWatermark(candidateSeconds, candidateNanos);
+        }
+        emitUpToWatermark();
+        return true;
+    }
+
+    /**
+     * Moves the watermark forward to the given time, if it is later than the current one, and emits every event it
+     * passes. Use this to make progress while no new events arrive.
+     *
+     * @param watermark the new watermark
+     * @return the number of emitted events
+     * @throws NullPointerException if watermark is null
+     */
+    public int advanceWatermark(EmbeddableTemporal watermark) {
+        Objects.requireNonNull(watermark, "Watermark cannot be null");
+        raiseWatermark(watermark.getSeconds(), watermark.getNanos());
+        return emitUpToWatermark();
+    }
+
+    /**
+     * Emits every buffered event, e.g. at the end of the stream, and raises the watermark to the newest one.
+     *
+     * @return the number of emitted events
+     */
+    public int flush() {
+        if (size == 0) {
+            return 0;
+        }
+        raiseWatermark(maxSeconds, maxNanos);
+        return emitUpToWatermark();
+    }
+
+    private boolean isLate(long eventSeconds, int eventNanos) {
+        return compare(eventSeconds, eventNanos, watermarkSeconds, watermarkNanos) < 0;
+    }
+
+    private boolean late(long eventSeconds, int eventNanos, E event) {
+        lateCount++;
+        lateHandler.accept(eventSeconds, eventNanos, event);
+        return false;
+    }
+
+    private void raiseWatermark(long candidateSeconds, int candidateNanos) {
+        if (compare(candidateSeconds, candidateNanos, watermarkSeconds, watermarkNanos) > 0) {
+            watermarkSeconds = candidateSeconds;
+            watermarkNanos = candidateNanos;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int emitUpToWatermark() {
+        int emitted = 0;
+        while (size > 0 && compare(seconds[0], nanos[0], watermarkSeconds, watermarkNanos) <= 0) {
+            long headSeconds = seconds[0];
+            int headNanos = nanos[0];
+            E head = (E) events[0];
+            pop();
+            emitted++;
+            output.accept(headSeconds, headNanos, head);
+        }
+        return emitted;
+    }
+
+    private void push(long eventSeconds, int eventNanos, E event) {
+        if (size == seconds.length) {
+            int grown = (int) Math.min(capacity, (long) size * 2);
+            seconds = Arrays.copyOf(seconds, grown);
+            nanos = Arrays.copyOf(nanos, grown);
+            arrivals = Arrays.copyOf(arrivals, grown);
+            events = Arrays.copyOf(events, grown);
+        }
+        long order = arrival++;
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(eventSeconds, eventNanos, order, parent)) {
+                break;
+            }
+            move(parent, index);
+            index = parent;
+        }
+        set(index, eventSeconds, eventNanos, order, event);
+    }
+
+    private void pop() {
+        int last = --size;
+        long lastSeconds = seconds[last];
+        int lastNanos = nanos[last];
+        long lastArrival = arrivals[last];
+        Object lastEvent = events[last];
+        events[last] = null;
+        if (last == 0) {
+            return;
+        }
+        int index = 0;
+        int half = last >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < last && less(seconds[right], nanos[right], arrivals[right], child)) {
+                child = right;
+            }
+            if (!less(seconds[child], nanos[child], arrivals[child], lastSeconds, lastNanos, lastArrival)) {
+                break;
+            }
+            move(child, index);
+            index = child;
+        }
+        set(index, lastSeconds, lastNanos, lastArrival, lastEvent);
+    }
+
+    private boolean less(long aSeconds, int aNanos, long aArrival, int slot) {
+        return less(aSeconds, aNanos, aArrival, seconds[slot], nanos[slot], arrivals[slot]);
+    }
+
+    private static boolean less(long aSeconds, int aNanos, long aArrival, long bSeconds, int bNanos, long bArrival) {
+        if (aSeconds != bSeconds) {
+            return aSeconds < bSeconds;
+        }
+        if (aNanos != bNanos) {
+            return aNanos < bNanos;
+        }
+        return aArrival < bArrival;
+    }
+
+    private static int compare(long aSeconds, int aNanos, long bSeconds, int bNanos) {
+        int bySeconds = Long.compare(aSeconds, bSeconds);
+        return bySeconds != 0 ? bySeconds : Integer.compare(aNanos, bNanos);
+    }
+
+    private void move(int from, int to) {
+        seconds[to] = seconds[from];
+        nanos[to] = nanos[from];
+        arrivals[to] = arrivals[from];
+        events[to] = events[from];
+    }
+
+    private void set(int index, long eventSeconds, int eventNanos, long order, Object event) {
+        seconds[index] = eventSeconds;
+        nanos[index] = eventNanos;
+        arrivals[index] = order;
+        events[index] = event;
+    }
+}
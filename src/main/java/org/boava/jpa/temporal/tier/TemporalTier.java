@@ -0,0 +1,55 @@
+package org.boava.jpa.temporal.tier;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A storage tier backed by its own persistence unit.
+ * <p>
+ * A tier holds the rows younger than its {@code maxAge}; the coldest tier has no maximum age and receives
+ * everything older than the tier before it.
+ *
+ * @param name the tier name, used in diagnostics
+ * @param entityManagerFactory the factory of the tier's persistence unit
+ * @param maxAge the age after which rows move to the next tier, or null for the coldest tier
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public record TemporalTier(String name, EntityManagerFactory entityManagerFactory, Duration maxAge) {
+
+    /**
+     * Creates a new tier.
+     *
+     * @throws NullPointerException if name or entityManagerFactory is null
+     * @throws IllegalArgumentException if maxAge is zero or negative
+     */
+    public TemporalTier {
+        Objects.requireNonNull(name, "Tier name cannot be null");
+        Objects.requireNonNull(entityManagerFactory, "EntityManagerFactory cannot be null");
+        if (maxAge != null && (maxAge.isNegative() || maxAge.isZero())) {
+            throw new IllegalArgumentException("Tier max age must be positive: " + maxAge);
+        }
+    }
+
+    /**
+     * Creates the coldest tier, which accepts rows of any age.
+     *
+     * @param name the tier name
+     * @param entityManagerFactory the factory of the tier's persistence unit
+     * @return the unbounded tier
+     */
+    public static TemporalTier unbounded(String name, EntityManagerFactory entityManagerFactory) {
+        return new TemporalTier(name, entityManagerFactory, null);
+    }
+
+    /**
+     * Returns true if this tier accepts rows of any age.
+     *
+     * @return true if this tier has no maximum age
+     */
+    public boolean isUnbounded() {
+        return maxAge == null;
+    }
+}
@@ -0,0 +1,317 @@
+package org.boava.jpa.temporal.tier;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.UnaryOperator;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.metamodel.TemporalAttribute;
+import org.boava.jpa.temporal.query.TemporalPath;
+import org.boava.jpa.temporal.query.TemporalPredicates;
+
+/**
+ * Routes temporal reads and writes across a chain of storage tiers ordered from hot to cold.
+ * <p>
+ * Tier boundaries are derived from the clock: tier {@code i} holds rows at or after {@code now - maxAge(i)}
+ * and the tiers after it hold everything older. Writes are routed by their timestamp. Range reads consult every
+ * tier that may hold matching rows: a colder tier is skipped when the range lies entirely above its boundary,
+ * while warmer tiers are always consulted because they may still hold rows that have aged but not yet been
+ * {@linkplain #migrate migrated}.
+ * <p>
+ * Range reads query the tiers in parallel and merge the per-tier results, which are each sorted by
+ * {@code (seconds, nanos)}, into a single sorted list.
+ *
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class TemporalTierRouter {
+
+    private static final String ALIAS = "e";
+
+    private final List<TemporalTier> tiers;
+    private final Clock clock;
+
+    /**
+     * Creates a router over the given tiers.
+     *
+     * @param tiers the tiers ordered from hot to cold, with strictly increasing max ages
+     * @param clock the clock defining "now" for the tier boundaries
+     * @throws NullPointerException if tiers or clock is null
+     * @throws IllegalArgumentException if the tiers are empty, unordered, or only a non-last tier is unbounded
+     */
+    public TemporalTierRouter(List<TemporalTier> tiers, Clock clock) {
+        Objects.requireNonNull(tiers, "Tiers cannot be null");
+        this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+        if (tiers.isEmpty()) {
+            throw new IllegalArgumentException("At least one tier is required");
+        }
+        for (int i = 0; i < tiers.size() - 1; i++) {
+            TemporalTier tier = tiers.get(i);
+            TemporalTier colder = tiers.get(i + 1);
+            if (tier.isUnbounded()) {
+                throw new IllegalArgumentException("Only the coldest tier may be unbounded: " + tier.name());
+            }
+            if (!colder.isUnbounded() && colder.maxAge().compareTo(tier.maxAge()) <= 0) {
+                throw new IllegalArgumentException(
+                    "Tier %s must retain longer than tier %s".formatted(colder.name(), tier.name()));
+            }
+        }
+        this.tiers = List.copyOf(tiers);
+    }
+
+    /**
+     * Returns the tiers ordered from hot to cold.
+     *
+     * @return an unmodifiable list of tiers
+     */
+    public List<TemporalTier> getTiers() {
+        return tiers;
+    }
+
+    /**
+     * Returns the current lower boundary of a tier: the oldest value it should hold.
+     *
+     * @param tier the tier
+     * @return {@code now - maxAge}, or null for the unbounded tier
+     */
+    public EmbeddableTemporal boundary(TemporalTier tier) {
+        if (tier.isUnbounded()) {
+            return null;
+        }
+        return EmbeddableTemporal.from(clock.instant().minus(tier.maxAge()));
+    }
+
+    /**
+     * Routes a write to the tier that should hold the given value.
+     *
+     * @param temporal the value's timestamp
+     * @return the warmest tier whose boundary is at or before the value, or the coldest tier
+     * @throws NullPointerException if temporal is null
+     */
+    public TemporalTier route(EmbeddableTemporal temporal) {
+        Objects.requireNonNull(temporal, "Temporal cannot be null");
+        for (TemporalTier tier : tiers) {
+            EmbeddableTemporal boundary = boundary(tier);
+            if (boundary == null || temporal.compareTo(boundary) >= 0) {
+                return tier;
+            }
+        }
+        return tiers.get(tiers.size() - 1);
+    }
+
+    /**
+     * Selects the tiers that may hold values in the half-open range {@code [from, to)}.
+     *
+     * @param from the inclusive lower bound
+     * @param to the exclusive upper bound
+     * @return the tiers to consult, from hot to cold
+     * @throws NullPointerException if any bound is null
+     */
+    public List<TemporalTier> route(EmbeddableTemporal from, EmbeddableTemporal to) {
+        Objects.requireNonNull(from, "Lower bound cannot be null");
+        Objects.requireNonNull(to, "Upper bound cannot be null");
+        List<TemporalTier> selected = new ArrayList<>();
+        if (from.compareTo(to) >= 0) {
+            return selected;
+        }
+        EmbeddableTemporal upper = null;
+        for (TemporalTier tier : tiers) {
+            // A tier can only hold values below the boundary of the warmer tier before it
+            if (upper == null || from.compareTo(upper) < 0) {
+                selected.add(tier);
+            }
+            upper = boundary(tier);
+        }
+        return selected;
+    }
+
+    /**
+     * Finds the entities in the half-open range {@code [from, to)} across all relevant tiers, querying them in
+     * parallel on the common pool.
+     *
+     * @param <E> the entity type
+     * @param attribute the temporal attribute to filter and sort by
+     * @param from the inclusive lower bound
+     * @param to the exclusive upper bound
+     * @return the matching entities sorted by {@code (seconds, nanos)}, detached
+     */
+    public <E> List<E> findRange(TemporalAttribute<E> attribute, EmbeddableTemporal from, EmbeddableTemporal to) {
+        return findRange(attribute, from, to, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Finds the entities in the half-open range {@code [from, to)} across all relevant tiers, querying them in
+     * parallel on the given executor.
+     *
+     * @param <E> the entity type
+     * @param attribute the temporal attribute to filter and sort by
+     * @param from the inclusive lower bound
+     * @param to the exclusive upper bound
+     * @param executor the executor running the per-tier queries
+     * @return the matching entities sorted by {@code (seconds, nanos)}, detached
+     */
+    public <E> List<E> findRange(TemporalAttribute<E> attribute, EmbeddableTemporal from, EmbeddableTemporal to,
+            Executor executor) {
+        Objects.requireNonNull(attribute, "Attribute cannot be null");
+        Objects.requireNonNull(executor, "Executor cannot be null");
+        List<TemporalTier> selected = route(from, to);
+        List<CompletableFuture<List<E>>> futures = new ArrayList<>(selected.size());
+        for (TemporalTier tier : selected) {
+            futures.add(CompletableFuture.supplyAsync(() -> queryTier(tier, attribute, from, to), executor));
+        }
+        List<List<E>> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<List<E>> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return merge(results, attribute);
+    }
+
+    /**
+     * Moves rows that have aged past the boundary of each bounded tier into the next tier, in batches.
+     * <p>
+     * Each batch is first committed to the colder tier and then removed from the warmer one. The two
+     * transactions are not atomic: a failure between them leaves the batch in both tiers, and a concurrent
+     * {@link #findRange} may observe a batch twice while it is in flight.
+     *
+     * @param <E> the entity type
+     * @param attribute the temporal attribute defining the row age
+     * @param copier creates the transient copy persisted into the colder tier, typically without the identifier
+     * @param batchSize the maximum number of rows moved per transaction
+     * @return the total number of rows moved
+     * @throws IllegalArgumentException if batchSize is not positive
+     */
+    public <E> int migrate(TemporalAttribute<E> attribute, UnaryOperator<E> copier, int batchSize) {
+        Objects.requireNonNull(attribute, "Attribute cannot be null");
+        Objects.requireNonNull(copier, "Copier cannot be null");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        int moved = 0;
+        for (int i = 0; i < tiers.size() - 1; i++) {
+            TemporalTier tier = tiers.get(i);
+            moved += migrateTier(tier, tiers.get(i + 1), boundary(tier), attribute, copier, batchSize);
+        }
+        return moved;
+    }
+
+    private <E> int migrateTier(TemporalTier source, TemporalTier target, EmbeddableTemporal cutoff,
+            TemporalAttribute<E> attribute, UnaryOperator<E> copier, int batchSize) {
+        int moved = 0;
+        while (true) {
+            EntityManager sourceEm = source.entityManagerFactory().createEntityManager();
+            try {
+                sourceEm.getTransaction().begin();
+                List<E> batch = sourceEm.createQuery(select(sourceEm, attribute)
+                        + TemporalPredicates.before(attribute.path(ALIAS), cutoff)
+                        + " ORDER BY " + TemporalPredicates.ascending(attribute.path(ALIAS)), attribute.entityType())
+                    .setMaxResults(batchSize)
+                    .getResultList();
+                if (batch.isEmpty()) {
+                    sourceEm.getTransaction().commit();
+                    return moved;
+                }
+                persistCopies(target, batch, copier);
+                batch.forEach(sourceEm::remove);
+                sourceEm.getTransaction().commit();
+                moved += batch.size();
+                if (batch.size() < batchSize) {
+                    return moved;
+                }
+            } finally {
+                rollbackIfActive(sourceEm.getTransaction());
+                sourceEm.close();
+            }
+        }
+    }
+
+    private <E> void persistCopies(TemporalTier target, List<E> batch, UnaryOperator<E> copier) {
+        EntityManager targetEm = target.entityManagerFactory().createEntityManager();
+        try {
+            targetEm.getTransaction().begin();
+            for (E entity : batch) {
+                targetEm.persist(copier.apply(entity));
+            }
+            targetEm.getTransaction().commit();
+        } finally {
+            rollbackIfActive(targetEm.getTransaction());
+            targetEm.close();
+        }
+    }
+
+    private <E> List<E> queryTier(TemporalTier tier, TemporalAttribute<E> attribute, EmbeddableTemporal from,
+            EmbeddableTemporal to) {
+        EntityManager em = tier.entityManagerFactory().createEntityManager();
+        try {
+            TemporalPath path = attribute.path(ALIAS);
+            return em.createQuery(select(em, attribute) + TemporalPredicates.range(path, from, to)
+                    + " ORDER BY " + TemporalPredicates.ascending(path), attribute.entityType())
+                .getResultList();
+        } finally {
+            em.close();
+        }
+    }
+
+    private static String select(EntityManager em, TemporalAttribute<?> attribute) {
+        String entityName = em.getMetamodel().entity(attribute.entityType()).getName();
+        return "SELECT " + ALIAS + " FROM " + entityName + " " + ALIAS + " WHERE ";
+    }
+
+    private static void rollbackIfActive(EntityTransaction transaction) {
+        if (transaction.isActive()) {
+            transaction.rollback();
+        }
+    }
+
+    /**
+     * Merges per-tier result lists, each sorted by {@code (seconds, nanos)}, into one sorted list.
+     */
+    static <E> List<E> merge(List<List<E>> sortedLists, TemporalAttribute<E> attribute) {
+        if (sortedLists.size() == 1) {
+            return sortedLists.get(0);
+        }
+        int total = 0;
+        for (List<E> list : sortedLists) {
+            total += list.size();
+        }
+        if (total == 0) {
+            return Collections.emptyList();
+        }
+        record Cursor<T>(List<T> list, int index, EmbeddableTemporal key) {}
+        Comparator<Cursor<E>> order = (a, b) -> a.key().compareTo(b.key());
+        PriorityQueue<Cursor<E>> heap = new PriorityQueue<>(sortedLists.size(), order);
+        for (List<E> list : sortedLists) {
+            if (!list.isEmpty()) {
+                heap.add(new Cursor<>(list, 0, attribute.get(list.get(0))));
+            }
+        }
+        List<E> merged = new ArrayList<>(total);
+        while (!heap.isEmpty()) {
+            Cursor<E> cursor = heap.poll();
+            merged.add(cursor.list().get(cursor.index()));
+            int next = cursor.index() + 1;
+            if (next < cursor.list().size()) {
+                heap.add(new Cursor<>(cursor.list(), next, attribute.get(cursor.list().get(next))));
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,90 @@
+package org.boava.jpa.temporal.writebehind;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Objects;
+
+import org.hibernate.Session;
+
+/**
+ * A {@link WriteBehindSink} sending each batch as one JDBC batch insert in its own transaction.
+ * <p>
+ * The insert statement binds the timestamp's seconds and nanoseconds to its first two parameters; the payload
+ * binder fills the remaining ones, e.g.
+ * {@code INSERT INTO events (event_seconds, event_nanos, name) VALUES (?, ?, ?)}. Connections are borrowed from
+ * the persistence unit, bypassing the persistence context, so no entities are instantiated.
+ *
+ * @param <P> the payload type
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class JdbcBatchSink<P> implements WriteBehindSink<P> {
+
+    /**
+     * Binds a payload to the parameters of the insert statement that follow the timestamp.
+     *
+     * @param <P> the payload type
+     */
+    @FunctionalInterface
+    public interface PayloadBinder<P> {
+        /**
+         * Binds a payload.
+         *
+         * @param statement the insert statement
+         * @param firstIndex the index of the first payload parameter
+         * @param payload the payload
+         * @throws SQLException if a parameter cannot be bound
+         */
+        void bind(PreparedStatement statement, int firstIndex, P payload) throws SQLException;
+    }
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final String insertSql;
+    private final PayloadBinder<? super P> binder;
+
+    /**
+     * Creates a new sink.
+     *
+     * @param entityManagerFactory the factory of the persistence unit to write to
+     * @param insertSql the native insert statement, with the seconds and nanoseconds as its first two parameters
+     * @param binder binds the payload parameters, starting at index 3
+     * @throws NullPointerException if any argument is null
+     */
+    public JdbcBatchSink(EntityManagerFactory entityManagerFactory, String insertSql,
+            PayloadBinder<? super P> binder) {
+        this.entityManagerFactory = Objects.requireNonNull(entityManagerFactory,
+            "EntityManagerFactory cannot be null");
+        this.insertSql = Objects.requireNonNull(insertSql, "Insert statement cannot be null");
+        this.binder = Objects.requireNonNull(binder, "Binder cannot be null");
+    }
+
+    @Override
+    public void write(WriteBehindBatch<P> batch) {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        EntityTransaction transaction = em.getTransaction();
+        try {
+            transaction.begin();
+            em.unwrap(Session.class).doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(insertSql)) {
+                    for (int i = 0; i < batch.size(); i++) {
+                        statement.setLong(1, batch.getSeconds(i));
+                        statement.setInt(2, batch.getNanos(i));
+                        binder.bind(statement, 3, batch.getPayload(i));
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            });
+            transaction.commit();
+        } finally {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            em.close();
+        }
+    }
+}
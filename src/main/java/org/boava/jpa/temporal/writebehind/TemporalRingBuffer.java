@@ -0,0 +1,190 @@
+package org.boava.jpa.temporal.writebehind;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * A bounded, preallocated multi-producer single-consumer queue of timestamped payloads.
+ * <p>
+ * The timestamps live in primitive arrays and the payloads in an object array, all allocated once, so publishing
+ * allocates nothing. Every slot carries a sequence number: a producer claims the slot at the tail with a single
+ * compare-and-set, writes the event and publishes it by advancing the slot's sequence; the consumer takes
+ * published slots in order and hands them back to the producers by advancing the sequence by one lap. Producers
+ * never block each other for longer than one CAS, and a slow producer only delays the consumer at its own slot.
+ * <p>
+ * {@link #offer} fails instead of blocking when the buffer is full; blocking and backpressure are left to the
+ * caller, see {@link WriteBehindWriter}. {@link #drain} must only be called by one thread at a time.
+ *
+ * @param <P> the payload type
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class TemporalRingBuffer<P> {
+
+    private static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * Receives the events taken from the buffer.
+     *
+     * @param <P> the payload type
+     */
+    @FunctionalInterface
+    public interface EventConsumer<P> {
+        /**
+         * Consumes one event.
+         *
+         * @param seconds the seconds component of the timestamp
+         * @param nanos the nanoseconds component of the timestamp
+         * @param payload the payload
+         */
+        void accept(long seconds, int nanos, P payload);
+    }
+
+    private final int mask;
+    private final long[] sequences;
+    private final long[] seconds;
+    private final int[] nanos;
+    private final Object[] payloads;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param capacity the minimum capacity, rounded up to a power of two
+     * @throws IllegalArgumentException if capacity is not positive or exceeds 2^30
+     */
+    public TemporalRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be within 1..2^30: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.sequences = new long[size];
+        this.seconds = new long[size];
+        this.nanos = new int[size];
+        this.payloads = new Object[size];
+        for (int i = 0; i < size; i++) {
+            sequences[i] = i;
+        }
+        VarHandle.releaseFence();
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the number of events waiting for the consumer. The value is a snapshot and may be stale as soon as it
+     * is returned.
+     *
+     * @return the number of buffered events
+     */
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0L, Math.min(size, capacity()));
+    }
+
+    /**
+     * Returns true if no events are waiting for the consumer, as a snapshot.
+     *
+     * @return true if the buffer is empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Appends an event if there is room.
+     *
+     * @param timestamp the timestamp
+     * @param payload the payload, may be null
+     * @return true if the event was appended, false if the buffer is full
+     * @throws NullPointerException if timestamp is null
+     */
+    public boolean offer(EmbeddableTemporal timestamp, P payload) {
+        Objects.requireNonNull(timestamp, "Timestamp cannot be null");
+        return offer(timestamp.getSeconds(), timestamp.getNanos(), payload);
+    }
+
+    /**
+     * Appends an event if there is room.
+     *
+     * @param seconds the seconds component of the timestamp
+     * @param nanos the nanoseconds component of the timestamp, in the range 0..999,999,999
+     * @param payload the payload, may be null
+     * @return true if the event was appended, false if the buffer is full
+     * @throws IllegalArgumentException if nanos is out of range
+     */
+    public boolean offer(long seconds, int nanos, P payload) {
+        if (nanos < 0 || nanos > EmbeddableTemporal.MAX_NANOS) {
+            throw new IllegalArgumentException("Nanos must be within 0..999,999,999: " + nanos);
+        }
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = (long) SEQUENCE.getAcquire(sequences, index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    this.seconds[index] = seconds;
+                    this.nanos[index] = nanos;
+                    payloads[index] = payload;
+                    SEQUENCE.setRelease(sequences, index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // The slot still holds the event of the previous lap
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Takes up to {@code limit} published events in order. Must not be called concurrently.
+     *
+     * @param consumer receives the events
+     * @param limit the maximum number of events to take
+     * @return the number of events taken
+     * @throws NullPointerException if consumer is null
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(EventConsumer<? super P> consumer, int limit) {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        long position = head;
+        int taken = 0;
+        try {
+            while (taken < limit) {
+                int index = (int) position & mask;
+                if ((long) SEQUENCE.getAcquire(sequences, index) != position + 1) {
+                    break;
+                }
+                P payload = (P) payloads[index];
+                long eventSeconds = seconds[index];
+                int eventNanos = nanos[index];
+                payloads[index] = null;
+                SEQUENCE.setRelease(sequences, index, position + mask + 1);
+                position++;
+                taken++;
+                consumer.accept(eventSeconds, eventNanos, payload);
+            }
+        } finally {
+            head = position;
+        }
+        return taken;
+    }
+}
@@ -0,0 +1,102 @@
+package org.boava.jpa.temporal.writebehind;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A reusable batch of timestamped events handed to a {@link WriteBehindSink}, backed by primitive arrays.
+ *
+ * @param <P> the payload type
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public final class WriteBehindBatch<P> {
+
+    private final long[] seconds;
+    private final int[] nanos;
+    private final Object[] payloads;
+    private int size;
+
+    WriteBehindBatch(int capacity) {
+        this.seconds = new long[capacity];
+        this.nanos = new int[capacity];
+        this.payloads = new Object[capacity];
+    }
+
+    /**
+     * Returns the number of events in the batch.
+     *
+     * @return the batch size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the seconds component of an event's timestamp.
+     *
+     * @param index the event index, 0..size-1
+     * @return the seconds component
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public long getSeconds(int index) {
+        return seconds[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Returns the nanoseconds component of an event's timestamp.
+     *
+     * @param index the event index, 0..size-1
+     * @return the nanoseconds component
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int getNanos(int index) {
+        return nanos[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Returns an event's payload.
+     *
+     * @param index the event index, 0..size-1
+     * @return the payload
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public P getPayload(int index) {
+        return (P) payloads[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Passes every event of the batch, in publication order, to the consumer.
+     *
+     * @param consumer receives the events
+     * @throws NullPointerException if consumer is null
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(TemporalRingBuffer.EventConsumer<? super P> consumer) {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        for (int i = 0; i < size; i++) {
+            consumer.accept(seconds[i], nanos[i], (P) payloads[i]);
+        }
+    }
+
+    boolean isFull() {
+        return size == seconds.length;
+    }
+
+    int remaining() {
+        return seconds.length - size;
+    }
+
+    void add(long eventSeconds, int eventNanos, P payload) {
+        seconds[size] = eventSeconds;
+        nanos[size] = eventNanos;
+        payloads[size] = payload;
+        size++;
+    }
+
+    void clear() {
+        Arrays.fill(payloads, 0, size, null);
+        size = 0;
+    }
+}
@@ -0,0 +1,22 @@
+package org.boava.jpa.temporal.writebehind;
+
+/**
+ * Persists the batches drained by a {@link WriteBehindWriter}.
+ * <p>
+ * A sink is only ever called from the writer's consumer thread. If it throws, the writer retries the same batch,
+ * so a sink should either write a batch completely or not at all, typically by running it in one transaction.
+ *
+ * @param <P> the payload type
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+@FunctionalInterface
+public interface WriteBehindSink<P> {
+
+    /**
+     * Writes a batch. The batch is reused after the call returns and must not be retained.
+     *
+     * @param batch the events to write, never empty
+     */
+    void write(WriteBehindBatch<P> batch);
+}
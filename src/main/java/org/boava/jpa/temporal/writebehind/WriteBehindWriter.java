@@ -0,0 +1,305 @@
+package org.boava.jpa.temporal.writebehind;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+/**
+ * Decouples request threads from database writes: producers publish timestamped events into a
+ * {@link TemporalRingBuffer} and a single consumer thread drains them into batches for a {@link WriteBehindSink}.
+ * <p>
+ * A batch is written as soon as it holds {@code batchSize} events, or once the oldest event in it has waited for
+ * {@code flushInterval}, whichever comes first. When the ring buffer is full, {@link #publish} blocks until the
+ * consumer catches up, so a slow database throttles the producers instead of exhausting memory; {@link #offer}
+ * fails instead. A batch the sink fails to write is retried after {@code flushInterval} until it succeeds, so no
+ * event is dropped while the writer runs.
+ * <p>
+ * {@link #close()} stops accepting events, waits for publications already in progress and drains everything still
+ * buffered to the sink before it returns. Register {@link #closeOnShutdown()} to drain on JVM shutdown as well.
+ *
+ * @param <P> the payload type
+ * @author baalintnagy
+ * @since 0.9.3
+ */
+public class WriteBehindWriter<P> implements AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(WriteBehindWriter.class.getName());
+    private static final int SPINS = 100;
+    private static final long BACKOFF_NANOS = 50_000L;
+
+    private final WriteBehindSink<P> sink;
+    private final TemporalRingBuffer<P> ring;
+    private final WriteBehindBatch<P> batch;
+    private final long flushIntervalNanos;
+    private final Clock clock;
+
+    private final LongAdder publishing = new LongAdder();
+    private volatile boolean closed;
+    private volatile boolean sleeping;
+    private volatile long written;
+    private volatile RuntimeException failure;
+    private Thread consumer;
+    private long batchStarted;
+
+    /**
+     * Creates a new writer. Events can be published right away; they are written once the writer is
+     * {@linkplain #start() started}.
+     *
+     * @param sink the sink writing the batches
+     * @param capacity the minimum ring buffer capacity, rounded up to a power of two
+     * @param batchSize the maximum number of events per batch
+     * @param flushInterval the maximum time an event waits in a partial batch
+     * @param clock the clock stamping events published with {@link #publishNow}
+     * @throws IllegalArgumentException if capacity or batchSize is not positive, or flushInterval is not positive
+     */
+    public WriteBehindWriter(WriteBehindSink<P> sink, int capacity, int batchSize, Duration flushInterval,
+            Clock clock) {
+        this.sink = Objects.requireNonNull(sink, "Sink cannot be null");
+        Objects.requireNonNull(flushInterval, "Flush interval cannot be null");
+        this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        if (flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("Flush interval must be positive: " + flushInterval);
+        }
+        this.ring = new TemporalRingBuffer<>(capacity);
+        this.batch = new WriteBehindBatch<>(batchSize);
+        this.flushIntervalNanos = flushInterval.toNanos();
+    }
+
+    /**
+     * Starts the consumer thread.
+     *
+     * @throws IllegalStateException if the writer has already been started or closed
+     */
+    public synchronized void start() {
+        if (consumer != null || closed) {
+            throw new IllegalStateException("Writer has already been started");
+        }
+        consumer = new Thread(this::consume, "temporal-write-behind");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Registers a JVM shutdown hook closing this writer, so buffered events are drained on an orderly shutdown.
+     *
+     * @return this writer
+     */
+    public WriteBehindWriter<P> closeOnShutdown() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "temporal-write-behind-shutdown"));
+        return this;
+    }
+
+    /**
+     * Returns the number of events written by the sink so far.
+     *
+     * @return the written event count
+     */
+    public long getWrittenCount() {
+        return written;
+    }
+
+    /**
+     * Returns the number of events waiting in the ring buffer, as a snapshot.
+     *
+     * @return the buffered event count
+     */
+    public int getBufferedCount() {
+        return ring.size();
+    }
+
+    /**
+     * Publishes an event stamped with the writer's clock, blocking while the buffer is full.
+     *
+     * @param payload the payload, may be null
+     * @throws IllegalStateException if the writer is closed
+     */
+    public void publishNow(P payload) {
+        Instant now = clock.instant();
+        publish(now.getEpochSecond(), now.getNano(), payload);
+    }
+
+    /**
+     * Publishes an event, blocking while the buffer is full.
+     *
+     * @param timestamp the timestamp
+     * @param payload the payload, may be null
+     * @throws NullPointerException if timestamp is null
+     * @throws IllegalStateException if the writer is closed
+     */
+    public void publish(EmbeddableTemporal timestamp, P payload) {
+        Objects.requireNonNull(timestamp, "Timestamp cannot be null");
+        publish(timestamp.getSeconds(), timestamp.getNanos(), payload);
+    }
+
+    /**
+     * Publishes an event, blocking while the buffer is full.
+     *
+     * @param seconds the seconds component of the timestamp
+     * @param nanos the nanoseconds component of the timestamp, in the range 0..999,999,999
+     * @param payload the payload, may be null
+     * @throws IllegalArgumentException if nanos is out of range
+     * @throws IllegalStateException if the writer is closed
+     */
+    public void publish(long seconds, int nanos, P payload) {
+        enter();
+        try {
+            for (int attempt = 0; !ring.offer(seconds, nanos, payload); attempt++) {
+                if (attempt < SPINS) {
+                    Thread.onSpinWait();
+                } else {
+                    wakeConsumer();
+                    LockSupport.parkNanos(this, BACKOFF_NANOS);
+                }
+            }
+        } finally {
+            publishing.decrement();
+        }
+        if (sleeping) {
+            wakeConsumer();
+        }
+    }
+
+    /**
+     * Publishes an event if the buffer has room.
+     *
+     * @param seconds the seconds component of the timestamp
+     * @param nanos the nanoseconds component of the timestamp, in the range 0..999,999,999
+     * @param payload the payload, may be null
+     * @return true if the event was published, false if the buffer is full
+     * @throws IllegalArgumentException if nanos is out of range
+     * @throws IllegalStateException if the writer is closed
+     */
+    public boolean offer(long seconds, int nanos, P payload) {
+        enter();
+        boolean published;
+        try {
+            published = ring.offer(seconds, nanos, payload);
+        } finally {
+            publishing.decrement();
+        }
+        if (published && sleeping) {
+            wakeConsumer();
+        }
+        return published;
+    }
+
+    /**
+     * Stops accepting events and blocks until every buffered event has been written.
+     *
+     * @throws IllegalStateException if the sink failed to write the remaining events while closing
+     */
+    @Override
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            closed = true;
+            thread = consumer;
+            if (thread == null) {
+                // Never started: drain on the calling thread
+                consume();
+            }
+        }
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            boolean interrupted = false;
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        RuntimeException cause = failure;
+        if (cause != null) {
+            throw new IllegalStateException("Write-behind sink failed while draining on close", cause);
+        }
+    }
+
+    private void enter() {
+        // Counted before the closed check, so close() cannot miss a publication that got past it
+        publishing.increment();
+        if (closed) {
+            publishing.decrement();
+            throw new IllegalStateException("Writer is closed");
+        }
+    }
+
+    private void wakeConsumer() {
+        Thread thread = consumer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void consume() {
+        while (true) {
+            boolean wasEmpty = batch.size() == 0;
+            int drained = ring.drain(batch::add, batch.remaining());
+            long now = System.nanoTime();
+            if (wasEmpty && drained > 0) {
+                batchStarted = now;
+            }
+            if (batch.isFull() || (batch.size() > 0 && now - batchStarted >= flushIntervalNanos)) {
+                if (!flush()) {
+                    return;
+                }
+                continue;
+            }
+            if (drained > 0) {
+                continue;
+            }
+            if (closed && publishing.sum() == 0 && ring.isEmpty()) {
+                if (batch.size() > 0) {
+                    flush();
+                }
+                return;
+            }
+            long timeout = batch.size() > 0 ? flushIntervalNanos - (now - batchStarted) : flushIntervalNanos;
+            sleeping = true;
+            // Re-check after announcing the sleep; a publication racing with it at worst waits for the timeout
+            if (ring.isEmpty() && !closed) {
+                LockSupport.parkNanos(this, timeout);
+            } else if (closed) {
+                Thread.onSpinWait();
+            }
+            sleeping = false;
+        }
+    }
+
+    /**
+     * Writes the current batch, retrying until it succeeds. Returns false if the writer is closing and the sink
+     * still fails, in which case the failure is recorded for {@link #close()}.
+     */
+    private boolean flush() {
+        while (true) {
+            try {
+                sink.write(batch);
+                written += batch.size();
+                batch.clear();
+                return true;
+            } catch (RuntimeException e) {
+                if (closed) {
+                    LOGGER.log(System.Logger.Level.ERROR, "Write-behind sink failed while closing, "
+                        + (batch.size() + ring.size()) + " events were not written", e);
+                    failure = e;
+                    return false;
+                }
+                LOGGER.log(System.Logger.Level.WARNING, "Write-behind sink failed, retrying batch of "
+                    + batch.size() + " events", e);
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+    }
+}
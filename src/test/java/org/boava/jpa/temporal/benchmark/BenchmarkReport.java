@@ -0,0 +1,144 @@
+package org.boava.jpa.temporal.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects benchmark results and writes them as machine-readable JSON to
+ * {@code ${benchmark.output}/<suite>.json} (default {@code target/benchmarks}).
+ */
+public final class BenchmarkReport {
+
+    private final String suite;
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+    private final List<Map<String, Object>> results = new ArrayList<>();
+
+    public BenchmarkReport(String suite) {
+        this.suite = suite;
+    }
+
+    /**
+     * Reads an integer benchmark setting from a system property.
+     */
+    public static int intProperty(String name, int defaultValue) {
+        return Integer.getInteger("benchmark." + name, defaultValue);
+    }
+
+    /**
+     * Returns the directory benchmark reports and scratch files are written to.
+     */
+    public static Path outputDirectory() {
+        return Paths.get(System.getProperty("benchmark.output", "target/benchmarks"));
+    }
+
+    public BenchmarkReport parameter(String name, Object value) {
+        parameters.put(name, value);
+        return this;
+    }
+
+    /**
+     * Starts a new result record; the returned map keeps insertion order.
+     */
+    public Map<String, Object> result() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        results.add(result);
+        return result;
+    }
+
+    public Path write() {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("suite", suite);
+        document.put("createdAt", Instant.now().toString());
+        document.put("javaVersion", System.getProperty("java.version"));
+        document.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        document.put("parameters", parameters);
+        document.put("results", results);
+        StringBuilder json = new StringBuilder();
+        append(json, document, "");
+        json.append('\n');
+        try {
+            Path directory = outputDirectory();
+            Files.createDirectories(directory);
+            Path file = directory.resolve(suite + ".json");
+            Files.writeString(file, json, StandardCharsets.UTF_8);
+            System.out.println("Benchmark report written to " + file.toAbsolutePath());
+            System.out.print(json);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void append(StringBuilder json, Object value, String indent) {
+        if (value == null) {
+            json.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            appendNumber(json, value);
+        } else if (value instanceof Map<?, ?> map) {
+            String inner = indent + "  ";
+            json.append('{');
+            String separator = "\n";
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                json.append(separator).append(inner);
+                appendString(json, String.valueOf(entry.getKey()));
+                json.append(": ");
+                append(json, entry.getValue(), inner);
+                separator = ",\n";
+            }
+            json.append(map.isEmpty() ? "" : "\n" + indent).append('}');
+        } else if (value instanceof List<?> list) {
+            String inner = indent + "  ";
+            json.append('[');
+            String separator = "\n";
+            for (Object element : list) {
+                json.append(separator).append(inner);
+                append(json, element, inner);
+                separator = ",\n";
+            }
+            json.append(list.isEmpty() ? "" : "\n" + indent).append(']');
+        } else {
+            appendString(json, value.toString());
+        }
+    }
+
+    private static void appendNumber(StringBuilder json, Object value) {
+        if (value instanceof Double d && (d.isNaN() || d.isInfinite())) {
+            json.append("null");
+        } else if (value instanceof Double d) {
+            json.append(Math.round(d * 1000.0) / 1000.0);
+        } else {
+            json.append(value);
+        }
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append("\\u%04x".formatted((int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,95 @@
+package org.boava.jpa.temporal.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cache.spi.entry.StructuredCacheEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the retained heap of Hibernate second-level cache entries for entities with three temporal
+ * attributes, mapped as plain embeddables and through {@code TemporalCompositeUserType}.
+ * <p>
+ * The entries are built exactly as Hibernate builds them before handing them to the cache region, in both the
+ * unstructured ({@code StandardCacheEntryImpl}) and structured ({@code Map}) forms.
+ * Run with {@code mvn test -Pbenchmark -Dtest=CacheFootprintBenchmark}; tune with {@code -Dbenchmark.entities}.
+ * Results are written to {@code target/benchmarks/cache-footprint.json}.
+ */
+@Tag("benchmark")
+@DisplayName("Cache Footprint Benchmark")
+class CacheFootprintBenchmark {
+
+    static final long BASE_SECONDS = 1_700_000_000L;
+
+    final int entities = BenchmarkReport.intProperty("entities", 300_000);
+
+    @Test
+    @DisplayName("Should measure cache entry footprint per mapping")
+    void shouldMeasureCacheEntryFootprintPerMapping() {
+        BenchmarkReport report = new BenchmarkReport("cache-footprint")
+            .parameter("entities", entities)
+            .parameter("temporalsPerEntity", 3);
+        EntityManagerFactory emf = Persistence.createEntityManagerFactory("benchmark-pu");
+        try {
+            for (boolean structured : new boolean[] {false, true}) {
+                measure(emf, report, "embeddable", structured, CacheFootprintEntities.Plain.class,
+                    id -> new CacheFootprintEntities.Plain(id, BASE_SECONDS + id, (int) id));
+                measure(emf, report, "packed", structured, CacheFootprintEntities.Packed.class,
+                    id -> new CacheFootprintEntities.Packed(id, BASE_SECONDS + id, (int) id));
+            }
+        } finally {
+            emf.close();
+        }
+        assertThat(report.write()).exists();
+    }
+
+    private <E> void measure(EntityManagerFactory emf, BenchmarkReport report, String mapping, boolean structured,
+            Class<E> type, LongFunction<E> factory) {
+        EntityPersister persister = emf.unwrap(SessionFactoryImplementor.class).getMappingMetamodel()
+            .getEntityDescriptor(type);
+        StructuredCacheEntry structure = new StructuredCacheEntry(persister);
+        EntityManager em = emf.createEntityManager();
+        try {
+            SharedSessionContractImplementor session = em.unwrap(SharedSessionContractImplementor.class);
+            Object[] entries = new Object[entities];
+            long before = usedHeap();
+            for (int i = 0; i < entities; i++) {
+                E entity = factory.apply(i);
+                CacheEntry entry = new StandardCacheEntryImpl(persister.getValues(entity), persister, null, session,
+                    entity);
+                entries[i] = structured ? structure.structure(entry) : entry;
+            }
+            long after = usedHeap();
+            assertThat(entries[entities - 1]).isNotNull();
+
+            Map<String, Object> result = report.result();
+            result.put("mapping", mapping);
+            result.put("structuredEntries", structured);
+            result.put("retainedBytes", after - before);
+            result.put("bytesPerEntry", (double) (after - before) / entities);
+        } finally {
+            em.close();
+        }
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,91 @@
+package org.boava.jpa.temporal.benchmark;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.hibernate.TemporalCompositeUserType;
+import org.hibernate.annotations.CompositeType;
+
+/**
+ * Entities compared by {@link CacheFootprintBenchmark}, each carrying three temporal attributes.
+ */
+final class CacheFootprintEntities {
+
+    private CacheFootprintEntities() {
+        // Holder class - prevent instantiation
+    }
+
+    @Entity
+    @Table(name = "footprint_plain")
+    public static class Plain {
+
+        @Id
+        Long id;
+
+        @Embedded
+        @AttributeOverride(name = "seconds", column = @Column(name = "a_seconds"))
+        @AttributeOverride(name = "nanos", column = @Column(name = "a_nanos"))
+        EmbeddableTemporal a;
+
+        @Embedded
+        @AttributeOverride(name = "seconds", column = @Column(name = "b_seconds"))
+        @AttributeOverride(name = "nanos", column = @Column(name = "b_nanos"))
+        EmbeddableTemporal b;
+
+        @Embedded
+        @AttributeOverride(name = "seconds", column = @Column(name = "c_seconds"))
+        @AttributeOverride(name = "nanos", column = @Column(name = "c_nanos"))
+        EmbeddableTemporal c;
+
+        public Plain() {
+        }
+
+        Plain(long id, long seconds, int nanos) {
+            this.id = id;
+            this.a = new EmbeddableTemporal(seconds, nanos);
+            this.b = new EmbeddableTemporal(seconds + 1, nanos);
+            this.c = new EmbeddableTemporal(seconds + 2, nanos);
+        }
+    }
+
+    @Entity
+    @Table(name = "footprint_packed")
+    public static class Packed {
+
+        @Id
+        Long id;
+
+        @Embedded
+        @CompositeType(TemporalCompositeUserType.class)
+        @AttributeOverride(name = "seconds", column = @Column(name = "a_seconds"))
+        @AttributeOverride(name = "nanos", column = @Column(name = "a_nanos"))
+        EmbeddableTemporal a;
+
+        @Embedded
+        @CompositeType(TemporalCompositeUserType.class)
+        @AttributeOverride(name = "seconds", column = @Column(name = "b_seconds"))
+        @AttributeOverride(name = "nanos", column = @Column(name = "b_nanos"))
+        EmbeddableTemporal b;
+
+        @Embedded
+        @CompositeType(TemporalCompositeUserType.class)
+        @AttributeOverride(name = "seconds", column = @Column(name = "c_seconds"))
+        @AttributeOverride(name = "nanos", column = @Column(name = "c_nanos"))
+        EmbeddableTemporal c;
+
+        public Packed() {
+        }
+
+        Packed(long id, long seconds, int nanos) {
+            this.id = id;
+            this.a = new EmbeddableTemporal(seconds, nanos);
+            this.b = new EmbeddableTemporal(seconds + 1, nanos);
+            this.c = new EmbeddableTemporal(seconds + 2, nanos);
+        }
+    }
+}
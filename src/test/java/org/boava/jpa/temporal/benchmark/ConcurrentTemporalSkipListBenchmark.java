@@ -0,0 +1,144 @@
+package org.boava.jpa.temporal.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.boava.jpa.temporal.collection.ConcurrentTemporalSkipListMap;
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares a "recent events" workload on {@code ConcurrentSkipListMap<EmbeddableTemporal, V>} and
+ * {@code ConcurrentTemporalSkipListMap}: every thread appends events with increasing timestamps, looks up a random
+ * recent one per append, and every thousandth append expires everything older than a sliding window.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=ConcurrentTemporalSkipListBenchmark}; tune with
+ * {@code -Dbenchmark.operations}, {@code -Dbenchmark.window} and {@code -Dbenchmark.threads} (default: available
+ * processors). Results are written to {@code target/benchmarks/concurrent-skip-list.json}.
+ */
+@Tag("benchmark")
+@DisplayName("Concurrent Temporal Skip List Benchmark")
+class ConcurrentTemporalSkipListBenchmark {
+
+    final int operations = BenchmarkReport.intProperty("operations", 1_000_000);
+    final int window = BenchmarkReport.intProperty("window", 100_000);
+    final int maxThreads = BenchmarkReport.intProperty("threads", Runtime.getRuntime().availableProcessors());
+    final int iterations = BenchmarkReport.intProperty("iterations", 3);
+
+    private interface Candidate {
+
+        void put(long seconds, int nanos, Long value);
+
+        Long get(long seconds, int nanos);
+
+        void removeBefore(long seconds, int nanos);
+    }
+
+    @Test
+    @DisplayName("Should measure recent-events throughput per implementation and thread count")
+    void shouldMeasureRecentEventsThroughputPerImplementationAndThreadCount() throws Exception {
+        BenchmarkReport report = new BenchmarkReport("concurrent-skip-list")
+            .parameter("operationsPerThread", operations)
+            .parameter("window", window)
+            .parameter("iterations", iterations);
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            measure(report, "concurrentSkipListMap", threads, () -> new Candidate() {
+                final ConcurrentSkipListMap<EmbeddableTemporal, Long> map = new ConcurrentSkipListMap<>();
+
+                public void put(long seconds, int nanos, Long value) {
+                    map.put(new EmbeddableTemporal(seconds, nanos), value);
+                }
+
+                public Long get(long seconds, int nanos) {
+                    return map.get(new EmbeddableTemporal(seconds, nanos));
+                }
+
+                public void removeBefore(long seconds, int nanos) {
+                    map.headMap(new EmbeddableTemporal(seconds, nanos)).clear();
+                }
+            });
+            measure(report, "concurrentTemporalSkipListMap", threads, () -> new Candidate() {
+                final ConcurrentTemporalSkipListMap<Long> map = new ConcurrentTemporalSkipListMap<>();
+
+                public void put(long seconds, int nanos, Long value) {
+                    map.put(seconds, nanos, value);
+                }
+
+                public Long get(long seconds, int nanos) {
+                    return map.get(seconds, nanos);
+                }
+
+                public void removeBefore(long seconds, int nanos) {
+                    map.removeBefore(seconds, nanos);
+                }
+            });
+        }
+        assertThat(report.write()).exists();
+    }
+
+    private void measure(BenchmarkReport report, String implementation, int threads,
+            Supplier<Candidate> factory) throws Exception {
+        run(factory.get(), threads);
+        long elapsed = 0;
+        for (int i = 0; i < iterations; i++) {
+            elapsed += run(factory.get(), threads);
+        }
+        Map<String, Object> result = report.result();
+        result.put("implementation", implementation);
+        result.put("threads", threads);
+        result.put("operationsPerSecond", (double) operations * threads * iterations / (elapsed / 1e9));
+    }
+
+    private long run(Candidate candidate, int threads) throws Exception {
+        AtomicLong clock = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long found = 0;
+                    for (int i = 0; i < operations; i++) {
+                        // Shared increasing clock: ten events per second, spread over the sub-second part
+                        long tick = clock.getAndIncrement();
+                        candidate.put(tick / 10, (int) (tick % 10) * 100_000_000, tick);
+                        long probe = Math.max(0, tick - ThreadLocalRandom.current().nextInt(window));
+                        if (candidate.get(probe / 10, (int) (probe % 10) * 100_000_000) != null) {
+                            found++;
+                        }
+                        if (i % 1_000 == 0 && tick > window) {
+                            long expiry = tick - window;
+                            candidate.removeBefore(expiry / 10, (int) (expiry % 10) * 100_000_000);
+                        }
+                    }
+                    return found;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            long found = 0;
+            for (Future<Long> future : futures) {
+                found += future.get();
+            }
+            long elapsed = System.nanoTime() - begin;
+            assertThat(found).isPositive();
+            return elapsed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.boava.jpa.temporal.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.export.ExportReport;
+import org.boava.jpa.temporal.export.TemporalExporter;
+import org.boava.jpa.temporal.interval.TemporalInterval;
+import org.boava.jpa.temporal.query.TemporalPath;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Compares exporting a table to NDJSON by building each line with {@code EmbeddableTemporal.toInstant().toString()}
+ * and a {@code BufferedWriter} against {@link TemporalExporter}, sequentially and split into range partitions.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=ExportBenchmark}; tune with {@code -Dbenchmark.rows},
+ * {@code -Dbenchmark.partitions} and {@code -Dbenchmark.fetchSize}. Results are written to
+ * {@code target/benchmarks/export.json}.
+ */
+@Tag("benchmark")
+@DisplayName("Export Benchmark")
+class ExportBenchmark {
+
+    private static final String SELECT = "SELECT id, event_seconds, event_nanos, name FROM export_events "
+        + "WHERE {partition} ORDER BY event_seconds, event_nanos";
+    private static final Instant BASE = Instant.parse("2024-01-01T00:00:00Z");
+
+    final int rows = BenchmarkReport.intProperty("rows", 1_000_000);
+    final int partitions = BenchmarkReport.intProperty("partitions", Runtime.getRuntime().availableProcessors());
+    final int fetchSize = BenchmarkReport.intProperty("fetchSize", 10_000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should measure export throughput per implementation")
+    void shouldMeasureExportThroughputPerImplementation() throws Exception {
+        BenchmarkReport report = new BenchmarkReport("export")
+            .parameter("rows", rows)
+            .parameter("partitions", partitions)
+            .parameter("fetchSize", fetchSize);
+        EntityManagerFactory emf = Persistence.createEntityManagerFactory("benchmark-pu");
+        ExecutorService executor = Executors.newFixedThreadPool(partitions);
+        try {
+            execute(emf, "CREATE TABLE IF NOT EXISTS export_events (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "event_seconds BIGINT NOT NULL, event_nanos INT NOT NULL, name VARCHAR(64) NOT NULL)");
+            execute(emf, "TRUNCATE TABLE export_events");
+            populate(emf);
+            Path file = directory.resolve("events.ndjson");
+
+            exportWithStrings(emf, file);
+            long begin = System.nanoTime();
+            exportWithStrings(emf, file);
+            record(report, "instantToString", 1, System.nanoTime() - begin, Files.size(file));
+
+            TemporalExporter sequential = builder(emf).build();
+            sequential.export(file);
+            ExportReport export = sequential.export(file);
+            assertThat(export.rows()).isEqualTo(rows);
+            record(report, "temporalExporter", 1, export.elapsed().toNanos(), export.bytes());
+
+            TemporalExporter partitioned = builder(emf)
+                .partitions(TemporalPath.columns("event_seconds", "event_nanos"),
+                    TemporalInterval.of(BASE, BASE.plusNanos(rows * 1_000_123L)), partitions)
+                .executor(executor)
+                .build();
+            partitioned.export(file);
+            export = partitioned.export(file);
+            assertThat(export.rows()).isEqualTo(rows);
+            record(report, "temporalExporter", partitions, export.elapsed().toNanos(), export.bytes());
+            execute(emf, "DROP TABLE export_events");
+        } finally {
+            executor.shutdownNow();
+            emf.close();
+        }
+        assertThat(report.write()).exists();
+    }
+
+    private TemporalExporter.Builder builder(EntityManagerFactory emf) {
+        return TemporalExporter.builder(emf, SELECT)
+            .column("id")
+            .temporalColumn("timestamp")
+            .column("name")
+            .fetchSize(fetchSize);
+    }
+
+    private void populate(EntityManagerFactory emf) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.unwrap(Session.class).doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "INSERT INTO export_events (event_seconds, event_nanos, name) VALUES (?, ?, ?)")) {
+                    for (int i = 0; i < rows; i++) {
+                        Instant instant = BASE.plusNanos(i * 1_000_123L);
+                        statement.setLong(1, instant.getEpochSecond());
+                        statement.setInt(2, instant.getNano());
+                        statement.setString(3, "event-" + i);
+                        statement.addBatch();
+                        if (i % 1_000 == 999) {
+                            statement.executeBatch();
+                        }
+                    }
+                    statement.executeBatch();
+                }
+            });
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    private void exportWithStrings(EntityManagerFactory emf, Path file) throws Exception {
+        EntityManager em = emf.createEntityManager();
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            em.getTransaction().begin();
+            em.unwrap(Session.class).doWork(connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.setFetchSize(fetchSize);
+                    try (ResultSet resultSet = statement.executeQuery(SELECT.replace("{partition}", "1 = 1"))) {
+                        while (resultSet.next()) {
+                            EmbeddableTemporal timestamp = new EmbeddableTemporal(resultSet.getLong(2),
+                                resultSet.getInt(3));
+                            writer.write("{\"id\":" + resultSet.getLong(1) + ",\"timestamp\":\""
+                                + timestamp.toInstant() + "\",\"name\":\"" + resultSet.getString(4) + "\"}\n");
+                        }
+                    } catch (java.io.IOException e) {
+                        throw new java.io.UncheckedIOException(e);
+                    }
+                }
+            });
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    private void record(BenchmarkReport report, String implementation, int partitionCount, long elapsed,
+            long bytes) {
+        Map<String, Object> result = report.result();
+        result.put("implementation", implementation);
+        result.put("partitions", partitionCount);
+        result.put("rowsPerSecond", rows / (elapsed / 1e9));
+        result.put("megabytesPerSecond", bytes / 1e6 / (elapsed / 1e9));
+    }
+
+    private static void execute(EntityManagerFactory emf, String sql) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.createNativeQuery(sql).executeUpdate();
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+}
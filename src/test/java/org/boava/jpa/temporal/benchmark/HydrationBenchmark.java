@@ -0,0 +1,100 @@
+package org.boava.jpa.temporal.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.util.Map;
+import java.util.function.LongFunction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures entity load throughput for the legacy property-access mapping, the trusted field-access hydration of
+ * {@code EmbeddableTemporal} and the strict mode validating every load.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=HydrationBenchmark}; tune with {@code -Dbenchmark.rows} and
+ * {@code -Dbenchmark.iterations}. Results are written to {@code target/benchmarks/hydration.json}.
+ */
+@Tag("benchmark")
+@DisplayName("Hydration Benchmark")
+class HydrationBenchmark {
+
+    static final long BASE_SECONDS = 1_700_000_000L;
+    static final int BATCH_SIZE = 1_000;
+
+    final int rows = BenchmarkReport.intProperty("rows", 100_000);
+    final int iterations = BenchmarkReport.intProperty("iterations", 5);
+
+    @Test
+    @DisplayName("Should measure load throughput per hydration mode")
+    void shouldMeasureLoadThroughputPerHydrationMode() {
+        BenchmarkReport report = new BenchmarkReport("hydration")
+            .parameter("rows", rows)
+            .parameter("iterations", iterations)
+            .parameter("temporalsPerRow", 2);
+        EntityManagerFactory emf = Persistence.createEntityManagerFactory("benchmark-pu");
+        try {
+            measure(emf, report, "propertyAccess", HydrationEntities.Legacy.class,
+                id -> new HydrationEntities.Legacy(id, BASE_SECONDS + id, (int) (id % 1_000_000_000)));
+            measure(emf, report, "trusted", HydrationEntities.Trusted.class, id -> {
+                HydrationEntities.Trusted entity = new HydrationEntities.Trusted();
+                entity.init(id, BASE_SECONDS + id, (int) (id % 1_000_000_000));
+                return entity;
+            });
+            measure(emf, report, "strict", HydrationEntities.Strict.class, id -> {
+                HydrationEntities.Strict entity = new HydrationEntities.Strict();
+                entity.init(id, BASE_SECONDS + id, (int) (id % 1_000_000_000));
+                return entity;
+            });
+        } finally {
+            emf.close();
+        }
+        assertThat(report.write()).exists();
+    }
+
+    private <E> void measure(EntityManagerFactory emf, BenchmarkReport report, String mode, Class<E> type,
+            LongFunction<E> factory) {
+        EntityManager em = emf.createEntityManager();
+        em.getTransaction().begin();
+        for (long id = 0; id < rows; id++) {
+            em.persist(factory.apply(id));
+            if ((id + 1) % BATCH_SIZE == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.getTransaction().commit();
+        em.close();
+
+        String query = "SELECT e FROM " + emf.getMetamodel().entity(type).getName() + " e";
+        // Warm-up
+        load(emf, query, type);
+        load(emf, query, type);
+        long elapsed = 0;
+        for (int i = 0; i < iterations; i++) {
+            elapsed += load(emf, query, type);
+        }
+        Map<String, Object> result = report.result();
+        result.put("mode", mode);
+        result.put("rowsPerSecond", (double) rows * iterations / (elapsed / 1e9));
+        result.put("nanosPerRow", (double) elapsed / ((long) rows * iterations));
+    }
+
+    private static <E> long load(EntityManagerFactory emf, String query, Class<E> type) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            long start = System.nanoTime();
+            int loaded = em.createQuery(query, type).getResultList().size();
+            long elapsed = System.nanoTime() - start;
+            assertThat(loaded).isPositive();
+            return elapsed;
+        } finally {
+            em.close();
+        }
+    }
+}
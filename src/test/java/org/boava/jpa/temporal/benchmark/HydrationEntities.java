@@ -0,0 +1,84 @@
+package org.boava.jpa.temporal.benchmark;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Table;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.embeddable.TemporalHydrationValidator;
+
+/**
+ * Entities loaded by {@link HydrationBenchmark}, each carrying two temporal attributes.
+ */
+final class HydrationEntities {
+
+    private HydrationEntities() {
+        // Holder class - prevent instantiation
+    }
+
+    @Entity
+    @Table(name = "hydration_legacy")
+    public static class Legacy {
+
+        @Id
+        Long id;
+
+        @Embedded
+        @AttributeOverride(name = "seconds", column = @Column(name = "created_seconds"))
+        @AttributeOverride(name = "nanos", column = @Column(name = "created_nanos"))
+        PropertyAccessTemporal created;
+
+        @Embedded
+        @AttributeOverride(name = "seconds", column = @Column(name = "updated_seconds"))
+        @AttributeOverride(name = "nanos", column = @Column(name = "updated_nanos"))
+        PropertyAccessTemporal updated;
+
+        public Legacy() {
+        }
+
+        Legacy(long id, long seconds, int nanos) {
+            this.id = id;
+            this.created = new PropertyAccessTemporal(seconds, nanos);
+            this.updated = new PropertyAccessTemporal(seconds + 1, nanos);
+        }
+    }
+
+    @MappedSuperclass
+    public abstract static class Base {
+
+        @Id
+        Long id;
+
+        @Embedded
+        @AttributeOverride(name = "seconds", column = @Column(name = "created_seconds"))
+        @AttributeOverride(name = "nanos", column = @Column(name = "created_nanos"))
+        EmbeddableTemporal created;
+
+        @Embedded
+        @AttributeOverride(name = "seconds", column = @Column(name = "updated_seconds"))
+        @AttributeOverride(name = "nanos", column = @Column(name = "updated_nanos"))
+        EmbeddableTemporal updated;
+
+        void init(long id, long seconds, int nanos) {
+            this.id = id;
+            this.created = new EmbeddableTemporal(seconds, nanos);
+            this.updated = new EmbeddableTemporal(seconds + 1, nanos);
+        }
+    }
+
+    @Entity
+    @Table(name = "hydration_trusted")
+    public static class Trusted extends Base {
+    }
+
+    @Entity
+    @Table(name = "hydration_strict")
+    @EntityListeners(TemporalHydrationValidator.class)
+    public static class Strict extends Base {
+    }
+}
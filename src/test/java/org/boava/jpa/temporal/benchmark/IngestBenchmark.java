@@ -0,0 +1,232 @@
+package org.boava.jpa.temporal.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.ingest.IngestReport;
+import org.boava.jpa.temporal.ingest.IsoInstantCodec;
+import org.boava.jpa.temporal.ingest.LineBinder;
+import org.boava.jpa.temporal.ingest.TemporalIngester;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Compares loading a timestamped CSV file line by line with {@code BufferedReader}, {@code Instant.parse} and
+ * {@code EmbeddableTemporal.from} against {@link TemporalIngester}. Measures timestamp parsing alone, with the
+ * bytes allocated per line, and the end-to-end load into an H2 table through JDBC batches.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=IngestBenchmark}; tune with {@code -Dbenchmark.lines},
+ * {@code -Dbenchmark.parallelism} and {@code -Dbenchmark.batchSize}. Results are written to
+ * {@code target/benchmarks/ingest.json}.
+ */
+@Tag("benchmark")
+@DisplayName("Ingest Benchmark")
+class IngestBenchmark {
+
+    private static final String INSERT =
+        "INSERT INTO ingest_events (event_seconds, event_nanos, name) VALUES (?, ?, ?)";
+
+    final int lines = BenchmarkReport.intProperty("lines", 1_000_000);
+    final int parallelism = BenchmarkReport.intProperty("parallelism", Runtime.getRuntime().availableProcessors());
+    final int batchSize = BenchmarkReport.intProperty("batchSize", 1_000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should measure parsing and loading throughput per implementation")
+    void shouldMeasureParsingAndLoadingThroughputPerImplementation() throws Exception {
+        Path file = directory.resolve("events.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            Instant base = Instant.parse("2024-01-01T00:00:00Z");
+            for (int i = 0; i < lines; i++) {
+                writer.write(base.plusNanos(i * 1_234_567L).toString());
+                writer.write(",event-");
+                writer.write(Integer.toString(i));
+                writer.newLine();
+            }
+        }
+        BenchmarkReport report = new BenchmarkReport("ingest")
+            .parameter("lines", lines)
+            .parameter("fileBytes", Files.size(file))
+            .parameter("parallelism", parallelism)
+            .parameter("batchSize", batchSize);
+
+        parseLineByLine(file);
+        parseMapped(file);
+        measureParse(report, "instantParse", () -> parseLineByLine(file));
+        measureParse(report, "isoInstantCodec", () -> parseMapped(file));
+
+        EntityManagerFactory emf = Persistence.createEntityManagerFactory("benchmark-pu");
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            execute(emf, "CREATE TABLE IF NOT EXISTS ingest_events (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "event_seconds BIGINT NOT NULL, event_nanos INT NOT NULL, name VARCHAR(64) NOT NULL)");
+            execute(emf, "TRUNCATE TABLE ingest_events");
+            long begin = System.nanoTime();
+            loadLineByLine(emf, file);
+            recordLoad(report, emf, "lineByLine", System.nanoTime() - begin);
+
+            execute(emf, "TRUNCATE TABLE ingest_events");
+            IngestReport ingest = TemporalIngester.builder(emf, INSERT, LineBinder.text())
+                .batchSize(batchSize)
+                .parallelism(parallelism)
+                .chunkSize(Math.max(1 << 20, (int) (Files.size(file) / (parallelism * 4L))))
+                .executor(executor)
+                .build()
+                .ingest(file);
+            assertThat(ingest.rows()).isEqualTo(lines);
+            recordLoad(report, emf, "temporalIngester", ingest.elapsed().toNanos());
+            execute(emf, "DROP TABLE ingest_events");
+        } finally {
+            executor.shutdownNow();
+            emf.close();
+        }
+        assertThat(report.write()).exists();
+    }
+
+    private interface Run {
+
+        long run() throws IOException;
+    }
+
+    private void measureParse(BenchmarkReport report, String implementation, Run run) throws IOException {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long begin = System.nanoTime();
+        long checksum = run.run();
+        long elapsed = System.nanoTime() - begin;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        assertThat(checksum).isNotZero();
+        Map<String, Object> result = report.result();
+        result.put("phase", "parse");
+        result.put("implementation", implementation);
+        result.put("linesPerSecond", lines / (elapsed / 1e9));
+        result.put("bytesAllocatedPerLine", (double) allocated / lines);
+    }
+
+    private long parseLineByLine(Path file) throws IOException {
+        long checksum = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                EmbeddableTemporal timestamp = EmbeddableTemporal.from(Instant.parse(line.substring(0,
+                    line.indexOf(','))));
+                checksum += timestamp.getSeconds() + timestamp.getNanos();
+            }
+        }
+        return checksum;
+    }
+
+    private long parseMapped(Path file) throws IOException {
+        long[] checksum = new long[1];
+        try (FileChannel channel = FileChannel.open(file)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int limit = buffer.limit();
+            int from = 0;
+            while (from < limit) {
+                int split = from;
+                while (buffer.get(split) != ',') {
+                    split++;
+                }
+                IsoInstantCodec.parse(buffer, from, split, (seconds, nanos) -> checksum[0] += seconds + nanos);
+                from = split;
+                while (from < limit && buffer.get(from++) != '\n') {
+                    // Skip the rest of the line
+                }
+            }
+        }
+        return checksum[0];
+    }
+
+    private void loadLineByLine(EntityManagerFactory emf, Path file) throws IOException {
+        EntityManager em = emf.createEntityManager();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            boolean more = true;
+            while (more) {
+                em.getTransaction().begin();
+                boolean[] exhausted = new boolean[1];
+                em.unwrap(Session.class).doWork(connection -> {
+                    try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+                        int rows = 0;
+                        String line = null;
+                        while (rows < batchSize && (line = readLine(reader)) != null) {
+                            int comma = line.indexOf(',');
+                            EmbeddableTemporal timestamp = EmbeddableTemporal.from(Instant.parse(
+                                line.substring(0, comma)));
+                            statement.setLong(1, timestamp.getSeconds());
+                            statement.setInt(2, timestamp.getNanos());
+                            statement.setString(3, line.substring(comma + 1));
+                            statement.addBatch();
+                            rows++;
+                        }
+                        if (rows > 0) {
+                            statement.executeBatch();
+                        }
+                        exhausted[0] = line == null;
+                    }
+                });
+                em.getTransaction().commit();
+                more = !exhausted[0];
+            }
+        } finally {
+            em.close();
+        }
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new java.io.UncheckedIOException(e);
+        }
+    }
+
+    private void recordLoad(BenchmarkReport report, EntityManagerFactory emf, String implementation, long elapsed) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            Number rows = (Number) em.createNativeQuery("SELECT COUNT(*) FROM ingest_events").getSingleResult();
+            assertThat(rows.longValue()).isEqualTo(lines);
+        } finally {
+            em.close();
+        }
+        Map<String, Object> result = report.result();
+        result.put("phase", "load");
+        result.put("implementation", implementation);
+        result.put("rowsPerSecond", lines / (elapsed / 1e9));
+    }
+
+    private static void execute(EntityManagerFactory emf, String sql) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.createNativeQuery(sql).executeUpdate();
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.boava.jpa.temporal.benchmark;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * Reproduces the former property-access mapping of {@code EmbeddableTemporal}, where every hydrated component
+ * passes through a normalizing setter. Baseline for {@link HydrationBenchmark}.
+ */
+@Embeddable
+@Access(AccessType.PROPERTY)
+public class PropertyAccessTemporal {
+
+    private long seconds;
+    private int nanos;
+
+    public PropertyAccessTemporal() {
+    }
+
+    public PropertyAccessTemporal(long seconds, int nanos) {
+        this.seconds = seconds;
+        this.nanos = nanos;
+        normalize();
+    }
+
+    @Column(name = "seconds", nullable = false)
+    public long getSeconds() {
+        return seconds;
+    }
+
+    public void setSeconds(long seconds) {
+        this.seconds = seconds;
+        normalize();
+    }
+
+    @Column(name = "nanos", nullable = false)
+    public int getNanos() {
+        return nanos;
+    }
+
+    public void setNanos(int nanos) {
+        this.nanos = nanos;
+        normalize();
+    }
+
+    private void normalize() {
+        if (nanos >= 0 && nanos < 1_000_000_000) {
+            return;
+        }
+        long carry = Math.floorDiv(nanos, 1_000_000_000);
+        seconds += carry;
+        nanos = (int) Math.floorMod(nanos, 1_000_000_000);
+    }
+}
@@ -0,0 +1,132 @@
+package org.boava.jpa.temporal.benchmark;
+
+import static org.boava.jpa.temporal.embeddable.EmbeddableTemporal.NANOS_PER_SECOND;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Alternative column layouts for a nanosecond timestamp, compared by {@link TemporalStorageBenchmark}.
+ */
+enum StorageStrategy {
+
+    /**
+     * The {@code EmbeddableTemporal} layout: BIGINT seconds plus INT nanos.
+     */
+    TWO_COLUMN("ts_seconds BIGINT NOT NULL, ts_nanos INT NOT NULL", "ts_seconds, ts_nanos", 2) {
+        @Override
+        int bindValue(PreparedStatement statement, int index, long seconds, int nanos) throws SQLException {
+            statement.setLong(index, seconds);
+            statement.setInt(index + 1, nanos);
+            return index + 2;
+        }
+
+        @Override
+        String equalTo() {
+            return "ts_seconds = ? AND ts_nanos = ?";
+        }
+
+        @Override
+        String atOrAfter() {
+            return "(ts_seconds >= ? AND (ts_seconds > ? OR ts_nanos >= ?))";
+        }
+
+        @Override
+        String before() {
+            return "(ts_seconds <= ? AND (ts_seconds < ? OR ts_nanos < ?))";
+        }
+
+        @Override
+        int bindBound(PreparedStatement statement, int index, long seconds, int nanos) throws SQLException {
+            statement.setLong(index, seconds);
+            statement.setLong(index + 1, seconds);
+            statement.setInt(index + 2, nanos);
+            return index + 3;
+        }
+    },
+
+    /**
+     * A single BIGINT of epoch nanoseconds, covering roughly the years 1677 to 2262.
+     */
+    PACKED_BIGINT("ts_epoch_nanos BIGINT NOT NULL", "ts_epoch_nanos", 1) {
+        @Override
+        int bindValue(PreparedStatement statement, int index, long seconds, int nanos) throws SQLException {
+            statement.setLong(index, seconds * NANOS_PER_SECOND + nanos);
+            return index + 1;
+        }
+    },
+
+    /**
+     * A native TIMESTAMP(9) column holding UTC local date-times.
+     */
+    TIMESTAMP_9("ts TIMESTAMP(9) NOT NULL", "ts", 1) {
+        @Override
+        int bindValue(PreparedStatement statement, int index, long seconds, int nanos) throws SQLException {
+            statement.setObject(index, LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC));
+            return index + 1;
+        }
+    },
+
+    /**
+     * A DECIMAL of epoch seconds with nine fractional digits.
+     */
+    DECIMAL_EPOCH("ts_decimal DECIMAL(30, 9) NOT NULL", "ts_decimal", 1) {
+        @Override
+        int bindValue(PreparedStatement statement, int index, long seconds, int nanos) throws SQLException {
+            statement.setBigDecimal(index, BigDecimal.valueOf(seconds).add(BigDecimal.valueOf(nanos, 9)));
+            return index + 1;
+        }
+    };
+
+    private final String columnDefinitions;
+    private final String columns;
+    private final int columnCount;
+
+    StorageStrategy(String columnDefinitions, String columns, int columnCount) {
+        this.columnDefinitions = columnDefinitions;
+        this.columns = columns;
+        this.columnCount = columnCount;
+    }
+
+    String columnDefinitions() {
+        return columnDefinitions;
+    }
+
+    /**
+     * Returns the timestamp columns, in index and ORDER BY order.
+     */
+    String columns() {
+        return columns;
+    }
+
+    String placeholders() {
+        return columnCount == 1 ? "?" : "?, ?";
+    }
+
+    /**
+     * Binds the stored column values of a timestamp, returning the next parameter index.
+     */
+    abstract int bindValue(PreparedStatement statement, int index, long seconds, int nanos) throws SQLException;
+
+    /**
+     * Binds the parameters of {@link #atOrAfter()} or {@link #before()}, returning the next parameter index.
+     */
+    int bindBound(PreparedStatement statement, int index, long seconds, int nanos) throws SQLException {
+        return bindValue(statement, index, seconds, nanos);
+    }
+
+    String equalTo() {
+        return columns + " = ?";
+    }
+
+    String atOrAfter() {
+        return columns + " >= ?";
+    }
+
+    String before() {
+        return columns + " < ?";
+    }
+}
@@ -0,0 +1,134 @@
+package org.boava.jpa.temporal.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.boava.jpa.temporal.collection.TemporalLongMap;
+import org.boava.jpa.temporal.collection.TemporalMap;
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares insert and lookup cost of {@code HashMap<EmbeddableTemporal, Long>} with the primitive
+ * {@code TemporalMap} and {@code TemporalLongMap}. Lookups into the primitive maps probe with raw components, as a
+ * join reading a {@code ResultSet} would, while the {@code HashMap} needs a key object per probe.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=TemporalCollectionsBenchmark}; tune with {@code -Dbenchmark.keys}
+ * and {@code -Dbenchmark.iterations}. Results are written to {@code target/benchmarks/temporal-collections.json}.
+ */
+@Tag("benchmark")
+@DisplayName("Temporal Collections Benchmark")
+class TemporalCollectionsBenchmark {
+
+    final int keys = BenchmarkReport.intProperty("keys", 1_000_000);
+    final int iterations = BenchmarkReport.intProperty("iterations", 5);
+
+    private interface Candidate {
+
+        void insert(long[] seconds, int[] nanos);
+
+        long lookup(long[] seconds, int[] nanos);
+    }
+
+    @Test
+    @DisplayName("Should measure insert and lookup cost per map implementation")
+    void shouldMeasureInsertAndLookupCostPerMapImplementation() {
+        BenchmarkReport report = new BenchmarkReport("temporal-collections")
+            .parameter("keys", keys)
+            .parameter("iterations", iterations);
+        Random random = new Random(1);
+        long[] seconds = new long[keys];
+        int[] nanos = new int[keys];
+        for (int i = 0; i < keys; i++) {
+            // Event-like timestamps: increasing seconds with random sub-second parts
+            seconds[i] = 1_700_000_000L + i / 100;
+            nanos[i] = random.nextInt(1_000_000_000);
+        }
+
+        measure(report, "hashMap", seconds, nanos, () -> new Candidate() {
+            final Map<EmbeddableTemporal, Long> map = new HashMap<>();
+
+            public void insert(long[] s, int[] n) {
+                for (int i = 0; i < s.length; i++) {
+                    map.put(new EmbeddableTemporal(s[i], n[i]), (long) i);
+                }
+            }
+
+            public long lookup(long[] s, int[] n) {
+                long sum = 0;
+                for (int i = 0; i < s.length; i++) {
+                    sum += map.get(new EmbeddableTemporal(s[i], n[i]));
+                }
+                return sum;
+            }
+        });
+        measure(report, "temporalMap", seconds, nanos, () -> new Candidate() {
+            final TemporalMap<Long> map = new TemporalMap<>();
+
+            public void insert(long[] s, int[] n) {
+                for (int i = 0; i < s.length; i++) {
+                    map.put(s[i], n[i], (long) i);
+                }
+            }
+
+            public long lookup(long[] s, int[] n) {
+                long sum = 0;
+                for (int i = 0; i < s.length; i++) {
+                    sum += map.get(s[i], n[i]);
+                }
+                return sum;
+            }
+        });
+        measure(report, "temporalLongMap", seconds, nanos, () -> new Candidate() {
+            final TemporalLongMap map = new TemporalLongMap();
+
+            public void insert(long[] s, int[] n) {
+                for (int i = 0; i < s.length; i++) {
+                    map.put(s[i], n[i], i);
+                }
+            }
+
+            public long lookup(long[] s, int[] n) {
+                long sum = 0;
+                for (int i = 0; i < s.length; i++) {
+                    sum += map.getOrDefault(s[i], n[i], 0L);
+                }
+                return sum;
+            }
+        });
+        assertThat(report.write()).exists();
+    }
+
+    private void measure(BenchmarkReport report, String implementation, long[] seconds, int[] nanos,
+            Supplier<Candidate> factory) {
+        long expected = (long) keys * (keys - 1) / 2;
+        // Warm-up
+        for (int i = 0; i < 2; i++) {
+            Candidate candidate = factory.get();
+            candidate.insert(seconds, nanos);
+            assertThat(candidate.lookup(seconds, nanos)).isEqualTo(expected);
+        }
+        long insertNanos = 0;
+        long lookupNanos = 0;
+        for (int i = 0; i < iterations; i++) {
+            Candidate candidate = factory.get();
+            long start = System.nanoTime();
+            candidate.insert(seconds, nanos);
+            insertNanos += System.nanoTime() - start;
+            start = System.nanoTime();
+            long sum = candidate.lookup(seconds, nanos);
+            lookupNanos += System.nanoTime() - start;
+            assertThat(sum).isEqualTo(expected);
+        }
+        Map<String, Object> result = report.result();
+        result.put("implementation", implementation);
+        result.put("insertNanosPerKey", (double) insertNanos / ((long) keys * iterations));
+        result.put("lookupNanosPerKey", (double) lookupNanos / ((long) keys * iterations));
+    }
+}
@@ -0,0 +1,103 @@
+package org.boava.jpa.temporal.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.stream.TemporalReorderBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares reordering a stream of events delayed by up to the allowed lateness with {@link TemporalReorderBuffer}
+ * and with a {@code PriorityQueue} of {@link EmbeddableTemporal}-keyed entries driven by the same watermark.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=TemporalReorderBufferBenchmark}; tune with {@code -Dbenchmark.events},
+ * {@code -Dbenchmark.latenessMillis} and {@code -Dbenchmark.iterations}. Results are written to
+ * {@code target/benchmarks/reorder-buffer.json}.
+ */
+@Tag("benchmark")
+@DisplayName("Temporal Reorder Buffer Benchmark")
+class TemporalReorderBufferBenchmark {
+
+    final int events = BenchmarkReport.intProperty("events", 5_000_000);
+    final int latenessMillis = BenchmarkReport.intProperty("latenessMillis", 100);
+    final int iterations = BenchmarkReport.intProperty("iterations", 3);
+
+    private record Entry(EmbeddableTemporal timestamp, long arrival, Object event) {}
+
+    @Test
+    @DisplayName("Should measure reordering throughput per implementation")
+    void shouldMeasureReorderingThroughputPerImplementation() {
+        // One event per microsecond, each delayed by a random amount below the allowed lateness
+        Random random = new Random(7);
+        long[] seconds = new long[events];
+        int[] nanos = new int[events];
+        for (int i = 0; i < events; i++) {
+            long at = i * 1_000L - random.nextInt(latenessMillis * 1_000_000);
+            seconds[i] = Math.floorDiv(at, 1_000_000_000L);
+            nanos[i] = (int) Math.floorMod(at, 1_000_000_000L);
+        }
+        BenchmarkReport report = new BenchmarkReport("reorder-buffer")
+            .parameter("events", events)
+            .parameter("latenessMillis", latenessMillis)
+            .parameter("iterations", iterations);
+        measure(report, "priorityQueue", () -> priorityQueue(seconds, nanos));
+        measure(report, "temporalReorderBuffer", () -> reorderBuffer(seconds, nanos));
+        assertThat(report.write()).exists();
+    }
+
+    private void measure(BenchmarkReport report, String implementation, Runnable run) {
+        run.run();
+        long elapsed = 0;
+        for (int i = 0; i < iterations; i++) {
+            long begin = System.nanoTime();
+            run.run();
+            elapsed += System.nanoTime() - begin;
+        }
+        Map<String, Object> result = report.result();
+        result.put("implementation", implementation);
+        result.put("eventsPerSecond", (double) events * iterations / (elapsed / 1e9));
+    }
+
+    private void reorderBuffer(long[] seconds, int[] nanos) {
+        long[] emitted = new long[1];
+        TemporalReorderBuffer<Object> buffer = new TemporalReorderBuffer<>(Duration.ofMillis(latenessMillis),
+            1 << 20, (s, n, event) -> emitted[0]++);
+        for (int i = 0; i < events; i++) {
+            buffer.accept(seconds[i], nanos[i], null);
+        }
+        buffer.flush();
+        assertThat(emitted[0]).isEqualTo(events);
+    }
+
+    private void priorityQueue(long[] seconds, int[] nanos) {
+        PriorityQueue<Entry> queue = new PriorityQueue<>((a, b) -> {
+            int byTime = a.timestamp().compareTo(b.timestamp());
+            return byTime != 0 ? byTime : Long.compare(a.arrival(), b.arrival());
+        });
+        EmbeddableTemporal lateness = EmbeddableTemporal.from(Duration.ofMillis(latenessMillis));
+        EmbeddableTemporal max = null;
+        long emitted = 0;
+        for (int i = 0; i < events; i++) {
+            EmbeddableTemporal timestamp = new EmbeddableTemporal(seconds[i], nanos[i]);
+            queue.add(new Entry(timestamp, i, null));
+            if (max == null || timestamp.compareTo(max) > 0) {
+                max = timestamp;
+            }
+            EmbeddableTemporal watermark = new EmbeddableTemporal(max.getSeconds() - lateness.getSeconds(),
+                max.getNanos() - lateness.getNanos());
+            while (!queue.isEmpty() && queue.peek().timestamp().compareTo(watermark) <= 0) {
+                queue.poll();
+                emitted++;
+            }
+        }
+        emitted += queue.size();
+        assertThat(emitted).isEqualTo(events);
+    }
+}
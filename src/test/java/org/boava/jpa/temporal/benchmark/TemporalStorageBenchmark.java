@@ -0,0 +1,232 @@
+package org.boava.jpa.temporal.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the two-column temporal layout with packed BIGINT, TIMESTAMP(9) and DECIMAL storage on embedded H2
+ * in several compatibility modes.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}; tune with {@code -Dbenchmark.rows}, {@code -Dbenchmark.operations}.
+ * Results are written to {@code target/benchmarks/temporal-storage.json}.
+ */
+@Tag("benchmark")
+@DisplayName("Temporal Storage Benchmark")
+class TemporalStorageBenchmark {
+
+    static final String[] MODES = {"REGULAR", "PostgreSQL", "MySQL", "Oracle", "MSSQLServer"};
+    static final long BASE_SECONDS = 1_700_000_000L;
+    static final int BATCH_SIZE = 1_000;
+    static final int RANGE_ROWS = 1_000;
+    static final int LIMIT = 100;
+
+    final int rows = BenchmarkReport.intProperty("rows", 200_000);
+    final int operations = BenchmarkReport.intProperty("operations", 2_000);
+    final long[] seconds = new long[rows];
+    final int[] nanos = new int[rows];
+
+    @Test
+    @DisplayName("Should measure storage strategies across H2 modes")
+    void shouldMeasureStorageStrategiesAcrossH2Modes() throws Exception {
+        generateTimestamps();
+        BenchmarkReport report = new BenchmarkReport("temporal-storage")
+            .parameter("rows", rows)
+            .parameter("operations", operations)
+            .parameter("rangeRows", RANGE_ROWS)
+            .parameter("limit", LIMIT);
+        for (String mode : MODES) {
+            for (StorageStrategy strategy : StorageStrategy.values()) {
+                Map<String, Object> result = report.result();
+                result.put("mode", mode);
+                result.put("strategy", strategy.name());
+                measure(mode, strategy, result);
+            }
+        }
+        assertThat(report.write()).exists();
+    }
+
+    /**
+     * Strictly increasing timestamps roughly a millisecond apart with random sub-millisecond nanos.
+     */
+    private void generateTimestamps() {
+        Random random = new Random(42);
+        for (int i = 0; i < rows; i++) {
+            long totalMillis = i;
+            seconds[i] = BASE_SECONDS + totalMillis / 1_000;
+            nanos[i] = (int) (totalMillis % 1_000) * 1_000_000 + random.nextInt(1_000_000);
+        }
+    }
+
+    private void measure(String mode, StorageStrategy strategy, Map<String, Object> result) throws Exception {
+        Path database = BenchmarkReport.outputDirectory().resolve("h2").resolve(mode + "-" + strategy).toAbsolutePath();
+        deleteDatabase(database);
+        String url = "jdbc:h2:file:" + database + ("REGULAR".equals(mode) ? "" : ";MODE=" + mode);
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE bench (id BIGINT PRIMARY KEY, " + strategy.columnDefinitions()
+                    + ", payload INT NOT NULL)");
+                statement.execute("CREATE INDEX bench_ts ON bench (" + strategy.columns() + ")");
+            }
+            result.put("insertRowsPerSecond", insert(connection, strategy));
+            shutdownCompact(connection);
+        }
+        long withIndex = Files.size(Path.of(database + ".mv.db"));
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP INDEX bench_ts");
+            }
+            shutdownCompact(connection);
+        }
+        long withoutIndex = Files.size(Path.of(database + ".mv.db"));
+        result.put("tableBytes", withoutIndex);
+        result.put("indexBytes", withIndex - withoutIndex);
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE INDEX bench_ts ON bench (" + strategy.columns() + ")");
+            }
+            result.put("pointLookupNanos", pointLookups(connection, strategy));
+            result.put("rangeScanNanos", rangeScans(connection, strategy));
+            result.put("orderByLimitNanos", orderByLimit(connection, strategy));
+            shutdownCompact(connection);
+        }
+        deleteDatabase(database);
+    }
+
+    private double insert(Connection connection, StorageStrategy strategy) throws SQLException {
+        int[] order = shuffledIndexes();
+        connection.setAutoCommit(false);
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench (id, " + strategy.columns() + ", payload) VALUES (?, "
+                + strategy.placeholders() + ", ?)")) {
+            for (int i = 0; i < rows; i++) {
+                int row = order[i];
+                insert.setLong(1, row);
+                int next = strategy.bindValue(insert, 2, seconds[row], nanos[row]);
+                insert.setInt(next, row);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        connection.setAutoCommit(true);
+        return rows / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private double pointLookups(Connection connection, StorageStrategy strategy) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement(
+                "SELECT payload FROM bench WHERE " + strategy.equalTo())) {
+            return timed(new Random(1), random -> {
+                int row = random.nextInt(rows);
+                strategy.bindValue(query, 1, seconds[row], nanos[row]);
+                return consume(query);
+            });
+        }
+    }
+
+    private double rangeScans(Connection connection, StorageStrategy strategy) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement(
+                "SELECT payload FROM bench WHERE " + strategy.atOrAfter() + " AND " + strategy.before())) {
+            return timed(new Random(2), random -> {
+                int row = random.nextInt(rows - RANGE_ROWS);
+                int next = strategy.bindBound(query, 1, seconds[row], nanos[row]);
+                strategy.bindBound(query, next, seconds[row + RANGE_ROWS], nanos[row + RANGE_ROWS]);
+                return consume(query);
+            });
+        }
+    }
+
+    private double orderByLimit(Connection connection, StorageStrategy strategy) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement(
+                "SELECT payload FROM bench WHERE " + strategy.atOrAfter() + " ORDER BY " + strategy.columns()
+                + " FETCH FIRST " + LIMIT + " ROWS ONLY")) {
+            return timed(new Random(3), random -> {
+                int row = random.nextInt(rows - LIMIT);
+                strategy.bindBound(query, 1, seconds[row], nanos[row]);
+                return consume(query);
+            });
+        }
+    }
+
+    @FunctionalInterface
+    interface Operation {
+        int run(Random random) throws SQLException;
+    }
+
+    /**
+     * Runs the operation once per configured iteration after an equally long warm-up, returning the mean
+     * nanoseconds per operation.
+     */
+    private double timed(Random random, Operation operation) throws SQLException {
+        long checksum = 0;
+        for (int i = 0; i < operations; i++) {
+            checksum += operation.run(random);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            checksum += operation.run(random);
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(checksum).isPositive();
+        return (double) elapsed / operations;
+    }
+
+    private static int consume(PreparedStatement query) throws SQLException {
+        int count = 0;
+        try (ResultSet resultSet = query.executeQuery()) {
+            while (resultSet.next()) {
+                resultSet.getInt(1);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int[] shuffledIndexes() {
+        int[] order = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            order[i] = i;
+        }
+        Random random = new Random(7);
+        for (int i = rows - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        return order;
+    }
+
+    private static void shutdownCompact(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN COMPACT");
+        }
+    }
+
+    private static void deleteDatabase(Path database) throws IOException {
+        Files.createDirectories(database.getParent());
+        Files.deleteIfExists(Path.of(database + ".mv.db"));
+        Files.deleteIfExists(Path.of(database + ".trace.db"));
+    }
+}
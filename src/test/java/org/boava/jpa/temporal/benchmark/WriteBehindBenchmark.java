@@ -0,0 +1,182 @@
+package org.boava.jpa.temporal.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.sql.PreparedStatement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.boava.jpa.temporal.writebehind.JdbcBatchSink;
+import org.boava.jpa.temporal.writebehind.WriteBehindWriter;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares persisting events synchronously, one insert and commit per event on the request thread, with publishing
+ * them to a {@link WriteBehindWriter} draining into JDBC batch inserts. Reports end-to-end throughput (until every
+ * event is committed) and the latency seen by the producing thread, under an increasing number of producers.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=WriteBehindBenchmark}; tune with {@code -Dbenchmark.events} (per
+ * run), {@code -Dbenchmark.producers} (maximum, default 4) and {@code -Dbenchmark.batchSize}. Results are written to
+ * {@code target/benchmarks/write-behind.json}.
+ */
+@Tag("benchmark")
+@DisplayName("Write-Behind Benchmark")
+class WriteBehindBenchmark {
+
+    private static final String INSERT =
+        "INSERT INTO write_behind_events (event_seconds, event_nanos, name) VALUES (?, ?, ?)";
+
+    final int events = BenchmarkReport.intProperty("events", 100_000);
+    final int maxProducers = BenchmarkReport.intProperty("producers", 4);
+    final int batchSize = BenchmarkReport.intProperty("batchSize", 500);
+
+    private interface Publisher {
+
+        void publish(String name);
+    }
+
+    @Test
+    @DisplayName("Should measure throughput and producer latency per mode and producer count")
+    void shouldMeasureThroughputAndProducerLatencyPerModeAndProducerCount() throws Exception {
+        BenchmarkReport report = new BenchmarkReport("write-behind")
+            .parameter("eventsPerRun", events)
+            .parameter("batchSize", batchSize);
+        EntityManagerFactory emf = Persistence.createEntityManagerFactory("benchmark-pu");
+        try {
+            execute(emf, "CREATE TABLE IF NOT EXISTS write_behind_events (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "event_seconds BIGINT NOT NULL, event_nanos INT NOT NULL, name VARCHAR(64) NOT NULL)");
+            for (int producers = 1; producers <= maxProducers; producers *= 2) {
+                measureSynchronous(report, emf, producers);
+                measureWriteBehind(report, emf, producers);
+            }
+            execute(emf, "DROP TABLE write_behind_events");
+        } finally {
+            emf.close();
+        }
+        assertThat(report.write()).exists();
+    }
+
+    private void measureSynchronous(BenchmarkReport report, EntityManagerFactory emf, int producers)
+            throws Exception {
+        execute(emf, "TRUNCATE TABLE write_behind_events");
+        Clock clock = Clock.systemUTC();
+        long[][] latencies = new long[producers][];
+        long elapsed = run(producers, latencies, () -> name -> {
+            Instant now = clock.instant();
+            EntityManager em = emf.createEntityManager();
+            try {
+                em.getTransaction().begin();
+                em.unwrap(Session.class).doWork(connection -> {
+                    try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+                        statement.setLong(1, now.getEpochSecond());
+                        statement.setInt(2, now.getNano());
+                        statement.setString(3, name);
+                        statement.executeUpdate();
+                    }
+                });
+                em.getTransaction().commit();
+            } finally {
+                em.close();
+            }
+        });
+        record(report, emf, "synchronous", producers, elapsed, latencies);
+    }
+
+    private void measureWriteBehind(BenchmarkReport report, EntityManagerFactory emf, int producers)
+            throws Exception {
+        execute(emf, "TRUNCATE TABLE write_behind_events");
+        JdbcBatchSink<String> sink = new JdbcBatchSink<>(emf, INSERT,
+            (statement, index, name) -> statement.setString(index, name));
+        WriteBehindWriter<String> writer = new WriteBehindWriter<>(sink, 16_384, batchSize, Duration.ofMillis(10),
+            Clock.systemUTC());
+        writer.start();
+        long[][] latencies = new long[producers][];
+        long begin = System.nanoTime();
+        run(producers, latencies, () -> writer::publishNow);
+        writer.close();
+        long elapsed = System.nanoTime() - begin;
+        record(report, emf, "writeBehind", producers, elapsed, latencies);
+    }
+
+    private long run(int producers, long[][] latencies, Supplier<Publisher> publishers)
+            throws Exception {
+        int perProducer = events / producers;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                Publisher publisher = publishers.get();
+                futures.add(executor.submit(() -> {
+                    long[] samples = new long[perProducer];
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        long before = System.nanoTime();
+                        publisher.publish("p" + producer + "-" + i);
+                        samples[i] = System.nanoTime() - before;
+                    }
+                    latencies[producer] = samples;
+                    return null;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - begin;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void record(BenchmarkReport report, EntityManagerFactory emf, String mode, int producers, long elapsed,
+            long[][] latencies) {
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        EntityManager em = emf.createEntityManager();
+        try {
+            Number rows = (Number) em.createNativeQuery("SELECT COUNT(*) FROM write_behind_events")
+                .getSingleResult();
+            assertThat(rows.longValue()).isEqualTo(all.length);
+        } finally {
+            em.close();
+        }
+        Map<String, Object> result = report.result();
+        result.put("mode", mode);
+        result.put("producers", producers);
+        result.put("eventsPerSecond", all.length / (elapsed / 1e9));
+        result.put("publishP50Micros", all[all.length / 2] / 1e3);
+        result.put("publishP99Micros", all[(int) (all.length * 0.99)] / 1e3);
+        result.put("publishP999Micros", all[(int) (all.length * 0.999)] / 1e3);
+        result.put("publishMaxMicros", all[all.length - 1] / 1e3);
+    }
+
+    private static void execute(EntityManagerFactory emf, String sql) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.createNativeQuery(sql).executeUpdate();
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+}
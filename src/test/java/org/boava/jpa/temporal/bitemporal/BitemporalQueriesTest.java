@@ -0,0 +1,81 @@
+package org.boava.jpa.temporal.bitemporal;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.interval.TemporalInterval;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BitemporalQueries Tests")
+class BitemporalQueriesTest {
+
+    static final BitemporalPath COLUMNS = BitemporalPath.defaultColumns();
+
+    @Nested
+    @DisplayName("Predicate Tests")
+    class PredicateTests {
+
+        @Test
+        @DisplayName("Should constrain transaction end before valid time")
+        void shouldConstrainTransactionEndBeforeValidTime() {
+            String predicate = BitemporalQueries.asOf(COLUMNS, new EmbeddableTemporal(100L, 0),
+                new EmbeddableTemporal(200L, 0));
+
+            assertThat(predicate).isEqualTo("(transaction_to_seconds >= 200 AND (transaction_to_seconds > 200"
+                + " OR transaction_to_nanos > 0)) AND (transaction_from_seconds <= 200 AND (transaction_from_seconds < 200"
+                + " OR transaction_from_nanos <= 0)) AND (valid_from_seconds <= 100 AND (valid_from_seconds < 100"
+                + " OR valid_from_nanos <= 0)) AND (valid_to_seconds >= 100 AND (valid_to_seconds > 100"
+                + " OR valid_to_nanos > 0))");
+        }
+
+        @Test
+        @DisplayName("Should find current versions by sentinel equality")
+        void shouldFindCurrentVersionsBySentinelEquality() {
+            assertThat(BitemporalQueries.currentVersions(BitemporalPath.attribute("e.period")))
+                .isEqualTo("e.period.transaction.end.seconds = 31556889864403199"
+                    + " AND e.period.transaction.end.nanos = 999999999");
+        }
+
+        @Test
+        @DisplayName("Should create key-first composite index")
+        void shouldCreateKeyFirstCompositeIndex() {
+            assertThat(BitemporalQueries.createIndex("ix_price_asof", "price", COLUMNS, "product"))
+                .isEqualTo("CREATE INDEX ix_price_asof ON price (product, transaction_to_seconds,"
+                    + " valid_from_seconds, valid_to_seconds, transaction_from_seconds)");
+            assertThatThrownBy(() -> BitemporalQueries.createIndex("ix", "price", COLUMNS))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Period Tests")
+    class PeriodTests {
+
+        private final TemporalInterval valid =
+            new TemporalInterval(new EmbeddableTemporal(10L, 0), new EmbeddableTemporal(20L, 0));
+
+        @Test
+        @DisplayName("Should close current period at supersession time")
+        void shouldCloseCurrentPeriodAtSupersessionTime() {
+            BitemporalPeriod current = BitemporalPeriod.current(valid, new EmbeddableTemporal(100L, 0));
+            BitemporalPeriod closed = current.closedAt(new EmbeddableTemporal(150L, 0));
+
+            assertThat(current.isCurrent()).isTrue();
+            assertThat(closed.isCurrent()).isFalse();
+            assertThat(closed.isVisible(new EmbeddableTemporal(10L, 0), new EmbeddableTemporal(149L, 0))).isTrue();
+            assertThat(closed.isVisible(new EmbeddableTemporal(10L, 0), new EmbeddableTemporal(150L, 0))).isFalse();
+            assertThat(BitemporalPeriod.endOfTime().toInstant()).isEqualTo(java.time.Instant.MAX);
+        }
+
+        @Test
+        @DisplayName("Should reject closing before recording")
+        void shouldRejectClosingBeforeRecording() {
+            BitemporalPeriod current = BitemporalPeriod.current(valid, new EmbeddableTemporal(100L, 0));
+
+            assertThatThrownBy(() -> current.closedAt(new EmbeddableTemporal(99L, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package org.boava.jpa.temporal.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalBucketCache Tests")
+class TemporalBucketCacheTest {
+
+    static final long HOUR = 3_600L;
+    // 10:30 on some day, buckets [0h, 10h) are closed, [10h, 11h) is open
+    static final Clock CLOCK = Clock.fixed(Instant.ofEpochSecond(10 * HOUR + 1_800L), ZoneOffset.UTC);
+
+    private final List<Long> loads = new ArrayList<>();
+    private TemporalBucketCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TemporalBucketCache<>(Duration.ofHours(1), 3, CLOCK);
+    }
+
+    private String load(EmbeddableTemporal start, EmbeddableTemporal end) {
+        loads.add(start.getSeconds());
+        return (start.getSeconds() / HOUR) + "-" + (end.getSeconds() / HOUR) + "#" + loads.size();
+    }
+
+    private List<String> query(String query, long fromHour, long toHour) {
+        return cache.get(query, new EmbeddableTemporal(fromHour * HOUR, 0), new EmbeddableTemporal(toHour * HOUR, 0),
+            this::load);
+    }
+
+    @Nested
+    @DisplayName("Caching Tests")
+    class CachingTests {
+
+        @Test
+        @DisplayName("Should cache closed buckets and recompute open tail bucket")
+        void shouldCacheClosedBucketsAndRecomputeOpenTailBucket() {
+            List<String> first = query("q", 8, 11);
+            List<String> second = query("q", 8, 11);
+
+            assertThat(first).containsExactly("8-9#1", "9-10#2", "10-11#3");
+            assertThat(second).containsExactly("8-9#1", "9-10#2", "10-11#4");
+            assertThat(cache.hitCount()).isEqualTo(2);
+            assertThat(cache.missCount()).isEqualTo(4);
+            assertThat(cache.cachedBuckets("q")).containsExactly(8 * HOUR, 9 * HOUR);
+        }
+
+        @Test
+        @DisplayName("Should widen range to bucket boundaries")
+        void shouldWidenRangeToBucketBoundaries() {
+            List<String> result = cache.get("q", new EmbeddableTemporal(8 * HOUR + 5, 1),
+                new EmbeddableTemporal(9 * HOUR, 1), TemporalBucketCacheTest.this::load);
+
+            assertThat(result).containsExactly("8-9#1", "9-10#2");
+            assertThat(query("q", 8, 9)).containsExactly("8-9#1");
+        }
+
+        @Test
+        @DisplayName("Should keep queries apart")
+        void shouldKeepQueriesApart() {
+            query("a", 1, 2);
+            query("b", 1, 2);
+
+            assertThat(loads).hasSize(2);
+            assertThat(cache.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should evict least recently used bucket when full")
+        void shouldEvictLeastRecentlyUsedBucketWhenFull() {
+            query("q", 1, 4);
+            query("q", 1, 2);
+            query("q", 4, 5);
+
+            assertThat(cache.size()).isEqualTo(3);
+            assertThat(cache.cachedBuckets("q")).containsExactly(1 * HOUR, 3 * HOUR, 4 * HOUR);
+        }
+
+        @Test
+        @DisplayName("Should return nothing for empty range")
+        void shouldReturnNothingForEmptyRange() {
+            assertThat(query("q", 2, 2)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject fractional bucket size")
+        void shouldRejectFractionalBucketSize() {
+            assertThatThrownBy(() -> new TemporalBucketCache<>(Duration.ofMillis(1500), 1, CLOCK))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new TemporalBucketCache<>(Duration.ofHours(1), 0, CLOCK))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation Tests")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Should invalidate only the bucket a write lands in")
+        void shouldInvalidateOnlyTheBucketAWriteLandsIn() {
+            query("a", 1, 3);
+            query("b", 2, 3);
+
+            int removed = cache.invalidate(new EmbeddableTemporal(2 * HOUR + 10, 5));
+
+            assertThat(removed).isEqualTo(2);
+            assertThat(cache.cachedBuckets("a")).containsExactly(1 * HOUR);
+            assertThat(cache.cachedBuckets("b")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should invalidate a single query")
+        void shouldInvalidateASingleQuery() {
+            query("a", 1, 2);
+            query("b", 1, 2);
+
+            assertThat(cache.invalidate("a", new EmbeddableTemporal(HOUR, 0))).isTrue();
+            assertThat(cache.invalidate("a", new EmbeddableTemporal(HOUR, 0))).isFalse();
+            assertThat(cache.cachedBuckets("b")).containsExactly(HOUR);
+            assertThat(cache.invalidate(new EmbeddableTemporal(HOUR, 0))).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not cache results loaded while a write was invalidating")
+        void shouldNotCacheResultsLoadedWhileAWriteWasInvalidating() {
+            cache.get("q", new EmbeddableTemporal(HOUR, 0), new EmbeddableTemporal(2 * HOUR, 0), (start, end) -> {
+                cache.invalidate(start);
+                return "stale";
+            });
+
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should invalidate everything")
+        void shouldInvalidateEverything() {
+            query("q", 1, 3);
+            cache.invalidateAll();
+
+            assertThat(cache.size()).isZero();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.boava.jpa.temporal.collection;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ConcurrentTemporalSkipListMap Tests")
+class ConcurrentTemporalSkipListMapTest {
+
+    private static EmbeddableTemporal at(long seconds, int nanos) {
+        return new EmbeddableTemporal(seconds, nanos);
+    }
+
+    private static List<Long> seconds(List<ConcurrentTemporalSkipListMap.Entry<String>> entries) {
+        return entries.stream().map(ConcurrentTemporalSkipListMap.Entry::seconds).toList();
+    }
+
+    @Nested
+    @DisplayName("Navigation Tests")
+    class NavigationTests {
+
+        @Test
+        @DisplayName("Should find floor and ceiling entries")
+        void shouldFindFloorAndCeilingEntries() {
+            ConcurrentTemporalSkipListMap<String> map = new ConcurrentTemporalSkipListMap<>();
+            map.put(at(10, 0), "a");
+            map.put(20, 500, "b");
+            map.put(30, 0, "c");
+
+            assertThat(map.floorEntry(20, 499).value()).isEqualTo("a");
+            assertThat(map.floorEntry(20, 500).value()).isEqualTo("b");
+            assertThat(map.floorEntry(9, 999_999_999)).isNull();
+            assertThat(map.ceilingEntry(20, 501).value()).isEqualTo("c");
+            assertThat(map.ceilingEntry(30, 1)).isNull();
+            assertThat(map.firstEntry().key()).isEqualTo(at(10, 0));
+            assertThat(map.lastEntry().key()).isEqualTo(at(30, 0));
+        }
+
+        @Test
+        @DisplayName("Should view and clear half-open ranges")
+        void shouldViewAndClearHalfOpenRanges() {
+            ConcurrentTemporalSkipListMap<String> map = new ConcurrentTemporalSkipListMap<>();
+            for (long i = 0; i < 10; i++) {
+                map.put(i, 0, "v" + i);
+            }
+            ConcurrentTemporalSkipListMap<String>.Range range = map.subMap(at(3, 0), at(6, 0));
+
+            assertThat(seconds(range.entries())).containsExactly(3L, 4L, 5L);
+            assertThat(range.count()).isEqualTo(3);
+            assertThat(range.clear()).isEqualTo(3);
+            assertThat(range.count()).isZero();
+            assertThat(map.size()).isEqualTo(7);
+            assertThatThrownBy(() -> map.subMap(at(6, 0), at(3, 0))).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should truncate head before bound")
+        void shouldTruncateHeadBeforeBound() {
+            ConcurrentTemporalSkipListMap<String> map = new ConcurrentTemporalSkipListMap<>();
+            for (long i = 0; i < 1_000; i++) {
+                map.put(i, 0, "v" + i);
+            }
+
+            assertThat(map.removeBefore(at(900, 1))).isEqualTo(901);
+            assertThat(map.firstEntry().seconds()).isEqualTo(901L);
+            assertThat(map.size()).isEqualTo(99);
+            assertThat(map.removeBefore(0, 0)).isZero();
+        }
+
+        @Test
+        @DisplayName("Should behave like TreeMap under random operations")
+        void shouldBehaveLikeTreeMapUnderRandomOperations() {
+            Random random = new Random(5);
+            ConcurrentTemporalSkipListMap<Integer> map = new ConcurrentTemporalSkipListMap<>();
+            TreeMap<EmbeddableTemporal, Integer> reference = new TreeMap<>();
+            for (int i = 0; i < 20_000; i++) {
+                EmbeddableTemporal key = at(random.nextInt(300), random.nextInt(3));
+                switch (random.nextInt(4)) {
+                    case 0 -> assertThat(map.remove(key)).isEqualTo(reference.remove(key));
+                    case 1 -> assertThat(map.putIfAbsent(key.getSeconds(), key.getNanos(), i))
+                        .isEqualTo(reference.putIfAbsent(key, i));
+                    default -> assertThat(map.put(key, i)).isEqualTo(reference.put(key, i));
+                }
+                Map.Entry<EmbeddableTemporal, Integer> floor = reference.floorEntry(key);
+                ConcurrentTemporalSkipListMap.Entry<Integer> actual = map.floorEntry(key.getSeconds(), key.getNanos());
+                assertThat(actual == null ? null : actual.key()).isEqualTo(floor == null ? null : floor.getKey());
+            }
+
+            assertThat(map.size()).isEqualTo(reference.size());
+            List<EmbeddableTemporal> keys = new ArrayList<>();
+            map.forEach((seconds, nanos, value) -> keys.add(at(seconds, nanos)));
+            assertThat(keys).containsExactlyElementsOf(reference.keySet());
+        }
+
+        @Test
+        @DisplayName("Should reject null values and out-of-range nanoseconds")
+        void shouldRejectNullValuesAndOutOfRangeNanoseconds() {
+            ConcurrentTemporalSkipListMap<String> map = new ConcurrentTemporalSkipListMap<>();
+
+            assertThatThrownBy(() -> map.put(0, 0, null)).isInstanceOf(NullPointerException.class);
+            assertThatThrownBy(() -> map.get(0, 1_000_000_000)).isInstanceOf(IllegalArgumentException.class);
+            assertThat(map.isEmpty()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should keep every surviving write under concurrent inserts and truncation")
+        void shouldKeepEverySurvivingWriteUnderConcurrentInsertsAndTruncation() throws Exception {
+            int threads = 4;
+            int perThread = 20_000;
+            ConcurrentTemporalSkipListMap<Integer> map = new ConcurrentTemporalSkipListMap<>();
+            ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    int thread = t;
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < perThread; i++) {
+                            long key = (long) i * threads + thread;
+                            map.put(key, 0, (int) key);
+                            if (key >= 1_000) {
+                                assertThat(map.get(key, 0)).isEqualTo((int) key);
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 100; i++) {
+                        map.removeBefore(1_000, 0);
+                        Thread.yield();
+                    }
+                    return null;
+                }));
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(60, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            map.removeBefore(1_000, 0);
+
+            assertThat(map.size()).isEqualTo(threads * perThread - 1_000);
+            long[] expected = {1_000};
+            map.forEach((seconds, nanos, value) -> {
+                assertThat(seconds).isEqualTo(expected[0]++);
+                assertThat(value).isEqualTo((int) seconds);
+            });
+            assertThat(expected[0]).isEqualTo((long) threads * perThread);
+        }
+    }
+}
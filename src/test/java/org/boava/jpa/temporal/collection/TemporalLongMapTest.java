@@ -0,0 +1,40 @@
+package org.boava.jpa.temporal.collection;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalLongMap Tests")
+class TemporalLongMapTest {
+
+    @Test
+    @DisplayName("Should count occurrences without boxing")
+    void shouldCountOccurrencesWithoutBoxing() {
+        TemporalLongMap counts = new TemporalLongMap();
+        for (int i = 0; i < 1_000; i++) {
+            counts.addTo(i % 10, 500, 1);
+        }
+
+        assertThat(counts.size()).isEqualTo(10);
+        assertThat(counts.getOrDefault(3L, 500, -1)).isEqualTo(100);
+        assertThat(counts.getOrDefault(new EmbeddableTemporal(3L, 501), -1)).isEqualTo(-1);
+        long[] total = new long[1];
+        counts.forEach((seconds, nanos, value) -> total[0] += value);
+        assertThat(total[0]).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("Should put and remove mappings")
+    void shouldPutAndRemoveMappings() {
+        TemporalLongMap ids = new TemporalLongMap(4);
+
+        assertThat(ids.put(new EmbeddableTemporal(1L, 1), 42L)).isTrue();
+        assertThat(ids.put(1L, 1, 43L)).isFalse();
+        assertThat(ids.getOrDefault(1L, 1, 0)).isEqualTo(43L);
+        assertThat(ids.remove(1L, 1)).isTrue();
+        assertThat(ids.containsKey(new EmbeddableTemporal(1L, 1))).isFalse();
+        assertThat(ids.isEmpty()).isTrue();
+    }
+}
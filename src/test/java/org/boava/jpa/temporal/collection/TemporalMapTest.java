@@ -0,0 +1,93 @@
+package org.boava.jpa.temporal.collection;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalMap Tests")
+class TemporalMapTest {
+
+    @Nested
+    @DisplayName("Mapping Tests")
+    class MappingTests {
+
+        @Test
+        @DisplayName("Should put, get and remove by raw components and temporals")
+        void shouldPutGetAndRemoveByRawComponentsAndTemporals() {
+            TemporalMap<String> map = new TemporalMap<>();
+
+            assertThat(map.put(new EmbeddableTemporal(10L, 5), "a")).isNull();
+            assertThat(map.put(10L, 5, "b")).isEqualTo("a");
+            assertThat(map.putIfAbsent(10L, 5, "c")).isEqualTo("b");
+            assertThat(map.putIfAbsent(-10L, 0, null)).isNull();
+
+            assertThat(map.size()).isEqualTo(2);
+            assertThat(map.get(10L, 5)).isEqualTo("b");
+            assertThat(map.containsKey(-10L, 0)).isTrue();
+            assertThat(map.getOrDefault(11L, 5, "none")).isEqualTo("none");
+            assertThat(map.remove(new EmbeddableTemporal(10L, 5))).isEqualTo("b");
+            assertThat(map.get(10L, 5)).isNull();
+            assertThat(map.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should reject out-of-range raw nanoseconds")
+        void shouldRejectOutOfRangeRawNanoseconds() {
+            TemporalMap<String> map = new TemporalMap<>();
+
+            assertThatThrownBy(() -> map.get(0L, -1)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> map.put(0L, 1_000_000_000, "x")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new TemporalMap<String>(-1)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should clear and reuse capacity")
+        void shouldClearAndReuseCapacity() {
+            TemporalMap<Integer> map = new TemporalMap<>(100);
+            for (int i = 0; i < 100; i++) {
+                map.put(i, i, i);
+            }
+
+            map.clear();
+
+            assertThat(map.isEmpty()).isTrue();
+            assertThat(map.get(5L, 5)).isNull();
+            map.put(5L, 5, 55);
+            assertThat(map.get(5L, 5)).isEqualTo(55);
+        }
+    }
+
+    @Nested
+    @DisplayName("Consistency Tests")
+    class ConsistencyTests {
+
+        @Test
+        @DisplayName("Should behave like HashMap under random inserts and removals")
+        void shouldBehaveLikeHashMapUnderRandomInsertsAndRemovals() {
+            Random random = new Random(99);
+            TemporalMap<Integer> map = new TemporalMap<>();
+            Map<EmbeddableTemporal, Integer> reference = new HashMap<>();
+            for (int i = 0; i < 50_000; i++) {
+                // Narrow key space forces long probe runs and backward shifts
+                EmbeddableTemporal key = new EmbeddableTemporal(random.nextInt(500), random.nextInt(4) * 1_000);
+                if (random.nextInt(3) == 0) {
+                    assertThat(map.remove(key)).isEqualTo(reference.remove(key));
+                } else {
+                    assertThat(map.put(key, i)).isEqualTo(reference.put(key, i));
+                }
+            }
+
+            assertThat(map.size()).isEqualTo(reference.size());
+            Map<EmbeddableTemporal, Integer> copy = new HashMap<>();
+            map.forEach((seconds, nanos, value) -> copy.put(new EmbeddableTemporal(seconds, nanos), value));
+            assertThat(copy).isEqualTo(reference);
+        }
+    }
+}
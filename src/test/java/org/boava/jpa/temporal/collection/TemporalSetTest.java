@@ -0,0 +1,45 @@
+package org.boava.jpa.temporal.collection;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalSet Tests")
+class TemporalSetTest {
+
+    @Test
+    @DisplayName("Should deduplicate sequential timestamps across growth")
+    void shouldDeduplicateSequentialTimestampsAcrossGrowth() {
+        TemporalSet set = new TemporalSet();
+        for (int round = 0; round < 2; round++) {
+            for (long i = 0; i < 10_000; i++) {
+                assertThat(set.add(1_700_000_000L + i / 1_000, (int) (i % 1_000) * 1_000_000)).isEqualTo(round == 0);
+            }
+        }
+
+        assertThat(set.size()).isEqualTo(10_000);
+        assertThat(set.contains(new EmbeddableTemporal(1_700_000_009L, 999_000_000))).isTrue();
+        assertThat(set.contains(1_700_000_010L, 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should remove elements and iterate the rest")
+    void shouldRemoveElementsAndIterateTheRest() {
+        TemporalSet set = new TemporalSet();
+        set.add(new EmbeddableTemporal(1L, 0));
+        set.add(new EmbeddableTemporal(2L, 0));
+        set.add(new EmbeddableTemporal(Long.MIN_VALUE, 999_999_999));
+
+        assertThat(set.remove(2L, 0)).isTrue();
+        assertThat(set.remove(new EmbeddableTemporal(2L, 0))).isFalse();
+        Set<EmbeddableTemporal> remaining = new HashSet<>();
+        set.forEach((seconds, nanos) -> remaining.add(new EmbeddableTemporal(seconds, nanos)));
+        assertThat(remaining).containsExactlyInAnyOrder(
+            new EmbeddableTemporal(1L, 0), new EmbeddableTemporal(Long.MIN_VALUE, 999_999_999));
+    }
+}
@@ -286,6 +286,15 @@ class EmbeddableTemporalTest {
             assertThat(temporal1.hashCode()).isEqualTo(temporal2.hashCode());
         }
 
+        @Test
+        @DisplayName("Should keep hash code compatible with Objects.hash")
+        void shouldKeepHashCodeCompatibleWithObjectsHash() {
+            EmbeddableTemporal temporal = new EmbeddableTemporal(-HUNDRED_SECONDS, FIVE_HUNDRED_MILLION_NANOS);
+
+            assertThat(temporal.hashCode())
+                .isEqualTo(java.util.Objects.hash(temporal.getSeconds(), temporal.getNanos()));
+        }
+
         @Test
         @DisplayName("Should compare instances with different seconds")
         void shouldCompareInstancesWithDifferentSeconds() {
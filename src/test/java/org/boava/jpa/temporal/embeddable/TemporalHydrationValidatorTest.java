@@ -0,0 +1,136 @@
+package org.boava.jpa.temporal.embeddable;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.boava.jpa.temporal.test.TestConstants.*;
+import static org.boava.jpa.temporal.embeddable.EmbeddableTemporal.MAX_NANOS;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.boava.jpa.temporal.interval.TemporalInterval;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalHydrationValidator Tests")
+class TemporalHydrationValidatorTest {
+
+    static class Base {
+        EmbeddableTemporal created = new EmbeddableTemporal(STANDARD_SECONDS, STANDARD_NANOS);
+    }
+
+    static class Sample extends Base {
+        static final EmbeddableTemporal IGNORED = new EmbeddableTemporal();
+        EmbeddableTemporal timestamp = new EmbeddableTemporal(ALT_SECONDS, ALT_NANOS);
+        EmbeddableTemporal missing;
+        String name = "sample";
+    }
+
+    @Embeddable
+    static class Shift {
+        TemporalInterval window = new TemporalInterval(new EmbeddableTemporal(STANDARD_SECONDS, 0),
+            new EmbeddableTemporal(STANDARD_SECONDS + HUNDRED_SECONDS, 0));
+    }
+
+    static class Roster {
+        Shift shift = new Shift();
+        @ElementCollection
+        List<EmbeddableTemporal> breaks = new ArrayList<>(List.of(new EmbeddableTemporal(STANDARD_SECONDS, 0)));
+        @ElementCollection
+        Map<String, Shift> shiftsByName = new HashMap<>(Map.of("day", new Shift()));
+        List<String> notes = new ArrayList<>(List.of("unvisited"));
+    }
+
+    private final TemporalHydrationValidator validator = new TemporalHydrationValidator();
+
+    /**
+     * Simulates field-access hydration of a corrupt row, bypassing normalization.
+     */
+    static EmbeddableTemporal hydrated(long seconds, int nanos) throws ReflectiveOperationException {
+        EmbeddableTemporal temporal = new EmbeddableTemporal();
+        Field secondsField = EmbeddableTemporal.class.getDeclaredField("seconds");
+        Field nanosField = EmbeddableTemporal.class.getDeclaredField("nanos");
+        secondsField.setAccessible(true);
+        nanosField.setAccessible(true);
+        secondsField.setLong(temporal, seconds);
+        nanosField.setInt(temporal, nanos);
+        return temporal;
+    }
+
+    @Test
+    @DisplayName("Should accept normalized and null values")
+    void shouldAcceptNormalizedAndNullValues() {
+        assertThatCode(() -> validator.validate(new Sample())).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should reject corrupt nanos in declared field")
+    void shouldRejectCorruptNanosInDeclaredField() throws ReflectiveOperationException {
+        Sample sample = new Sample();
+        sample.timestamp = hydrated(HUNDRED_SECONDS, ONE_AND_HALF_BILLION_NANOS);
+
+        assertThatThrownBy(() -> validator.validate(sample))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Sample.timestamp");
+    }
+
+    @Test
+    @DisplayName("Should reject corrupt nanos in inherited field")
+    void shouldRejectCorruptNanosInInheritedField() throws ReflectiveOperationException {
+        Sample sample = new Sample();
+        sample.created = hydrated(HUNDRED_SECONDS, -ONE_NANOS);
+
+        assertThatThrownBy(() -> validator.validate(sample))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Sample.created");
+    }
+
+    @Test
+    @DisplayName("Should reject corrupt nanos in nested embeddables")
+    void shouldRejectCorruptNanosInNestedEmbeddables() throws ReflectiveOperationException {
+        Roster roster = new Roster();
+        assertThatCode(() -> validator.validate(roster)).doesNotThrowAnyException();
+
+        Field end = TemporalInterval.class.getDeclaredField("end");
+        end.setAccessible(true);
+        end.set(roster.shift.window, hydrated(STANDARD_SECONDS + HUNDRED_SECONDS, ONE_BILLION_NANOS));
+
+        assertThatThrownBy(() -> validator.validate(roster))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Roster.shift.window.end");
+    }
+
+    @Test
+    @DisplayName("Should reject corrupt nanos in element collections")
+    void shouldRejectCorruptNanosInElementCollections() throws ReflectiveOperationException {
+        Roster listed = new Roster();
+        listed.breaks.add(hydrated(HUNDRED_SECONDS, -ONE_NANOS));
+        Roster mapped = new Roster();
+        Field start = TemporalInterval.class.getDeclaredField("start");
+        start.setAccessible(true);
+        start.set(mapped.shiftsByName.get("day").window, hydrated(HUNDRED_SECONDS, ONE_AND_HALF_BILLION_NANOS));
+
+        assertThatThrownBy(() -> validator.validate(listed))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Roster.breaks[]");
+        assertThatThrownBy(() -> validator.validate(mapped))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Roster.shiftsByName[].window.start");
+    }
+
+    @Test
+    @DisplayName("Should report normalization state")
+    void shouldReportNormalizationState() throws ReflectiveOperationException {
+        assertThat(new EmbeddableTemporal(HUNDRED_SECONDS, ONE_AND_HALF_BILLION_NANOS).isNormalized()).isTrue();
+        assertThat(hydrated(HUNDRED_SECONDS, ONE_BILLION_NANOS).isNormalized()).isFalse();
+        assertThat(hydrated(HUNDRED_SECONDS, MAX_NANOS).isNormalized()).isTrue();
+        assertThat(EmbeddableTemporal.hydrate(HUNDRED_SECONDS, ONE_BILLION_NANOS))
+            .usingRecursiveComparison()
+            .isEqualTo(hydrated(HUNDRED_SECONDS, ONE_BILLION_NANOS));
+    }
+}
@@ -0,0 +1,131 @@
+package org.boava.jpa.temporal.embeddable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@DisplayName("TemporalPrecision and EpochTemporal Tests")
+class TemporalPrecisionTest {
+
+    @Nested
+    @DisplayName("Rounding")
+    class RoundingTests {
+
+        @ParameterizedTest
+        @EnumSource(value = RoundingMode.class, names = "UNNECESSARY", mode = EnumSource.Mode.EXCLUDE)
+        @DisplayName("Should round like BigDecimal for every rounding mode")
+        void shouldRoundLikeBigDecimal(RoundingMode rounding) {
+            long[] seconds = {-2, -1, 0, 1, 2};
+            int[] nanos = {0, 1, 499_999, 500_000, 500_001, 1_500_000, 2_500_000, 999_999_999};
+            for (long s : seconds) {
+                for (int n : nanos) {
+                    BigDecimal exact = BigDecimal.valueOf(s).multiply(BigDecimal.valueOf(1000))
+                        .add(BigDecimal.valueOf(n, 6));
+                    long expected = exact.setScale(0, rounding).longValueExact();
+                    assertThat(TemporalPrecision.MILLIS.toUnits(s, n, rounding))
+                        .as("%ds %dns %s", s, n, rounding)
+                        .isEqualTo(expected);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject a finer fraction when rounding is unnecessary")
+        void shouldRejectFinerFraction() {
+            assertThat(TemporalPrecision.MICROS.toUnits(1, 123_000, RoundingMode.UNNECESSARY)).isEqualTo(1_000_123L);
+            assertThatThrownBy(() -> TemporalPrecision.MICROS.toUnits(1, 123_456, RoundingMode.UNNECESSARY))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("requires rounding");
+        }
+
+        @Test
+        @DisplayName("Should reject values out of range for the precision")
+        void shouldRejectOverflow() {
+            assertThatThrownBy(() -> TemporalPrecision.MICROS.toUnits(Instant.MAX, RoundingMode.FLOOR))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("out of range");
+            assertThat(TemporalPrecision.SECONDS.toUnits(Instant.MAX, RoundingMode.FLOOR))
+                .isEqualTo(Instant.MAX.getEpochSecond());
+        }
+
+        @Test
+        @DisplayName("Should convert instants, durations and temporal values alike")
+        void shouldConvertEveryTemporalType() {
+            Instant instant = Instant.ofEpochSecond(-2, 250_000_001);
+
+            long expected = TemporalPrecision.MILLIS.toUnits(-2, 250_000_001, RoundingMode.FLOOR);
+            assertThat(TemporalPrecision.MILLIS.toUnits(instant, RoundingMode.FLOOR)).isEqualTo(expected);
+            assertThat(TemporalPrecision.MILLIS.toUnits(Duration.ofSeconds(-2, 250_000_001), RoundingMode.FLOOR))
+                .isEqualTo(expected);
+            assertThat(TemporalPrecision.MILLIS.toUnits(EmbeddableTemporal.from(instant), RoundingMode.FLOOR))
+                .isEqualTo(expected);
+            assertThatNullPointerException()
+                .isThrownBy(() -> TemporalPrecision.MILLIS.toUnits((Duration) null, RoundingMode.FLOOR));
+        }
+
+        @Test
+        @DisplayName("Should round an EmbeddableTemporal to the precision")
+        void shouldRoundEmbeddableTemporal() {
+            EmbeddableTemporal value = new EmbeddableTemporal(-1, 999_999_500);
+
+            assertThat(TemporalPrecision.MICROS.round(value, RoundingMode.CEILING))
+                .isEqualTo(new EmbeddableTemporal(0, 0));
+            assertThat(TemporalPrecision.MICROS.round(value, RoundingMode.HALF_UP))
+                .isEqualTo(new EmbeddableTemporal(-1, 999_999_000));
+            assertThat(TemporalPrecision.NANOS.round(value, RoundingMode.UNNECESSARY)).isSameAs(value);
+        }
+    }
+
+    @Nested
+    @DisplayName("Epoch embeddables")
+    class EmbeddableTests {
+
+        @Test
+        @DisplayName("Should expose the same conversions as EmbeddableTemporal")
+        void shouldConvert() {
+            Instant instant = Instant.parse("1969-12-31T23:59:59.250Z");
+            EpochMillisTemporal millis = EpochMillisTemporal.from(instant);
+
+            assertThat(millis.getEpochMillis()).isEqualTo(-750L);
+            assertThat(millis.getSeconds()).isEqualTo(-1L);
+            assertThat(millis.getNanos()).isEqualTo(250_000_000);
+            assertThat(millis.toInstant()).isEqualTo(instant);
+            assertThat(millis.toDuration()).isEqualTo(Duration.ofMillis(-750));
+            assertThat(millis.toEmbeddableTemporal()).isEqualTo(EmbeddableTemporal.from(instant));
+        }
+
+        @Test
+        @DisplayName("Should round or reject on creation")
+        void shouldRoundOrReject() {
+            Instant instant = Instant.ofEpochSecond(10, 123_456_789);
+
+            assertThat(EpochMicrosTemporal.from(instant, RoundingMode.HALF_EVEN).getEpochMicros())
+                .isEqualTo(10_123_457L);
+            assertThat(EpochSecondsTemporal.from(Duration.ofMillis(1_500), RoundingMode.DOWN).getEpochSeconds())
+                .isEqualTo(1L);
+            assertThatThrownBy(() -> EpochMillisTemporal.from(instant))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should compare by instant across precisions")
+        void shouldCompareAcrossPrecisions() {
+            EpochMillisTemporal millis = new EpochMillisTemporal(1_500);
+            EpochMicrosTemporal micros = new EpochMicrosTemporal(1_500_000);
+            EpochSecondsTemporal seconds = new EpochSecondsTemporal(2);
+
+            assertThat(millis.compareTo(micros)).isZero();
+            assertThat(millis.compareTo(seconds)).isNegative();
+            assertThat(millis).isNotEqualTo(micros).isEqualTo(new EpochMillisTemporal(1_500));
+        }
+    }
+}
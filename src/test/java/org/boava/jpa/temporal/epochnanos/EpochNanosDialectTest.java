@@ -0,0 +1,67 @@
+package org.boava.jpa.temporal.epochnanos;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Snapshot tests for the DDL generated per dialect.
+ */
+@DisplayName("EpochNanosDialect Tests")
+class EpochNanosDialectTest {
+
+    record DdlSnapshot(EpochNanosDialect dialect, String bigint, String decimal) {}
+
+    static Stream<DdlSnapshot> provideSnapshots() {
+        return Stream.of(
+            new DdlSnapshot(EpochNanosDialect.H2,
+                "ALTER TABLE events ADD COLUMN ts_epoch_nanos BIGINT GENERATED ALWAYS AS "
+                    + "(ts_seconds * 1000000000 + ts_nanos)",
+                "ALTER TABLE events ADD COLUMN ts_epoch_nanos NUMERIC(29, 0) GENERATED ALWAYS AS "
+                    + "(CAST(ts_seconds AS NUMERIC(29, 0)) * 1000000000 + ts_nanos)"),
+            new DdlSnapshot(EpochNanosDialect.POSTGRESQL,
+                "ALTER TABLE events ADD COLUMN ts_epoch_nanos BIGINT GENERATED ALWAYS AS "
+                    + "(ts_seconds * 1000000000 + ts_nanos) STORED",
+                "ALTER TABLE events ADD COLUMN ts_epoch_nanos NUMERIC(29, 0) GENERATED ALWAYS AS "
+                    + "(CAST(ts_seconds AS NUMERIC(29, 0)) * 1000000000 + ts_nanos) STORED"),
+            new DdlSnapshot(EpochNanosDialect.MYSQL,
+                "ALTER TABLE events ADD COLUMN ts_epoch_nanos BIGINT GENERATED ALWAYS AS "
+                    + "(ts_seconds * 1000000000 + ts_nanos) STORED",
+                "ALTER TABLE events ADD COLUMN ts_epoch_nanos DECIMAL(29, 0) GENERATED ALWAYS AS "
+                    + "(CAST(ts_seconds AS DECIMAL(29, 0)) * 1000000000 + ts_nanos) STORED"),
+            new DdlSnapshot(EpochNanosDialect.ORACLE,
+                "ALTER TABLE events ADD (ts_epoch_nanos NUMBER(19) GENERATED ALWAYS AS "
+                    + "(ts_seconds * 1000000000 + ts_nanos) VIRTUAL)",
+                "ALTER TABLE events ADD (ts_epoch_nanos NUMBER(29) GENERATED ALWAYS AS "
+                    + "(ts_seconds * 1000000000 + ts_nanos) VIRTUAL)"),
+            new DdlSnapshot(EpochNanosDialect.SQLSERVER,
+                "ALTER TABLE events ADD ts_epoch_nanos AS (ts_seconds * 1000000000 + ts_nanos) PERSISTED",
+                "ALTER TABLE events ADD ts_epoch_nanos AS "
+                    + "(CAST(CAST(ts_seconds AS DECIMAL(29, 0)) * 1000000000 + ts_nanos AS DECIMAL(29, 0))) PERSISTED")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideSnapshots")
+    @DisplayName("Should generate column DDL matching snapshot")
+    void shouldGenerateColumnDdlMatchingSnapshot(DdlSnapshot snapshot) {
+        EpochNanosDialect dialect = snapshot.dialect();
+
+        assertThat(dialect.addColumn("events", "ts_epoch_nanos", "ts_seconds", "ts_nanos", EpochNanosType.BIGINT))
+            .isEqualTo(snapshot.bigint());
+        assertThat(dialect.addColumn("events", "ts_epoch_nanos", "ts_seconds", "ts_nanos", EpochNanosType.DECIMAL))
+            .isEqualTo(snapshot.decimal());
+    }
+
+    @Test
+    @DisplayName("Should generate index DDL with additional key columns")
+    void shouldGenerateIndexDdl() {
+        assertThat(EpochNanosDialect.POSTGRESQL.createIndex("idx_events_nanos", "events", "ts_epoch_nanos", "id"))
+            .isEqualTo("CREATE INDEX idx_events_nanos ON events (ts_epoch_nanos, id)");
+    }
+}
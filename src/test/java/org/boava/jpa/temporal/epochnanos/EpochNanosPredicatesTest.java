@@ -0,0 +1,117 @@
+package org.boava.jpa.temporal.epochnanos;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.interval.TemporalInterval;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("EpochNanosPredicates Tests")
+class EpochNanosPredicatesTest {
+
+    private static final EpochNanosPath BIGINT = EpochNanosPath.bigint("e.tsNanos");
+    private static final EpochNanosPath DECIMAL = EpochNanosPath.decimal("ts_nanos");
+
+    @Nested
+    @DisplayName("Predicate Tests")
+    class PredicateTests {
+
+        @Test
+        @DisplayName("Should render single-column comparisons")
+        void shouldRenderComparisons() {
+            EmbeddableTemporal bound = new EmbeddableTemporal(-1L, 5);
+
+            assertThat(EpochNanosPredicates.atOrAfter(BIGINT, bound)).isEqualTo("e.tsNanos >= -999999995");
+            assertThat(EpochNanosPredicates.after(BIGINT, bound)).isEqualTo("e.tsNanos > -999999995");
+            assertThat(EpochNanosPredicates.before(BIGINT, bound)).isEqualTo("e.tsNanos < -999999995");
+            assertThat(EpochNanosPredicates.atOrBefore(BIGINT, bound)).isEqualTo("e.tsNanos <= -999999995");
+        }
+
+        @Test
+        @DisplayName("Should render a half-open range")
+        void shouldRenderRange() {
+            TemporalInterval interval = new TemporalInterval(new EmbeddableTemporal(1L, 0),
+                new EmbeddableTemporal(2L, 500));
+
+            assertThat(EpochNanosPredicates.range(BIGINT, interval))
+                .isEqualTo("e.tsNanos >= 1000000000 AND e.tsNanos < 2000000500");
+        }
+
+        @Test
+        @DisplayName("Should render decimal literals beyond the BIGINT range")
+        void shouldRenderDecimalLiterals() {
+            EmbeddableTemporal far = new EmbeddableTemporal(10_000_000_000L, 1);
+
+            assertThat(EpochNanosPredicates.atOrAfter(DECIMAL, far)).isEqualTo("ts_nanos >= 10000000000000000001");
+            assertThatIllegalArgumentException().isThrownBy(() -> EpochNanosPredicates.atOrAfter(BIGINT, far));
+        }
+
+        @Test
+        @DisplayName("Should render orderings and join conditions")
+        void shouldRenderOrderingsAndJoins() {
+            EpochNanosPath start = EpochNanosPath.bigint("s.startNanos");
+            EpochNanosPath end = EpochNanosPath.bigint("s.endNanos");
+
+            assertThat(EpochNanosPredicates.ascending(BIGINT)).isEqualTo("e.tsNanos ASC");
+            assertThat(EpochNanosPredicates.descending(BIGINT)).isEqualTo("e.tsNanos DESC");
+            assertThat(EpochNanosPredicates.equal(BIGINT, start)).isEqualTo("e.tsNanos = s.startNanos");
+            assertThat(EpochNanosPredicates.within(BIGINT, start, end))
+                .isEqualTo("e.tsNanos >= s.startNanos AND e.tsNanos < s.endNanos");
+        }
+
+        @Test
+        @DisplayName("Should reject blank paths")
+        void shouldRejectBlankPaths() {
+            assertThatIllegalArgumentException().isThrownBy(() -> EpochNanosPath.bigint(" "));
+            assertThatNullPointerException().isThrownBy(() -> new EpochNanosPath("x", null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Conversion Tests")
+    class ConversionTests {
+
+        @Test
+        @DisplayName("Should cover exactly the representable BIGINT range")
+        void shouldCoverBigintRange() {
+            EmbeddableTemporal min = EmbeddableTemporal.from(Instant.parse("1677-09-21T00:12:43.145224192Z"));
+            EmbeddableTemporal max = EmbeddableTemporal.from(Instant.parse("2262-04-11T23:47:16.854775807Z"));
+
+            assertThat(EpochNanosType.BIGINT.toEpochNanos(min)).isEqualTo(Long.MIN_VALUE);
+            assertThat(EpochNanosType.BIGINT.toEpochNanos(max)).isEqualTo(Long.MAX_VALUE);
+            assertThatIllegalArgumentException().isThrownBy(() -> EpochNanosType.BIGINT.toEpochNanos(
+                new EmbeddableTemporal(max.getSeconds(), max.getNanos() + 1)));
+            assertThat(EpochNanosType.toTemporal(Long.MIN_VALUE)).isEqualTo(min);
+            assertThat(EpochNanosType.toTemporal(Long.MAX_VALUE)).isEqualTo(max);
+        }
+
+        @Test
+        @DisplayName("Should round-trip decimal values across the full range")
+        void shouldRoundTripDecimalValues() {
+            for (EmbeddableTemporal value : new EmbeddableTemporal[] {
+                    new EmbeddableTemporal(Long.MIN_VALUE, 0), new EmbeddableTemporal(-1L, 999_999_999),
+                    new EmbeddableTemporal(0L, 0), new EmbeddableTemporal(Long.MAX_VALUE, 999_999_999)}) {
+                Number stored = EpochNanosType.DECIMAL.toEpochNanos(value);
+
+                assertThat(stored).isInstanceOf(BigDecimal.class);
+                assertThat(EpochNanosType.toTemporal(stored)).isEqualTo(value);
+                assertThat(EpochNanosType.toTemporal(((BigDecimal) stored).toBigInteger())).isEqualTo(value);
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject fractional or out-of-range column values")
+        void shouldRejectInvalidColumnValues() {
+            assertThat(EpochNanosType.toTemporal(null)).isNull();
+            assertThatIllegalArgumentException().isThrownBy(() -> EpochNanosType.toTemporal(new BigDecimal("1.5")));
+            assertThatIllegalArgumentException().isThrownBy(() -> EpochNanosType.toTemporal(
+                BigInteger.TEN.pow(29)));
+        }
+    }
+}
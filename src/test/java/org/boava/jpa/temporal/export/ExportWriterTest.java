@@ -0,0 +1,104 @@
+package org.boava.jpa.temporal.export;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("ExportWriter Tests")
+class ExportWriterTest {
+
+    /**
+     * Writes through a 64-byte buffer, so longer values exercise the flushing paths.
+     */
+    private static String write(Consumer<ExportWriter> content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportWriter writer = new ExportWriter(Channels.newChannel(out), ByteBuffer.allocate(64));
+        content.accept(writer);
+        writer.flush();
+        assertThat(writer.bytes()).isEqualTo(out.size());
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("Numbers and Timestamps")
+    class NumbersAndTimestamps {
+
+        @ParameterizedTest
+        @ValueSource(longs = {0, 7, -7, 1_234_567_890_123L, Long.MAX_VALUE, Long.MIN_VALUE})
+        @DisplayName("Should write longs like Long.toString")
+        void shouldWriteLongs(long value) {
+            assertThat(write(writer -> writer.putLong(value))).isEqualTo(Long.toString(value));
+        }
+
+        @Test
+        @DisplayName("Should write ISO-8601 timestamps like Instant.toString")
+        void shouldWriteIsoTimestamps() {
+            Instant instant = Instant.parse("2024-03-15T10:30:45.123Z");
+            String text = write(writer -> {
+                for (int i = 0; i < 3; i++) {
+                    writer.putTimestamp(instant.getEpochSecond(), instant.getNano(), TimestampFormat.ISO_8601);
+                    writer.put((byte) ' ');
+                }
+            });
+            assertThat(text).isEqualTo((instant + " ").repeat(3));
+        }
+
+        @Test
+        @DisplayName("Should write epoch nanoseconds for negative and extreme seconds")
+        void shouldWriteEpochNanos() {
+            assertThat(write(writer -> writer.putTimestamp(1_710_498_645L, 123_000_000, TimestampFormat.EPOCH_NANOS)))
+                .isEqualTo("1710498645123000000");
+            assertThat(write(writer -> writer.putTimestamp(-1, 999_999_999, TimestampFormat.EPOCH_NANOS)))
+                .isEqualTo("-1");
+            long seconds = Instant.MAX.getEpochSecond();
+            assertThat(write(writer -> writer.putTimestamp(seconds, 5, TimestampFormat.EPOCH_NANOS)))
+                .isEqualTo(BigInteger.valueOf(seconds).multiply(BigInteger.valueOf(1_000_000_000)).add(
+                    BigInteger.valueOf(5)).toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Strings")
+    class Strings {
+
+        @Test
+        @DisplayName("Should escape JSON strings and encode UTF-8")
+        void shouldEscapeJsonStrings() {
+            assertThat(write(writer -> writer.putJsonString("a\"b\\c\nd\u0001 é € 😀")))
+                .isEqualTo("\"a\\\"b\\\\c\\u000ad\\u0001 é € 😀\"");
+        }
+
+        @Test
+        @DisplayName("Should quote CSV fields only when needed")
+        void shouldQuoteCsvFields() {
+            assertThat(write(writer -> writer.putCsvField("plain é"))).isEqualTo("plain é");
+            assertThat(write(writer -> writer.putCsvField("a,b"))).isEqualTo("\"a,b\"");
+            assertThat(write(writer -> writer.putCsvField("say \"hi\"\n"))).isEqualTo("\"say \"\"hi\"\"\n\"");
+        }
+
+        @Test
+        @DisplayName("Should replace unpaired surrogates")
+        void shouldReplaceUnpairedSurrogates() {
+            assertThat(write(writer -> writer.putCsvField("a\uD800b"))).isEqualTo("a?b");
+        }
+
+        @Test
+        @DisplayName("Should write strings longer than the buffer")
+        void shouldWriteLongStrings() {
+            String value = "x".repeat(1_000) + "€".repeat(100);
+            assertThat(write(writer -> writer.putJsonString(value))).isEqualTo('"' + value + '"');
+        }
+    }
+}
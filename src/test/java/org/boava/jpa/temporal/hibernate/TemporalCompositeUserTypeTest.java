@@ -0,0 +1,174 @@
+package org.boava.jpa.temporal.hibernate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.boava.jpa.temporal.test.TestConstants.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.io.Serializable;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.integration.CachedTestEntity;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cache.spi.entry.StructuredCacheEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalCompositeUserType Tests")
+class TemporalCompositeUserTypeTest {
+
+    private final TemporalCompositeUserType type = new TemporalCompositeUserType();
+
+    @Nested
+    @DisplayName("Type Contract Tests")
+    class TypeContractTests {
+
+        @Test
+        @DisplayName("Should disassemble into packed primitives and assemble back")
+        void shouldDisassembleIntoPackedPrimitivesAndAssembleBack() {
+            EmbeddableTemporal temporal = new EmbeddableTemporal(STANDARD_SECONDS, STANDARD_NANOS);
+
+            Serializable cached = type.disassemble(temporal);
+
+            assertThat(cached).isEqualTo(new PackedTemporal(STANDARD_SECONDS, STANDARD_NANOS));
+            assertThat(type.assemble(cached, null)).isEqualTo(temporal);
+            assertThat(type.disassemble(null)).isNull();
+            assertThat(type.assemble(null, null)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should expose properties in alphabetical order")
+        void shouldExposePropertiesInAlphabeticalOrder() {
+            EmbeddableTemporal temporal = new EmbeddableTemporal(ALT_SECONDS, ALT_NANOS);
+
+            assertThat(type.getPropertyValue(temporal, 0)).isEqualTo(ALT_NANOS);
+            assertThat(type.getPropertyValue(temporal, 1)).isEqualTo(ALT_SECONDS);
+            assertThatThrownBy(() -> type.getPropertyValue(temporal, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should copy mutable values")
+        void shouldCopyMutableValues() {
+            EmbeddableTemporal temporal = new EmbeddableTemporal(ALT_SECONDS, ALT_NANOS);
+
+            assertThat(type.deepCopy(temporal)).isEqualTo(temporal).isNotSameAs(temporal);
+            assertThat(type.replace(temporal, null, null)).isEqualTo(temporal).isNotSameAs(temporal);
+            assertThat(type.deepCopy(null)).isNull();
+            assertThat(type.isMutable()).isTrue();
+            assertThat(type.equals(temporal, type.deepCopy(temporal))).isTrue();
+            assertThat(type.hashCode(temporal)).isEqualTo(temporal.hashCode());
+            assertThat(type.returnedClass()).isEqualTo(EmbeddableTemporal.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Hydration Tests")
+    class HydrationTests {
+
+        @Test
+        @DisplayName("Should instantiate stored values without normalizing them")
+        void shouldInstantiateStoredValuesWithoutNormalizingThem() {
+            EmbeddableTemporal corrupt = type.instantiate(() -> new Object[] {ONE_BILLION_NANOS, HUNDRED_SECONDS},
+                null);
+
+            assertThat(corrupt.getSeconds()).isEqualTo(HUNDRED_SECONDS);
+            assertThat(corrupt.getNanos()).isEqualTo(ONE_BILLION_NANOS);
+            assertThat(type.deepCopy(corrupt).getNanos()).isEqualTo(ONE_BILLION_NANOS);
+            assertThat(type.assemble(type.disassemble(corrupt), null).getNanos()).isEqualTo(ONE_BILLION_NANOS);
+        }
+
+        @Test
+        @DisplayName("Should map null columns to null and reject half-null columns")
+        void shouldMapNullColumnsToNullAndRejectHalfNullColumns() {
+            assertThat(type.instantiate(() -> new Object[] {null, null}, null)).isNull();
+            assertThatThrownBy(() -> type.instantiate(() -> new Object[] {null, HUNDRED_SECONDS}, null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("nanos null");
+            assertThatThrownBy(() -> type.instantiate(() -> new Object[] {STANDARD_NANOS, null}, null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("seconds null");
+        }
+    }
+
+    @Nested
+    @DisplayName("Persistence Tests")
+    class PersistenceTests {
+
+        private EntityManagerFactory emf;
+        private EntityManager em;
+
+        @BeforeEach
+        void setUp() {
+            emf = Persistence.createEntityManagerFactory("test-pu");
+            em = emf.createEntityManager();
+        }
+
+        @AfterEach
+        void tearDown() {
+            em.close();
+            emf.close();
+        }
+
+        @Test
+        @DisplayName("Should persist and load through the composite user type")
+        void shouldPersistAndLoadThroughTheCompositeUserType() {
+            em.getTransaction().begin();
+            em.persist(new CachedTestEntity(1L, "cached", STANDARD_INSTANT, null));
+            em.getTransaction().commit();
+            em.clear();
+
+            CachedTestEntity retrieved = em.find(CachedTestEntity.class, 1L);
+
+            assertThat(retrieved.getCreated().toInstant()).isEqualTo(STANDARD_INSTANT);
+            assertThat(retrieved.getModified()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should query components by attribute path")
+        void shouldQueryComponentsByAttributePath() {
+            em.getTransaction().begin();
+            em.persist(new CachedTestEntity(1L, "first", STANDARD_INSTANT, ALT_INSTANT));
+            em.persist(new CachedTestEntity(2L, "second", ALT_INSTANT, ALT_INSTANT));
+            em.getTransaction().commit();
+
+            String name = em.createQuery(
+                    "SELECT e.name FROM CachedTestEntity e WHERE e.created.seconds = :seconds", String.class)
+                .setParameter("seconds", STANDARD_SECONDS)
+                .getSingleResult();
+
+            assertThat(name).isEqualTo("first");
+        }
+
+        @Test
+        @DisplayName("Should store packed temporals in second-level cache entries")
+        void shouldStorePackedTemporalsInSecondLevelCacheEntries() {
+            CachedTestEntity entity = new CachedTestEntity(1L, "cached", STANDARD_INSTANT, ALT_INSTANT);
+            em.getTransaction().begin();
+            em.persist(entity);
+            em.getTransaction().commit();
+
+            EntityPersister persister = emf.unwrap(SessionFactoryImplementor.class).getMappingMetamodel()
+                .getEntityDescriptor(CachedTestEntity.class);
+            SharedSessionContractImplementor session = em.unwrap(SharedSessionContractImplementor.class);
+            StandardCacheEntryImpl entry = new StandardCacheEntryImpl(
+                persister.getValues(entity), persister, null, session, entity);
+
+            assertThat(entry.getDisassembledState())
+                .contains(new PackedTemporal(STANDARD_SECONDS, STANDARD_NANOS), new PackedTemporal(ALT_SECONDS, ALT_NANOS))
+                .doesNotHaveAnyElementsOfTypes(Object[].class);
+            assertThat(new StructuredCacheEntry(persister).structure(entry))
+                .asInstanceOf(InstanceOfAssertFactories.MAP)
+                .containsEntry("created", new PackedTemporal(STANDARD_SECONDS, STANDARD_NANOS));
+        }
+    }
+}
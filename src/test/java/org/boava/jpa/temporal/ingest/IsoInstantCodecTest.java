@@ -0,0 +1,120 @@
+package org.boava.jpa.temporal.ingest;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Random;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("IsoInstantCodec Tests")
+class IsoInstantCodecTest {
+
+    private static EmbeddableTemporal parse(String text) {
+        ByteBuffer buffer = ByteBuffer.wrap(("#" + text + "#").getBytes(StandardCharsets.US_ASCII));
+        EmbeddableTemporal[] parsed = new EmbeddableTemporal[1];
+        boolean valid = IsoInstantCodec.parse(buffer, 1, buffer.limit() - 1,
+            (seconds, nanos) -> parsed[0] = new EmbeddableTemporal(seconds, nanos));
+        assertThat(valid).as(text).isEqualTo(parsed[0] != null);
+        return parsed[0];
+    }
+
+    @Nested
+    @DisplayName("Parsing")
+    class ParsingTests {
+
+        @Test
+        @DisplayName("Should agree with Instant.parse on random instants")
+        void shouldAgreeWithInstantParse() {
+            Random random = new Random(42);
+            long min = Instant.parse("0000-01-01T00:00:00Z").getEpochSecond();
+            long max = Instant.parse("9999-12-31T23:59:59Z").getEpochSecond();
+            for (int i = 0; i < 100_000; i++) {
+                Instant instant = Instant.ofEpochSecond(min + (long) (random.nextDouble() * (max - min)),
+                    random.nextInt(4) == 0 ? 0 : random.nextInt(1_000_000_000));
+                assertThat(parse(instant.toString())).as(instant.toString())
+                    .isEqualTo(EmbeddableTemporal.from(instant));
+            }
+        }
+
+        @Test
+        @DisplayName("Should parse fractions of any length, offsets and lower case")
+        void shouldParseVariants() {
+            assertThat(parse("2024-03-15T10:30:45.1Z")).isEqualTo(new EmbeddableTemporal(1710498645L, 100_000_000));
+            assertThat(parse("2024-03-15t10:30:45.123456789z"))
+                .isEqualTo(new EmbeddableTemporal(1710498645L, 123_456_789));
+            assertThat(parse("2024-03-15T12:30:45+02:00")).isEqualTo(parse("2024-03-15T10:30:45Z"));
+            assertThat(parse("2024-03-15T08:00:45-02:30")).isEqualTo(parse("2024-03-15T10:30:45Z"));
+            assertThat(parse("2024-02-29T00:00:00Z")).isNotNull();
+            assertThat(parse("1969-12-31T23:59:59.5Z")).isEqualTo(new EmbeddableTemporal(-1L, 500_000_000));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+            "", "2024-03-15", "2024-03-15T10:30:45", "2024-03-15 10:30:45Z", "2024-13-15T10:30:45Z",
+            "2023-02-29T10:30:45Z", "2024-04-31T10:30:45Z", "2024-03-15T24:00:00Z", "2024-03-15T10:60:45Z",
+            "2024-03-15T23:59:60Z", "2024-03-15T10:30:45.Z", "2024-03-15T10:30:45.1234567891Z",
+            "2024-03-15T10:30:45+19:00", "2024-03-15T10:30:45+0200", "2024-03-15T10:30:45ZZ", "+12024-03-15T10:30:45Z",
+            "2024-03-1xT10:30:45Z"
+        })
+        @DisplayName("Should reject invalid text")
+        void shouldRejectInvalidText(String text) {
+            assertThat(parse(text)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Formatting")
+    class FormattingTests {
+
+        private String format(Instant instant) {
+            ByteBuffer buffer = ByteBuffer.allocate(IsoInstantCodec.MAX_FORMATTED_LENGTH + 2);
+            buffer.put((byte) '#');
+            int written = IsoInstantCodec.format(instant.getEpochSecond(), instant.getNano(), buffer);
+            assertThat(buffer.position()).isEqualTo(written + 1);
+            return new String(buffer.array(), 1, written, StandardCharsets.US_ASCII);
+        }
+
+        @Test
+        @DisplayName("Should format like Instant.toString and parse back")
+        void shouldFormatLikeInstantToString() {
+            Random random = new Random(7);
+            long min = Instant.parse("0000-01-01T00:00:00Z").getEpochSecond();
+            long max = Instant.parse("9999-12-31T23:59:59Z").getEpochSecond();
+            int[] scales = {0, 1_000_000, 1_000, 1};
+            for (int i = 0; i < 100_000; i++) {
+                int scale = scales[random.nextInt(scales.length)];
+                Instant instant = Instant.ofEpochSecond(min + (long) (random.nextDouble() * (max - min)),
+                    scale == 0 ? 0 : random.nextInt(1_000_000_000 / scale) * scale);
+                String text = format(instant);
+                assertThat(text).isEqualTo(instant.toString());
+                assertThat(parse(text)).isEqualTo(EmbeddableTemporal.from(instant));
+            }
+        }
+
+        @Test
+        @DisplayName("Should fall back to Instant.toString for extended years")
+        void shouldFormatExtendedYears() {
+            assertThat(format(Instant.MAX)).isEqualTo(Instant.MAX.toString()).hasSize(IsoInstantCodec.MAX_FORMATTED_LENGTH);
+            assertThat(format(Instant.MIN)).isEqualTo(Instant.MIN.toString());
+            assertThat(format(Instant.parse("-0001-12-31T23:59:59Z"))).isEqualTo("-0001-12-31T23:59:59Z");
+        }
+    }
+
+    @Test
+    @DisplayName("Should compute epoch days like LocalDate")
+    void shouldComputeEpochDays() {
+        for (LocalDate date = LocalDate.of(1599, 12, 1); date.getYear() < 2401; date = date.plusDays(17)) {
+            assertThat(IsoInstantCodec.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()))
+                .isEqualTo(date.toEpochDay());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.boava.jpa.temporal.instrumentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Runs with instrumentation enabled by the surefire configuration and {@link TemporalCounters} registered as a
+ * service in the test resources.
+ */
+@DisplayName("TemporalInstrumentation")
+class TemporalInstrumentationTest {
+
+    private TemporalCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        assertThat(TemporalInstrumentation.ENABLED).isTrue();
+        counters = TemporalInstrumentation.sink(TemporalCounters.class).orElseThrow();
+        counters.reset();
+    }
+
+    @Nested
+    @DisplayName("Metrics sinks")
+    class Sinks {
+
+        @Test
+        @DisplayName("Should discover sinks with the service loader")
+        void shouldDiscoverSinks() {
+            assertThat(TemporalInstrumentation.getSinks()).containsExactly(counters);
+        }
+
+        @Test
+        @DisplayName("Should count conversions per kind")
+        void shouldCountConversions() {
+            EmbeddableTemporal temporal = EmbeddableTemporal.from(Instant.parse("2024-01-01T00:00:00Z"));
+            temporal.toInstant();
+            temporal.toInstant();
+            temporal.toZonedDateTime();
+            EmbeddableTemporal.from(Duration.ofSeconds(5)).toDuration();
+
+            assertThat(counters.getConversions(ConversionKind.FROM_INSTANT)).isEqualTo(1);
+            assertThat(counters.getConversions(ConversionKind.TO_INSTANT)).isEqualTo(2);
+            assertThat(counters.getConversions(ConversionKind.TO_ZONED_DATE_TIME)).isEqualTo(1);
+            assertThat(counters.getConversions(ConversionKind.FROM_DURATION)).isEqualTo(1);
+            assertThat(counters.getConversions(ConversionKind.TO_DURATION)).isEqualTo(1);
+            assertThat(counters.getConversions(ConversionKind.TO_LOCAL_TIME)).isZero();
+        }
+
+        @Test
+        @DisplayName("Should count carries and borrows but not normalized values")
+        void shouldCountNormalizations() {
+            new EmbeddableTemporal(10, 500);
+            new EmbeddableTemporal(10, 1_500_000_000);
+            new EmbeddableTemporal(10, -1);
+            new EmbeddableTemporal(10, -1_500_000_000);
+
+            assertThat(counters.getNormalizations(NormalizationKind.CARRY)).isEqualTo(1);
+            assertThat(counters.getNormalizations(NormalizationKind.BORROW)).isEqualTo(2);
+            long[] histogram = counters.getCarriedSecondsHistogram();
+            assertThat(histogram[0]).isEqualTo(2);
+            assertThat(histogram[1]).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should bucket carried seconds by powers of two")
+        void shouldBucketByPowersOfTwo() {
+            assertThat(TemporalCounters.bucketOf(1)).isZero();
+            assertThat(TemporalCounters.bucketOf(2)).isEqualTo(1);
+            assertThat(TemporalCounters.bucketOf(3)).isEqualTo(1);
+            assertThat(TemporalCounters.bucketOf(1024)).isEqualTo(10);
+            assertThat(TemporalCounters.bucketOf(Long.MAX_VALUE)).isEqualTo(62);
+        }
+    }
+
+    @Nested
+    @DisplayName("Flight Recorder events")
+    class FlightRecorder {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("Should record normalization events with the offending call site")
+        void shouldRecordNormalizationEvents() throws Exception {
+            List<RecordedEvent> events = record(false, () -> new EmbeddableTemporal(0, 2_000_000_000));
+
+            List<RecordedEvent> normalizations = ofType(events, TemporalNormalizationEvent.NAME);
+            assertThat(normalizations).hasSize(1);
+            RecordedEvent event = normalizations.get(0);
+            assertThat(event.getString("branch")).isEqualTo("CARRY");
+            assertThat(event.getLong("carriedSeconds")).isEqualTo(2);
+            assertThat(event.getStackTrace().getFrames()).extracting(RecordedFrame::getMethod)
+                .anyMatch(method -> method.getType().getName().startsWith(TemporalInstrumentationTest.class.getName()));
+            assertThat(ofType(events, TemporalConversionEvent.NAME)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should record conversion events only when enabled in the recording")
+        void shouldRecordConversionEventsWhenEnabled() throws Exception {
+            List<RecordedEvent> events = record(true, () -> new EmbeddableTemporal(1, 0).toInstant());
+
+            List<RecordedEvent> conversions = ofType(events, TemporalConversionEvent.NAME);
+            assertThat(conversions).hasSize(1);
+            assertThat(conversions.get(0).getString("conversion")).isEqualTo("TO_INSTANT");
+        }
+
+        private List<RecordedEvent> record(boolean conversions, Runnable action) throws Exception {
+            Path file = directory.resolve("temporal.jfr");
+            try (Recording recording = new Recording()) {
+                recording.enable(TemporalNormalizationEvent.NAME);
+                if (conversions) {
+                    recording.enable(TemporalConversionEvent.NAME);
+                }
+                recording.start();
+                action.run();
+                recording.stop();
+                recording.dump(file);
+            }
+            return RecordingFile.readAllEvents(file);
+        }
+
+        private List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+            return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+        }
+    }
+}
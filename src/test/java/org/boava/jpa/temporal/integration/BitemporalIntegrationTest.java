@@ -0,0 +1,96 @@
+package org.boava.jpa.temporal.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.boava.jpa.temporal.bitemporal.BitemporalPath;
+import org.boava.jpa.temporal.bitemporal.BitemporalPeriod;
+import org.boava.jpa.temporal.bitemporal.BitemporalQueries;
+import org.boava.jpa.temporal.bitemporal.BitemporalWriter;
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.interval.TemporalInterval;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Bitemporal Integration Tests")
+class BitemporalIntegrationTest {
+
+    static final BitemporalPath PERIOD = BitemporalPath.attribute("e.period");
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        emf = Persistence.createEntityManagerFactory("test-pu");
+        em = emf.createEntityManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (em != null && em.isOpen()) {
+            em.close();
+        }
+        if (emf != null && emf.isOpen()) {
+            emf.close();
+        }
+    }
+
+    private static EmbeddableTemporal at(long seconds) {
+        return new EmbeddableTemporal(seconds, 0);
+    }
+
+    private static VersionedTestEntity version(String product, long price, long validFrom, long validTo) {
+        return new VersionedTestEntity(product, price,
+            BitemporalPeriod.current(new TemporalInterval(at(validFrom), at(validTo)), at(0)));
+    }
+
+    private int write(long transactionSeconds, int batchSize, VersionedTestEntity... versions) {
+        BitemporalWriter<String, VersionedTestEntity> writer = new BitemporalWriter<>(VersionedTestEntity.class,
+            "product", "period", VersionedTestEntity::copy,
+            Clock.fixed(Instant.ofEpochSecond(transactionSeconds), ZoneOffset.UTC));
+        em.getTransaction().begin();
+        int inserted = writer.write(em, List.of(versions), batchSize);
+        em.getTransaction().commit();
+        return inserted;
+    }
+
+    private List<Long> prices(String product, String predicate) {
+        return em.createQuery("SELECT e.price FROM VersionedTestEntity e WHERE e.product = :product AND " + predicate
+                + " ORDER BY e.period.valid.start.seconds", Long.class)
+            .setParameter("product", product)
+            .getResultList();
+    }
+
+    @Test
+    @DisplayName("Should close superseded version and re-insert uncovered remainders")
+    void shouldCloseSupersededVersionAndReinsertUncoveredRemainders() {
+        assertThat(write(1_000, 10, version("A", 10, 0, 1_000_000))).isEqualTo(1);
+        assertThat(write(2_000, 10, version("A", 12, 500, 700))).isEqualTo(3);
+
+        assertThat(prices("A", BitemporalQueries.asOf(PERIOD, at(600), at(1_500)))).containsExactly(10L);
+        assertThat(prices("A", BitemporalQueries.asOf(PERIOD, at(600), at(2_500)))).containsExactly(12L);
+        assertThat(prices("A", BitemporalQueries.current(PERIOD, at(800)))).containsExactly(10L);
+        assertThat(prices("A", BitemporalQueries.currentVersions(PERIOD))).containsExactly(10L, 12L, 10L);
+        assertThat(prices("A", "1 = 1")).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Should remove versions superseded within the same write across batches")
+    void shouldRemoveVersionsSupersededWithinTheSameWriteAcrossBatches() {
+        write(1_000, 1, version("B", 1, 0, 100), version("B", 2, 0, 100), version("C", 3, 0, 100));
+
+        assertThat(prices("B", "1 = 1")).containsExactly(2L);
+        assertThat(prices("C", BitemporalQueries.current(PERIOD, at(50)))).containsExactly(3L);
+    }
+}
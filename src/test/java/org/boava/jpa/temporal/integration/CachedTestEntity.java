@@ -0,0 +1,82 @@
+package org.boava.jpa.temporal.integration;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.AttributeOverrides;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.hibernate.TemporalCompositeUserType;
+import org.hibernate.annotations.CompositeType;
+
+/**
+ * Test entity mapping its temporal attributes through {@link TemporalCompositeUserType}.
+ */
+@Entity
+@Cacheable
+@Table(name = "cached_test_entities")
+public class CachedTestEntity {
+
+    @Id
+    private Long id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Embedded
+    @CompositeType(TemporalCompositeUserType.class)
+    @AttributeOverrides({
+        @AttributeOverride(name = "seconds", column = @Column(name = "created_seconds")),
+        @AttributeOverride(name = "nanos", column = @Column(name = "created_nanos"))
+    })
+    private EmbeddableTemporal created;
+
+    @Embedded
+    @CompositeType(TemporalCompositeUserType.class)
+    @AttributeOverrides({
+        @AttributeOverride(name = "seconds", column = @Column(name = "modified_seconds")),
+        @AttributeOverride(name = "nanos", column = @Column(name = "modified_nanos"))
+    })
+    private EmbeddableTemporal modified;
+
+    // Default constructor required by JPA
+    public CachedTestEntity() {
+    }
+
+    public CachedTestEntity(Long id, String name, Instant created, Instant modified) {
+        this.id = id;
+        this.name = name;
+        this.created = created != null ? EmbeddableTemporal.from(created) : null;
+        this.modified = modified != null ? EmbeddableTemporal.from(modified) : null;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public EmbeddableTemporal getCreated() {
+        return created;
+    }
+
+    public void setCreated(EmbeddableTemporal created) {
+        this.created = created;
+    }
+
+    public EmbeddableTemporal getModified() {
+        return modified;
+    }
+
+    public void setModified(EmbeddableTemporal modified) {
+        this.modified = modified;
+    }
+}
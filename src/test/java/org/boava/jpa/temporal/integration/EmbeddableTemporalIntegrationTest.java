@@ -1,9 +1,9 @@
 package org.boava.jpa.temporal.integration;
 
-import static org.boava.jpa.temporal.test.TestConstants.*;
 import static java.time.Duration.ofSeconds;
 import static java.time.Instant.ofEpochSecond;
 import static org.assertj.core.api.Assertions.*;
+import static org.boava.jpa.temporal.test.TestConstants.*;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
@@ -13,12 +13,14 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 
+import org.boava.jpa.temporal.embeddable.TemporalHydrationValidator;
+import org.boava.jpa.temporal.interval.TemporalInterval;
+import org.boava.jpa.temporal.test.TestConstants;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.boava.jpa.temporal.test.TestConstants;
 
 @DisplayName("EmbeddableTemporal Integration Tests")
 class EmbeddableTemporalIntegrationTest {
@@ -295,4 +297,70 @@ class EmbeddableTemporalIntegrationTest {
             assertThat(retrieved.getDuration().toDuration()).isEqualTo(highPrecisionDuration);
         }
     }
+
+    @Nested
+    @DisplayName("Hydration Tests")
+    class HydrationTests {
+
+        private Long persistWithStoredNanos(int storedNanos) {
+            TestEntity event = new TestEntity("Hydration Test", "Testing trusted hydration", STANDARD_INSTANT, null);
+
+            em.getTransaction().begin();
+            em.persist(event);
+            em.flush();
+            em.createNativeQuery("UPDATE test_entities SET timestamp_nanos = ?1 WHERE id = ?2")
+                .setParameter(1, storedNanos)
+                .setParameter(2, event.getId())
+                .executeUpdate();
+            em.getTransaction().commit();
+            em.clear();
+            return event.getId();
+        }
+
+        @Test
+        @DisplayName("Should hydrate stored values without normalizing them")
+        void shouldHydrateStoredValuesWithoutNormalizingThem() {
+            Long id = persistWithStoredNanos(ONE_AND_HALF_BILLION_NANOS);
+
+            TestEntity retrieved = em.find(TestEntity.class, id);
+
+            assertThat(retrieved.getTimestamp().getSeconds()).isEqualTo(STANDARD_SECONDS);
+            assertThat(retrieved.getTimestamp().getNanos()).isEqualTo(ONE_AND_HALF_BILLION_NANOS);
+            assertThat(retrieved.getTimestamp().isNormalized()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should detect corrupt stored nanos in strict mode")
+        void shouldDetectCorruptStoredNanosInStrictMode() {
+            TemporalHydrationValidator validator = new TemporalHydrationValidator();
+            TestEntity valid = em.find(TestEntity.class, persistWithStoredNanos(STANDARD_NANOS));
+            TestEntity corrupt = em.find(TestEntity.class, persistWithStoredNanos(-ONE_NANOS));
+
+            assertThatCode(() -> validator.validate(valid)).doesNotThrowAnyException();
+            assertThatThrownBy(() -> validator.validate(corrupt))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("TestEntity.timestamp");
+        }
+
+        @Test
+        @DisplayName("Should detect corrupt stored nanos inside an interval in strict mode")
+        void shouldDetectCorruptStoredNanosInsideAnIntervalInStrictMode() {
+            TemporalHydrationValidator validator = new TemporalHydrationValidator();
+            em.getTransaction().begin();
+            em.persist(new IntervalTestEntity(1L, "Interval", TemporalInterval.of(STANDARD_INSTANT,
+                STANDARD_INSTANT.plusSeconds(HUNDRED_SECONDS))));
+            em.flush();
+            em.createNativeQuery("UPDATE interval_test_entities SET valid_to_nanos = ?1 WHERE id = 1")
+                .setParameter(1, ONE_BILLION_NANOS)
+                .executeUpdate();
+            em.getTransaction().commit();
+            em.clear();
+
+            IntervalTestEntity corrupt = em.find(IntervalTestEntity.class, 1L);
+
+            assertThatThrownBy(() -> validator.validate(corrupt))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("IntervalTestEntity.validity.end");
+        }
+    }
 }
@@ -0,0 +1,151 @@
+package org.boava.jpa.temporal.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.PersistenceException;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.epochnanos.EpochNanosDialect;
+import org.boava.jpa.temporal.epochnanos.EpochNanosPath;
+import org.boava.jpa.temporal.epochnanos.EpochNanosPredicates;
+import org.boava.jpa.temporal.epochnanos.EpochNanosType;
+import org.boava.jpa.temporal.interval.TemporalInterval;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Epoch Nanos Integration Tests")
+class EpochNanosIntegrationTest {
+
+    private static final EpochNanosPath ATTRIBUTE = EpochNanosPath.bigint("e.eventEpochNanos");
+    private static final EpochNanosPath COLUMN = EpochNanosPath.bigint("event_epoch_nanos");
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        emf = Persistence.createEntityManagerFactory("test-pu");
+        em = emf.createEntityManager();
+
+        em.getTransaction().begin();
+        persist(1L, "before", "2024-01-14T23:59:59.999999999Z");
+        persist(2L, "first", "2024-01-15T00:00:00Z");
+        persist(3L, "middle", "2024-01-15T12:00:00.500000000Z");
+        persist(4L, "twin", "2024-01-15T12:00:00.500000000Z");
+        persist(5L, "last", "2024-01-15T23:59:59.999999999Z");
+        persist(6L, "negative", "1969-12-31T23:59:59.000000001Z");
+        em.getTransaction().commit();
+        em.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (em != null && em.isOpen()) {
+            em.close();
+        }
+        if (emf != null && emf.isOpen()) {
+            emf.close();
+        }
+    }
+
+    private void persist(long id, String name, String instant) {
+        em.persist(new OrderedTestEntity(id, name, EmbeddableTemporal.from(Instant.parse(instant))));
+    }
+
+    private void execute(String sql) {
+        em.getTransaction().begin();
+        em.createNativeQuery(sql).executeUpdate();
+        em.getTransaction().commit();
+    }
+
+    private String explain(String sql) {
+        return (String) em.createNativeQuery("EXPLAIN " + sql).getSingleResult();
+    }
+
+    @Test
+    @DisplayName("Should read the generated column through the read-only mapping")
+    void shouldReadGeneratedColumn() {
+        for (OrderedTestEntity entity : em.createQuery("SELECT e FROM OrderedTestEntity e", OrderedTestEntity.class)
+                .getResultList()) {
+            assertThat(EpochNanosType.toTemporal(entity.getEventEpochNanos())).isEqualTo(entity.getEvent());
+        }
+
+        em.getTransaction().begin();
+        OrderedTestEntity entity = em.find(OrderedTestEntity.class, 6L);
+        entity.setEvent(new EmbeddableTemporal(7L, 5));
+        em.getTransaction().commit();
+
+        assertThat(entity.getEventEpochNanos()).isEqualTo(7_000_000_005L);
+    }
+
+    @Test
+    @DisplayName("Should order, filter and join on the single generated column in JPQL")
+    void shouldOrderFilterAndJoinInJpql() {
+        TemporalInterval day = TemporalInterval.of(Instant.parse("2024-01-15T00:00:00Z"),
+            Instant.parse("2024-01-16T00:00:00Z"));
+
+        List<String> names = em.createQuery("SELECT e.name FROM OrderedTestEntity e WHERE "
+                + EpochNanosPredicates.range(ATTRIBUTE, day) + " ORDER BY "
+                + EpochNanosPredicates.ascending(ATTRIBUTE) + ", e.id", String.class)
+            .getResultList();
+        String join = EpochNanosPredicates.equal(EpochNanosPath.bigint("a.eventEpochNanos"),
+            EpochNanosPath.bigint("b.eventEpochNanos"));
+        List<Object[]> twins = em.createQuery("SELECT a.name, b.name FROM OrderedTestEntity a "
+                + "JOIN OrderedTestEntity b ON " + join + " AND a.id < b.id", Object[].class)
+            .getResultList();
+
+        assertThat(names).containsExactly("first", "middle", "twin", "last");
+        assertThat(twins).singleElement().satisfies(row -> assertThat(row).containsExactly("middle", "twin"));
+    }
+
+    @Test
+    @DisplayName("Should use a single index for range scans and ordering on H2")
+    void shouldUseSingleIndexOnH2() {
+        execute(EpochNanosDialect.H2.createIndex("idx_ordered_epoch_nanos", "ordered_test_entities",
+            "event_epoch_nanos"));
+        EmbeddableTemporal from = EmbeddableTemporal.from(Instant.parse("2024-01-15T00:00:00Z"));
+
+        String range = explain("SELECT name FROM ordered_test_entities WHERE "
+            + EpochNanosPredicates.atOrAfter(COLUMN, from));
+        String ordered = explain("SELECT name FROM ordered_test_entities ORDER BY "
+            + EpochNanosPredicates.ascending(COLUMN));
+
+        assertThat(range).containsIgnoringCase("IDX_ORDERED_EPOCH_NANOS");
+        assertThat(ordered).containsIgnoringCase("IDX_ORDERED_EPOCH_NANOS").containsIgnoringCase("index sorted");
+    }
+
+    @Test
+    @DisplayName("Should generate both column types with the H2 dialect DDL")
+    void shouldGenerateColumnsWithDialectDdl() {
+        execute("CREATE TABLE raw_events (id BIGINT PRIMARY KEY, s BIGINT NOT NULL, n INT NOT NULL)");
+        execute(EpochNanosDialect.H2.addColumn("raw_events", "bigint_nanos", "s", "n", EpochNanosType.BIGINT));
+        execute(EpochNanosDialect.H2.addColumn("raw_events", "decimal_nanos", "s", "n", EpochNanosType.DECIMAL));
+        execute("ALTER TABLE raw_events ALTER COLUMN bigint_nanos SET NULL");
+        execute("INSERT INTO raw_events (id, s, n) VALUES (1, -1, 999999999)");
+
+        Object[] row = (Object[]) em.createNativeQuery("SELECT bigint_nanos, decimal_nanos FROM raw_events")
+            .getSingleResult();
+        assertThat(EpochNanosType.toTemporal((Number) row[0])).isEqualTo(new EmbeddableTemporal(-1L, 999_999_999));
+        assertThat(EpochNanosType.toTemporal((Number) row[1])).isEqualTo(new EmbeddableTemporal(-1L, 999_999_999));
+
+        // Beyond 2262 only the decimal variant can hold the value
+        assertThatThrownBy(() -> execute("INSERT INTO raw_events (id, s, n) VALUES (2, 10000000000, 0)"))
+            .isInstanceOf(PersistenceException.class);
+        em.getTransaction().rollback();
+        execute("ALTER TABLE raw_events DROP COLUMN bigint_nanos");
+        execute("INSERT INTO raw_events (id, s, n) VALUES (2, 9223372036854775807, 999999999)");
+        Number extreme = (Number) em.createNativeQuery("SELECT decimal_nanos FROM raw_events WHERE id = 2")
+            .getSingleResult();
+        assertThat(EpochNanosType.toTemporal(extreme))
+            .isEqualTo(new EmbeddableTemporal(Long.MAX_VALUE, 999_999_999));
+        execute("DROP TABLE raw_events");
+    }
+}
@@ -0,0 +1,94 @@
+package org.boava.jpa.temporal.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.List;
+
+import org.boava.jpa.temporal.embeddable.EpochMicrosTemporal;
+import org.boava.jpa.temporal.embeddable.EpochMillisTemporal;
+import org.boava.jpa.temporal.embeddable.EpochSecondsTemporal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("EpochTemporal Integration Tests")
+class EpochTemporalIntegrationTest {
+
+    private static final Instant OBSERVED = Instant.parse("2024-03-15T10:30:45.123456789Z");
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        emf = Persistence.createEntityManagerFactory("test-pu");
+        em = emf.createEntityManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (em != null && em.isOpen()) {
+            em.close();
+        }
+        if (emf != null && emf.isOpen()) {
+            emf.close();
+        }
+    }
+
+    private void persist(long id, Instant instant) {
+        em.getTransaction().begin();
+        em.persist(new PrecisionTestEntity(id,
+            EpochSecondsTemporal.from(instant, RoundingMode.FLOOR),
+            EpochMillisTemporal.from(instant, RoundingMode.HALF_UP),
+            EpochMicrosTemporal.from(instant, RoundingMode.HALF_UP)));
+        em.getTransaction().commit();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("Should store each precision in a single BIGINT column")
+    void shouldStoreSingleBigintColumns() {
+        @SuppressWarnings("unchecked")
+        List<Object[]> columns = em.createNativeQuery("SELECT COLUMN_NAME, DATA_TYPE FROM INFORMATION_SCHEMA.COLUMNS "
+                + "WHERE TABLE_NAME = 'PRECISION_TEST_ENTITIES' ORDER BY ORDINAL_POSITION")
+            .getResultList();
+
+        assertThat(columns).extracting(column -> column[0] + " " + column[1])
+            .containsExactlyInAnyOrder("ID BIGINT", "DAY_START_SECONDS BIGINT", "CREATED_MILLIS BIGINT",
+                "OBSERVED_MICROS BIGINT");
+    }
+
+    @Test
+    @DisplayName("Should round trip values rounded to their precision")
+    void shouldRoundTripRoundedValues() {
+        persist(1L, OBSERVED);
+
+        PrecisionTestEntity loaded = em.find(PrecisionTestEntity.class, 1L);
+
+        assertThat(loaded.getDayStart().toInstant()).isEqualTo(Instant.parse("2024-03-15T10:30:45Z"));
+        assertThat(loaded.getCreated().toInstant()).isEqualTo(Instant.parse("2024-03-15T10:30:45.123Z"));
+        assertThat(loaded.getObserved().toInstant()).isEqualTo(Instant.parse("2024-03-15T10:30:45.123457Z"));
+    }
+
+    @Test
+    @DisplayName("Should filter and order on the single column")
+    void shouldQueryOnSingleColumn() {
+        persist(1L, OBSERVED);
+        persist(2L, OBSERVED.plusMillis(5));
+        persist(3L, OBSERVED.minusMillis(5));
+
+        List<Long> ids = em.createQuery("SELECT e.id FROM PrecisionTestEntity e "
+                + "WHERE e.observed.epochMicros >= :from ORDER BY e.observed.epochMicros", Long.class)
+            .setParameter("from", EpochMicrosTemporal.from(OBSERVED, RoundingMode.FLOOR).getEpochMicros())
+            .getResultList();
+
+        assertThat(ids).containsExactly(1L, 2L);
+    }
+}
@@ -0,0 +1,53 @@
+package org.boava.jpa.temporal.integration;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.boava.jpa.temporal.interval.TemporalInterval;
+
+/**
+ * Test entity holding a {@link TemporalInterval} validity period.
+ */
+@Entity
+@Table(name = "interval_test_entities")
+public class IntervalTestEntity {
+
+    @Id
+    private Long id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Embedded
+    @AttributeOverride(name = "start.seconds", column = @Column(name = "valid_from_seconds"))
+    @AttributeOverride(name = "start.nanos", column = @Column(name = "valid_from_nanos"))
+    @AttributeOverride(name = "end.seconds", column = @Column(name = "valid_to_seconds"))
+    @AttributeOverride(name = "end.nanos", column = @Column(name = "valid_to_nanos"))
+    private TemporalInterval validity;
+
+    // Default constructor required by JPA
+    public IntervalTestEntity() {
+    }
+
+    public IntervalTestEntity(Long id, String name, TemporalInterval validity) {
+        this.id = id;
+        this.name = name;
+        this.validity = validity;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public TemporalInterval getValidity() {
+        return validity;
+    }
+}
@@ -0,0 +1,68 @@
+package org.boava.jpa.temporal.integration;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.AttributeOverrides;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.hibernate.annotations.GeneratedColumn;
+
+/**
+ * Test entity with a read-only, database-generated epoch-nanoseconds column next to its temporal attribute.
+ */
+@Entity
+@Table(name = "ordered_test_entities")
+public class OrderedTestEntity {
+
+    @Id
+    private Long id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "seconds", column = @Column(name = "event_seconds")),
+        @AttributeOverride(name = "nanos", column = @Column(name = "event_nanos"))
+    })
+    private EmbeddableTemporal event;
+
+    // Computed by the database on insert and update; Hibernate re-reads it after each write
+    @GeneratedColumn("event_seconds * 1000000000 + event_nanos")
+    @Column(name = "event_epoch_nanos", insertable = false, updatable = false)
+    private Long eventEpochNanos;
+
+    // Default constructor required by JPA
+    public OrderedTestEntity() {
+    }
+
+    public OrderedTestEntity(Long id, String name, EmbeddableTemporal event) {
+        this.id = id;
+        this.name = name;
+        this.event = event;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public EmbeddableTemporal getEvent() {
+        return event;
+    }
+
+    public void setEvent(EmbeddableTemporal event) {
+        this.event = event;
+    }
+
+    public Long getEventEpochNanos() {
+        return eventEpochNanos;
+    }
+}
@@ -0,0 +1,63 @@
+package org.boava.jpa.temporal.integration;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.boava.jpa.temporal.embeddable.EpochMicrosTemporal;
+import org.boava.jpa.temporal.embeddable.EpochMillisTemporal;
+import org.boava.jpa.temporal.embeddable.EpochSecondsTemporal;
+
+/**
+ * Test entity holding one single-column temporal value per precision.
+ */
+@Entity
+@Table(name = "precision_test_entities")
+public class PrecisionTestEntity {
+
+    @Id
+    private Long id;
+
+    @Embedded
+    @AttributeOverride(name = "epochSeconds", column = @Column(name = "day_start_seconds"))
+    private EpochSecondsTemporal dayStart;
+
+    @Embedded
+    @AttributeOverride(name = "epochMillis", column = @Column(name = "created_millis"))
+    private EpochMillisTemporal created;
+
+    @Embedded
+    @AttributeOverride(name = "epochMicros", column = @Column(name = "observed_micros"))
+    private EpochMicrosTemporal observed;
+
+    // Default constructor required by JPA
+    public PrecisionTestEntity() {
+    }
+
+    public PrecisionTestEntity(Long id, EpochSecondsTemporal dayStart, EpochMillisTemporal created,
+            EpochMicrosTemporal observed) {
+        this.id = id;
+        this.dayStart = dayStart;
+        this.created = created;
+        this.observed = observed;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public EpochSecondsTemporal getDayStart() {
+        return dayStart;
+    }
+
+    public EpochMillisTemporal getCreated() {
+        return created;
+    }
+
+    public EpochMicrosTemporal getObserved() {
+        return observed;
+    }
+}
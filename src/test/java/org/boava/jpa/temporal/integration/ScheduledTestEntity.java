@@ -0,0 +1,70 @@
+package org.boava.jpa.temporal.integration;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.AttributeOverrides;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.schedule.ScheduledEntity;
+
+/**
+ * Test entity representing a persisted job with a due time.
+ */
+@Entity
+@Table(name = "scheduled_test_entities")
+public class ScheduledTestEntity implements ScheduledEntity {
+
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "seconds", column = @Column(name = "due_seconds")),
+        @AttributeOverride(name = "nanos", column = @Column(name = "due_nanos"))
+    })
+    private EmbeddableTemporal due;
+
+    @Column(name = "owner")
+    private String owner;
+
+    // Default constructor required by JPA
+    public ScheduledTestEntity() {
+    }
+
+    public ScheduledTestEntity(String name, Instant due) {
+        this.name = name;
+        this.due = EmbeddableTemporal.from(due);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public EmbeddableTemporal getDue() {
+        return due;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+}
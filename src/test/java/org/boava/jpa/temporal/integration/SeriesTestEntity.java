@@ -0,0 +1,41 @@
+package org.boava.jpa.temporal.integration;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.boava.jpa.temporal.series.TemporalSeries;
+
+/**
+ * Test entity holding a {@link TemporalSeries} in a single LOB column.
+ */
+@Entity
+@Table(name = "series_test_entities")
+public class SeriesTestEntity {
+
+    @Id
+    private Long id;
+
+    @Embedded
+    @AttributeOverride(name = "encoded", column = @Column(name = "sample_times"))
+    private TemporalSeries sampleTimes = new TemporalSeries();
+
+    // Default constructor required by JPA
+    public SeriesTestEntity() {
+    }
+
+    public SeriesTestEntity(Long id) {
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public TemporalSeries getSampleTimes() {
+        return sampleTimes;
+    }
+}
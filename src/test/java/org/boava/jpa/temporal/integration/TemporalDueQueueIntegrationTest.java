@@ -0,0 +1,219 @@
+package org.boava.jpa.temporal.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import org.boava.jpa.temporal.schedule.TemporalDueQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalDueQueue Integration Tests")
+class TemporalDueQueueIntegrationTest {
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+    private ExecutorService executor;
+    private final List<TemporalDueQueue<ScheduledTestEntity>> queues = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        emf = Persistence.createEntityManagerFactory("test-pu");
+        em = emf.createEntityManager();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        queues.forEach(TemporalDueQueue::close);
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        if (em != null && em.isOpen()) {
+            em.close();
+        }
+        if (emf != null && emf.isOpen()) {
+            emf.close();
+        }
+    }
+
+    private TemporalDueQueue<ScheduledTestEntity> start(String owner, Consumer<ScheduledTestEntity> handler) {
+        TemporalDueQueue<ScheduledTestEntity> queue = TemporalDueQueue.builder(emf, ScheduledTestEntity.class, handler)
+            .owner(owner)
+            .executor(executor)
+            .lookahead(Duration.ofMinutes(1))
+            .pollInterval(Duration.ofMillis(50))
+            .batchSize(16)
+            .build();
+        queues.add(queue);
+        queue.start();
+        return queue;
+    }
+
+    private List<ScheduledTestEntity> persist(Instant first, Duration step, int count) {
+        List<ScheduledTestEntity> jobs = new ArrayList<>();
+        em.getTransaction().begin();
+        for (int i = 0; i < count; i++) {
+            ScheduledTestEntity job = new ScheduledTestEntity("job-" + i, first.plus(step.multipliedBy(i)));
+            em.persist(job);
+            jobs.add(job);
+        }
+        em.getTransaction().commit();
+        em.clear();
+        return jobs;
+    }
+
+    private List<ScheduledTestEntity> remaining() {
+        em.clear();
+        return em.createQuery("SELECT e FROM ScheduledTestEntity e ORDER BY e.id", ScheduledTestEntity.class)
+            .getResultList();
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition reached in time").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    @Nested
+    @DisplayName("Dispatch Tests")
+    class DispatchTests {
+
+        @Test
+        @DisplayName("Should dispatch jobs in due order once due and delete them")
+        void shouldDispatchJobsInDueOrderOnceDueAndDeleteThem() throws InterruptedException {
+            List<String> dispatched = Collections.synchronizedList(new ArrayList<>());
+            List<Duration> lateness = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch warmUp = new CountDownLatch(1);
+            CountDownLatch latch = new CountDownLatch(5);
+            start("node-1", job -> {
+                if (warmUp.getCount() > 0) {
+                    warmUp.countDown();
+                    return;
+                }
+                lateness.add(Duration.between(job.getDue().toInstant(), Instant.now()));
+                dispatched.add(job.getName());
+                latch.countDown();
+            });
+            // A first job dispatched immediately keeps the cold start of the queue out of the timing below
+            persist(Instant.now(), Duration.ZERO, 1);
+            assertThat(warmUp.await(10, TimeUnit.SECONDS)).isTrue();
+
+            persist(Instant.now().plusMillis(300), Duration.ofMillis(-40), 5);
+
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(dispatched).containsExactly("job-4", "job-3", "job-2", "job-1", "job-0");
+            assertThat(lateness).allSatisfy(late -> assertThat(late.isNegative()).isFalse());
+            awaitCondition(() -> remaining().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should never dispatch a job twice across queues sharing a table")
+        void shouldNeverDispatchAJobTwiceAcrossQueuesSharingATable() throws InterruptedException {
+            persist(Instant.now().minusSeconds(1), Duration.ofMillis(1), 200);
+            List<String> dispatched = Collections.synchronizedList(new ArrayList<>());
+
+            start("node-1", job -> dispatched.add(job.getName()));
+            start("node-2", job -> dispatched.add(job.getName()));
+
+            awaitCondition(() -> remaining().isEmpty());
+            assertThat(dispatched).hasSize(200).doesNotHaveDuplicates();
+        }
+    }
+
+    @Nested
+    @DisplayName("Claim Tests")
+    class ClaimTests {
+
+        @Test
+        @DisplayName("Should release a job whose handler fails")
+        void shouldReleaseAJobWhoseHandlerFails() throws InterruptedException {
+            persist(Instant.now(), Duration.ZERO, 1);
+            CountDownLatch attempts = new CountDownLatch(2);
+
+            start("node-1", job -> {
+                attempts.countDown();
+                throw new IllegalStateException("boom");
+            });
+
+            assertThat(attempts.await(10, TimeUnit.SECONDS)).isTrue();
+            queues.forEach(TemporalDueQueue::close);
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(remaining()).singleElement().satisfies(job -> assertThat(job.getOwner()).isNull());
+        }
+
+        @Test
+        @DisplayName("Should release claimed jobs that were not dispatched on close")
+        void shouldReleaseClaimedJobsThatWereNotDispatchedOnClose() throws InterruptedException {
+            persist(Instant.now().plusSeconds(30), Duration.ZERO, 3);
+            TemporalDueQueue<ScheduledTestEntity> queue = start("node-1", job -> fail("Dispatched early"));
+
+            awaitCondition(() -> remaining().stream().allMatch(job -> "node-1".equals(job.getOwner())));
+            queue.close();
+
+            assertThat(remaining()).hasSize(3).allSatisfy(job -> assertThat(job.getOwner()).isNull());
+        }
+
+        @Test
+        @DisplayName("Should reclaim the jobs of a previous incarnation with the same owner")
+        void shouldReclaimTheJobsOfAPreviousIncarnationWithTheSameOwner() throws InterruptedException {
+            List<ScheduledTestEntity> jobs = persist(Instant.now(), Duration.ZERO, 2);
+            em.getTransaction().begin();
+            em.createQuery("UPDATE ScheduledTestEntity e SET e.owner = :owner WHERE e.id = :id")
+                .setParameter("owner", "node-1")
+                .setParameter("id", jobs.get(0).getId())
+                .executeUpdate();
+            em.createQuery("UPDATE ScheduledTestEntity e SET e.owner = :owner WHERE e.id = :id")
+                .setParameter("owner", "node-2")
+                .setParameter("id", jobs.get(1).getId())
+                .executeUpdate();
+            em.getTransaction().commit();
+            List<String> dispatched = Collections.synchronizedList(new ArrayList<>());
+
+            start("node-1", job -> dispatched.add(job.getName()));
+
+            awaitCondition(() -> remaining().size() == 1);
+            assertThat(dispatched).containsExactly("job-0");
+            assertThat(remaining()).singleElement().satisfies(job -> assertThat(job.getOwner()).isEqualTo("node-2"));
+        }
+
+        @Test
+        @DisplayName("Should release every job of a previous incarnation, even beyond the first batch")
+        void shouldReleaseEveryJobOfAPreviousIncarnation() throws InterruptedException {
+            // Unowned jobs due earlier fill the first batches before the previously owned ones
+            persist(Instant.now().minusSeconds(10), Duration.ofMillis(1), 30);
+            List<ScheduledTestEntity> owned = persist(Instant.now().minusSeconds(1), Duration.ofMillis(1), 40);
+            em.getTransaction().begin();
+            em.createQuery("UPDATE ScheduledTestEntity e SET e.owner = :owner WHERE e.id IN :ids")
+                .setParameter("owner", "node-1")
+                .setParameter("ids", owned.stream().map(ScheduledTestEntity::getId).toList())
+                .executeUpdate();
+            em.getTransaction().commit();
+            List<String> dispatched = Collections.synchronizedList(new ArrayList<>());
+
+            start("node-1", job -> dispatched.add(job.getName()));
+
+            awaitCondition(() -> remaining().isEmpty());
+            assertThat(dispatched).hasSize(70);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.boava.jpa.temporal.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.boava.jpa.temporal.export.ExportFormat;
+import org.boava.jpa.temporal.export.ExportReport;
+import org.boava.jpa.temporal.export.TemporalExporter;
+import org.boava.jpa.temporal.export.TimestampFormat;
+import org.boava.jpa.temporal.interval.TemporalInterval;
+import org.boava.jpa.temporal.query.TemporalPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("TemporalExporter Integration Tests")
+class TemporalExporterIntegrationTest {
+
+    private static final String SELECT = "SELECT id, timestamp_seconds, timestamp_nanos, name, description "
+        + "FROM test_entities WHERE {partition} ORDER BY timestamp_seconds, timestamp_nanos, id";
+    private static final TemporalPath PATH = TemporalPath.columns("timestamp_seconds", "timestamp_nanos");
+    private static final Instant BASE = Instant.parse("2024-01-01T00:00:00Z");
+    private static final int COUNT = 1_000;
+
+    @TempDir
+    Path directory;
+
+    private EntityManagerFactory emf;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        emf = Persistence.createEntityManagerFactory("test-pu");
+        executor = Executors.newFixedThreadPool(4);
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (int i = 0; i < COUNT; i++) {
+                Instant instant = BASE.plusMillis(i * 1_001L);
+                em.createNativeQuery("INSERT INTO test_entities (timestamp_seconds, timestamp_nanos, name, "
+                        + "description) VALUES (?, ?, ?, ?)")
+                    .setParameter(1, instant.getEpochSecond())
+                    .setParameter(2, instant.getNano())
+                    .setParameter(3, "event-" + i)
+                    .setParameter(4, i % 10 == 0 ? "with \"quotes\", commas" : null)
+                    .executeUpdate();
+            }
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        if (emf != null && emf.isOpen()) {
+            emf.close();
+        }
+    }
+
+    private TemporalExporter.Builder builder() {
+        return TemporalExporter.builder(emf, SELECT)
+            .column("id")
+            .temporalColumn("timestamp")
+            .column("name")
+            .column("description")
+            .bufferSize(4_096)
+            .fetchSize(100);
+    }
+
+    @Test
+    @DisplayName("Should export NDJSON with ISO-8601 timestamps")
+    void shouldExportNdjson() throws IOException {
+        Path file = directory.resolve("events.ndjson");
+
+        ExportReport report = builder().build().export(file);
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertThat(report.rows()).isEqualTo(COUNT);
+        assertThat(report.bytes()).isEqualTo(Files.size(file));
+        assertThat(report.partitions()).isEqualTo(1);
+        assertThat(lines).hasSize(COUNT);
+        assertThat(lines.get(0)).matches("\\{\"id\":\\d+,\"timestamp\":\"2024-01-01T00:00:00Z\",\"name\":\"event-0\","
+            + "\"description\":\"with \\\\\"quotes\\\\\", commas\"}");
+        assertThat(lines.get(1)).endsWith(",\"timestamp\":\"2024-01-01T00:00:01.001Z\",\"name\":\"event-1\","
+            + "\"description\":null}");
+    }
+
+    @Test
+    @DisplayName("Should export CSV with a header and epoch nanoseconds")
+    void shouldExportCsv() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExportReport report = builder()
+            .format(ExportFormat.CSV)
+            .timestampFormat(TimestampFormat.EPOCH_NANOS)
+            .build()
+            .export(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(report.bytes()).isEqualTo(out.size());
+        assertThat(lines).hasSize(COUNT + 1);
+        assertThat(lines[0]).isEqualTo("id,timestamp,name,description");
+        assertThat(lines[1]).endsWith(",1704067200000000000,event-0,\"with \"\"quotes\"\", commas\"");
+        assertThat(lines[2]).endsWith(",1704067201001000000,event-1,");
+    }
+
+    @Test
+    @DisplayName("Should merge parallel partitions in order")
+    void shouldMergePartitionsInOrder() throws IOException {
+        Path whole = directory.resolve("whole.ndjson");
+        Path partitioned = directory.resolve("partitioned.csv");
+        TemporalInterval range = TemporalInterval.of(BASE, BASE.plusSeconds(2_000));
+        builder().format(ExportFormat.CSV).build().export(whole);
+
+        ExportReport report = builder()
+            .format(ExportFormat.CSV)
+            .partitions(PATH, range, 7)
+            .executor(executor)
+            .build()
+            .export(partitioned);
+
+        assertThat(report.rows()).isEqualTo(COUNT);
+        assertThat(report.partitions()).isEqualTo(7);
+        assertThat(Files.readString(partitioned)).isEqualTo(Files.readString(whole));
+    }
+
+    @Test
+    @DisplayName("Should export only rows within the partition range")
+    void shouldExportOnlyRowsWithinRange() throws IOException {
+        TemporalInterval range = TemporalInterval.of(BASE.plusSeconds(10), BASE.plusSeconds(20));
+
+        ExportReport report = builder()
+            .partitions(PATH, range, 1)
+            .build()
+            .export(new ByteArrayOutputStream());
+
+        // Rows are 1.001 seconds apart: 10.01 to 19.019 seconds
+        assertThat(report.rows()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid configurations")
+    void shouldRejectInvalidConfigurations() {
+        assertThatIllegalStateException().isThrownBy(() -> TemporalExporter.builder(emf, SELECT).build());
+        assertThatIllegalStateException().isThrownBy(() -> TemporalExporter.builder(emf, "SELECT 1")
+            .column("one")
+            .partitions(PATH, TemporalInterval.of(BASE, BASE.plusSeconds(1)), 2)
+            .build());
+        assertThatIllegalArgumentException().isThrownBy(() -> builder().bufferSize(1_024));
+        assertThatIllegalStateException().isThrownBy(() -> TemporalExporter.builder(emf, SELECT)
+            .column("id")
+            .build()
+            .export(new ByteArrayOutputStream()));
+    }
+}
@@ -0,0 +1,141 @@
+package org.boava.jpa.temporal.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.ingest.IngestReport;
+import org.boava.jpa.temporal.ingest.LineBinder;
+import org.boava.jpa.temporal.ingest.TemporalIngester;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("TemporalIngester Integration Tests")
+class TemporalIngesterIntegrationTest {
+
+    private static final String INSERT =
+        "INSERT INTO test_entities (timestamp_seconds, timestamp_nanos, name) VALUES (?, ?, ?)";
+    private static final Instant BASE = Instant.parse("2024-01-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private EntityManagerFactory emf;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        emf = Persistence.createEntityManagerFactory("test-pu");
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        if (emf != null && emf.isOpen()) {
+            emf.close();
+        }
+    }
+
+    private List<TestEntity> loadAll() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            return em.createQuery("SELECT e FROM TestEntity e ORDER BY e.timestamp.seconds, e.timestamp.nanos",
+                TestEntity.class).getResultList();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should ingest every line across parallel chunks")
+    void shouldIngestAcrossChunks() throws IOException {
+        StringBuilder text = new StringBuilder("timestamp,name\n");
+        int count = 2_000;
+        for (int i = 0; i < count; i++) {
+            text.append(BASE.plusNanos(i * 1_000_001L)).append(",event-").append(i).append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        Path file = Files.writeString(directory.resolve("events.csv"), text, StandardCharsets.US_ASCII);
+
+        IngestReport report = TemporalIngester.builder(emf, INSERT, LineBinder.text())
+            .header(true)
+            .chunkSize(4_096)
+            .batchSize(64)
+            .parallelism(4)
+            .executor(executor)
+            .build()
+            .ingest(file);
+
+        assertThat(report.rows()).isEqualTo(count);
+        assertThat(report.lines()).isEqualTo(count + 1);
+        assertThat(report.parseErrors()).isZero();
+        assertThat(report.bytes()).isEqualTo(Files.size(file));
+        assertThat(report.rowsPerSecond()).isPositive();
+        List<TestEntity> entities = loadAll();
+        assertThat(entities).hasSize(count);
+        for (int i = 0; i < count; i++) {
+            assertThat(entities.get(i).getName()).isEqualTo("event-" + i);
+            assertThat(entities.get(i).getTimestamp())
+                .isEqualTo(EmbeddableTemporal.from(BASE.plusNanos(i * 1_000_001L)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip and count lines with invalid timestamps")
+    void shouldCountParseErrors() throws IOException {
+        Path file = Files.writeString(directory.resolve("events.log"), """
+            2024-01-01T00:00:00Z first line
+
+            not-a-timestamp second line
+            2024-02-30T00:00:00Z third line
+            2024-01-01T00:00:01.5Z fourth line""");
+
+        IngestReport report = TemporalIngester.builder(emf, INSERT, LineBinder.text())
+            .delimiter(' ')
+            .executor(executor)
+            .build()
+            .ingest(file);
+
+        assertThat(report.lines()).isEqualTo(4);
+        assertThat(report.rows()).isEqualTo(2);
+        assertThat(report.parseErrors()).isEqualTo(2);
+        assertThat(loadAll()).extracting(TestEntity::getName).containsExactly("first line", "fourth line");
+    }
+
+    @Test
+    @DisplayName("Should rethrow insert failures")
+    void shouldRethrowInsertFailures() throws IOException {
+        Path file = Files.writeString(directory.resolve("events.csv"), "2024-01-01T00:00:00Z,a\n");
+
+        TemporalIngester ingester = TemporalIngester.builder(emf, "INSERT INTO missing_table VALUES (?, ?, ?)",
+            LineBinder.text()).executor(executor).build();
+
+        assertThatThrownBy(() -> ingester.ingest(file)).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    @DisplayName("Should report an empty file")
+    void shouldReportEmptyFile() throws IOException {
+        Path file = Files.createFile(directory.resolve("empty.csv"));
+
+        IngestReport report = TemporalIngester.builder(emf, INSERT, LineBinder.text()).build().ingest(file);
+
+        assertThat(report.rows()).isZero();
+        assertThat(report.lines()).isZero();
+    }
+}
@@ -0,0 +1,92 @@
+package org.boava.jpa.temporal.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.interval.TemporalInterval;
+import org.boava.jpa.temporal.query.TemporalIntervalPath;
+import org.boava.jpa.temporal.query.TemporalPredicates;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalInterval Integration Tests")
+class TemporalIntervalIntegrationTest {
+
+    static final TemporalIntervalPath VALIDITY = TemporalIntervalPath.attribute("e.validity");
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        emf = Persistence.createEntityManagerFactory("test-pu");
+        em = emf.createEntityManager();
+
+        em.getTransaction().begin();
+        persist(1L, "january", "2024-01-01T00:00:00Z", "2024-02-01T00:00:00Z");
+        persist(2L, "february", "2024-02-01T00:00:00Z", "2024-03-01T00:00:00Z");
+        persist(3L, "mid-month", "2024-01-15T12:00:00.500Z", "2024-02-15T12:00:00.500Z");
+        em.getTransaction().commit();
+        em.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (em != null && em.isOpen()) {
+            em.close();
+        }
+        if (emf != null && emf.isOpen()) {
+            emf.close();
+        }
+    }
+
+    private void persist(Long id, String name, String from, String to) {
+        em.persist(new IntervalTestEntity(id, name, TemporalInterval.of(Instant.parse(from), Instant.parse(to))));
+    }
+
+    private List<String> names(String predicate) {
+        return em.createQuery("SELECT e.name FROM IntervalTestEntity e WHERE " + predicate + " ORDER BY e.id",
+            String.class).getResultList();
+    }
+
+    @Test
+    @DisplayName("Should round-trip interval through four columns")
+    void shouldRoundTripIntervalThroughFourColumns() {
+        IntervalTestEntity loaded = em.find(IntervalTestEntity.class, 3L);
+
+        assertThat(loaded.getValidity().getStart().toInstant()).isEqualTo(Instant.parse("2024-01-15T12:00:00.500Z"));
+        assertThat(loaded.getValidity().toDuration()).isEqualTo(Duration.ofDays(31));
+    }
+
+    @Test
+    @DisplayName("Should find intervals active at a boundary instant")
+    void shouldFindIntervalsActiveAtABoundaryInstant() {
+        EmbeddableTemporal boundary = EmbeddableTemporal.from(Instant.parse("2024-02-01T00:00:00Z"));
+
+        assertThat(names(TemporalPredicates.activeAt(VALIDITY, boundary))).containsExactly("february", "mid-month");
+    }
+
+    @Test
+    @DisplayName("Should find overlapping intervals with and without a length bound")
+    void shouldFindOverlappingIntervalsWithAndWithoutALengthBound() {
+        TemporalInterval window = TemporalInterval.of(
+            Instant.parse("2024-02-15T12:00:00.500Z"), Instant.parse("2024-02-16T00:00:00Z"));
+
+        assertThat(names(TemporalPredicates.overlapping(VALIDITY, window))).containsExactly("february");
+        assertThat(names(TemporalPredicates.overlapping(VALIDITY, window, Duration.ofDays(31))))
+            .containsExactly("february");
+        assertThat(names(TemporalPredicates.within(VALIDITY, TemporalInterval.of(
+            Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-02-15T12:00:00.500Z")))))
+            .containsExactly("january", "mid-month");
+    }
+}
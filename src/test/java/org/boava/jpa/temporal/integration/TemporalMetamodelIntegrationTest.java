@@ -0,0 +1,93 @@
+package org.boava.jpa.temporal.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Exercises the {@code TestEntity_Temporal} metamodel generated during test compilation.
+ */
+@DisplayName("Generated Temporal Metamodel Integration Tests")
+class TemporalMetamodelIntegrationTest {
+
+    private static final Instant BASE = Instant.parse("2024-01-01T00:00:00Z");
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        emf = Persistence.createEntityManagerFactory("test-pu");
+        em = emf.createEntityManager();
+        em.getTransaction().begin();
+        // Two entities share each timestamp, so keyset pages must break ties on the id
+        for (int i = 0; i < 10; i++) {
+            em.persist(new TestEntity("event-" + i, null, BASE.plusMillis(i / 2), Duration.ZERO));
+        }
+        em.getTransaction().commit();
+        em.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (em != null && em.isOpen()) {
+            em.close();
+        }
+        if (emf != null && emf.isOpen()) {
+            emf.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should expose mapped column names and accessors")
+    void shouldExposeColumnsAndAccessors() {
+        TestEntity entity = new TestEntity("a", null, BASE, Duration.ofSeconds(1));
+
+        assertThat(TestEntity_Temporal.TIMESTAMP_COLUMNS.seconds()).isEqualTo("timestamp_seconds");
+        assertThat(TestEntity_Temporal.DURATION_NANOS_COLUMN).isEqualTo("duration_nanos");
+        assertThat(TestEntity_Temporal.timestamp.get(entity)).isEqualTo(EmbeddableTemporal.from(BASE));
+    }
+
+    @Test
+    @DisplayName("Should select a half-open range in order")
+    void shouldSelectRange() {
+        List<TestEntity> result = TestEntity_Temporal.timestampBetween(em,
+                EmbeddableTemporal.from(BASE.plusMillis(1)), EmbeddableTemporal.from(BASE.plusMillis(3)))
+            .getResultList();
+
+        assertThat(result).extracting(TestEntity::getName)
+            .containsExactlyInAnyOrder("event-2", "event-3", "event-4", "event-5");
+    }
+
+    @Test
+    @DisplayName("Should page through ties with keyset pagination")
+    void shouldPageWithKeyset() {
+        List<String> names = new java.util.ArrayList<>();
+        EmbeddableTemporal lastValue = null;
+        Long lastKey = null;
+        List<TestEntity> page;
+        do {
+            page = TestEntity_Temporal.timestampAfter(em, lastValue, lastKey, 3).getResultList();
+            for (TestEntity entity : page) {
+                names.add(entity.getName());
+                lastValue = entity.getTimestamp();
+                lastKey = entity.getId();
+            }
+        } while (!page.isEmpty());
+
+        assertThat(names).hasSize(10).doesNotHaveDuplicates();
+        assertThat(names).startsWith("event-0", "event-1").endsWith("event-8", "event-9");
+    }
+}
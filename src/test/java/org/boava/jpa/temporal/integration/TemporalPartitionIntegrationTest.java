@@ -0,0 +1,92 @@
+package org.boava.jpa.temporal.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.partition.TemporalPartition;
+import org.boava.jpa.temporal.partition.TemporalPartitionStrategy;
+import org.boava.jpa.temporal.query.TemporalPath;
+import org.boava.jpa.temporal.query.TemporalPredicates;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Temporal Partition Integration Tests")
+class TemporalPartitionIntegrationTest {
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        emf = Persistence.createEntityManagerFactory("test-pu");
+        em = emf.createEntityManager();
+
+        em.getTransaction().begin();
+        persist("before", "2024-01-14T23:59:59.999999999Z");
+        persist("first", "2024-01-15T00:00:00Z");
+        persist("middle", "2024-01-15T12:00:00.500000000Z");
+        persist("last", "2024-01-15T23:59:59.999999999Z");
+        persist("after", "2024-01-16T00:00:00Z");
+        em.getTransaction().commit();
+        em.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (em != null && em.isOpen()) {
+            em.close();
+        }
+        if (emf != null && emf.isOpen()) {
+            emf.close();
+        }
+    }
+
+    private void persist(String name, String instant) {
+        em.persist(new TestEntity(name, "partition test", Instant.parse(instant), Duration.ZERO));
+    }
+
+    private List<String> names(String predicate) {
+        return em.createQuery("SELECT e.name FROM TestEntity e WHERE " + predicate
+                + " ORDER BY " + TemporalPredicates.ascending(TemporalPath.attribute("e.timestamp")), String.class)
+            .getResultList();
+    }
+
+    @Test
+    @DisplayName("Should select exactly the rows of a partition")
+    void shouldSelectExactlyTheRowsOfAPartition() {
+        TemporalPartition partition = TemporalPartitionStrategy.DAILY
+            .partitionOf(EmbeddableTemporal.from(Instant.parse("2024-01-15T08:00:00Z")));
+
+        assertThat(names(partition.predicate("e.timestamp.seconds"))).containsExactly("first", "middle", "last");
+    }
+
+    @Test
+    @DisplayName("Should select nanosecond-precise range with sargable predicate")
+    void shouldSelectNanosecondPreciseRangeWithSargablePredicate() {
+        String predicate = TemporalPredicates.range(TemporalPath.attribute("e.timestamp"),
+            EmbeddableTemporal.from(Instant.parse("2024-01-15T12:00:00.500000000Z")),
+            EmbeddableTemporal.from(Instant.parse("2024-01-16T00:00:00.000000001Z")));
+
+        assertThat(names(predicate)).containsExactly("middle", "last", "after");
+    }
+
+    @Test
+    @DisplayName("Should evaluate exclusive bounds at nanosecond boundaries")
+    void shouldEvaluateExclusiveBoundsAtNanosecondBoundaries() {
+        TemporalPath path = TemporalPath.attribute("e.timestamp");
+        EmbeddableTemporal bound = EmbeddableTemporal.from(Instant.parse("2024-01-15T23:59:59.999999999Z"));
+
+        assertThat(names(TemporalPredicates.after(path, bound))).containsExactly("after");
+        assertThat(names(TemporalPredicates.atOrBefore(path, bound))).containsExactly("before", "first", "middle", "last");
+    }
+}
@@ -0,0 +1,221 @@
+package org.boava.jpa.temporal.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.interval.TemporalInterval;
+import org.boava.jpa.temporal.query.TemporalPath;
+import org.boava.jpa.temporal.rollup.RollupGranularity;
+import org.boava.jpa.temporal.rollup.RollupRefresh;
+import org.boava.jpa.temporal.rollup.RollupSummary;
+import org.boava.jpa.temporal.rollup.TemporalRollup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalRollup Integration Tests")
+class TemporalRollupIntegrationTest {
+
+    private static final Instant BASE = Instant.parse("2024-03-01T00:00:00Z");
+    private static final TemporalInterval EVERYTHING = TemporalInterval.of(BASE.minusSeconds(86_400),
+        BASE.plus(Duration.ofDays(10)));
+    private static final int COUNT = 3_000;
+
+    private final Random random = new Random(42);
+    private final List<Event> events = new ArrayList<>();
+    private EntityManagerFactory emf;
+    private TemporalRollup rollup;
+
+    @BeforeEach
+    void setUp() {
+        emf = Persistence.createEntityManagerFactory("test-pu");
+        rollup = TemporalRollup.builder(emf, "rollup_events", TemporalPath.columns("ts_seconds", "ts_nanos"))
+            .measure(TemporalPath.columns("latency_seconds", "latency_nanos"))
+            .histogram("VARBINARY(576)")
+            .batchSize(250)
+            .build();
+        execute("CREATE TABLE rollup_events (id BIGINT PRIMARY KEY, ts_seconds BIGINT NOT NULL, "
+            + "ts_nanos INT NOT NULL, latency_seconds BIGINT, latency_nanos INT)");
+        execute("CREATE INDEX idx_rollup_events_ts ON rollup_events (ts_seconds, ts_nanos, id)");
+        rollup.createTableStatements().forEach(this::execute);
+        // Three days of rows, so every granularity gets several buckets
+        insert(COUNT, BASE, Duration.ofDays(3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (emf != null && emf.isOpen()) {
+            execute("DROP TABLE rollup_events");
+            for (RollupGranularity level : RollupGranularity.values()) {
+                execute("DROP TABLE " + level.tableName("rollup_events_rollup"));
+            }
+            execute("DROP TABLE rollup_events_rollup_state");
+            emf.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should roll up all rows in batches and resume from the high-water mark")
+    void shouldRollUpIncrementally() {
+        RollupRefresh first = rollup.refresh();
+        RollupRefresh second = rollup.refresh();
+
+        assertThat(first.rows()).isEqualTo(COUNT);
+        assertThat(first.highWaterMark()).isEqualTo(latest());
+        assertThat(second.changed()).isFalse();
+        for (RollupGranularity level : RollupGranularity.values()) {
+            assertThat(scalar("SELECT SUM(row_count) FROM " + level.tableName("rollup_events_rollup")))
+                .isEqualTo(COUNT);
+        }
+        assertMatchesBruteForce(EVERYTHING);
+    }
+
+    @Test
+    @DisplayName("Should stitch rows after the high-water mark into summaries")
+    void shouldStitchRawTail() {
+        rollup.refresh();
+        insert(200, BASE.plus(Duration.ofDays(3)), Duration.ofHours(5));
+
+        assertMatchesBruteForce(EVERYTHING);
+        assertThat(rollup.refresh().rows()).isEqualTo(200);
+        assertMatchesBruteForce(EVERYTHING);
+    }
+
+    @Test
+    @DisplayName("Should recompute the buckets of rows arriving behind the high-water mark")
+    void shouldRecomputeLateRows() {
+        rollup.refresh();
+        insert(5, BASE.plusSeconds(7_200), Duration.ofSeconds(30));
+        insert(50, BASE.plus(Duration.ofDays(3)), Duration.ofHours(1));
+
+        RollupRefresh refresh = rollup.refresh();
+
+        assertThat(refresh.lateRows()).isEqualTo(5);
+        assertThat(refresh.recomputedMinutes()).isBetween(1, 2);
+        assertThat(refresh.rows()).isEqualTo(50);
+        for (RollupGranularity level : RollupGranularity.values()) {
+            assertThat(scalar("SELECT SUM(row_count) FROM " + level.tableName("rollup_events_rollup")))
+                .isEqualTo(COUNT + 55);
+        }
+        assertMatchesBruteForce(EVERYTHING);
+        assertThat(rollup.refresh().changed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should answer unaligned ranges from coarse buckets and the raw edges")
+    void shouldSummarizeUnalignedRanges() {
+        rollup.refresh();
+        TemporalInterval range = new TemporalInterval(EmbeddableTemporal.from(BASE.plusSeconds(3_723).plusNanos(7)),
+            EmbeddableTemporal.from(BASE.plus(Duration.ofDays(2)).plusSeconds(7_531)));
+
+        RollupSummary summary = assertMatchesBruteForce(range);
+
+        assertThat(summary.getCount()).isGreaterThan(1_500);
+        assertThat(summary.getRowsRead()).isLessThan(summary.getCount() / 10);
+    }
+
+    @Test
+    @DisplayName("Should recompute an interval after rows behind the high-water mark change")
+    void shouldRecomputeInterval() {
+        rollup.refresh();
+        execute("DELETE FROM rollup_events WHERE ts_seconds < " + BASE.plus(Duration.ofDays(1)).getEpochSecond());
+        events.removeIf(event -> event.seconds() < BASE.plus(Duration.ofDays(1)).getEpochSecond());
+
+        rollup.recompute(TemporalInterval.of(BASE, BASE.plus(Duration.ofDays(1))));
+
+        assertMatchesBruteForce(EVERYTHING);
+        assertThat(scalar("SELECT SUM(row_count) FROM rollup_events_rollup_day")).isEqualTo(events.size());
+    }
+
+    private RollupSummary assertMatchesBruteForce(TemporalInterval interval) {
+        RollupSummary summary = rollup.summarize(interval);
+        List<Event> matching = events.stream()
+            .filter(event -> event.timestamp().compareTo(interval.getStart()) >= 0
+                && event.timestamp().compareTo(interval.getEnd()) < 0)
+            .toList();
+        List<EmbeddableTemporal> latencies = matching.stream()
+            .filter(event -> event.latency() != null)
+            .map(Event::latency)
+            .sorted()
+            .toList();
+        Duration sum = latencies.stream().map(EmbeddableTemporal::toDuration).reduce(Duration.ZERO, Duration::plus);
+        long[] histogram = new long[64];
+        for (EmbeddableTemporal latency : latencies) {
+            long nanos = latency.toDuration().toNanos();
+            histogram[nanos <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(nanos)]++;
+        }
+
+        assertThat(summary.getCount()).isEqualTo(matching.size());
+        assertThat(summary.getSum()).isEqualTo(EmbeddableTemporal.from(sum));
+        assertThat(summary.getMin()).isEqualTo(latencies.get(0));
+        assertThat(summary.getMax()).isEqualTo(latencies.get(latencies.size() - 1));
+        assertThat(summary.getHistogram()).containsExactly(histogram);
+        return summary;
+    }
+
+    private EmbeddableTemporal latest() {
+        return events.stream().map(Event::timestamp).max(EmbeddableTemporal::compareTo).orElseThrow();
+    }
+
+    private void insert(int rows, Instant from, Duration span) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (int i = 0; i < rows; i++) {
+                long id = events.size() + 1L;
+                Instant instant = from.plusNanos((long) (random.nextDouble() * span.toNanos()));
+                EmbeddableTemporal latency = i % 17 == 0 ? null
+                    : EmbeddableTemporal.from(Duration.ofNanos((long) Math.pow(10, random.nextDouble() * 10)));
+                em.createNativeQuery("INSERT INTO rollup_events (id, ts_seconds, ts_nanos, latency_seconds, "
+                        + "latency_nanos) VALUES (?, ?, ?, ?, ?)")
+                    .setParameter(1, id)
+                    .setParameter(2, instant.getEpochSecond())
+                    .setParameter(3, instant.getNano())
+                    .setParameter(4, latency == null ? null : latency.getSeconds())
+                    .setParameter(5, latency == null ? null : latency.getNanos())
+                    .executeUpdate();
+                events.add(new Event(id, EmbeddableTemporal.from(instant), latency));
+            }
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    private long scalar(String sql) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            return ((Number) em.createNativeQuery(sql).getSingleResult()).longValue();
+        } finally {
+            em.close();
+        }
+    }
+
+    private void execute(String sql) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.createNativeQuery(sql).executeUpdate();
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    private record Event(long id, EmbeddableTemporal timestamp, EmbeddableTemporal latency) {
+        long seconds() {
+            return timestamp.getSeconds();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.boava.jpa.temporal.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalSeries Integration Tests")
+class TemporalSeriesIntegrationTest {
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        emf = Persistence.createEntityManagerFactory("test-pu");
+        em = emf.createEntityManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (em != null && em.isOpen()) {
+            em.close();
+        }
+        if (emf != null && emf.isOpen()) {
+            emf.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should persist series, detect appends as dirty and reload them")
+    void shouldPersistSeriesDetectAppendsAsDirtyAndReloadThem() {
+        SeriesTestEntity entity = new SeriesTestEntity(1L);
+        for (int i = 0; i < 100; i++) {
+            entity.getSampleTimes().append(1_700_000_000L + i, 123_456_789);
+        }
+        em.getTransaction().begin();
+        em.persist(entity);
+        em.getTransaction().commit();
+        em.clear();
+
+        em.getTransaction().begin();
+        SeriesTestEntity loaded = em.find(SeriesTestEntity.class, 1L);
+        loaded.getSampleTimes().append(1_800_000_000L, 1);
+        em.getTransaction().commit();
+        em.clear();
+
+        SeriesTestEntity reloaded = em.find(SeriesTestEntity.class, 1L);
+        assertThat(reloaded.getSampleTimes().size()).isEqualTo(101);
+        assertThat(reloaded.getSampleTimes().get(42)).isEqualTo(new EmbeddableTemporal(1_700_000_042L, 123_456_789));
+        assertThat(reloaded.getSampleTimes().get(100)).isEqualTo(new EmbeddableTemporal(1_800_000_000L, 1));
+    }
+}
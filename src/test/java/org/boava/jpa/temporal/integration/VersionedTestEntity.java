@@ -0,0 +1,73 @@
+package org.boava.jpa.temporal.integration;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.boava.jpa.temporal.bitemporal.BitemporalEntity;
+import org.boava.jpa.temporal.bitemporal.BitemporalPeriod;
+
+/**
+ * Bitemporally versioned test entity tracking a price per product.
+ */
+@Entity
+@Table(name = "versioned_test_entities")
+public class VersionedTestEntity implements BitemporalEntity<String> {
+
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    @Column(name = "product", nullable = false)
+    private String product;
+
+    @Column(name = "price", nullable = false)
+    private long price;
+
+    @Embedded
+    private BitemporalPeriod period;
+
+    // Default constructor required by JPA
+    public VersionedTestEntity() {
+    }
+
+    public VersionedTestEntity(String product, long price, BitemporalPeriod period) {
+        this.product = product;
+        this.price = price;
+        this.period = period;
+    }
+
+    public VersionedTestEntity copy() {
+        return new VersionedTestEntity(product, price, period);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getProduct() {
+        return product;
+    }
+
+    public long getPrice() {
+        return price;
+    }
+
+    @Override
+    public String getBitemporalKey() {
+        return product;
+    }
+
+    @Override
+    public BitemporalPeriod getPeriod() {
+        return period;
+    }
+
+    @Override
+    public void setPeriod(BitemporalPeriod period) {
+        this.period = period;
+    }
+}
@@ -0,0 +1,102 @@
+package org.boava.jpa.temporal.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.boava.jpa.temporal.writebehind.JdbcBatchSink;
+import org.boava.jpa.temporal.writebehind.WriteBehindWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Write-Behind Integration Tests")
+class WriteBehindIntegrationTest {
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        emf = Persistence.createEntityManagerFactory("test-pu");
+        em = emf.createEntityManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (em != null && em.isOpen()) {
+            em.close();
+        }
+        if (emf != null && emf.isOpen()) {
+            emf.close();
+        }
+    }
+
+    private WriteBehindWriter<String> writer(int batchSize) {
+        JdbcBatchSink<String> sink = new JdbcBatchSink<>(emf,
+            "INSERT INTO test_entities (timestamp_seconds, timestamp_nanos, name) VALUES (?, ?, ?)",
+            (statement, index, name) -> statement.setString(index, name));
+        return new WriteBehindWriter<>(sink, 256, batchSize, Duration.ofMillis(10), Clock.systemUTC());
+    }
+
+    @Nested
+    @DisplayName("JDBC Batch Tests")
+    class JdbcBatchTests {
+
+        @Test
+        @DisplayName("Should insert published events with full precision")
+        void shouldInsertPublishedEventsWithFullPrecision() {
+            Instant timestamp = Instant.ofEpochSecond(1_700_000_000L, 123_456_789);
+            try (WriteBehindWriter<String> writer = writer(50)) {
+                writer.start();
+                for (int i = 0; i < 120; i++) {
+                    writer.publish(timestamp.getEpochSecond() + i, timestamp.getNano(), "event-" + i);
+                }
+            }
+
+            List<TestEntity> rows = em.createQuery("SELECT e FROM TestEntity e ORDER BY e.timestamp.seconds",
+                TestEntity.class).getResultList();
+            assertThat(rows).hasSize(120);
+            assertThat(rows.get(0).getName()).isEqualTo("event-0");
+            assertThat(rows.get(0).getTimestamp().toInstant()).isEqualTo(timestamp);
+            assertThat(rows.get(119).getTimestamp().toInstant()).isEqualTo(timestamp.plusSeconds(119));
+        }
+
+        @Test
+        @DisplayName("Should insert every event published by concurrent producers")
+        void shouldInsertEveryEventPublishedByConcurrentProducers() throws InterruptedException {
+            ExecutorService producers = Executors.newFixedThreadPool(4);
+            try (WriteBehindWriter<String> writer = writer(32)) {
+                writer.start();
+                for (int p = 0; p < 4; p++) {
+                    int producer = p;
+                    producers.execute(() -> {
+                        for (int i = 0; i < 250; i++) {
+                            writer.publishNow("p" + producer + "-" + i);
+                        }
+                    });
+                }
+                producers.shutdown();
+                assertThat(producers.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+            }
+
+            Long count = em.createQuery("SELECT COUNT(e) FROM TestEntity e", Long.class).getSingleResult();
+            Long distinct = em.createQuery("SELECT COUNT(DISTINCT e.name) FROM TestEntity e", Long.class)
+                .getSingleResult();
+            assertThat(count).isEqualTo(1_000L);
+            assertThat(distinct).isEqualTo(1_000L);
+        }
+    }
+}
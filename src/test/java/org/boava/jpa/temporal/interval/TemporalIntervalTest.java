@@ -0,0 +1,68 @@
+package org.boava.jpa.temporal.interval;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalInterval Tests")
+class TemporalIntervalTest {
+
+    private static TemporalInterval interval(long from, long to) {
+        return new TemporalInterval(new EmbeddableTemporal(from, 0), new EmbeddableTemporal(to, 0));
+    }
+
+    @Nested
+    @DisplayName("Construction Tests")
+    class ConstructionTests {
+
+        @Test
+        @DisplayName("Should reject inverted and null bounds")
+        void shouldRejectInvertedAndNullBounds() {
+            assertThatThrownBy(() -> interval(2, 1)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new TemporalInterval(null, new EmbeddableTemporal()))
+                .isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        @DisplayName("Should create from instants and report duration")
+        void shouldCreateFromInstantsAndReportDuration() {
+            TemporalInterval interval = TemporalInterval.of(
+                Instant.parse("2024-01-15T00:00:00.750Z"), Instant.parse("2024-01-15T00:00:02.250Z"));
+
+            assertThat(interval.toDuration()).isEqualTo(Duration.ofMillis(1_500));
+            assertThat(interval.isEmpty()).isFalse();
+            assertThat(interval(5, 5).isEmpty()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Half-Open Semantics Tests")
+    class HalfOpenSemanticsTests {
+
+        @Test
+        @DisplayName("Should contain start but not end")
+        void shouldContainStartButNotEnd() {
+            TemporalInterval interval = interval(10, 20);
+
+            assertThat(interval.contains(new EmbeddableTemporal(10, 0))).isTrue();
+            assertThat(interval.contains(new EmbeddableTemporal(19, 999_999_999))).isTrue();
+            assertThat(interval.contains(new EmbeddableTemporal(20, 0))).isFalse();
+            assertThat(interval(10, 10).contains(new EmbeddableTemporal(10, 0))).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should not overlap adjacent intervals")
+        void shouldNotOverlapAdjacentIntervals() {
+            assertThat(interval(10, 20).overlaps(interval(20, 30))).isFalse();
+            assertThat(interval(10, 20).overlaps(interval(19, 30))).isTrue();
+            assertThat(interval(10, 20).contains(interval(10, 20))).isTrue();
+            assertThat(interval(10, 20).contains(interval(15, 21))).isFalse();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.boava.jpa.temporal.interval;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalIntervalTree Tests")
+class TemporalIntervalTreeTest {
+
+    private static TemporalInterval interval(long from, long to) {
+        return new TemporalInterval(new EmbeddableTemporal(from, 0), new EmbeddableTemporal(to, 0));
+    }
+
+    @Nested
+    @DisplayName("Query Tests")
+    class QueryTests {
+
+        @Test
+        @DisplayName("Should stab intervals with half-open semantics")
+        void shouldStabIntervalsWithHalfOpenSemantics() {
+            TemporalIntervalTree<String> tree = TemporalIntervalTree.<String>builder()
+                .add(interval(20, 30), "b")
+                .add(interval(10, 20), "a")
+                .add(interval(0, 100), "all")
+                .add(interval(20, 20), "empty")
+                .build();
+
+            assertThat(tree.size()).isEqualTo(4);
+            assertThat(tree.stab(new EmbeddableTemporal(20, 0))).containsExactly("all", "b");
+            assertThat(tree.stab(new EmbeddableTemporal(19, 999_999_999))).containsExactly("all", "a");
+            assertThat(tree.stab(new EmbeddableTemporal(100, 0))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should match brute force on random intervals")
+        void shouldMatchBruteForceOnRandomIntervals() {
+            Random random = new Random(17);
+            List<TemporalInterval> intervals = new ArrayList<>();
+            TemporalIntervalTree.Builder<Integer> builder = TemporalIntervalTree.builder();
+            for (int i = 0; i < 2_000; i++) {
+                EmbeddableTemporal start = new EmbeddableTemporal(random.nextInt(1_000) - 500, random.nextInt(3));
+                EmbeddableTemporal end = new EmbeddableTemporal(
+                    start.getSeconds() + random.nextInt(50), random.nextInt(3));
+                TemporalInterval interval = start.compareTo(end) <= 0
+                    ? new TemporalInterval(start, end) : new TemporalInterval(end, start);
+                intervals.add(interval);
+                builder.add(interval, i);
+            }
+            TemporalIntervalTree<Integer> tree = builder.build();
+
+            for (int q = 0; q < 200; q++) {
+                EmbeddableTemporal point = new EmbeddableTemporal(random.nextInt(1_100) - 550, random.nextInt(3));
+                EmbeddableTemporal windowEnd = new EmbeddableTemporal(point.getSeconds() + random.nextInt(20), 0);
+                TemporalInterval window = new TemporalInterval(point, windowEnd.compareTo(point) < 0 ? point : windowEnd);
+                List<Integer> stabbed = new ArrayList<>();
+                List<Integer> overlapping = new ArrayList<>();
+                for (int i = 0; i < intervals.size(); i++) {
+                    if (intervals.get(i).contains(point)) {
+                        stabbed.add(i);
+                    }
+                    if (intervals.get(i).overlaps(window)) {
+                        overlapping.add(i);
+                    }
+                }
+
+                assertThat(tree.stab(point)).containsExactlyInAnyOrderElementsOf(stabbed);
+                assertThat(tree.overlapping(window)).containsExactlyInAnyOrderElementsOf(overlapping);
+            }
+        }
+
+        @Test
+        @DisplayName("Should visit primitive bounds")
+        void shouldVisitPrimitiveBounds() {
+            TemporalIntervalTree<String> tree = TemporalIntervalTree.<String>builder()
+                .add(-5, 1, 7, 2, "x")
+                .build();
+            List<String> visited = new ArrayList<>();
+
+            tree.stab(0, 0, (ss, sn, es, en, v) -> visited.add(ss + "." + sn + "-" + es + "." + en + ":" + v));
+
+            assertThat(visited).containsExactly("-5.1-7.2:x");
+        }
+
+        @Test
+        @DisplayName("Should reject invalid primitive bounds")
+        void shouldRejectInvalidPrimitiveBounds() {
+            TemporalIntervalTree.Builder<String> builder = TemporalIntervalTree.builder();
+
+            assertThatThrownBy(() -> builder.add(1, 0, 0, 0, "x")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> builder.add(0, -1, 1, 0, "x")).isInstanceOf(IllegalArgumentException.class);
+            assertThat(builder.build().stab(new EmbeddableTemporal())).isEmpty();
+        }
+    }
+}
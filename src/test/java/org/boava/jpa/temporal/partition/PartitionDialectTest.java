@@ -0,0 +1,52 @@
+package org.boava.jpa.temporal.partition;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Snapshot tests for the DDL generated per dialect.
+ */
+@DisplayName("PartitionDialect Tests")
+class PartitionDialectTest {
+
+    static final TemporalPartition PARTITION = TemporalPartitionStrategy.DAILY.partitionOf(1_705_276_800L);
+
+    record DdlSnapshot(PartitionDialect dialect, String partitionBy, String create, String attach, String drop) {}
+
+    static Stream<DdlSnapshot> provideSnapshots() {
+        return Stream.of(
+            new DdlSnapshot(PartitionDialect.POSTGRESQL,
+                "PARTITION BY RANGE (ts_seconds)",
+                "CREATE TABLE events_p20240115 PARTITION OF events FOR VALUES FROM (1705276800) TO (1705363200)",
+                "ALTER TABLE events ATTACH PARTITION events_staging FOR VALUES FROM (1705276800) TO (1705363200)",
+                "DROP TABLE events_p20240115"),
+            new DdlSnapshot(PartitionDialect.MYSQL,
+                "PARTITION BY RANGE (ts_seconds)",
+                "ALTER TABLE events ADD PARTITION (PARTITION p20240115 VALUES LESS THAN (1705363200))",
+                "ALTER TABLE events EXCHANGE PARTITION p20240115 WITH TABLE events_staging",
+                "ALTER TABLE events DROP PARTITION p20240115"),
+            new DdlSnapshot(PartitionDialect.ORACLE,
+                "PARTITION BY RANGE (ts_seconds)",
+                "ALTER TABLE events ADD PARTITION p20240115 VALUES LESS THAN (1705363200)",
+                "ALTER TABLE events EXCHANGE PARTITION p20240115 WITH TABLE events_staging",
+                "ALTER TABLE events DROP PARTITION p20240115")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideSnapshots")
+    @DisplayName("Should generate partition DDL matching snapshot")
+    void shouldGeneratePartitionDdlMatchingSnapshot(DdlSnapshot snapshot) {
+        PartitionDialect dialect = snapshot.dialect();
+
+        assertThat(dialect.partitionBy("ts_seconds")).isEqualTo(snapshot.partitionBy());
+        assertThat(dialect.createPartition("events", PARTITION)).isEqualTo(snapshot.create());
+        assertThat(dialect.attachPartition("events", "events_staging", PARTITION)).isEqualTo(snapshot.attach());
+        assertThat(dialect.dropPartition("events", PARTITION)).isEqualTo(snapshot.drop());
+    }
+}
@@ -0,0 +1,149 @@
+package org.boava.jpa.temporal.partition;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalPartitionStrategy Tests")
+class TemporalPartitionStrategyTest {
+
+    // Monday, 2024-01-15T00:00:00Z
+    static final long JAN_15 = 1_705_276_800L;
+    static final long JAN_16 = 1_705_363_200L;
+    static final long JAN_22 = 1_705_881_600L;
+    static final long JAN_01 = 1_704_067_200L;
+    static final long FEB_01 = 1_706_745_600L;
+
+    static EmbeddableTemporal at(String instant) {
+        return EmbeddableTemporal.from(Instant.parse(instant));
+    }
+
+    @Nested
+    @DisplayName("Partition Mapping Tests")
+    class PartitionMappingTests {
+
+        @Test
+        @DisplayName("Should map value to daily partition")
+        void shouldMapValueToDailyPartition() {
+            TemporalPartition partition = TemporalPartitionStrategy.DAILY.partitionOf(at("2024-01-15T13:45:10.123456789Z"));
+
+            assertThat(partition.name()).isEqualTo("p20240115");
+            assertThat(partition.startSeconds()).isEqualTo(JAN_15);
+            assertThat(partition.endSeconds()).isEqualTo(JAN_16);
+        }
+
+        @Test
+        @DisplayName("Should map value to weekly partition starting on Monday")
+        void shouldMapValueToWeeklyPartitionStartingOnMonday() {
+            TemporalPartition partition = TemporalPartitionStrategy.WEEKLY.partitionOf(at("2024-01-21T23:59:59.999999999Z"));
+
+            assertThat(partition.name()).isEqualTo("p20240115");
+            assertThat(partition.startSeconds()).isEqualTo(JAN_15);
+            assertThat(partition.endSeconds()).isEqualTo(JAN_22);
+        }
+
+        @Test
+        @DisplayName("Should map value to monthly partition")
+        void shouldMapValueToMonthlyPartition() {
+            TemporalPartition partition = TemporalPartitionStrategy.MONTHLY.partitionOf(at("2024-01-31T12:00:00Z"));
+
+            assertThat(partition.name()).isEqualTo("p202401");
+            assertThat(partition.startSeconds()).isEqualTo(JAN_01);
+            assertThat(partition.endSeconds()).isEqualTo(FEB_01);
+        }
+
+        @Test
+        @DisplayName("Should map pre-epoch values using floor semantics")
+        void shouldMapPreEpochValuesUsingFloorSemantics() {
+            TemporalPartition partition = TemporalPartitionStrategy.DAILY.partitionOf(new EmbeddableTemporal(-1L, 5));
+
+            assertThat(partition.name()).isEqualTo("p19691231");
+            assertThat(partition.startSeconds()).isEqualTo(-86_400L);
+            assertThat(partition.endSeconds()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should place boundary second into the later partition")
+        void shouldPlaceBoundarySecondIntoTheLaterPartition() {
+            TemporalPartition partition = TemporalPartitionStrategy.DAILY.partitionOf(JAN_16);
+
+            assertThat(partition.name()).isEqualTo("p20240116");
+            assertThat(partition.contains(new EmbeddableTemporal(JAN_16, 0))).isTrue();
+            assertThat(partition.contains(new EmbeddableTemporal(JAN_16 - 1, 999_999_999))).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should chain partitions without gaps")
+        void shouldChainPartitionsWithoutGaps() {
+            TemporalPartition january = TemporalPartitionStrategy.MONTHLY.partitionOf(JAN_01);
+            TemporalPartition february = january.next();
+
+            assertThat(february.name()).isEqualTo("p202402");
+            assertThat(february.startSeconds()).isEqualTo(january.endSeconds());
+            assertThat(february.start()).isEqualTo(january.end());
+        }
+
+        @Test
+        @DisplayName("Should reject empty partition range")
+        void shouldRejectEmptyPartitionRange() {
+            assertThatThrownBy(() -> new TemporalPartition(TemporalPartitionStrategy.DAILY, "p", 10L, 10L))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Range Tests")
+    class RangeTests {
+
+        @Test
+        @DisplayName("Should list partitions overlapping a range")
+        void shouldListPartitionsOverlappingARange() {
+            List<TemporalPartition> partitions = TemporalPartitionStrategy.DAILY.partitionsBetween(
+                at("2024-01-15T10:00:00Z"), at("2024-01-17T00:00:00Z"));
+
+            assertThat(partitions).extracting(TemporalPartition::name).containsExactly("p20240115", "p20240116");
+        }
+
+        @Test
+        @DisplayName("Should include partition when upper bound has nanoseconds past its start")
+        void shouldIncludePartitionWhenUpperBoundHasNanosecondsPastItsStart() {
+            List<TemporalPartition> partitions = TemporalPartitionStrategy.DAILY.partitionsBetween(
+                at("2024-01-15T10:00:00Z"), new EmbeddableTemporal(JAN_16, 1));
+
+            assertThat(partitions).extracting(TemporalPartition::name).containsExactly("p20240115", "p20240116");
+        }
+
+        @Test
+        @DisplayName("Should return no partitions for empty range")
+        void shouldReturnNoPartitionsForEmptyRange() {
+            EmbeddableTemporal instant = at("2024-01-15T10:00:00Z");
+
+            assertThat(TemporalPartitionStrategy.WEEKLY.partitionsBetween(instant, instant)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should list only partitions entirely before the retention cutoff")
+        void shouldListOnlyPartitionsEntirelyBeforeTheRetentionCutoff() {
+            List<TemporalPartition> expired = TemporalPartitionStrategy.DAILY.expiredPartitions(
+                at("2024-01-12T08:00:00Z"), at("2024-01-15T06:00:00Z"));
+
+            assertThat(expired).extracting(TemporalPartition::name)
+                .containsExactly("p20240112", "p20240113", "p20240114");
+        }
+
+        @Test
+        @DisplayName("Should render partition pruning predicate")
+        void shouldRenderPartitionPruningPredicate() {
+            TemporalPartition partition = TemporalPartitionStrategy.DAILY.partitionOf(JAN_15);
+
+            assertThat(partition.predicate("timestamp_seconds"))
+                .isEqualTo("timestamp_seconds >= 1705276800 AND timestamp_seconds < 1705363200");
+        }
+    }
+}
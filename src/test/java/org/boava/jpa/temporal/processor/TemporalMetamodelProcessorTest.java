@@ -0,0 +1,153 @@
+package org.boava.jpa.temporal.processor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.Entity;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("TemporalMetamodelProcessor Tests")
+class TemporalMetamodelProcessorTest {
+
+    @TempDir
+    Path directory;
+
+    private final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+    private boolean compile(String... sources) throws IOException, URISyntaxException {
+        Path sourceDirectory = Files.createDirectories(directory.resolve("src/sample"));
+        Path output = Files.createDirectories(directory.resolve("out"));
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < sources.length; i += 2) {
+            files.add(Files.writeString(sourceDirectory.resolve(sources[i] + ".java"), sources[i + 1]));
+        }
+        // Surefire hides the real class path behind a manifest jar, so pass the required locations explicitly
+        String classPath = location(Entity.class) + java.io.File.pathSeparator + location(EmbeddableTemporal.class);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            return compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-classpath", classPath, "-d", output.toString(), "-s", output.toString(),
+                        "-proc:only", "-Atemporal.nativeImage.dir=sample/app"),
+                    null, fileManager.getJavaFileObjectsFromPaths(files))
+                .call();
+        }
+    }
+
+    private String generated(String name) throws IOException {
+        return Files.readString(directory.resolve("out/sample/" + name + ".java"));
+    }
+
+    private static String location(Class<?> type) throws URISyntaxException {
+        return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    }
+
+    private static final String EVENT = """
+        package sample;
+
+        import jakarta.persistence.*;
+        import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+
+        @MappedSuperclass
+        abstract class Audited {
+            EmbeddableTemporal created;
+        }
+
+        @Entity(name = "Evt")
+        @AttributeOverride(name = "created.seconds", column = @Column(name = "created_s"))
+        public class Event extends Audited {
+            @Id
+            private long id;
+
+            @Embedded
+            @AttributeOverrides({
+                @AttributeOverride(name = "seconds", column = @Column(name = "occurred_s")),
+                @AttributeOverride(name = "nanos", column = @Column(name = "occurred_n"))
+            })
+            private EmbeddableTemporal occurredAt;
+
+            private EmbeddableTemporal hidden;
+
+            @Transient
+            private EmbeddableTemporal cached;
+
+            public EmbeddableTemporal getOccurredAt() {
+                return occurredAt;
+            }
+        }
+        """;
+
+    @Test
+    @DisplayName("Should generate names, columns and accessors for temporal attributes")
+    void shouldGenerateMetamodel() throws Exception {
+        assertThat(compile("Event", EVENT)).isTrue();
+
+        String source = generated("Event_Temporal");
+        assertThat(source)
+            .contains("public final class Event_Temporal")
+            .contains("ENTITY_NAME = \"Evt\"")
+            .contains("OCCURRED_AT_SECONDS_COLUMN = \"occurred_s\"")
+            .contains("OCCURRED_AT_NANOS_COLUMN = \"occurred_n\"")
+            .contains("CREATED_SECONDS_COLUMN = \"created_s\"")
+            .contains("CREATED_NANOS_COLUMN = \"nanos\"")
+            .contains("new TemporalAttribute<>(Event.class, OCCURRED_AT, Event::getOccurredAt)")
+            .contains("new TemporalAttribute<>(Event.class, CREATED, entity -> entity.created)")
+            .contains("occurredAtAfter(EntityManager entityManager,\n            EmbeddableTemporal lastValue, "
+                + "Long lastKey, int limit)")
+            .doesNotContain("CACHED")
+            .doesNotContain("TemporalAttribute<>(Event.class, HIDDEN");
+        assertThat(source.indexOf("CREATED =")).isLessThan(source.indexOf("OCCURRED_AT ="));
+        assertThat(diagnostics.getDiagnostics()).anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.NOTE
+            && diagnostic.getMessage(null).contains("hidden"));
+    }
+
+    @Test
+    @DisplayName("Should write native-image reflection metadata for processed entities and their superclasses")
+    void shouldWriteReachabilityMetadata() throws Exception {
+        assertThat(compile("Event", EVENT)).isTrue();
+
+        String metadata = Files.readString(directory.resolve("out/META-INF/native-image/sample/app/reflect-config.json"));
+        assertThat(metadata).contains("\"name\": \"sample.Event\"").contains("\"name\": \"sample.Audited\"");
+    }
+
+    @Test
+    @DisplayName("Should skip entities without temporal attributes")
+    void shouldSkipEntitiesWithoutTemporalAttributes() throws Exception {
+        assertThat(compile("Plain", """
+            package sample;
+
+            @jakarta.persistence.Entity
+            public class Plain {
+                @jakarta.persistence.Id
+                Long id;
+            }
+            """)).isTrue();
+
+        assertThat(directory.resolve("out/sample/Plain_Temporal.java")).doesNotExist();
+        assertThat(directory.resolve("out/META-INF")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should convert attribute names to constant names")
+    void shouldConvertConstantNames() {
+        assertThat(TemporalMetamodelProcessor.constantName("timestamp")).isEqualTo("TIMESTAMP");
+        assertThat(TemporalMetamodelProcessor.constantName("validFrom")).isEqualTo("VALID_FROM");
+        assertThat(TemporalMetamodelProcessor.constantName("createdAtUTC")).isEqualTo("CREATED_AT_UTC");
+    }
+}
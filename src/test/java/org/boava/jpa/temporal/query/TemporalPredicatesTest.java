@@ -0,0 +1,149 @@
+package org.boava.jpa.temporal.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.boava.jpa.temporal.embeddable.EmbeddableTemporal.MAX_NANOS;
+
+import java.time.Duration;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.interval.TemporalInterval;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalPredicates Tests")
+class TemporalPredicatesTest {
+
+    static final TemporalPath PATH = TemporalPath.columns("s", "n");
+
+    @Nested
+    @DisplayName("Path Tests")
+    class PathTests {
+
+        @Test
+        @DisplayName("Should derive component paths from attribute path")
+        void shouldDeriveComponentPathsFromAttributePath() {
+            TemporalPath path = TemporalPath.attribute("e.timestamp");
+
+            assertThat(path.seconds()).isEqualTo("e.timestamp.seconds");
+            assertThat(path.nanos()).isEqualTo("e.timestamp.nanos");
+        }
+
+        @Test
+        @DisplayName("Should reject blank paths")
+        void shouldRejectBlankPaths() {
+            assertThatThrownBy(() -> TemporalPath.columns(" ", "n"))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bound Tests")
+    class BoundTests {
+
+        @Test
+        @DisplayName("Should render seconds-first bounds")
+        void shouldRenderSecondsFirstBounds() {
+            EmbeddableTemporal bound = new EmbeddableTemporal(100L, 5);
+
+            assertThat(TemporalPredicates.atOrAfter(PATH, bound)).isEqualTo("(s >= 100 AND (s > 100 OR n >= 5))");
+            assertThat(TemporalPredicates.after(PATH, bound)).isEqualTo("(s >= 100 AND (s > 100 OR n > 5))");
+            assertThat(TemporalPredicates.before(PATH, bound)).isEqualTo("(s <= 100 AND (s < 100 OR n < 5))");
+            assertThat(TemporalPredicates.atOrBefore(PATH, bound)).isEqualTo("(s <= 100 AND (s < 100 OR n <= 5))");
+        }
+
+        @Test
+        @DisplayName("Should omit nanos refinement on whole-second bounds")
+        void shouldOmitNanosRefinementOnWholeSecondBounds() {
+            EmbeddableTemporal whole = new EmbeddableTemporal(-100L, 0);
+            EmbeddableTemporal last = new EmbeddableTemporal(100L, MAX_NANOS);
+
+            assertThat(TemporalPredicates.atOrAfter(PATH, whole)).isEqualTo("s >= -100");
+            assertThat(TemporalPredicates.before(PATH, whole)).isEqualTo("s < -100");
+            assertThat(TemporalPredicates.after(PATH, last)).isEqualTo("s > 100");
+            assertThat(TemporalPredicates.atOrBefore(PATH, last)).isEqualTo("s <= 100");
+        }
+
+        @Test
+        @DisplayName("Should render half-open range")
+        void shouldRenderHalfOpenRange() {
+            String range = TemporalPredicates.range(PATH, new EmbeddableTemporal(1L, 0), new EmbeddableTemporal(2L, 0));
+
+            assertThat(range).isEqualTo("s >= 1 AND s < 2");
+        }
+
+        @Test
+        @DisplayName("Should reject inverted range")
+        void shouldRejectInvertedRange() {
+            assertThatThrownBy(() -> TemporalPredicates.range(PATH, new EmbeddableTemporal(2L, 0), new EmbeddableTemporal(1L, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should render ordering")
+        void shouldRenderOrdering() {
+            assertThat(TemporalPredicates.ascending(PATH)).isEqualTo("s ASC, n ASC");
+            assertThat(TemporalPredicates.descending(PATH)).isEqualTo("s DESC, n DESC");
+        }
+
+        @Test
+        @DisplayName("Should render keyset predicate seeking on seconds first")
+        void shouldRenderKeysetPredicate() {
+            assertThat(TemporalPredicates.afterKey(PATH, new EmbeddableTemporal(100L, 5), "id", "lastId"))
+                .isEqualTo("(s >= 100 AND (s > 100 OR n > 5 OR (n = 5 AND id > :lastId)))");
+        }
+
+        @Test
+        @DisplayName("Should render a numeric last key as a literal")
+        void shouldRenderNumericLastKeyAsLiteral() {
+            assertThat(TemporalPredicates.afterKey(PATH, new EmbeddableTemporal(100L, 5), "id", 42L))
+                .isEqualTo("(s >= 100 AND (s > 100 OR n > 5 OR (n = 5 AND id > 42)))");
+        }
+    }
+
+    @Nested
+    @DisplayName("Interval Tests")
+    class IntervalTests {
+
+        private final TemporalIntervalPath interval = TemporalIntervalPath.columns("ss", "sn", "es", "en");
+        private final TemporalInterval query =
+            new TemporalInterval(new EmbeddableTemporal(100L, 0), new EmbeddableTemporal(200L, 5));
+
+        @Test
+        @DisplayName("Should render stabbing predicate")
+        void shouldRenderStabbingPredicate() {
+            assertThat(TemporalPredicates.activeAt(interval, new EmbeddableTemporal(100L, 0)))
+                .isEqualTo("(ss <= 100 AND (ss < 100 OR sn <= 0)) AND (es >= 100 AND (es > 100 OR en > 0))");
+        }
+
+        @Test
+        @DisplayName("Should render overlap, covering and within predicates")
+        void shouldRenderOverlapCoveringAndWithinPredicates() {
+            assertThat(TemporalPredicates.overlapping(interval, query))
+                .isEqualTo("(ss <= 200 AND (ss < 200 OR sn < 5)) AND (es >= 100 AND (es > 100 OR en > 0))");
+            assertThat(TemporalPredicates.covering(interval, query))
+                .isEqualTo("(ss <= 100 AND (ss < 100 OR sn <= 0)) AND (es >= 200 AND (es > 200 OR en >= 5))");
+            assertThat(TemporalPredicates.within(interval, query))
+                .isEqualTo("ss >= 100 AND (es <= 200 AND (es < 200 OR en <= 5))");
+        }
+
+        @Test
+        @DisplayName("Should bound start scan by maximum interval length")
+        void shouldBoundStartScanByMaximumIntervalLength() {
+            String predicate = TemporalPredicates.overlapping(interval, query, Duration.ofMillis(1_500));
+
+            assertThat(predicate).startsWith("(ss >= 98 AND (ss > 98 OR sn > 500000000)) AND ");
+            assertThatThrownBy(() -> TemporalPredicates.overlapping(interval, query, Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should address embedded interval attributes")
+        void shouldAddressEmbeddedIntervalAttributes() {
+            TemporalIntervalPath path = TemporalIntervalPath.attribute("e.validity");
+
+            assertThat(path.start()).isEqualTo(new TemporalPath("e.validity.start.seconds", "e.validity.start.nanos"));
+            assertThat(path.end()).isEqualTo(new TemporalPath("e.validity.end.seconds", "e.validity.end.nanos"));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.boava.jpa.temporal.r2dbc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import io.r2dbc.h2.CloseableConnectionFactory;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.spi.Connection;
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@DisplayName("R2dbcTemporalCodec Tests")
+class R2dbcTemporalCodecTest {
+
+    private CloseableConnectionFactory connectionFactory;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = H2ConnectionFactory.inMemory("codec-" + UUID.randomUUID());
+        connection = Mono.from(connectionFactory.create()).block();
+        execute("CREATE TABLE events (id BIGINT PRIMARY KEY, ts_seconds BIGINT, ts_nanos INT)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        Mono.from(connection.close()).block();
+        connectionFactory.close().block();
+    }
+
+    private void execute(String sql) {
+        Flux.from(connection.createStatement(sql).execute()).flatMap(result -> result.getRowsUpdated()).blockLast();
+    }
+
+    private void insert(long id, EmbeddableTemporal value) {
+        Flux.from(R2dbcTemporalCodec.bind(
+                connection.createStatement("INSERT INTO events (id, ts_seconds, ts_nanos) VALUES ($1, $2, $3)")
+                    .bind(0, id), 1, value)
+                .execute())
+            .flatMap(result -> result.getRowsUpdated())
+            .blockLast();
+    }
+
+    private List<EmbeddableTemporal> readByName() {
+        return Flux.from(connection.createStatement("SELECT ts_seconds, ts_nanos FROM events ORDER BY id").execute())
+            .flatMap(result -> result.map((row, metadata) ->
+                Optional.ofNullable(R2dbcTemporalCodec.read(row, "ts_seconds", "ts_nanos"))))
+            .collectList()
+            .block()
+            .stream()
+            .map(value -> value.orElse(null))
+            .toList();
+    }
+
+    @Test
+    @DisplayName("Should round-trip values through positional binds and named columns")
+    void shouldRoundTripValues() {
+        EmbeddableTemporal negative = new EmbeddableTemporal(-1L, 999_999_999);
+        EmbeddableTemporal extreme = new EmbeddableTemporal(Long.MAX_VALUE, 1);
+        insert(1, negative);
+        insert(2, extreme);
+        insert(3, null);
+
+        assertThat(readByName()).containsExactly(negative, extreme, null);
+    }
+
+    @Test
+    @DisplayName("Should read adjacent columns by index and bind by name")
+    void shouldReadByIndexAndBindByName() {
+        EmbeddableTemporal value = new EmbeddableTemporal(1_710_498_645L, 123_456_789);
+        Flux.from(R2dbcTemporalCodec.bind(
+                connection.createStatement("INSERT INTO events (id, ts_seconds, ts_nanos) VALUES (1, $1, $2)"),
+                "$1", "$2", value)
+                .execute())
+            .flatMap(result -> result.getRowsUpdated())
+            .blockLast();
+
+        EmbeddableTemporal read = Flux.from(connection.createStatement("SELECT id, ts_seconds, ts_nanos FROM events")
+                .execute())
+            .flatMap(result -> result.map((row, metadata) -> R2dbcTemporalCodec.read(row, 1)))
+            .blockFirst();
+
+        assertThat(read).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("Should reject corrupt stored nanoseconds")
+    void shouldRejectCorruptNanos() {
+        execute("INSERT INTO events (id, ts_seconds, ts_nanos) VALUES (1, 10, 1000000000)");
+        execute("INSERT INTO events (id, ts_seconds, ts_nanos) VALUES (2, 10, NULL)");
+
+        assertThatIllegalStateException().isThrownBy(this::readByName)
+            .withMessageContaining("Corrupt stored temporal value in ts_seconds");
+        execute("DELETE FROM events WHERE id = 1");
+        assertThatIllegalStateException().isThrownBy(this::readByName);
+    }
+}
@@ -0,0 +1,155 @@
+package org.boava.jpa.temporal.r2dbc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.r2dbc.h2.CloseableConnectionFactory;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.query.TemporalPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("R2dbcTemporalQueries Tests")
+class R2dbcTemporalQueriesTest {
+
+    private static final TemporalPath PATH = TemporalPath.columns("ts_seconds", "ts_nanos");
+    private static final EmbeddableTemporal BASE = EmbeddableTemporal.from(Instant.parse("2024-01-01T00:00:00Z"));
+    private static final int COUNT = 95;
+
+    private CloseableConnectionFactory h2;
+    private final AtomicInteger connections = new AtomicInteger();
+
+    /**
+     * Counts the connections opened, i.e. the pages queried.
+     */
+    private final ConnectionFactory counting = new ConnectionFactory() {
+        @Override
+        public Publisher<? extends Connection> create() {
+            return Mono.defer(() -> {
+                connections.incrementAndGet();
+                return Mono.from(h2.create());
+            });
+        }
+
+        @Override
+        public ConnectionFactoryMetadata getMetadata() {
+            return h2.getMetadata();
+        }
+    };
+
+    private record Event(long id, EmbeddableTemporal timestamp, String name) {}
+
+    @BeforeEach
+    void setUp() {
+        h2 = H2ConnectionFactory.inMemory("queries-" + UUID.randomUUID());
+        Flux.usingWhen(h2.create(), connection -> {
+            Flux<Long> updated = Flux.from(connection.createStatement("CREATE TABLE events (id BIGINT PRIMARY KEY, "
+                + "ts_seconds BIGINT NOT NULL, ts_nanos INT NOT NULL, name VARCHAR(32))").execute())
+                .flatMap(result -> result.getRowsUpdated());
+            // Pairs of rows share a timestamp, so pages must break ties by key
+            for (int i = 0; i < COUNT; i++) {
+                EmbeddableTemporal timestamp = new EmbeddableTemporal(BASE.getSeconds() + i / 2, 500_000_000);
+                updated = updated.concatWith(Flux.from(R2dbcTemporalCodec.bind(connection.createStatement(
+                        "INSERT INTO events (id, ts_seconds, ts_nanos, name) VALUES ($1, $2, $3, $4)")
+                        .bind(0, (long) COUNT - i), 1, timestamp)
+                        .bind(3, "event-" + i)
+                        .execute())
+                    .flatMap(result -> result.getRowsUpdated()));
+            }
+            return updated;
+        }, Connection::close).blockLast();
+    }
+
+    @AfterEach
+    void tearDown() {
+        h2.close().block();
+    }
+
+    private R2dbcTemporalQueries queries(int pageSize) {
+        return R2dbcTemporalQueries.builder(counting, "events", PATH).pageSize(pageSize).build();
+    }
+
+    private static Event map(io.r2dbc.spi.Row row, EmbeddableTemporal timestamp) {
+        return new Event(row.get("id", Long.class), timestamp, row.get("name", String.class));
+    }
+
+    @Test
+    @DisplayName("Should page through a range in temporal and key order")
+    void shouldPageThroughRange() {
+        List<Event> events = queries(10).range(BASE, new EmbeddableTemporal(BASE.getSeconds() + 40, 500_000_000),
+            R2dbcTemporalQueriesTest::map).collectList().block();
+
+        // Two rows at each of the seconds 0..39, the rows at 40.5 are past the exclusive bound
+        assertThat(events).hasSize(80);
+        assertThat(events).extracting(Event::name).doesNotHaveDuplicates();
+        for (int i = 1; i < events.size(); i++) {
+            Event previous = events.get(i - 1);
+            Event current = events.get(i);
+            int byTime = previous.timestamp().compareTo(current.timestamp());
+            assertThat(byTime < 0 || byTime == 0 && previous.id() < current.id()).isTrue();
+        }
+        // Eight full pages and the empty one ending the stream
+        assertThat(connections.get()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("Should resume after a keyset position")
+    void shouldResumeAfterPosition() {
+        List<Event> all = queries(1_000).range(BASE, new EmbeddableTemporal(BASE.getSeconds() + 100, 0),
+            R2dbcTemporalQueriesTest::map).collectList().block();
+        Event last = all.get(49);
+
+        List<Event> rest = queries(7).after(last.timestamp(), last.id(), R2dbcTemporalQueriesTest::map)
+            .collectList().block();
+
+        assertThat(rest).isEqualTo(all.subList(50, COUNT));
+    }
+
+    @Test
+    @DisplayName("Should only fetch pages the subscriber requested")
+    void shouldOnlyFetchRequestedPages() {
+        StepVerifier.create(queries(10).after(BASE, 0, R2dbcTemporalQueriesTest::map), 5)
+            .expectNextCount(5)
+            .thenAwait()
+            .then(() -> assertThat(connections.get()).isLessThanOrEqualTo(2))
+            .thenRequest(20)
+            .expectNextCount(20)
+            .thenCancel()
+            .verify();
+
+        assertThat(connections.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should stream a range with a single query")
+    void shouldStreamWithSingleQuery() {
+        List<Event> streamed = queries(16).stream(BASE, new EmbeddableTemporal(BASE.getSeconds() + 100, 0),
+            R2dbcTemporalQueriesTest::map).collectList().block();
+        List<Event> paged = queries(16).range(BASE, new EmbeddableTemporal(BASE.getSeconds() + 100, 0),
+            R2dbcTemporalQueriesTest::map).collectList().block();
+
+        assertThat(streamed).hasSize(COUNT).isEqualTo(paged);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid arguments")
+    void shouldRejectInvalidArguments() {
+        assertThatIllegalArgumentException().isThrownBy(() -> queries(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> queries(10).range(
+            new EmbeddableTemporal(BASE.getSeconds() + 1, 0), BASE, R2dbcTemporalQueriesTest::map));
+    }
+}
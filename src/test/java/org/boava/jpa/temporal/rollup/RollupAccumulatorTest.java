@@ -0,0 +1,116 @@
+package org.boava.jpa.temporal.rollup;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RollupAccumulator Tests")
+class RollupAccumulatorTest {
+
+    @Nested
+    @DisplayName("Aggregation Tests")
+    class AggregationTests {
+
+        @Test
+        @DisplayName("Should keep exact sum, minimum and maximum with nanosecond carries")
+        void shouldAggregateExactly() {
+            RollupAccumulator accumulator = new RollupAccumulator(false);
+            accumulator.add(1L, 600_000_000);
+            accumulator.add(0L, 700_000_000);
+            accumulator.add(-1L, 999_999_999);
+            accumulator.addRow();
+
+            RollupSummary summary = accumulator.toSummary(4);
+
+            assertThat(summary.getCount()).isEqualTo(4);
+            assertThat(summary.getSum()).isEqualTo(new EmbeddableTemporal(2L, 299_999_999));
+            assertThat(summary.getMin()).isEqualTo(new EmbeddableTemporal(-1L, 999_999_999));
+            assertThat(summary.getMax()).isEqualTo(new EmbeddableTemporal(1L, 600_000_000));
+            assertThat(summary.getHistogram()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should merge into the same result as adding directly")
+        void shouldMerge() {
+            RollupAccumulator direct = new RollupAccumulator(true);
+            RollupAccumulator left = new RollupAccumulator(true);
+            RollupAccumulator right = new RollupAccumulator(true);
+            RollupAccumulator empty = new RollupAccumulator(true);
+            for (int i = 0; i < 100; i++) {
+                long seconds = i % 7;
+                int nanos = i * 9_999_991;
+                direct.add(seconds, nanos);
+                (i % 3 == 0 ? left : right).add(seconds, nanos);
+            }
+            empty.merge(left);
+            empty.merge(right);
+
+            RollupSummary expected = direct.toSummary(0);
+            RollupSummary merged = empty.toSummary(0);
+            assertThat(merged.getCount()).isEqualTo(expected.getCount());
+            assertThat(merged.getSum()).isEqualTo(expected.getSum());
+            assertThat(merged.getMin()).isEqualTo(expected.getMin());
+            assertThat(merged.getMax()).isEqualTo(expected.getMax());
+            assertThat(merged.getHistogram()).containsExactly(expected.getHistogram());
+        }
+
+        @Test
+        @DisplayName("Should report no measure statistics for unmeasured rows")
+        void shouldReportNoMeasure() {
+            RollupAccumulator accumulator = new RollupAccumulator(false);
+            accumulator.addRow();
+
+            RollupSummary summary = accumulator.toSummary(1);
+
+            assertThat(summary.getSum()).isNull();
+            assertThat(summary.getMin()).isNull();
+            assertThat(summary.getMax()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Histogram Tests")
+    class HistogramTests {
+
+        @Test
+        @DisplayName("Should bucket durations by their highest nanosecond bit")
+        void shouldBucketByLog2() {
+            assertThat(RollupAccumulator.bucketOf(-5L, 0)).isZero();
+            assertThat(RollupAccumulator.bucketOf(0L, 1)).isZero();
+            assertThat(RollupAccumulator.bucketOf(0L, 2)).isEqualTo(1);
+            assertThat(RollupAccumulator.bucketOf(0L, 1_023)).isEqualTo(9);
+            assertThat(RollupAccumulator.bucketOf(1L, 0)).isEqualTo(29);
+            assertThat(RollupAccumulator.bucketOf(Long.MAX_VALUE, 0)).isEqualTo(63);
+        }
+
+        @Test
+        @DisplayName("Should round-trip the sparse encoding")
+        void shouldRoundTripEncoding() {
+            long[] histogram = new long[RollupAccumulator.HISTOGRAM_BUCKETS];
+            histogram[0] = 3;
+            histogram[29] = Long.MAX_VALUE;
+            histogram[63] = 1;
+
+            byte[] encoded = RollupAccumulator.encode(histogram);
+            long[] decoded = new long[RollupAccumulator.HISTOGRAM_BUCKETS];
+            RollupAccumulator.decode(encoded, decoded);
+
+            assertThat(encoded).hasSize(27);
+            assertThat(decoded).containsExactly(histogram);
+            assertThat(RollupAccumulator.encode(new long[RollupAccumulator.HISTOGRAM_BUCKETS])).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject corrupt encodings")
+        void shouldRejectCorruptEncodings() {
+            long[] histogram = new long[RollupAccumulator.HISTOGRAM_BUCKETS];
+
+            assertThatIllegalStateException().isThrownBy(() -> RollupAccumulator.decode(new byte[5], histogram));
+            assertThatIllegalStateException().isThrownBy(() -> RollupAccumulator.decode(
+                new byte[] {64, 0, 0, 0, 0, 0, 0, 0, 1}, histogram));
+        }
+    }
+}
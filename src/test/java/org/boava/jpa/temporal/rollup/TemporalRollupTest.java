@@ -0,0 +1,88 @@
+package org.boava.jpa.temporal.rollup;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import java.time.Instant;
+
+import org.boava.jpa.temporal.query.TemporalPath;
+import org.boava.jpa.temporal.rollup.TemporalRollup.Run;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalRollup Tests")
+class TemporalRollupTest {
+
+    private static final TemporalPath TIMESTAMP = TemporalPath.columns("ts_s", "ts_n");
+
+    @Nested
+    @DisplayName("Decomposition Tests")
+    class DecompositionTests {
+
+        @Test
+        @DisplayName("Should cover a range with the coarsest aligned buckets")
+        void shouldDecomposeIntoCoarsestBuckets() {
+            long from = Instant.parse("2024-01-01T22:30:00Z").getEpochSecond();
+            long to = Instant.parse("2024-01-04T01:15:00Z").getEpochSecond();
+            long day = Instant.parse("2024-01-02T00:00:00Z").getEpochSecond();
+
+            assertThat(TemporalRollup.decompose(from, to)).containsExactly(
+                new Run(RollupGranularity.MINUTE, from, from + 1_800),
+                new Run(RollupGranularity.HOUR, from + 1_800, day),
+                new Run(RollupGranularity.DAY, day, day + 2 * 86_400),
+                new Run(RollupGranularity.HOUR, day + 2 * 86_400, day + 2 * 86_400 + 3_600),
+                new Run(RollupGranularity.MINUTE, day + 2 * 86_400 + 3_600, to));
+        }
+
+        @Test
+        @DisplayName("Should align buckets before the epoch")
+        void shouldAlignBeforeEpoch() {
+            assertThat(RollupGranularity.HOUR.bucketOf(-1L)).isEqualTo(-3_600L);
+            assertThat(TemporalRollup.decompose(-3_660L, 0L)).containsExactly(
+                new Run(RollupGranularity.MINUTE, -3_660L, -3_600L),
+                new Run(RollupGranularity.HOUR, -3_600L, 0L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Builder Tests")
+    class BuilderTests {
+
+        @Test
+        @DisplayName("Should render the summary and state tables")
+        void shouldRenderTables() {
+            TemporalRollup rollup = TemporalRollup.builder(mock(EntityManagerFactory.class), "events", TIMESTAMP)
+                .measure(TemporalPath.columns("latency_s", "latency_n"))
+                .histogram("VARBINARY(576)")
+                .build();
+
+            assertThat(rollup.createTableStatements()).containsExactly(
+                "CREATE TABLE events_rollup_minute (bucket_seconds BIGINT NOT NULL PRIMARY KEY, "
+                    + "row_count BIGINT NOT NULL, sum_seconds BIGINT, sum_nanos INTEGER, min_seconds BIGINT, "
+                    + "min_nanos INTEGER, max_seconds BIGINT, max_nanos INTEGER, histogram VARBINARY(576))",
+                "CREATE TABLE events_rollup_hour (bucket_seconds BIGINT NOT NULL PRIMARY KEY, "
+                    + "row_count BIGINT NOT NULL, sum_seconds BIGINT, sum_nanos INTEGER, min_seconds BIGINT, "
+                    + "min_nanos INTEGER, max_seconds BIGINT, max_nanos INTEGER, histogram VARBINARY(576))",
+                "CREATE TABLE events_rollup_day (bucket_seconds BIGINT NOT NULL PRIMARY KEY, "
+                    + "row_count BIGINT NOT NULL, sum_seconds BIGINT, sum_nanos INTEGER, min_seconds BIGINT, "
+                    + "min_nanos INTEGER, max_seconds BIGINT, max_nanos INTEGER, histogram VARBINARY(576))",
+                "CREATE TABLE events_rollup_state (id INTEGER NOT NULL PRIMARY KEY, hwm_seconds BIGINT NOT NULL, "
+                    + "hwm_nanos INTEGER NOT NULL, hwm_key BIGINT NOT NULL, max_key BIGINT NOT NULL)");
+        }
+
+        @Test
+        @DisplayName("Should reject invalid configurations")
+        void shouldRejectInvalidConfigurations() {
+            EntityManagerFactory emf = mock(EntityManagerFactory.class);
+
+            assertThatIllegalArgumentException()
+                .isThrownBy(() -> TemporalRollup.builder(emf, "events", TIMESTAMP).batchSize(0));
+            assertThatIllegalStateException()
+                .isThrownBy(() -> TemporalRollup.builder(emf, "events", TIMESTAMP).histogram("BYTEA").build());
+            assertThatNullPointerException().isThrownBy(() -> TemporalRollup.builder(emf, null, TIMESTAMP));
+        }
+    }
+}
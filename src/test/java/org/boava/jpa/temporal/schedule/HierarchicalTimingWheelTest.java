@@ -0,0 +1,187 @@
+package org.boava.jpa.temporal.schedule;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HierarchicalTimingWheel Tests")
+class HierarchicalTimingWheelTest {
+
+    private static final EmbeddableTemporal ORIGIN = new EmbeddableTemporal(1_700_000_000L, 0);
+
+    private static HierarchicalTimingWheel<String> wheel(Duration tick) {
+        return new HierarchicalTimingWheel<>(ORIGIN, tick);
+    }
+
+    private static List<String> advance(HierarchicalTimingWheel<String> wheel, long seconds, int nanos) {
+        List<String> delivered = new ArrayList<>();
+        wheel.advance(ORIGIN.getSeconds() + seconds, nanos, delivered::add);
+        return delivered;
+    }
+
+    @Nested
+    @DisplayName("Expiry Tests")
+    class ExpiryTests {
+
+        @Test
+        @DisplayName("Should deliver values in due order across levels")
+        void shouldDeliverValuesInDueOrderAcrossLevels() {
+            HierarchicalTimingWheel<String> wheel = wheel(Duration.ofMillis(1));
+            wheel.add(ORIGIN.getSeconds() + 86_400, 0, "day");
+            wheel.add(ORIGIN.getSeconds(), 5_000_000, "5ms");
+            wheel.add(ORIGIN.getSeconds() + 3_600, 0, "hour");
+            wheel.add(ORIGIN.getSeconds() + 1, 0, "second");
+
+            assertThat(advance(wheel, 0, 4_999_999)).isEmpty();
+            assertThat(advance(wheel, 0, 5_000_000)).containsExactly("5ms");
+            assertThat(advance(wheel, 100_000, 0)).containsExactly("second", "hour", "day");
+            assertThat(wheel.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should keep values due later within the current tick")
+        void shouldKeepValuesDueLaterWithinTheCurrentTick() {
+            HierarchicalTimingWheel<String> wheel = wheel(Duration.ofSeconds(1));
+            wheel.add(ORIGIN.getSeconds() + 10, 500_000_000, "late");
+            wheel.add(ORIGIN.getSeconds() + 10, 100_000_000, "early");
+
+            assertThat(advance(wheel, 10, 200_000_000)).containsExactly("early");
+            assertThat(wheel.size()).isEqualTo(1);
+            assertThat(advance(wheel, 10, 499_999_999)).isEmpty();
+            assertThat(advance(wheel, 10, 500_000_000)).containsExactly("late");
+        }
+
+        @Test
+        @DisplayName("Should deliver overdue values on the next advance")
+        void shouldDeliverOverdueValuesOnTheNextAdvance() {
+            HierarchicalTimingWheel<String> wheel = wheel(Duration.ofMillis(1));
+            advance(wheel, 60, 0);
+            wheel.add(ORIGIN.getSeconds() - 3_600, 0, "before origin");
+            wheel.add(ORIGIN.getSeconds() + 30, 0, "past");
+
+            assertThat(advance(wheel, 60, 0)).containsExactlyInAnyOrder("before origin", "past");
+        }
+
+        @Test
+        @DisplayName("Should treat values due beyond the representable range as never due")
+        void shouldTreatValuesDueBeyondTheRepresentableRangeAsNeverDue() {
+            // The distance from a pre-epoch origin to the far future overflows a long
+            HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(new EmbeddableTemporal(-10L, 0),
+                Duration.ofMillis(1));
+            wheel.add(Long.MAX_VALUE, 0, "never");
+
+            List<String> delivered = new ArrayList<>();
+            wheel.advance(100_000L, 0, delivered::add);
+
+            assertThat(delivered).isEmpty();
+            assertThat(wheel.size()).isEqualTo(1);
+            assertThat(wheel.nanosUntilNext(100_000L, 0)).isEqualTo(Long.MAX_VALUE);
+
+            wheel.add(100_001L, 0, "soon");
+            assertThat(wheel.nanosUntilNext(100_000L, 0)).isBetween(1L, 1_000_000_000L);
+            assertThat(advance(wheel, 100_001L - ORIGIN.getSeconds(), 0)).containsExactly("soon");
+            assertThat(wheel.nanosUntilNext(100_001L, 0)).isEqualTo(Long.MAX_VALUE);
+        }
+
+        @Test
+        @DisplayName("Should match a sorted list on random schedules")
+        void shouldMatchASortedListOnRandomSchedules() {
+            Random random = new Random(37);
+            HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(ORIGIN, Duration.ofNanos(1_000));
+            List<Long> pending = new ArrayList<>();
+            long now = 0;
+            for (int round = 0; round < 500; round++) {
+                for (int i = 0; i < 20; i++) {
+                    long due = now + (long) (Math.pow(10, random.nextInt(13)) * random.nextDouble());
+                    pending.add(due);
+                    wheel.add(ORIGIN.getSeconds() + due / 1_000_000_000L, (int) (due % 1_000_000_000L), due);
+                }
+                now += (long) (Math.pow(10, random.nextInt(12)) * random.nextDouble());
+                List<Long> delivered = new ArrayList<>();
+                wheel.advance(ORIGIN.getSeconds() + now / 1_000_000_000L, (int) (now % 1_000_000_000L),
+                    delivered::add);
+
+                long current = now;
+                List<Long> expected = pending.stream().filter(due -> due <= current).sorted().toList();
+                pending.removeIf(due -> due <= current);
+                assertThat(delivered).containsExactlyInAnyOrderElementsOf(expected);
+                for (int i = 1; i < delivered.size(); i++) {
+                    assertThat(delivered.get(i) / 1_000).isGreaterThanOrEqualTo(delivered.get(i - 1) / 1_000);
+                }
+                assertThat(wheel.size()).isEqualTo(pending.size());
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep undelivered values when the consumer throws")
+        void shouldKeepUndeliveredValuesWhenTheConsumerThrows() {
+            HierarchicalTimingWheel<String> wheel = wheel(Duration.ofMillis(1));
+            wheel.add(ORIGIN.getSeconds() + 1, 0, "a");
+            wheel.add(ORIGIN.getSeconds() + 1, 0, "b");
+            wheel.add(ORIGIN.getSeconds() + 2, 0, "c");
+
+            assertThatThrownBy(() -> wheel.advance(ORIGIN.getSeconds() + 5, 0, value -> {
+                throw new IllegalStateException(value);
+            })).isInstanceOf(IllegalStateException.class);
+
+            assertThat(wheel.size()).isEqualTo(2);
+            assertThat(advance(wheel, 5, 0)).hasSize(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Inspection Tests")
+    class InspectionTests {
+
+        @Test
+        @DisplayName("Should report the time until the next occupied slot")
+        void shouldReportTheTimeUntilTheNextOccupiedSlot() {
+            HierarchicalTimingWheel<String> wheel = wheel(Duration.ofNanos(1));
+            assertThat(wheel.nanosUntilNext(ORIGIN.getSeconds(), 0)).isEqualTo(Long.MAX_VALUE);
+
+            wheel.add(ORIGIN.getSeconds() + 2, 250, "a");
+
+            long bound = wheel.nanosUntilNext(ORIGIN.getSeconds(), 0);
+            assertThat(bound).isPositive().isLessThanOrEqualTo(2_000_000_250L);
+            for (int wakeUps = 0; bound < 2_000_000_250L; wakeUps++) {
+                assertThat(wakeUps).isLessThan(11);
+                assertThat(wheel.advance(ORIGIN.getSeconds() + bound / 1_000_000_000L,
+                    (int) (bound % 1_000_000_000L), value -> fail("Delivered early: " + value))).isZero();
+                bound += wheel.nanosUntilNext(ORIGIN.getSeconds() + bound / 1_000_000_000L,
+                    (int) (bound % 1_000_000_000L));
+            }
+            assertThat(bound).isEqualTo(2_000_000_250L);
+            assertThat(wheel.nanosUntilNext(ORIGIN.getSeconds() + 3, 0)).isZero();
+        }
+
+        @Test
+        @DisplayName("Should drain every value regardless of its due time")
+        void shouldDrainEveryValueRegardlessOfItsDueTime() {
+            HierarchicalTimingWheel<String> wheel = wheel(Duration.ofMillis(1));
+            wheel.add(ORIGIN.getSeconds() + 1, 0, "a");
+            wheel.add(ORIGIN.getSeconds() + 1_000_000, 0, "b");
+            List<String> drained = new ArrayList<>();
+
+            assertThat(wheel.drain(drained::add)).isEqualTo(2);
+            assertThat(drained).containsExactlyInAnyOrder("a", "b");
+            assertThat(wheel.isEmpty()).isTrue();
+            assertThat(advance(wheel, 2_000_000, 0)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject invalid arguments")
+        void shouldRejectInvalidArguments() {
+            assertThatThrownBy(() -> wheel(Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> wheel(Duration.ofMillis(1)).add(0, -1, "a"))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package org.boava.jpa.temporal.series;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalSeries Tests")
+class TemporalSeriesTest {
+
+    private static List<EmbeddableTemporal> randomSamples(int count, long seed) {
+        Random random = new Random(seed);
+        List<EmbeddableTemporal> samples = new ArrayList<>();
+        long seconds = 1_700_000_000L;
+        int nanos = 0;
+        for (int i = 0; i < count; i++) {
+            EmbeddableTemporal next = new EmbeddableTemporal(seconds + random.nextInt(3) - 1,
+                nanos + random.nextInt(2_000_000_000) - 1_000_000_000);
+            samples.add(next);
+            seconds = next.getSeconds();
+            nanos = next.getNanos();
+        }
+        return samples;
+    }
+
+    private static TemporalSeries seriesOf(List<EmbeddableTemporal> samples) {
+        TemporalSeries series = new TemporalSeries();
+        samples.forEach(series::append);
+        return series;
+    }
+
+    private static List<EmbeddableTemporal> toList(TemporalSeries series) {
+        List<EmbeddableTemporal> result = new ArrayList<>();
+        series.forEach((seconds, nanos) -> result.add(new EmbeddableTemporal(seconds, nanos)));
+        return result;
+    }
+
+    @Nested
+    @DisplayName("Encoding Tests")
+    class EncodingTests {
+
+        @Test
+        @DisplayName("Should round-trip irregular and descending samples")
+        void shouldRoundTripIrregularAndDescendingSamples() {
+            List<EmbeddableTemporal> samples = randomSamples(500, 42);
+
+            TemporalSeries series = seriesOf(samples);
+
+            assertThat(series.size()).isEqualTo(500);
+            assertThat(toList(series)).isEqualTo(samples);
+        }
+
+        @Test
+        @DisplayName("Should normalize appended nanoseconds")
+        void shouldNormalizeAppendedNanoseconds() {
+            TemporalSeries series = new TemporalSeries();
+            series.append(10, -1);
+            series.append(10, 1_500_000_000);
+
+            assertThat(toList(series)).containsExactly(
+                new EmbeddableTemporal(9, 999_999_999), new EmbeddableTemporal(11, 500_000_000));
+        }
+
+        @Test
+        @DisplayName("Should encode regular samples in about one byte each")
+        void shouldEncodeRegularSamplesInAboutOneByteEach() {
+            TemporalSeries series = new TemporalSeries();
+            for (int i = 0; i < 10_000; i++) {
+                series.append(1_700_000_000L + i / 10, (i % 10) * 100_000_000);
+            }
+
+            assertThat(series.encodedLength()).isLessThan(10_000 + 10_000 / TemporalSeries.CHECKPOINT_INTERVAL * 25);
+        }
+
+        @Test
+        @DisplayName("Should handle extreme values and reject unsupported spacing")
+        void shouldHandleExtremeValuesAndRejectUnsupportedSpacing() {
+            TemporalSeries series = new TemporalSeries();
+            series.append(Long.MIN_VALUE, 0);
+            series.append(Long.MIN_VALUE + 1, 999_999_999);
+
+            assertThat(series.get(1)).isEqualTo(new EmbeddableTemporal(Long.MIN_VALUE + 1, 999_999_999));
+            assertThatThrownBy(() -> series.append(0, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("exceed the supported spacing");
+            assertThat(series.size()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Access Tests")
+    class AccessTests {
+
+        @Test
+        @DisplayName("Should randomly access samples across checkpoints")
+        void shouldRandomlyAccessSamplesAcrossCheckpoints() {
+            List<EmbeddableTemporal> samples = randomSamples(300, 7);
+            TemporalSeries series = seriesOf(samples);
+
+            for (int i : new int[] {0, 1, 63, 64, 65, 128, 299}) {
+                assertThat(series.get(i)).isEqualTo(samples.get(i));
+            }
+            long[] seen = new long[2];
+            series.get(64, (seconds, nanos) -> {
+                seen[0] = seconds;
+                seen[1] = nanos;
+            });
+            assertThat(seen).containsExactly(samples.get(64).getSeconds(), samples.get(64).getNanos());
+            assertThatThrownBy(() -> series.get(300)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        @DisplayName("Should rebuild state and keep appending after loading an encoding")
+        void shouldRebuildStateAndKeepAppendingAfterLoadingAnEncoding() {
+            List<EmbeddableTemporal> samples = randomSamples(200, 3);
+            TemporalSeries loaded = new TemporalSeries();
+            loaded.setEncoded(seriesOf(samples.subList(0, 130)).getEncoded().clone());
+
+            samples.subList(130, 200).forEach(loaded::append);
+
+            assertThat(loaded.size()).isEqualTo(200);
+            assertThat(loaded.get(150)).isEqualTo(samples.get(150));
+            assertThat(loaded).isEqualTo(seriesOf(samples));
+        }
+
+        @Test
+        @DisplayName("Should decode directly from a stream")
+        void shouldDecodeDirectlyFromAStream() throws IOException {
+            List<EmbeddableTemporal> samples = randomSamples(100, 11);
+            byte[] encoded = seriesOf(samples).getEncoded();
+            List<EmbeddableTemporal> decoded = new ArrayList<>();
+
+            int count = TemporalSeries.decode(new ByteArrayInputStream(encoded),
+                (seconds, nanos) -> decoded.add(new EmbeddableTemporal(seconds, nanos)));
+
+            assertThat(count).isEqualTo(100);
+            assertThat(decoded).isEqualTo(samples);
+        }
+
+        @Test
+        @DisplayName("Should reject unknown format versions and truncated encodings")
+        void shouldRejectUnknownFormatVersionsAndTruncatedEncodings() {
+            TemporalSeries series = new TemporalSeries();
+            byte[] encoded = seriesOf(randomSamples(3, 1)).getEncoded();
+            series.setEncoded(java.util.Arrays.copyOf(encoded, encoded.length - 1));
+
+            assertThatThrownBy(() -> series.setEncoded(new byte[] {9}))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(series::size)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Truncated");
+        }
+    }
+}
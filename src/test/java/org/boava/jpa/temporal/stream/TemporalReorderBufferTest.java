@@ -0,0 +1,154 @@
+package org.boava.jpa.temporal.stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalReorderBuffer Tests")
+class TemporalReorderBufferTest {
+
+    private record Event(long seconds, int nanos, String name) {}
+
+    private final List<Event> emitted = new ArrayList<>();
+    private final List<Event> late = new ArrayList<>();
+
+    private TemporalReorderBuffer<String> buffer(Duration lateness, int capacity) {
+        return new TemporalReorderBuffer<>(lateness, capacity,
+            (seconds, nanos, name) -> emitted.add(new Event(seconds, nanos, name)),
+            (seconds, nanos, name) -> late.add(new Event(seconds, nanos, name)));
+    }
+
+    private List<String> emittedNames() {
+        return emitted.stream().map(Event::name).toList();
+    }
+
+    @Nested
+    @DisplayName("Ordering Tests")
+    class OrderingTests {
+
+        @Test
+        @DisplayName("Should emit events in order once the watermark passes them")
+        void shouldEmitEventsInOrderOnceTheWatermarkPassesThem() {
+            TemporalReorderBuffer<String> buffer = buffer(Duration.ofSeconds(5), 100);
+            buffer.accept(10, 0, "a");
+            buffer.accept(8, 500, "b");
+            buffer.accept(12, 0, "c");
+            assertThat(emitted).isEmpty();
+
+            buffer.accept(15, 0, "d");
+
+            assertThat(emittedNames()).containsExactly("b", "a");
+            assertThat(buffer.getWatermark()).isEqualTo(new EmbeddableTemporal(10, 0));
+            assertThat(buffer.size()).isEqualTo(2);
+            assertThat(buffer.flush()).isEqualTo(2);
+            assertThat(emittedNames()).containsExactly("b", "a", "c", "d");
+        }
+
+        @Test
+        @DisplayName("Should keep arrival order for equal timestamps")
+        void shouldKeepArrivalOrderForEqualTimestamps() {
+            TemporalReorderBuffer<String> buffer = buffer(Duration.ofSeconds(1), 100);
+            for (int i = 0; i < 20; i++) {
+                buffer.accept(5, 7, "e" + i);
+            }
+            buffer.flush();
+
+            assertThat(emittedNames()).containsExactly(
+                IntStream.range(0, 20).mapToObj(i -> "e" + i).toArray(String[]::new));
+        }
+
+        @Test
+        @DisplayName("Should sort a randomly delayed stream within the allowed lateness")
+        void shouldSortARandomlyDelayedStreamWithinTheAllowedLateness() {
+            Random random = new Random(41);
+            TemporalReorderBuffer<String> buffer = buffer(Duration.ofMillis(50), 100_000);
+            List<Event> input = new ArrayList<>();
+            for (int i = 0; i < 50_000; i++) {
+                long nanosTotal = i * 1_000_000L - random.nextInt(50_000_000);
+                input.add(new Event(Math.floorDiv(nanosTotal, 1_000_000_000L),
+                    (int) Math.floorMod(nanosTotal, 1_000_000_000L), "e" + i));
+            }
+            for (Event event : input) {
+                buffer.accept(event.seconds(), event.nanos(), event.name());
+            }
+            buffer.flush();
+
+            assertThat(late).isEmpty();
+            assertThat(emitted).hasSize(input.size())
+                .isSortedAccordingTo(Comparator.comparingLong(Event::seconds).thenComparingInt(Event::nanos));
+        }
+    }
+
+    @Nested
+    @DisplayName("Lateness Tests")
+    class LatenessTests {
+
+        @Test
+        @DisplayName("Should hand events behind the watermark to the late handler")
+        void shouldHandEventsBehindTheWatermarkToTheLateHandler() {
+            TemporalReorderBuffer<String> buffer = buffer(Duration.ofSeconds(2), 100);
+            buffer.accept(10, 0, "a");
+            buffer.accept(20, 0, "b");
+
+            assertThat(buffer.accept(17, 999_999_999, "late")).isFalse();
+            assertThat(buffer.accept(18, 0, "on time")).isTrue();
+
+            assertThat(late).extracting(Event::name).containsExactly("late");
+            assertThat(buffer.getLateCount()).isEqualTo(1);
+            buffer.flush();
+            assertThat(emittedNames()).containsExactly("a", "on time", "b");
+        }
+
+        @Test
+        @DisplayName("Should emit early when full and keep the output sorted")
+        void shouldEmitEarlyWhenFullAndKeepTheOutputSorted() {
+            TemporalReorderBuffer<String> buffer = buffer(Duration.ofHours(1), 3);
+            buffer.accept(10, 0, "a");
+            buffer.accept(30, 0, "c");
+            buffer.accept(20, 0, "b");
+
+            buffer.accept(40, 0, "d");
+            assertThat(emittedNames()).containsExactly("a");
+            assertThat(buffer.size()).isEqualTo(3);
+
+            assertThat(buffer.accept(5, 0, "straggler")).isFalse();
+            assertThat(buffer.accept(15, 0, "overtaken")).isFalse();
+            assertThat(emittedNames()).containsExactly("a", "b");
+            assertThat(late).extracting(Event::name).containsExactly("straggler", "overtaken");
+        }
+
+        @Test
+        @DisplayName("Should emit on an explicit watermark without new events")
+        void shouldEmitOnAnExplicitWatermarkWithoutNewEvents() {
+            TemporalReorderBuffer<String> buffer = buffer(Duration.ofMinutes(1), 100);
+            assertThat(buffer.getWatermark()).isNull();
+            buffer.accept(10, 0, "a");
+            buffer.accept(20, 0, "b");
+
+            assertThat(buffer.advanceWatermark(new EmbeddableTemporal(15, 0))).isEqualTo(1);
+            assertThat(buffer.advanceWatermark(new EmbeddableTemporal(12, 0))).isZero();
+            assertThat(buffer.getWatermark()).isEqualTo(new EmbeddableTemporal(15, 0));
+            assertThat(emittedNames()).containsExactly("a");
+        }
+
+        @Test
+        @DisplayName("Should reject invalid arguments")
+        void shouldRejectInvalidArguments() {
+            assertThatThrownBy(() -> buffer(Duration.ofSeconds(-1), 10))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> buffer(Duration.ZERO, 0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> buffer(Duration.ZERO, 10).accept(0, -1, "a"))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
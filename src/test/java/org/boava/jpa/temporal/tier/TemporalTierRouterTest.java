@@ -0,0 +1,180 @@
+package org.boava.jpa.temporal.tier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.boava.jpa.temporal.integration.TestEntity;
+import org.boava.jpa.temporal.metamodel.TemporalAttribute;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalTierRouter Tests")
+class TemporalTierRouterTest {
+
+    static final Instant NOW = Instant.parse("2024-01-15T12:00:00Z");
+    static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+    static final Duration HOT_RETENTION = Duration.ofDays(7);
+    static final TemporalAttribute<TestEntity> TIMESTAMP =
+        new TemporalAttribute<>(TestEntity.class, "timestamp", TestEntity::getTimestamp);
+
+    static EmbeddableTemporal daysAgo(long days, int nanos) {
+        return EmbeddableTemporal.from(NOW.minus(Duration.ofDays(days)).plusNanos(nanos));
+    }
+
+    @Nested
+    @DisplayName("Routing Tests")
+    class RoutingTests {
+
+        private final TemporalTier hot = new TemporalTier("hot", mock(EntityManagerFactory.class), HOT_RETENTION);
+        private final TemporalTier cold = TemporalTier.unbounded("cold", mock(EntityManagerFactory.class));
+        private final TemporalTierRouter router = new TemporalTierRouter(List.of(hot, cold), CLOCK);
+
+        @Test
+        @DisplayName("Should route writes by age")
+        void shouldRouteWritesByAge() {
+            assertThat(router.route(daysAgo(1, 0))).isSameAs(hot);
+            assertThat(router.route(daysAgo(7, 0))).isSameAs(hot);
+            assertThat(router.route(daysAgo(7, -1))).isSameAs(cold);
+        }
+
+        @Test
+        @DisplayName("Should skip cold tier for recent ranges")
+        void shouldSkipColdTierForRecentRanges() {
+            assertThat(router.route(daysAgo(2, 0), daysAgo(0, 0))).containsExactly(hot);
+        }
+
+        @Test
+        @DisplayName("Should consult all tiers for ranges crossing the boundary")
+        void shouldConsultAllTiersForRangesCrossingTheBoundary() {
+            assertThat(router.route(daysAgo(30, 0), daysAgo(20, 0))).containsExactly(hot, cold);
+            assertThat(router.route(daysAgo(20, 0), daysAgo(20, 0))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject unordered tiers")
+        void shouldRejectUnorderedTiers() {
+            TemporalTier warm = new TemporalTier("warm", mock(EntityManagerFactory.class), Duration.ofDays(1));
+
+            assertThatThrownBy(() -> new TemporalTierRouter(List.of(hot, warm), CLOCK))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new TemporalTierRouter(List.of(cold, hot), CLOCK))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new TemporalTierRouter(List.of(), CLOCK))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive max age")
+        void shouldRejectNonPositiveMaxAge() {
+            assertThatThrownBy(() -> new TemporalTier("t", mock(EntityManagerFactory.class), Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Persistence Unit Tests")
+    class PersistenceUnitTests {
+
+        private EntityManagerFactory hotEmf;
+        private EntityManagerFactory coldEmf;
+        private TemporalTierRouter router;
+
+        @BeforeEach
+        void setUp() {
+            hotEmf = Persistence.createEntityManagerFactory("hot-pu");
+            coldEmf = Persistence.createEntityManagerFactory("cold-pu");
+            router = new TemporalTierRouter(List.of(
+                new TemporalTier("hot", hotEmf, HOT_RETENTION),
+                TemporalTier.unbounded("cold", coldEmf)), CLOCK);
+        }
+
+        @AfterEach
+        void tearDown() {
+            hotEmf.close();
+            coldEmf.close();
+        }
+
+        private void persist(EntityManagerFactory emf, String name, EmbeddableTemporal timestamp) {
+            EntityManager em = emf.createEntityManager();
+            em.getTransaction().begin();
+            em.persist(new TestEntity(name, "tier test", timestamp.toInstant(), Duration.ZERO));
+            em.getTransaction().commit();
+            em.close();
+        }
+
+        private long count(EntityManagerFactory emf) {
+            EntityManager em = emf.createEntityManager();
+            try {
+                return em.createQuery("SELECT COUNT(e) FROM TestEntity e", Long.class).getSingleResult();
+            } finally {
+                em.close();
+            }
+        }
+
+        private static TestEntity copy(TestEntity entity) {
+            return new TestEntity(entity.getName(), entity.getDescription(),
+                entity.getTimestamp().toInstant(), entity.getDuration().toDuration());
+        }
+
+        @Test
+        @DisplayName("Should merge range results from both tiers in temporal order")
+        void shouldMergeRangeResultsFromBothTiersInTemporalOrder() {
+            persist(hotEmf, "hot-2", daysAgo(1, 2));
+            persist(coldEmf, "cold-1", daysAgo(10, 1));
+            persist(hotEmf, "hot-1", daysAgo(3, 0));
+            persist(coldEmf, "cold-2", daysAgo(10, 2));
+            persist(coldEmf, "cold-outside", daysAgo(40, 0));
+
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                List<TestEntity> result = router.findRange(TIMESTAMP, daysAgo(30, 0), daysAgo(0, 0), executor);
+
+                assertThat(result).extracting(TestEntity::getName)
+                    .containsExactly("cold-1", "cold-2", "hot-1", "hot-2");
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Should move aged rows from hot to cold in batches")
+        void shouldMoveAgedRowsFromHotToColdInBatches() {
+            for (int i = 0; i < 5; i++) {
+                persist(hotEmf, "aged-" + i, daysAgo(8 + i, 0));
+            }
+            persist(hotEmf, "fresh", daysAgo(1, 0));
+
+            int moved = router.migrate(TIMESTAMP, TemporalTierRouterTest.PersistenceUnitTests::copy, 2);
+
+            assertThat(moved).isEqualTo(5);
+            assertThat(count(hotEmf)).isEqualTo(1);
+            assertThat(count(coldEmf)).isEqualTo(5);
+            assertThat(router.findRange(TIMESTAMP, daysAgo(30, 0), daysAgo(0, 0)))
+                .extracting(TestEntity::getName)
+                .containsExactly("aged-4", "aged-3", "aged-2", "aged-1", "aged-0", "fresh");
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive batch size")
+        void shouldRejectNonPositiveBatchSize() {
+            assertThatThrownBy(() -> router.migrate(TIMESTAMP, e -> e, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.boava.jpa.temporal.writebehind;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.boava.jpa.temporal.embeddable.EmbeddableTemporal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TemporalRingBuffer Tests")
+class TemporalRingBufferTest {
+
+    @Nested
+    @DisplayName("Queue Tests")
+    class QueueTests {
+
+        @Test
+        @DisplayName("Should drain events in publication order")
+        void shouldDrainEventsInPublicationOrder() {
+            TemporalRingBuffer<String> ring = new TemporalRingBuffer<>(4);
+            ring.offer(new EmbeddableTemporal(10, 5), "a");
+            ring.offer(5, 0, "b");
+            List<String> drained = new ArrayList<>();
+
+            int taken = ring.drain((seconds, nanos, payload) -> drained.add(payload + seconds + ":" + nanos), 10);
+
+            assertThat(taken).isEqualTo(2);
+            assertThat(drained).containsExactly("a10:5", "b5:0");
+            assertThat(ring.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should reject events when full and accept them again after draining")
+        void shouldRejectEventsWhenFullAndAcceptThemAgainAfterDraining() {
+            TemporalRingBuffer<Integer> ring = new TemporalRingBuffer<>(3);
+            assertThat(ring.capacity()).isEqualTo(4);
+            for (int i = 0; i < 4; i++) {
+                assertThat(ring.offer(i, 0, i)).isTrue();
+            }
+
+            assertThat(ring.offer(4, 0, 4)).isFalse();
+            assertThat(ring.size()).isEqualTo(4);
+            assertThat(ring.drain((seconds, nanos, payload) -> { }, 1)).isEqualTo(1);
+            assertThat(ring.offer(4, 0, 4)).isTrue();
+
+            List<Integer> drained = new ArrayList<>();
+            ring.drain((seconds, nanos, payload) -> drained.add(payload), 10);
+            assertThat(drained).containsExactly(1, 2, 3, 4);
+        }
+
+        @Test
+        @DisplayName("Should reject invalid arguments")
+        void shouldRejectInvalidArguments() {
+            assertThatThrownBy(() -> new TemporalRingBuffer<>(0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new TemporalRingBuffer<>(4).offer(0, EmbeddableTemporal.NANOS_PER_SECOND, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should deliver every event once in per-producer order")
+        void shouldDeliverEveryEventOnceInPerProducerOrder() throws Exception {
+            int producers = 4;
+            int perProducer = 50_000;
+            TemporalRingBuffer<Integer> ring = new TemporalRingBuffer<>(64);
+            ExecutorService executor = Executors.newFixedThreadPool(producers);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                for (int p = 0; p < producers; p++) {
+                    int producer = p;
+                    executor.execute(() -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        for (int i = 0; i < perProducer; i++) {
+                            while (!ring.offer(producer, i, i)) {
+                                Thread.yield();
+                            }
+                        }
+                    });
+                }
+                start.countDown();
+
+                int[] next = new int[producers];
+                AtomicInteger outOfOrder = new AtomicInteger();
+                int received = 0;
+                while (received < producers * perProducer) {
+                    int taken = ring.drain((seconds, nanos, payload) -> {
+                        if (nanos != next[(int) seconds] || payload != nanos) {
+                            outOfOrder.incrementAndGet();
+                        }
+                        next[(int) seconds]++;
+                    }, 128);
+                    if (taken == 0) {
+                        Thread.yield();
+                    }
+                    received += taken;
+                }
+                assertThat(outOfOrder).hasValue(0);
+                assertThat(next).containsOnly(perProducer);
+                assertThat(ring.isEmpty()).isTrue();
+            } finally {
+                executor.shutdownNow();
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package org.boava.jpa.temporal.writebehind;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("WriteBehindWriter Tests")
+class WriteBehindWriterTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.ofEpochSecond(1_700_000_000L, 42), ZoneOffset.UTC);
+
+    /**
+     * Records the sizes and contents of the written batches.
+     */
+    private static final class RecordingSink implements WriteBehindSink<String> {
+        final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void write(WriteBehindBatch<String> batch) {
+            batchSizes.add(batch.size());
+            batch.forEach((seconds, nanos, payload) -> events.add(payload + "@" + seconds + ":" + nanos));
+        }
+    }
+
+    @Nested
+    @DisplayName("Flush Tests")
+    class FlushTests {
+
+        @Test
+        @DisplayName("Should flush full batches without waiting for the interval")
+        void shouldFlushFullBatchesWithoutWaitingForTheInterval() {
+            RecordingSink sink = new RecordingSink();
+            WriteBehindWriter<String> writer = new WriteBehindWriter<>(sink, 64, 4, Duration.ofHours(1), CLOCK);
+            writer.start();
+            for (int i = 0; i < 8; i++) {
+                writer.publish(i, 0, "e" + i);
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (writer.getWrittenCount() < 8) {
+                assertThat(System.nanoTime()).isLessThan(deadline);
+                Thread.onSpinWait();
+            }
+            writer.close();
+
+            assertThat(sink.batchSizes).containsExactly(4, 4);
+            assertThat(sink.events).startsWith("e0@0:0", "e1@1:0");
+        }
+
+        @Test
+        @DisplayName("Should flush a partial batch once the interval has passed")
+        void shouldFlushAPartialBatchOnceTheIntervalHasPassed() throws InterruptedException {
+            RecordingSink sink = new RecordingSink();
+            try (WriteBehindWriter<String> writer = new WriteBehindWriter<>(sink, 64, 100, Duration.ofMillis(20),
+                    CLOCK)) {
+                writer.start();
+                writer.publishNow("a");
+                writer.publishNow("b");
+
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (writer.getWrittenCount() < 2) {
+                    assertThat(System.nanoTime()).isLessThan(deadline);
+                    Thread.sleep(5);
+                }
+            }
+            assertThat(sink.batchSizes).containsExactly(2);
+            assertThat(sink.events).containsExactly("a@1700000000:42", "b@1700000000:42");
+        }
+    }
+
+    @Nested
+    @DisplayName("Lifecycle Tests")
+    class LifecycleTests {
+
+        @Test
+        @DisplayName("Should drain every buffered event on close")
+        void shouldDrainEveryBufferedEventOnClose() {
+            RecordingSink sink = new RecordingSink();
+            WriteBehindWriter<String> writer = new WriteBehindWriter<>(sink, 1024, 64, Duration.ofHours(1), CLOCK);
+            writer.start();
+            for (int i = 0; i < 1_000; i++) {
+                writer.publish(i, 0, "e" + i);
+            }
+
+            writer.close();
+
+            assertThat(writer.getWrittenCount()).isEqualTo(1_000);
+            assertThat(sink.events).hasSize(1_000).doesNotHaveDuplicates();
+            assertThatThrownBy(() -> writer.publish(0, 0, "late")).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("Should block producers while the buffer is full")
+        void shouldBlockProducersWhileTheBufferIsFull() throws InterruptedException {
+            CountDownLatch release = new CountDownLatch(1);
+            List<String> written = Collections.synchronizedList(new ArrayList<>());
+            WriteBehindWriter<String> writer = new WriteBehindWriter<>(batch -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                batch.forEach((seconds, nanos, payload) -> written.add(payload));
+            }, 2, 1, Duration.ofMillis(1), CLOCK);
+            writer.start();
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < 10; i++) {
+                    writer.publish(i, 0, "e" + i);
+                }
+            });
+            producer.start();
+
+            producer.join(200);
+            assertThat(producer.isAlive()).isTrue();
+            assertThat(writer.offer(99, 0, "dropped")).isFalse();
+
+            release.countDown();
+            producer.join(10_000);
+            writer.close();
+            assertThat(written).hasSize(10);
+        }
+
+        @Test
+        @DisplayName("Should retry failed batches until the sink succeeds")
+        void shouldRetryFailedBatchesUntilTheSinkSucceeds() {
+            AtomicInteger attempts = new AtomicInteger();
+            RecordingSink delegate = new RecordingSink();
+            WriteBehindWriter<String> writer = new WriteBehindWriter<>(batch -> {
+                if (attempts.incrementAndGet() < 3) {
+                    throw new IllegalStateException("database unavailable");
+                }
+                delegate.write(batch);
+            }, 16, 16, Duration.ofMillis(5), CLOCK);
+            writer.start();
+            writer.publish(1, 0, "a");
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (writer.getWrittenCount() < 1) {
+                assertThat(System.nanoTime()).isLessThan(deadline);
+                Thread.onSpinWait();
+            }
+            writer.close();
+
+            assertThat(attempts.get()).isEqualTo(3);
+            assertThat(delegate.events).containsExactly("a@1:0");
+        }
+
+        @Test
+        @DisplayName("Should report a sink failure while closing")
+        void shouldReportASinkFailureWhileClosing() {
+            WriteBehindWriter<String> writer = new WriteBehindWriter<>(batch -> {
+                throw new IllegalStateException("database unavailable");
+            }, 16, 16, Duration.ofHours(1), CLOCK);
+            writer.publish(1, 0, "a");
+
+            assertThatThrownBy(writer::close)
+                .isInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("database unavailable");
+        }
+    }
+}